@@ -0,0 +1,48 @@
+package seedu.recipe.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.recipe.logic.parser.FindCommandParser;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.util.RecipeBookGenerator;
+
+/**
+ * Measures testing every recipe in a recipe book of each size against the predicates built by the find command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FindPredicateBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int recipeCount;
+
+    @Param({"name curry pasta", "tag italian quick", "ingredient butter saffron", "duration 10m-30m"})
+    public String query;
+
+    private List<Recipe> recipes;
+    private Predicate<Recipe> predicate;
+
+    @Setup
+    public void setUp() throws ParseException {
+        recipes = new RecipeBookGenerator().generate(recipeCount).collect(Collectors.toList());
+        predicate = new FindCommandParser().parsePredicate(query);
+    }
+
+    @Benchmark
+    public long filter() {
+        return recipes.stream().filter(predicate).count();
+    }
+}
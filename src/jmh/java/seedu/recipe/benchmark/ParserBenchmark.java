@@ -0,0 +1,52 @@
+package seedu.recipe.benchmark;
+
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_INGREDIENT;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_PORTION;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_STEP;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.recipe.logic.parser.ArgumentMultimap;
+import seedu.recipe.logic.parser.ArgumentTokenizer;
+import seedu.recipe.logic.parser.Prefix;
+import seedu.recipe.model.recipe.ingredient.IngredientParser;
+
+/**
+ * Measures tokenizing the arguments of an add command, and parsing a single ingredient.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    private static final String ADD_ARGUMENTS = " n/Cacio e Pepe p/1 - 2 servings d/15 minutes t/Italian t/Quick"
+        + " i/-n Kosher salt i/-a 6 oz -n egg tagliolini -s bucatini -s spaghetti"
+        + " i/-a 3 Tbsp -n unsalted butter -r cubed -r divided i/-a 1 tsp -n black pepper -r freshly cracked"
+        + " i/-a 3/4 cup -n Grana Padano -s Parmesan -r finely grated i/-a 1/3 cup -n Pecorino -r finely grated"
+        + " s/Bring 3 quarts water to a boil in a 5-qt. pot. Season with salt; add pasta and cook."
+        + " s/Meanwhile, melt 2 Tbsp. butter in a Dutch oven over medium heat. Add pepper and cook."
+        + " s/Add pasta and remaining butter. Reduce heat to low and add Grana Padano, tossing until melted.";
+    private static final String INGREDIENT = "-a 3/4 cup -n Grana Padano -s Parmesan -s Pecorino -r finely grated";
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddCommand() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PORTION, PREFIX_DURATION, PREFIX_TAG,
+            PREFIX_INGREDIENT, PREFIX_STEP);
+    }
+
+    @Benchmark
+    public HashMap<Prefix, List<String>> parseIngredient() {
+        return IngredientParser.parse(INGREDIENT);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.recipe.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.recipe.commons.exceptions.DataConversionException;
+import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.StepTextArena;
+import seedu.recipe.model.util.RecipeBookGenerator;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+
+/**
+ * Reports how many bytes of heap each recipe of a recipe book takes, once it is loaded from a data file, with the text
+ * of its steps stored on the heap, and then off it.
+ * Unlike the other benchmarks, this measures memory rather than time, so it is run on its own with
+ * {@code gradlew footprintReport}, rather than by JMH.
+ * <p>
+ * The recipe books are generated and saved first, then loaded afresh, so that their recipes hold the same distinct
+ * strings and objects as those loaded by the application would. The heap used is measured after repeated garbage
+ * collections both before and after loading, and the difference divided by the number of recipes.
+ * As the generated recipes share a small vocabulary, far more of their values are shared than in a real recipe book,
+ * so the savings reported are an upper bound.
+ */
+public class RecipeFootprintReport {
+    private static final int[] RECIPE_COUNTS = {10_000, 100_000};
+    private static final int GC_ROUNDS = 5;
+
+    /**
+     * Prints the bytes of heap taken by each recipe of generated recipe books of each size.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        System.out.println("Recipes    Step text  Heap (MiB)  Off-heap (MiB)  Bytes per recipe");
+        for (int recipeCount : RECIPE_COUNTS) {
+            Path directory = Files.createTempDirectory("recipe-footprint");
+            Path filePath = directory.resolve("recipebook.json");
+            try {
+                new JsonRecipeBookStorage(filePath).saveRecipes(new RecipeBookGenerator().generate(recipeCount));
+                report(filePath, recipeCount, null);
+                report(filePath, recipeCount, new StepTextArena());
+            } finally {
+                Files.deleteIfExists(filePath);
+                Files.deleteIfExists(directory);
+            }
+        }
+    }
+
+    /**
+     * Loads the recipe book, storing the text of its steps in {@code arena}, or on the heap if it is null, and prints
+     * the memory it takes.
+     */
+    private static void report(Path filePath, int recipeCount, StepTextArena arena) throws DataConversionException {
+        JsonRecipeBookStorage storage = new JsonRecipeBookStorage(filePath, arena);
+        long usedBefore = getUsedHeapAfterGc();
+        ReadOnlyRecipeBook recipeBook = new RecipeBook(storage.readRecipeBook().orElseThrow());
+        long retainedBytes = getUsedHeapAfterGc() - usedBefore;
+        long offHeapBytes = arena == null ? 0 : arena.getAllocatedBytes();
+        System.out.println(String.format("%-10d %-10s %-11.1f %-15.1f %d", recipeBook.getRecipeList().size(),
+            arena == null ? "on heap" : "off heap", toMebibytes(retainedBytes), toMebibytes(offHeapBytes),
+            retainedBytes / recipeCount));
+    }
+
+    private static double toMebibytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static long getUsedHeapAfterGc() {
+        MemoryMXBean memoryMxBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return memoryMxBean.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.recipe.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.recipe.commons.exceptions.DataConversionException;
+import seedu.recipe.commons.exceptions.IllegalValueException;
+import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.util.RecipeBookGenerator;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonSerializableRecipeBook;
+
+/**
+ * Measures saving and loading a recipe book of each size as JSON, and converting it from its JSON adapter classes.
+ * Each operation takes seconds on the largest recipe books, so fewer iterations are run than for other benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int recipeCount;
+
+    private Path directory;
+    private RecipeBook recipeBook;
+    private JsonSerializableRecipeBook serializableRecipeBook;
+    private JsonRecipeBookStorage savedStorage;
+    private JsonRecipeBookStorage scratchStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("recipe-book-benchmark");
+        recipeBook = new RecipeBookGenerator().generateRecipeBook(recipeCount);
+        serializableRecipeBook = new JsonSerializableRecipeBook(recipeBook);
+        savedStorage = new JsonRecipeBookStorage(directory.resolve("saved.json"));
+        savedStorage.saveRecipeBook(recipeBook);
+        scratchStorage = new JsonRecipeBookStorage(directory.resolve("scratch.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getRecipeBookFilePath());
+        Files.deleteIfExists(scratchStorage.getRecipeBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public RecipeBook toModelType() throws IllegalValueException {
+        return serializableRecipeBook.toModelType();
+    }
+
+    @Benchmark
+    public JsonRecipeBookStorage save() throws IOException {
+        scratchStorage.saveRecipeBook(recipeBook);
+        return scratchStorage;
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyRecipeBook> load() throws DataConversionException {
+        return savedStorage.readRecipeBook();
+    }
+}
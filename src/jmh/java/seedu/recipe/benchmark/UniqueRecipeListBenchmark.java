@@ -0,0 +1,64 @@
+package seedu.recipe.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.UniqueRecipeList;
+import seedu.recipe.model.util.RecipeBookGenerator;
+
+/**
+ * Measures adding a recipe to, and looking a recipe up in, a {@code UniqueRecipeList} of each size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UniqueRecipeListBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int recipeCount;
+
+    private UniqueRecipeList recipes;
+    private Recipe presentRecipe;
+    private Recipe absentRecipe;
+
+    @Setup
+    public void setUp() {
+        List<Recipe> created = new RecipeBookGenerator().generate(recipeCount).collect(Collectors.toList());
+        recipes = new UniqueRecipeList();
+        recipes.setRecipes(created);
+        presentRecipe = created.get(created.size() / 2);
+        absentRecipe = new Recipe(new Name("Absent recipe"));
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return recipes.contains(presentRecipe);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return recipes.contains(absentRecipe);
+    }
+
+    /**
+     * Adds a new recipe, which has to be checked against every recipe already in the list, and removes it again so
+     * that every invocation starts from the same list.
+     */
+    @Benchmark
+    public UniqueRecipeList addThenRemove() {
+        recipes.add(absentRecipe);
+        recipes.remove(absentRecipe);
+        return recipes;
+    }
+}
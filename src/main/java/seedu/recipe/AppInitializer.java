@@ -0,0 +1,281 @@
+package seedu.recipe;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.recipe.commons.core.Config;
+import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.exceptions.DataConversionException;
+import seedu.recipe.commons.util.ConfigUtil;
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.commons.util.StringUtil;
+import seedu.recipe.logic.Logic;
+import seedu.recipe.logic.LogicManager;
+import seedu.recipe.logic.SessionRecorder;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.ReadOnlyUserPrefs;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.StepTextArena;
+import seedu.recipe.model.util.SampleDataUtil;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.RecipeBookStorage;
+import seedu.recipe.storage.Storage;
+import seedu.recipe.storage.StorageManager;
+import seedu.recipe.storage.UserPrefsStorage;
+
+/**
+ * Initializes the components of the application which do not depend on the UI toolkit, i.e. its config, storage,
+ * model and logic. This is shared by the GUI ({@link MainApp}) and headless ({@link HeadlessMain}) entry points.
+ */
+public class AppInitializer {
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+    private static final String METRICS_THREAD_NAME = "metrics-dumper";
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final LogicManager logic;
+    private final RecipeBookLoader recipeBookLoader;
+    private SessionRecorder sessionRecorder;
+
+    /**
+     * Initializes the application components, using the config file at {@code configFilePath}, or the default config
+     * file if {@code configFilePath} is null.
+     */
+    public AppInitializer(Path configFilePath) {
+        this(configFilePath, false);
+    }
+
+    /**
+     * Initializes the application components, using the config file at {@code configFilePath}, or the default config
+     * file if {@code configFilePath} is null.
+     *
+     * @param isLoadingInBackground If true, the model starts empty, and the recipe book is instead read on a
+     *                              background thread by the {@code RecipeBookLoader} of this initializer.
+     */
+    public AppInitializer(Path configFilePath, boolean isLoadingInBackground) {
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        // only the steps of the recipes loaded from the data file are stored off the heap
+        RecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(userPrefs.getRecipeBookFilePath(),
+            config.isStepTextOffHeap() ? new StepTextArena() : null);
+        storage = new StorageManager(recipeBookStorage, userPrefsStorage);
+
+        initLogging(config);
+
+        if (isLoadingInBackground) {
+            model = new ModelManager(new RecipeBook(), userPrefs);
+            recipeBookLoader = new RecipeBookLoader(storage, model);
+            recipeBookLoader.start();
+        } else {
+            model = initModelManager(storage, userPrefs);
+            recipeBookLoader = null;
+        }
+
+        logic = new LogicManager(model, storage);
+        startMetricsDump(config.getMetricsDumpIntervalSeconds());
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the loader reading the recipe book in the background, if this initializer was asked to.
+     */
+    public Optional<RecipeBookLoader> getRecipeBookLoader() {
+        return Optional.ofNullable(recipeBookLoader);
+    }
+
+    /**
+     * Records the session from now on to the trace file at {@code traceFilePath}, to be replayed later.
+     * If the file cannot be created, the failure is logged, and the session is not recorded.
+     */
+    public void recordSession(Path traceFilePath) {
+        try {
+            sessionRecorder = new SessionRecorder(traceFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to start recording the session " + StringUtil.getDetails(e));
+            return;
+        }
+        logic.setSessionRecorder(sessionRecorder);
+        logger.info("Recording the session to " + traceFilePath);
+    }
+
+    /**
+     * Saves the user prefs and writes the metrics file, and stops recording the session if it is being recorded,
+     * logging rather than propagating any failure.
+     */
+    public void stop() {
+        saveUserPrefs();
+        dumpMetrics();
+        if (sessionRecorder == null) {
+            return;
+        }
+        logic.setSessionRecorder(null);
+        try {
+            sessionRecorder.close();
+        } catch (IOException e) {
+            logger.warning("Failed to finish recording the session " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the metrics of the commands run so far to the metrics file, logging rather than propagating any failure.
+     */
+    private void dumpMetrics() {
+        try {
+            FileUtil.writeToFile(config.getMetricsFilePath(), "Command metrics at " + LocalDateTime.now() + "\n"
+                + model.getCommandMetrics() + "\nFind query cache: " + model.getQueryCacheStatistics() + "\n");
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the metrics file every {@code intervalSeconds} on a background thread, unless the interval is 0.
+     */
+    private void startMetricsDump(long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        ScheduledExecutorService metricsDumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, METRICS_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsDumper.scheduleWithFixedDelay(this::dumpMetrics, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Saves the model's user prefs, logging rather than propagating any failure.
+     */
+    private void saveUserPrefs() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s recipe book and {@code userPrefs}. <br>
+     * The sample recipes will be used instead if {@code storage}'s recipe book is not found,
+     * or an empty recipe book will be used instead if errors occur when reading {@code storage}'s recipe book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyRecipeBook> recipeBookOptional;
+        ReadOnlyRecipeBook initialData;
+        try {
+            recipeBookOptional = storage.readRecipeBook();
+            if (recipeBookOptional.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample RecipeBook");
+            }
+            initialData = recipeBookOptional.orElseGet(SampleDataUtil::getSampleRecipeBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty RecipeBook");
+            initialData = new RecipeBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty RecipeBook");
+            initialData = new RecipeBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty RecipeBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -17,13 +17,21 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path sessionTracePath;
 
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the given named command-line parameters, i.e. {@code config} for {@code --config=config.json}, and
+     * {@code record} for {@code --record=session.trace}.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -32,6 +40,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String sessionTracePathParameter = namedParameters.get("record");
+        if (sessionTracePathParameter != null && !FileUtil.isValidPath(sessionTracePathParameter)) {
+            logger.warning("Invalid session trace path " + sessionTracePathParameter + ". Not recording the session.");
+            sessionTracePathParameter = null;
+        }
+        appParameters.setSessionTracePath(sessionTracePathParameter != null
+            ? Paths.get(sessionTracePathParameter) : null);
+
         return appParameters;
     }
 
@@ -43,6 +59,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the file to record the session to, or null if the session is not to be recorded.
+     */
+    public Path getSessionTracePath() {
+        return sessionTracePath;
+    }
+
+    public void setSessionTracePath(Path sessionTracePath) {
+        this.sessionTracePath = sessionTracePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +81,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getSessionTracePath(), otherAppParameters.getSessionTracePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, sessionTracePath);
     }
 }
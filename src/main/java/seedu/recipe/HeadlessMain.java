@@ -0,0 +1,313 @@
+package seedu.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.exceptions.DataConversionException;
+import seedu.recipe.commons.exceptions.IllegalValueException;
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.logic.Logic;
+import seedu.recipe.logic.LogicManager;
+import seedu.recipe.logic.SessionReplayer;
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.CommandResult;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.util.RecipeBookGenerator;
+import seedu.recipe.server.RecipeBookServer;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.Storage;
+import seedu.recipe.storage.StorageManager;
+
+/**
+ * Runs the application without its GUI, executing commands read from a script file or the standard input, one per
+ * line, and printing the result of each to the standard output. As the JavaFX toolkit is never started, this starts
+ * up quickly, and works on machines without a display, i.e. for scheduled batch jobs.
+ * Alternatively, if a port is given, a {@link RecipeBookServer} is started on it instead, until the process is ended.
+ * Or, if a number of recipes to generate is given, a synthetic recipe book of that many recipes is generated by a
+ * {@link RecipeBookGenerator} and written to the file given, i.e. for testing the application at scale.
+ * Or, if a session trace recorded with {@code --record} is given, its commands are replayed by a
+ * {@link SessionReplayer} against a copy of the recipe book file given, and how long they took is printed.
+ * <p>
+ * Usage: {@code java -jar recipebook.jar --headless [--config=CONFIG_FILE] [--record=TRACE_FILE]
+ * [SCRIPT_FILE | --port=PORT]}, or {@code java -jar recipebook.jar --headless --generate=COUNT [--seed=SEED]
+ * OUTPUT_FILE}, or {@code java -jar recipebook.jar --headless --replay=TRACE_FILE RECIPE_BOOK_FILE}
+ * <p>
+ * The process exits with {@link #EXIT_SUCCESS} if everything succeeded, {@link #EXIT_COMMAND_FAILED} if any command
+ * failed, {@link #EXIT_USAGE_ERROR} if the arguments are invalid, or {@link #EXIT_IO_ERROR} if a file given could not
+ * be read or written, or the server could not be started.
+ */
+public class HeadlessMain {
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_USAGE_ERROR = 2;
+    public static final int EXIT_IO_ERROR = 3;
+
+    public static final String MESSAGE_USAGE = "Usage: java -jar recipebook.jar " + HEADLESS_FLAG
+            + " [--config=CONFIG_FILE] [--record=TRACE_FILE] [SCRIPT_FILE | --port=PORT]\n"
+            + "   or: java -jar recipebook.jar " + HEADLESS_FLAG + " --generate=COUNT [--seed=SEED] OUTPUT_FILE\n"
+            + "   or: java -jar recipebook.jar " + HEADLESS_FLAG + " --replay=TRACE_FILE RECIPE_BOOK_FILE";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_REQUIRES_GUI = "This command opens a window, so it cannot be run headless.";
+    public static final String MESSAGE_READ_ERROR = "Could not read commands: %1$s";
+    public static final String MESSAGE_SERVING = "Serving the recipe book at http://localhost:%1$d/recipes";
+    public static final String MESSAGE_SERVER_ERROR = "Could not start the server: %1$s";
+    public static final String MESSAGE_GENERATED = "Generated %1$d recipes in %2$s";
+    public static final String MESSAGE_GENERATE_ERROR = "Could not write the generated recipes: %1$s";
+    public static final String MESSAGE_REPLAYED = "%1$s\n%2$s";
+    public static final String MESSAGE_REPLAY_ERROR = "Could not replay the session: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String PORT_PARAMETER = "port";
+    private static final String GENERATE_PARAMETER = "generate";
+    private static final String SEED_PARAMETER = "seed";
+    private static final String REPLAY_PARAMETER = "replay";
+    private static final int MAX_PORT = 65535;
+
+    private final Logic logic;
+
+    /**
+     * Constructs a headless runner which executes commands with the given {@code Logic}.
+     */
+    public HeadlessMain(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    public static void main(String[] args) {
+        System.exit(launch(args));
+    }
+
+    /**
+     * Initializes the application from the given command-line arguments and runs the commands in the script file
+     * given, or from the standard input if there is none.
+     *
+     * @return The exit status of the run.
+     */
+    static int launch(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && arg.contains(NAMED_PARAMETER_SEPARATOR)) {
+                String[] nameAndValue = arg.substring(NAMED_PARAMETER_PREFIX.length())
+                    .split(NAMED_PARAMETER_SEPARATOR, 2);
+                namedParameters.put(nameAndValue[0], nameAndValue[1]);
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (namedParameters.containsKey(GENERATE_PARAMETER)) {
+            return generate(namedParameters, unnamedParameters);
+        }
+        if (namedParameters.containsKey(REPLAY_PARAMETER)) {
+            return replay(namedParameters, unnamedParameters);
+        }
+
+        Integer port = parsePort(namedParameters.get(PORT_PARAMETER));
+        boolean isServing = namedParameters.containsKey(PORT_PARAMETER);
+        if (unnamedParameters.size() > (isServing ? 0 : 1)
+            || unnamedParameters.size() == 1 && !FileUtil.isValidPath(unnamedParameters.get(0))
+            || isServing && port == null) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        logger.info("=========================[ Initializing RecipeBook (headless) ]========================");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppInitializer initializer = new AppInitializer(appParameters.getConfigPath());
+        if (appParameters.getSessionTracePath() != null) {
+            initializer.recordSession(appParameters.getSessionTracePath());
+        }
+        if (isServing) {
+            try {
+                return serve(initializer, port);
+            } finally {
+                initializer.stop();
+            }
+        }
+
+        HeadlessMain headlessMain = new HeadlessMain(initializer.getLogic());
+        try (BufferedReader input = unnamedParameters.isEmpty()
+            ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+            : Files.newBufferedReader(Paths.get(unnamedParameters.get(0)), StandardCharsets.UTF_8)) {
+            return headlessMain.run(input, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_READ_ERROR, e.getMessage()));
+            return EXIT_IO_ERROR;
+        } finally {
+            initializer.stop();
+        }
+    }
+
+    /**
+     * Returns the port given, or null if it is missing or not a valid port number.
+     */
+    private static Integer parsePort(String port) {
+        if (port == null || !port.matches("\\d{1,5}") || Integer.parseInt(port) > MAX_PORT) {
+            return null;
+        }
+        return Integer.parseInt(port);
+    }
+
+    /**
+     * Generates the number of recipes given, with the seed given if any, and writes them as a recipe book to the
+     * single file given.
+     */
+    private static int generate(Map<String, String> namedParameters, List<String> unnamedParameters) {
+        String count = namedParameters.get(GENERATE_PARAMETER);
+        String seed = namedParameters.getOrDefault(SEED_PARAMETER, String.valueOf(RecipeBookGenerator.DEFAULT_SEED));
+        if (!count.matches("\\d{1,9}") || !seed.matches("-?\\d{1,18}")
+            || unnamedParameters.size() != 1 || !FileUtil.isValidPath(unnamedParameters.get(0))) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        Path outputPath = Paths.get(unnamedParameters.get(0));
+        RecipeBookGenerator generator = new RecipeBookGenerator(Long.parseLong(seed));
+        try {
+            new JsonRecipeBookStorage(outputPath).saveRecipes(generator.generate(Integer.parseInt(count)));
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_GENERATE_ERROR, e.getMessage()));
+            return EXIT_IO_ERROR;
+        }
+        System.out.println(String.format(MESSAGE_GENERATED, Integer.parseInt(count), outputPath));
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Replays the session in the trace file given against a copy of the single recipe book file given, so that the
+     * recipe book file itself is left unchanged, then prints how long the commands took.
+     */
+    private static int replay(Map<String, String> namedParameters, List<String> unnamedParameters) {
+        String tracePath = namedParameters.get(REPLAY_PARAMETER);
+        if (!FileUtil.isValidPath(tracePath)
+            || unnamedParameters.size() != 1 || !FileUtil.isValidPath(unnamedParameters.get(0))) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        Path recipeBookCopy = null;
+        try (BufferedReader trace = Files.newBufferedReader(Paths.get(tracePath), StandardCharsets.UTF_8)) {
+            recipeBookCopy = Files.createTempFile("replay", ".json");
+            Files.copy(Paths.get(unnamedParameters.get(0)), recipeBookCopy, StandardCopyOption.REPLACE_EXISTING);
+            JsonRecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(recipeBookCopy);
+            Model model = new ModelManager(recipeBookStorage.readRecipeBook().orElseThrow(), new UserPrefs());
+            // the user prefs are never saved, so they are never written next to the copy
+            Storage storage = new StorageManager(recipeBookStorage,
+                new JsonUserPrefsStorage(recipeBookCopy.resolveSibling("preferences.json")));
+
+            SessionReplayer.Result result = new SessionReplayer(new LogicManager(model, storage)).replay(trace);
+            System.out.println(String.format(MESSAGE_REPLAYED, result, model.getCommandMetrics()));
+            return EXIT_SUCCESS;
+        } catch (IOException | DataConversionException | IllegalValueException e) {
+            System.err.println(String.format(MESSAGE_REPLAY_ERROR, e.getMessage()));
+            return EXIT_IO_ERROR;
+        } finally {
+            deleteQuietly(recipeBookCopy);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete " + file);
+        }
+    }
+
+    /**
+     * Serves the recipe book over HTTP on the given port, until the process is ended.
+     */
+    private static int serve(AppInitializer initializer, int port) {
+        RecipeBookServer server;
+        try {
+            server = new RecipeBookServer(initializer.getLogic(), port, RecipeBookServer.DEFAULT_WORKER_THREADS);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SERVER_ERROR, e.getMessage()));
+            return EXIT_IO_ERROR;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        System.out.println(String.format(MESSAGE_SERVING, server.getPort()));
+        try {
+            server.awaitStop();
+        } catch (InterruptedException e) {
+            server.stop();
+            Thread.currentThread().interrupt();
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Executes the commands read from {@code input}, one per line, until the input ends or an exit command is run.
+     * Blank lines, and lines starting with '#', are skipped. The result of each command is printed to {@code out},
+     * and the errors of commands which fail, whether with a checked or an unchecked exception, are printed to
+     * {@code err}, without stopping the run.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if the input could not be read.
+     */
+    public int run(BufferedReader input, PrintStream out, PrintStream err) throws IOException {
+        boolean hasFailedCommand = false;
+        int lineNumber = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                Command command = logic.parseCommand(commandText);
+                if (command.requiresGui()) {
+                    throw new CommandException(MESSAGE_REQUIRES_GUI);
+                }
+                CommandResult commandResult = logic.execute(command);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                hasFailedCommand = true;
+                err.println(String.format(MESSAGE_FAILED_LINE, lineNumber, e.getMessage()));
+            } catch (RuntimeException e) {
+                // i.e. a value rejected by the model, reported like any other failed command rather than ending the run
+                hasFailedCommand = true;
+                logger.warning("Command on line " + lineNumber + " failed unexpectedly: " + e);
+                err.println(String.format(MESSAGE_FAILED_LINE, lineNumber, e.getMessage()));
+            }
+        }
+        return hasFailedCommand ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+}
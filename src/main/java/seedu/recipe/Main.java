@@ -1,5 +1,7 @@
 package seedu.recipe;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,16 @@ import javafx.application.Application;
  * <p>
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ * <p>
+ * If the {@code --headless} flag is given, the application is run by {@link HeadlessMain} instead,
+ * without ever starting JavaFX.
  */
 public class Main {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessMain.HEADLESS_FLAG)) {
+            HeadlessMain.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,8 +1,5 @@
 package seedu.recipe;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,24 +7,9 @@ import javafx.stage.Stage;
 import seedu.recipe.commons.core.Config;
 import seedu.recipe.commons.core.LogsCenter;
 import seedu.recipe.commons.core.Version;
-import seedu.recipe.commons.exceptions.DataConversionException;
-import seedu.recipe.commons.util.ConfigUtil;
-import seedu.recipe.commons.util.StringUtil;
 import seedu.recipe.logic.Logic;
-import seedu.recipe.logic.LogicManager;
 import seedu.recipe.model.Model;
-import seedu.recipe.model.ModelManager;
-import seedu.recipe.model.ReadOnlyRecipeBook;
-import seedu.recipe.model.ReadOnlyUserPrefs;
-import seedu.recipe.model.RecipeBook;
-import seedu.recipe.model.UserPrefs;
-import seedu.recipe.model.util.SampleDataUtil;
-import seedu.recipe.storage.JsonRecipeBookStorage;
-import seedu.recipe.storage.JsonUserPrefsStorage;
-import seedu.recipe.storage.RecipeBookStorage;
 import seedu.recipe.storage.Storage;
-import seedu.recipe.storage.StorageManager;
-import seedu.recipe.storage.UserPrefsStorage;
 import seedu.recipe.ui.Ui;
 import seedu.recipe.ui.UiManager;
 
@@ -46,123 +28,25 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private AppInitializer initializer;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing RecipeBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        RecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(userPrefs.getRecipeBookFilePath());
-        storage = new StorageManager(recipeBookStorage, userPrefsStorage);
-
-        initLogging(config);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
-    }
-
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyRecipeBook> recipeBookOptional;
-        ReadOnlyRecipeBook initialData;
-        try {
-            recipeBookOptional = storage.readRecipeBook();
-            if (recipeBookOptional.isEmpty()) {
-                logger.info("Data file not found. Will be starting with a sample RecipeBook");
-            }
-            initialData = recipeBookOptional.orElseGet(SampleDataUtil::getSampleRecipeBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty RecipeBook");
-            initialData = new RecipeBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty RecipeBook");
-            initialData = new RecipeBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty RecipeBook");
-            initializedPrefs = new UserPrefs();
+        // The recipe book is read while the window is built, and its recipes are shown as they are read
+        initializer = new AppInitializer(appParameters.getConfigPath(), true);
+        config = initializer.getConfig();
+        storage = initializer.getStorage();
+        model = initializer.getModel();
+        logic = initializer.getLogic();
+        if (appParameters.getSessionTracePath() != null) {
+            initializer.recordSession(appParameters.getSessionTracePath());
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        ui = new UiManager(logic, initializer.getRecipeBookLoader().orElseThrow());
     }
 
     @Override
@@ -174,10 +58,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping RecipeBook ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
-        }
+        ui.stop();
+        initializer.stop();
     }
 }
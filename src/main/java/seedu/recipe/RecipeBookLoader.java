@@ -0,0 +1,173 @@
+package seedu.recipe;
+
+import static seedu.recipe.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.exceptions.DataConversionException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.util.SampleDataUtil;
+import seedu.recipe.storage.Storage;
+
+/**
+ * Loads the recipe book from storage on a background thread, so that the GUI can be built while it is read, and hands
+ * its recipes over to an initially empty model a page at a time, so that the first recipes can be shown and scrolled
+ * through before the rest are read.
+ * <p>
+ * Reading happens on the loader's own thread, but the model is only ever changed by
+ * {@link #addLoadedRecipes(ProgressListener)}, which must be run on the thread that owns the model.
+ */
+public class RecipeBookLoader {
+    public static final int PAGE_SIZE = 200;
+    public static final long PROGRESS_INTERVAL_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(RecipeBookLoader.class);
+    private static final String THREAD_NAME = "recipe-book-loader";
+
+    private final Storage storage;
+    private final Model model;
+    private final BlockingQueue<Page> pages = new LinkedBlockingQueue<>();
+
+    /**
+     * Creates a {@code RecipeBookLoader} which loads the recipe book in {@code storage} into {@code model}.
+     * {@code model} should be empty, and must not be changed by anything else until loading has finished.
+     */
+    public RecipeBookLoader(Storage storage, Model model) {
+        requireAllNonNull(storage, model);
+        this.storage = storage;
+        this.model = model;
+    }
+
+    /**
+     * Starts reading the recipe book on a background thread.
+     */
+    public void start() {
+        Thread loaderThread = new Thread(this::read, THREAD_NAME);
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+
+    /**
+     * Reads the recipe book, queueing each page of recipes as soon as it is read. The sample recipe book is used
+     * instead if there is no data file, or an empty recipe book if the data file cannot be read, as on a normal start.
+     */
+    private void read() {
+        long startMillis = System.currentTimeMillis();
+        try {
+            OptionalInt recipeCount = storage.readRecipePages(PAGE_SIZE, (page, totalRecipes) ->
+                pages.add(Page.of(page, totalRecipes)));
+            if (recipeCount.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample RecipeBook");
+                pages.add(Page.replacing(SampleDataUtil.getSampleRecipeBook()));
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty RecipeBook");
+            pages.add(Page.replacing(new RecipeBook()));
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty RecipeBook");
+            pages.add(Page.replacing(new RecipeBook()));
+        } finally {
+            pages.add(Page.LAST);
+            logger.info("Read recipe book in " + (System.currentTimeMillis() - startMillis) + " ms");
+        }
+    }
+
+    /**
+     * Adds every page of recipes to the model as it is read, until the whole recipe book is loaded. Pages read while
+     * the previous page was being added are added together, as a single change to the model.
+     * The recipes added so far are only published, and reported to {@code progressListener}, for the first change and
+     * then at most every {@link #PROGRESS_INTERVAL_MILLIS}, and once loading has finished, as each of those copies or
+     * shows the whole recipe list again.
+     * This must be run on the thread which owns the model.
+     *
+     * @param progressListener Called after changes to the model, with the number of recipes loaded so far.
+     */
+    public void addLoadedRecipes(ProgressListener progressListener) throws InterruptedException {
+        int loadedRecipes = 0;
+        boolean isLoaded = false;
+        long nextProgressNanos = System.nanoTime();
+        while (!isLoaded) {
+            List<Page> readPages = new ArrayList<>();
+            readPages.add(pages.take());
+            pages.drainTo(readPages);
+
+            List<Recipe> recipes = new ArrayList<>();
+            int totalRecipes = loadedRecipes;
+            for (Page page : readPages) {
+                if (page == Page.LAST) {
+                    isLoaded = true;
+                } else if (page.isReplacing) {
+                    // the recipes read so far are discarded, along with any still to be added
+                    model.setRecipeBook(new RecipeBook());
+                    recipes = new ArrayList<>(page.recipes);
+                    loadedRecipes = 0;
+                    totalRecipes = page.totalRecipes;
+                } else {
+                    recipes.addAll(page.recipes);
+                    totalRecipes = page.totalRecipes;
+                }
+            }
+
+            if (!recipes.isEmpty()) {
+                loadedRecipes += model.addRecipes(recipes).size();
+            }
+            long nowNanos = System.nanoTime();
+            if (isLoaded || (!recipes.isEmpty() && nowNanos - nextProgressNanos >= 0)) {
+                model.publishRecipeBookSnapshot();
+                progressListener.onProgress(loadedRecipes, isLoaded ? loadedRecipes : totalRecipes);
+                nextProgressNanos = nowNanos + TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Receives the progress of loading the recipe book into the model.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called after recipes are added to the model. Loading has finished once both counts are equal.
+         *
+         * @param loadedRecipes The number of recipes in the model so far.
+         * @param totalRecipes  The number of recipes being loaded, as far as is known.
+         */
+        void onProgress(int loadedRecipes, int totalRecipes);
+    }
+
+    /**
+     * Represents recipes read by the loader thread, waiting to be added to the model.
+     */
+    private static class Page {
+        private static final Page LAST = new Page(List.of(), 0, false);
+
+        private final List<Recipe> recipes;
+        private final int totalRecipes;
+        private final boolean isReplacing; // whether the recipes replace those of every earlier page
+
+        private Page(List<Recipe> recipes, int totalRecipes, boolean isReplacing) {
+            this.recipes = recipes;
+            this.totalRecipes = totalRecipes;
+            this.isReplacing = isReplacing;
+        }
+
+        static Page of(List<Recipe> recipes, int totalRecipes) {
+            return new Page(List.copyOf(recipes), totalRecipes, false);
+        }
+
+        static Page replacing(ReadOnlyRecipeBook recipeBook) {
+            List<Recipe> recipes = List.copyOf(recipeBook.getRecipeList());
+            return new Page(recipes, recipes.size(), true);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.recipe.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler which hands log records over to other handlers on a dedicated writer thread, so that logging never blocks
+ * the thread logging on console or disk I/O.
+ * <p>
+ * Records wait in a bounded ring buffer. When it is full, new records are dropped rather than waited for, and how many
+ * were dropped is logged once the writer catches up. To avoid walking the stack of the thread logging, the source of
+ * every record is taken to be the logger it was logged to, rather than the method which logged it.
+ */
+class AsyncLogHandler extends Handler {
+    static final String WRITER_THREAD_NAME = "log-writer";
+    static final String MESSAGE_DROPPED = "Dropped %d log records as they were logged faster than they were written.";
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long FLUSH_TIMEOUT_MILLIS = 1000;
+    private static final LogRecord CLOSE = new LogRecord(Level.OFF, "close");
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread writer;
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long writtenCount = 0; // guarded by this
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates a handler which writes records to each of {@code handlers}, buffering up to {@code capacity} records.
+     */
+    AsyncLogHandler(List<Handler> handlers, int capacity) {
+        this.handlers = new ArrayList<>(handlers);
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeRecords, WRITER_THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        if (buffer.offer(record)) {
+            enqueuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for up to a second for the records published so far to be written, then flushes every handler.
+     */
+    @Override
+    public void flush() {
+        long target = enqueuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (this) {
+            long remainingNanos;
+            while (writtenCount < target && writer.isAlive()
+                && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes every record published so far, then closes every handler. Records published afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            buffer.put(CLOSE);
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+            for (LogRecord record : batch) {
+                if (record == CLOSE) {
+                    return;
+                }
+                write(record);
+            }
+            long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                write(new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, dropped)));
+            }
+            synchronized (this) {
+                writtenCount += batch.size();
+                notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler handler : handlers) {
+            handler.publish(record);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.recipe.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Records how long each type of command takes to be parsed, executed and persisted, and how many bytes its execution
+ * allocates, as histograms from which percentiles can be read, i.e. by the stats command.
+ */
+public class CommandMetrics {
+    public static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KIB = 1024.0;
+
+    private final Map<String, CommandTypeMetrics> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * Records that parsing a command of the given type took the given number of nanoseconds.
+     */
+    public void recordParse(String commandType, long nanos) {
+        getOrCreate(commandType).parseNanos.record(nanos);
+    }
+
+    /**
+     * Records that executing a command of the given type took {@code executeNanos}, that persisting its changes
+     * took {@code persistNanos}, and that both together allocated {@code allocatedBytes} on the executing thread.
+     *
+     * @param persistNanos The time taken to persist the changes, or a negative number if they were never persisted.
+     * @param allocatedBytes The bytes allocated, or a negative number if they could not be measured.
+     */
+    public void recordExecution(String commandType, long executeNanos, long persistNanos, long allocatedBytes) {
+        CommandTypeMetrics typeMetrics = getOrCreate(commandType);
+        typeMetrics.executeNanos.record(executeNanos);
+        if (persistNanos >= 0) {
+            typeMetrics.persistNanos.record(persistNanos);
+        }
+        if (allocatedBytes >= 0) {
+            typeMetrics.allocatedBytes.record(allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the metrics recorded for the given type of command, if any.
+     */
+    public Optional<CommandTypeMetrics> getMetrics(String commandType) {
+        return Optional.ofNullable(metrics.get(commandType));
+    }
+
+    private CommandTypeMetrics getOrCreate(String commandType) {
+        requireNonNull(commandType);
+        return metrics.computeIfAbsent(commandType, unused -> new CommandTypeMetrics());
+    }
+
+    /**
+     * Returns the total number of bytes allocated so far by the current thread, or -1 if the JVM does not measure it.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        if (!allocationMxBean.isThreadAllocatedMemorySupported()
+            || !allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the percentiles of the metrics of every type of command recorded so far, one type after another.
+     */
+    @Override
+    public String toString() {
+        if (metrics.isEmpty()) {
+            return "No commands recorded yet.";
+        }
+        StringBuilder builder = new StringBuilder("p50 / p95 / p99 / max of each type of command:");
+        metrics.forEach((commandType, typeMetrics) -> {
+            builder.append(String.format("%n%s: run %d times", commandType, typeMetrics.executeNanos.getTotalCount()));
+            appendPercentiles(builder, "parse", typeMetrics.parseNanos, NANOS_PER_MILLI, "ms");
+            appendPercentiles(builder, "execute", typeMetrics.executeNanos, NANOS_PER_MILLI, "ms");
+            appendPercentiles(builder, "persist", typeMetrics.persistNanos, NANOS_PER_MILLI, "ms");
+            appendPercentiles(builder, "allocated", typeMetrics.allocatedBytes, BYTES_PER_KIB, "KiB");
+        });
+        return builder.toString();
+    }
+
+    private static void appendPercentiles(StringBuilder builder, String name, Histogram histogram, double scale,
+            String unit) {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        builder.append(String.format("%n  %-9s %s", name, histogram.formatPercentiles(scale, unit)));
+    }
+
+    /**
+     * Represents the metrics recorded for a single type of command.
+     */
+    public static class CommandTypeMetrics {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram persistNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+
+        public Histogram getParseNanos() {
+            return parseNanos;
+        }
+
+        public Histogram getExecuteNanos() {
+            return executeNanos;
+        }
+
+        public Histogram getPersistNanos() {
+            return persistNanos;
+        }
+
+        public Histogram getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
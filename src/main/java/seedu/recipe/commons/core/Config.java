@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpIntervalSeconds = 60; // 0 to only write the metrics file on exit
+    private boolean stepTextOffHeap = false; // true to store the text of recipes' steps off the Java heap
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
+    public boolean isStepTextOffHeap() {
+        return stepTextOffHeap;
+    }
+
+    public void setStepTextOffHeap(boolean stepTextOffHeap) {
+        this.stepTextOffHeap = stepTextOffHeap;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,18 +71,24 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds
+                && stepTextOffHeap == o.stepTextOffHeap;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalSeconds, stepTextOffHeap);
     }
 
     @Override
     public String toString() {
         String sb = "Current log level : " + logLevel
-                + "\nPreference file Location : " + userPrefsFilePath;
+                + "\nPreference file Location : " + userPrefsFilePath
+                + "\nMetrics file Location : " + metricsFilePath
+                + "\nMetrics dump interval : " + metricsDumpIntervalSeconds + "s"
+                + "\nStep text off heap : " + stepTextOffHeap;
         return sb;
     }
 
@@ -0,0 +1,102 @@
+package seedu.recipe.commons.core;
+
+/**
+ * Records the distribution of non-negative values, i.e. durations in nanoseconds, in constant memory, and answers
+ * percentiles of them to within 2% of the value, in the manner of an HDR histogram.
+ * <p>
+ * Values below {@code 128} are counted exactly. Larger values are counted in buckets spread evenly over each power of
+ * two, with 64 buckets to each, so that every bucket is at most 1/64 as wide as the values it counts.
+ * Values larger than {@link #HIGHEST_TRACKABLE_VALUE} are counted as that value.
+ */
+public class Histogram {
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 42) - 1; // over an hour in nanoseconds, or 4 TiB
+
+    private static final double[] REPORTED_PERCENTILES = {50, 95, 99};
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long[] counts = new long[bucketIndexOf(HIGHEST_TRACKABLE_VALUE) + 1];
+    private long totalCount = 0;
+    private long totalValue = 0;
+    private long maxValue = 0;
+
+    /**
+     * Records one occurrence of the given value.
+     */
+    public synchronized void record(long value) {
+        assert value >= 0;
+        long trackedValue = Math.min(value, HIGHEST_TRACKABLE_VALUE);
+        counts[bucketIndexOf(trackedValue)]++;
+        totalCount++;
+        totalValue += trackedValue;
+        maxValue = Math.max(maxValue, trackedValue);
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the mean of the values recorded, or 0 if none were recorded.
+     */
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : (double) totalValue / totalCount;
+    }
+
+    /**
+     * Returns the value which {@code percentile} percent of the values recorded are at most, to within the precision
+     * of this histogram, or 0 if no values were recorded.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int index = 0; index < counts.length; index++) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= countAtPercentile) {
+                return Math.min(highestValueIn(index), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the 50th, 95th and 99th percentiles and the maximum of the values recorded, each divided by
+     * {@code scale}, i.e. {@code "1.00 / 2.00 / 3.00 / 4.00 ms"}.
+     */
+    public synchronized String formatPercentiles(double scale, String unit) {
+        StringBuilder builder = new StringBuilder();
+        for (double percentile : REPORTED_PERCENTILES) {
+            builder.append(String.format("%.2f / ", getValueAtPercentile(percentile) / scale));
+        }
+        return builder.append(String.format("%.2f %s", maxValue / scale, unit)).toString();
+    }
+
+    private static int bucketIndexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift); // from HALF_SUB_BUCKET_COUNT up to SUB_BUCKET_COUNT - 1
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (subBucket - HALF_SUB_BUCKET_COUNT);
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
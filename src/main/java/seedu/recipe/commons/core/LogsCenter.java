@@ -1,10 +1,16 @@
 package seedu.recipe.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,39 +20,35 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  * at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  * file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to both on a dedicated thread, so that logging never waits on either, and each logger is only
+ * configured once, however often it is requested.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 8192;
     private static final String LOG_FILE = "recipebook.log";
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Messages logged to every logger, including those obtained before this initialization, are then written out
+     * at that level.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        getAsyncHandler().setLevel(currentLogLevel);
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, configuring it the first time it is requested.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -59,15 +61,14 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
-     */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+
+        return logger;
     }
 
     /**
@@ -79,18 +80,25 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler shared by every logger, which writes to the console and the log file on its own thread.<br>
+     * Creates it if it is null, along with a shutdown hook which writes out what is left in it when the app exits.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+        List<Handler> handlers = new ArrayList<>();
+        ConsoleHandler consoleHandler = createConsoleHandler();
+        handlers.add(consoleHandler);
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            handlers.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
+        asyncHandler = new AsyncLogHandler(handlers, BUFFER_CAPACITY);
+        asyncHandler.setLevel(currentLogLevel);
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close));
+        return asyncHandler;
     }
 
     /**
@@ -101,13 +109,13 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL); // records are filtered by the level of the async handler
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
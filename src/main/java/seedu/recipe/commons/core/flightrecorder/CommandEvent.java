@@ -0,0 +1,52 @@
+package seedu.recipe.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning the execution of a command and the saving of its changes.
+ */
+@Name("seedu.recipe.Command")
+@Label("Command")
+@Category({"RecipeBook", "Logic"})
+@Description("A command executed by LogicManager, including saving the recipe book afterwards")
+public class CommandEvent extends Event {
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Recipe Count")
+    @Description("The number of recipes in the recipe book after the command")
+    private int recipeCount;
+
+    @Label("Allocated Bytes")
+    @Description("The bytes allocated by executing the command and saving the recipe book, or -1 if not measured")
+    @DataAmount
+    private long allocatedBytes;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    /**
+     * Creates and begins timing an event for executing a command of the given type.
+     */
+    public static CommandEvent start(String commandType) {
+        CommandEvent event = new CommandEvent();
+        event.commandType = commandType;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it is being recorded.
+     */
+    public void finish(boolean isSuccessful, int recipeCount, long allocatedBytes) {
+        this.isSuccessful = isSuccessful;
+        this.recipeCount = recipeCount;
+        this.allocatedBytes = allocatedBytes;
+        commit();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.recipe.commons.core.flightrecorder;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning the reading of the recipes in a file to be imported.
+ */
+@Name("seedu.recipe.Import")
+@Label("Recipe Import")
+@Category({"RecipeBook", "Storage"})
+public class ImportEvent extends Event {
+    @Label("File")
+    private String file;
+
+    @Label("Recipe Count")
+    private int recipeCount;
+
+    @Label("File Size")
+    @DataAmount
+    private long fileSize;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    private transient Path filePath;
+
+    /**
+     * Creates and begins timing an event for importing the recipes in the given file.
+     */
+    public static ImportEvent start(Path filePath) {
+        ImportEvent event = new ImportEvent();
+        event.filePath = filePath;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it is being recorded. The size of the file is only found if so.
+     */
+    public void finish(boolean isSuccessful, int recipeCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.isSuccessful = isSuccessful;
+        this.recipeCount = recipeCount;
+        file = String.valueOf(filePath);
+        fileSize = StorageEvent.sizeOf(filePath);
+        commit();
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.recipe.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning the rebuilding of an index over all the recipes of a recipe list.
+ */
+@Name("seedu.recipe.IndexRebuild")
+@Label("Index Rebuild")
+@Category({"RecipeBook", "Model"})
+@Description("An index of recipes rebuilt from scratch, rather than updated one recipe at a time")
+public class IndexRebuildEvent extends Event {
+    @Label("Index")
+    private String index;
+
+    @Label("Recipe Count")
+    private int recipeCount;
+
+    /**
+     * Creates and begins timing an event for rebuilding the given index.
+     */
+    public static IndexRebuildEvent start(String index) {
+        IndexRebuildEvent event = new IndexRebuildEvent();
+        event.index = index;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it is being recorded.
+     */
+    public void finish(int recipeCount) {
+        this.recipeCount = recipeCount;
+        commit();
+    }
+}
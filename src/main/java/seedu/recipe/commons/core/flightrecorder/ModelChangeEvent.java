@@ -0,0 +1,68 @@
+package seedu.recipe.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.recipe.commons.core.CommandMetrics;
+
+/**
+ * A Java Flight Recorder event spanning a change to the recipes of the model.
+ */
+@Name("seedu.recipe.ModelChange")
+@Label("Model Change")
+@Category({"RecipeBook", "Model"})
+@Description("Recipes added to, removed from or replaced in the recipe book")
+public class ModelChangeEvent extends Event {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Changed Count")
+    @Description("The number of recipes added, removed or replaced, or meant to be if the change failed")
+    private int changedCount;
+
+    @Label("Recipe Count")
+    @Description("The number of recipes in the recipe book after the change")
+    private int recipeCount;
+
+    @Label("Allocated Bytes")
+    @Description("The bytes allocated by the thread making the change, or -1 if not measured")
+    @DataAmount
+    private long allocatedBytes;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    private transient long startAllocatedBytes = -1; // -1 if not measured when the event began
+
+    /**
+     * Creates and begins timing an event for the given change, e.g. {@code "addRecipe"}.
+     */
+    public static ModelChangeEvent start(String operation) {
+        ModelChangeEvent event = new ModelChangeEvent();
+        event.operation = operation;
+        if (event.isEnabled()) {
+            event.startAllocatedBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it is being recorded. The bytes allocated are only measured if so.
+     */
+    public void finish(boolean isSuccessful, int changedCount, int recipeCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        allocatedBytes = startAllocatedBytes < 0
+            ? -1 : CommandMetrics.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+        this.isSuccessful = isSuccessful;
+        this.changedCount = changedCount;
+        this.recipeCount = recipeCount;
+        commit();
+    }
+}
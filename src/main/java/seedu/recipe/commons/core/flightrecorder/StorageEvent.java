@@ -0,0 +1,77 @@
+package seedu.recipe.commons.core.flightrecorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning the reading or saving of a recipe book file.
+ */
+@Name("seedu.recipe.Storage")
+@Label("Recipe Book Storage")
+@Category({"RecipeBook", "Storage"})
+@Description("A recipe book read from or saved to a file")
+public class StorageEvent extends Event {
+    @Label("Operation")
+    private String operation;
+
+    @Label("File")
+    private String file;
+
+    @Label("Recipe Count")
+    private int recipeCount;
+
+    @Label("File Size")
+    @Description("The size of the file afterwards, or -1 if it could not be found")
+    @DataAmount
+    private long fileSize;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    private transient Path filePath;
+
+    /**
+     * Creates and begins timing an event for the given operation on the given file, e.g. {@code "save"}.
+     */
+    public static StorageEvent start(String operation, Path filePath) {
+        StorageEvent event = new StorageEvent();
+        event.operation = operation;
+        event.filePath = filePath;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it is being recorded. The size of the file is only found if so.
+     */
+    public void finish(boolean isSuccessful, int recipeCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.isSuccessful = isSuccessful;
+        this.recipeCount = recipeCount;
+        file = String.valueOf(filePath);
+        fileSize = sizeOf(filePath);
+        commit();
+    }
+
+    /**
+     * Returns the size of the given file in bytes, or -1 if it cannot be found.
+     */
+    static long sizeOf(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
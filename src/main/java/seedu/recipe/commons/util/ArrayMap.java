@@ -0,0 +1,131 @@
+package seedu.recipe.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map backed by plain arrays of its keys and values, in the order they were first added.
+ * It takes a fraction of the memory of a {@code HashMap}, at the cost of lookups linear in its size, so it suits the
+ * many small maps held by every recipe, i.e. their ingredients, rather than large ones.
+ *
+ * @param <K> The type of keys, which must not be null.
+ * @param <V> The type of values, which must not be null.
+ */
+public final class ArrayMap<K, V> extends AbstractMap<K, V> {
+    private static final ArrayMap<?, ?> EMPTY = new ArrayMap<>(new Object[0], new Object[0]);
+
+    private final Object[] keys;
+    private final Object[] values;
+
+    private ArrayMap(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Returns an empty map.
+     */
+    public static <K, V> ArrayMap<K, V> of() {
+        @SuppressWarnings("unchecked")
+        ArrayMap<K, V> empty = (ArrayMap<K, V>) EMPTY;
+        return empty;
+    }
+
+    /**
+     * Returns a map of the entries of {@code map}, in its iteration order.
+     */
+    public static <K, V> ArrayMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        requireNonNull(map);
+        if (map instanceof ArrayMap) {
+            @SuppressWarnings("unchecked")
+            ArrayMap<K, V> arrayMap = (ArrayMap<K, V>) map;
+            return arrayMap;
+        }
+        if (map.isEmpty()) {
+            return of();
+        }
+        Object[] keys = new Object[map.size()];
+        Object[] values = new Object[map.size()];
+        int index = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keys[index] = requireNonNull(entry.getKey());
+            values[index] = requireNonNull(entry.getValue());
+            index++;
+        }
+        return new ArrayMap<>(keys, values);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && ArraySet.indexOf(keys, keys.length, key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = key == null ? -1 : ArraySet.indexOf(keys, keys.length, key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        for (int i = 0; i < keys.length; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+        }
+    }
+
+    /**
+     * Returns the keys of this map, in the same order, without copying them.
+     */
+    @Override
+    public Set<K> keySet() {
+        return ArraySet.ofDistinct(keys);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new Iterator<>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Map.Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.recipe.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * An immutable set backed by a plain array of its elements, in the order they were first added.
+ * It takes a fraction of the memory of a {@code HashSet}, at the cost of lookups linear in its size, so it suits the
+ * many small sets held by every recipe, i.e. their tags, rather than large ones.
+ *
+ * @param <E> The type of elements, which must not be null.
+ */
+public final class ArraySet<E> extends AbstractSet<E> {
+    private static final ArraySet<?> EMPTY = new ArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private ArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns a set of the distinct elements of {@code elements}, in the order they first appear.
+     */
+    public static <E> ArraySet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof ArraySet) {
+            @SuppressWarnings("unchecked")
+            ArraySet<E> set = (ArraySet<E>) elements;
+            return set;
+        }
+        return ofDistinct(distinct(elements.toArray()));
+    }
+
+    /**
+     * Returns a set of the distinct elements given, in the order they first appear.
+     */
+    @SafeVarargs
+    public static <E> ArraySet<E> of(E... elements) {
+        requireNonNull(elements);
+        return ofDistinct(distinct(elements));
+    }
+
+    /**
+     * Returns a set of the given elements, which are already known to be non-null and distinct.
+     * The array is not copied, so it must not be changed afterwards.
+     */
+    static <E> ArraySet<E> ofDistinct(Object[] elements) {
+        if (elements.length == 0) {
+            @SuppressWarnings("unchecked")
+            ArraySet<E> empty = (ArraySet<E>) EMPTY;
+            return empty;
+        }
+        return new ArraySet<>(elements);
+    }
+
+    private static Object[] distinct(Object[] elements) {
+        Object[] distinctElements = new Object[elements.length];
+        int distinctCount = 0;
+        for (Object element : elements) {
+            requireNonNull(element);
+            if (indexOf(distinctElements, distinctCount, element) < 0) {
+                distinctElements[distinctCount++] = element;
+            }
+        }
+        return distinctCount == elements.length ? distinctElements : Arrays.copyOf(distinctElements, distinctCount);
+    }
+
+    /**
+     * Returns the index of the first of the first {@code length} elements of {@code elements} which equals
+     * {@code element}, or -1 if there is none.
+     */
+    static int indexOf(Object[] elements, int length, Object element) {
+        for (int i = 0; i < length; i++) {
+            if (elements[i].equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && indexOf(elements, elements.length, o) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        requireNonNull(action);
+        for (Object element : elements) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[index++];
+            }
+        };
+    }
+}
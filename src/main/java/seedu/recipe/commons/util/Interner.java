@@ -0,0 +1,33 @@
+package seedu.recipe.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizes equal immutable values to a single shared instance, so that the many recipes holding e.g. the same
+ * tag or unit hold a reference to one object, rather than a copy each.
+ * An interner is meant to be used by one thread for one batch of values, e.g. the recipes of one data file as it is
+ * loaded, and dropped afterwards, so it is not thread-safe, and holds every value interned until it is dropped.
+ *
+ * @param <T> The type of values, which must be immutable, and equal only to values which behave identically.
+ */
+public class Interner<T> {
+    private final Map<T, T> canonicalValues = new HashMap<>();
+
+    /**
+     * Returns the instance equal to {@code value} which was interned first, or {@code value} itself if there is none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        return canonicalValues.computeIfAbsent(value, v -> v);
+    }
+
+    /**
+     * Returns the number of distinct values interned.
+     */
+    public int size() {
+        return canonicalValues.size();
+    }
+}
@@ -3,18 +3,22 @@ package seedu.recipe.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -95,6 +99,36 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves a Json object with a single field holding the given elements as an array to the specified file, writing
+     * out each element as it is taken from {@code elements}, so that the elements never all need to be in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param elements  cannot be null
+     * @param fieldName name of the field holding the array
+     * @param filePath  cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Iterator<T> elements, String fieldName, Path filePath)
+            throws IOException {
+        requireNonNull(elements);
+        requireNonNull(fieldName);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8))) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
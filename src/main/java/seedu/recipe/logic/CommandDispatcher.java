@@ -0,0 +1,237 @@
+package seedu.recipe.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.CommandResult;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.model.recipe.Recipe;
+
+/**
+ * Executes commands on a single background thread, so that callers such as the GUI stay responsive while commands
+ * are parsed, executed and saved.
+ * <p>
+ * Commands are executed one at a time, in the order they were submitted, so {@link Logic} is only ever changed from
+ * one thread. The results of commands, and any change to the filtered list of recipes, are handed back through the
+ * given callback executor, i.e. {@code Platform::runLater}, in the same order. Commands which require the GUI, such
+ * as those which open a window, are instead executed through the callback executor, while the background thread
+ * waits for them, so that they still run in order and never alongside another command.
+ * <p>
+ * Once shut down, commands which require the GUI are no longer executed, as the callback executor may itself be
+ * waiting for the shutdown, i.e. when the JavaFX application thread is stopping the app.
+ */
+public class CommandDispatcher {
+    public static final String MESSAGE_SHUTTING_DOWN = "The app is closing, so this command was not executed.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandDispatcher.class);
+    private static final String THREAD_NAME = "command-dispatcher";
+
+    private final Logic logic;
+    private final Executor callbackExecutor;
+    private final Consumer<List<Recipe>> recipeListListener;
+    private final ExecutorService commandThread;
+
+    // Only accessed from the command thread, or from the callback executor while the command thread waits for it
+    private boolean hasRecipeListChanged = false;
+    private volatile boolean isShuttingDown = false;
+    // The command requiring the GUI which the command thread is waiting for, if any
+    private volatile GuiCommand pendingGuiCommand;
+
+    /**
+     * Creates a {@code CommandDispatcher} executing commands on the given {@code Logic}.
+     *
+     * @param logic The logic to execute commands on. It must not be used by any other thread from now on.
+     * @param callbackExecutor The executor through which results are handed back, and GUI commands are executed.
+     * @param recipeListListener Called through the callback executor with a copy of the filtered list of recipes,
+     *                           whenever a command changes it.
+     */
+    public CommandDispatcher(Logic logic, Executor callbackExecutor, Consumer<List<Recipe>> recipeListListener) {
+        requireNonNull(logic);
+        requireNonNull(callbackExecutor);
+        requireNonNull(recipeListListener);
+        this.logic = logic;
+        this.callbackExecutor = callbackExecutor;
+        this.recipeListListener = recipeListListener;
+        this.commandThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic.getFilteredRecipeList().addListener((ListChangeListener<Recipe>) change ->
+            hasRecipeListChanged = true);
+    }
+
+    /**
+     * Queues the command described by the given text to be parsed and executed after every command already queued.
+     *
+     * @return A future completed through the callback executor with the result of the command, or with the
+     *     {@code ParseException} or {@code CommandException} explaining why it failed.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return dispatch(() -> {
+            logger.info(() -> "----------------[QUEUED COMMAND][" + commandText + "]");
+            return execute(logic.parseCommand(commandText));
+        });
+    }
+
+    /**
+     * Queues the given command to be executed after every command already queued.
+     *
+     * @see #submit(String)
+     */
+    public CompletableFuture<CommandResult> submit(Command command) {
+        requireNonNull(command);
+        return dispatch(() -> execute(command));
+    }
+
+    /**
+     * Queues the given task to be run on the command thread after every command already queued, as commands are.
+     * This is for work which changes the recipes without a command, such as loading them, in several steps.
+     *
+     * @return A future completed through the callback executor once the task has finished, or with the exception
+     *     which it failed with.
+     */
+    public CompletableFuture<Void> submit(Task task) {
+        requireNonNull(task);
+        return dispatch(() -> {
+            task.run(this::publishRecipeListChanges);
+            return null;
+        });
+    }
+
+    /**
+     * Stops accepting commands, and waits up to the given time for the commands already queued to finish.
+     * Queued commands which require the GUI, including one the command thread is already waiting for, fail with
+     * {@link #MESSAGE_SHUTTING_DOWN} instead of being executed, so that this can be called from the callback
+     * executor without waiting for itself.
+     *
+     * @return True if every queued command finished in time.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        isShuttingDown = true;
+        commandThread.shutdown();
+        GuiCommand guiCommand = pendingGuiCommand;
+        if (guiCommand != null) {
+            guiCommand.cancel();
+        }
+        return commandThread.awaitTermination(timeout, unit);
+    }
+
+    private <T> CompletableFuture<T> dispatch(CommandTask<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commandThread.execute(() -> {
+            try {
+                T result = task.run();
+                publishRecipeListChanges();
+                callbackExecutor.execute(() -> future.complete(result));
+            } catch (Exception e) {
+                publishRecipeListChanges();
+                callbackExecutor.execute(() -> future.completeExceptionally(e));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Executes the given command, on the callback executor if it requires the GUI, or on this thread otherwise.
+     */
+    private CommandResult execute(Command command) throws Exception {
+        if (!command.requiresGui()) {
+            return logic.execute(command);
+        }
+
+        GuiCommand guiCommand = new GuiCommand();
+        pendingGuiCommand = guiCommand;
+        try {
+            // checked after the command is pending, so that a concurrent shutdown either sees it or is seen here
+            if (isShuttingDown) {
+                guiCommand.cancel();
+            } else {
+                callbackExecutor.execute(() -> guiCommand.run(command));
+            }
+            return guiCommand.result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            pendingGuiCommand = null;
+        }
+    }
+
+    /**
+     * Hands a copy of the filtered list of recipes to the listener, if it changed since it was last handed over.
+     * The copy is taken on the command thread, so the listener never sees the list while a command is changing it.
+     */
+    private void publishRecipeListChanges() {
+        if (!hasRecipeListChanged) {
+            return;
+        }
+        hasRecipeListChanged = false;
+        List<Recipe> recipes = List.copyOf(logic.getFilteredRecipeList());
+        callbackExecutor.execute(() -> recipeListListener.accept(recipes));
+    }
+
+    /**
+     * Represents a command requiring the GUI, handed to the callback executor, which is either run there or cancelled
+     * by a shutdown, whichever happens first, but never both.
+     */
+    private class GuiCommand {
+        private final AtomicBoolean isClaimed = new AtomicBoolean(false);
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        void run(Command command) {
+            if (!isClaimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(logic.execute(command));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void cancel() {
+            if (isClaimed.compareAndSet(false, true)) {
+                result.completeExceptionally(new CommandException(MESSAGE_SHUTTING_DOWN));
+            }
+        }
+    }
+
+    /**
+     * Represents work run on the command thread in place of a command.
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * Runs the task.
+         *
+         * @param publishRecipeListChanges Hands any change to the filtered list of recipes so far back to the
+         *                                 listener, so that the task can show its progress before it finishes.
+         */
+        void run(Runnable publishRecipeListChanges) throws Exception;
+    }
+
+    /**
+     * Represents a command, or any other work, to be run on the command thread.
+     */
+    @FunctionalInterface
+    private interface CommandTask<T> {
+        T run() throws Exception;
+    }
+}
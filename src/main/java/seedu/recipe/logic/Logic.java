@@ -25,6 +25,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses the command text into a command to be executed later by {@link #execute(Command)}, recording how long
+     * parsing took for that type of command.
+     *
+     * @param commandText The command as entered by the user.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseCommand(String commandText) throws ParseException;
+
     /**
      * Executes the command and returns the result.
      *
@@ -41,6 +50,14 @@ public interface Logic {
      */
     ReadOnlyRecipeBook getRecipeBook();
 
+    /**
+     * Returns the recipe book as of the last command executed. Unlike {@link #getRecipeBook()}, this can be called
+     * from any thread, even while commands are being executed.
+     *
+     * @see seedu.recipe.model.Model#getRecipeBookSnapshot()
+     */
+    ReadOnlyRecipeBook getRecipeBookSnapshot();
+
     /**
      * Returns an unmodifiable view of the filtered list of recipes
      */
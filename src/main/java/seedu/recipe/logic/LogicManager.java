@@ -5,8 +5,10 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.recipe.commons.core.CommandMetrics;
 import seedu.recipe.commons.core.GuiSettings;
 import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.core.flightrecorder.CommandEvent;
 import seedu.recipe.logic.commands.Command;
 import seedu.recipe.logic.commands.CommandResult;
 import seedu.recipe.logic.commands.exceptions.CommandException;
@@ -27,6 +29,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final RecipeBookParser recipeBookParser;
+    private volatile SessionRecorder sessionRecorder;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,32 +42,74 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        return executeCommand(parseCommand(commandText));
+    }
 
-        CommandResult commandResult;
-        Command command = recipeBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    /**
+     * Records the text of every command parsed from now on with the given recorder, or stops recording if it is null.
+     */
+    public void setSessionRecorder(SessionRecorder sessionRecorder) {
+        this.sessionRecorder = sessionRecorder;
+    }
 
-        try {
-            storage.saveRecipeBook(model.getRecipeBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+    @Override
+    public Command parseCommand(String commandText) throws ParseException {
+        SessionRecorder recorder = sessionRecorder;
+        if (recorder != null) {
+            recorder.record(commandText);
         }
-
-        return commandResult;
+        long startNanos = System.nanoTime();
+        Command command = recipeBookParser.parseCommand(commandText);
+        model.getCommandMetrics().recordParse(getCommandType(command), System.nanoTime() - startNanos);
+        return command;
     }
 
     @Override
     public CommandResult execute(Command command) throws CommandException {
-        logger.info("----------------[USER COMMAND][" + command.getClass().getSimpleName() + "]");
-        CommandResult commandResult;
-        commandResult = command.execute(model);
+        logger.info(() -> "----------------[USER COMMAND][" + getCommandType(command) + "]");
+        return executeCommand(command);
+    }
+
+    /**
+     * Executes the command and saves the recipe book, recording how long each took, and how many bytes both
+     * allocated, for that type of command.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        CommandEvent event = CommandEvent.start(getCommandType(command));
+        long startAllocatedBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        long persistStartNanos = -1;
         try {
-            storage.saveRecipeBook(model.getRecipeBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            CommandResult commandResult;
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                model.publishRecipeBookSnapshot();
+            }
+
+            persistStartNanos = System.nanoTime();
+            try {
+                storage.saveRecipeBook(model.getRecipeBook());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            return commandResult;
+        } finally {
+            long endNanos = System.nanoTime();
+            long allocatedBytes = startAllocatedBytes < 0
+                ? -1 : CommandMetrics.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            // commands which fail are never persisted
+            boolean isPersisted = persistStartNanos >= 0;
+            model.getCommandMetrics().recordExecution(getCommandType(command),
+                (isPersisted ? persistStartNanos : endNanos) - startNanos,
+                isPersisted ? endNanos - persistStartNanos : -1, allocatedBytes);
+            event.finish(isPersisted, model.getRecipeBook().getRecipeList().size(), allocatedBytes);
         }
-        return commandResult;
+    }
+
+    private static String getCommandType(Command command) {
+        return command.getClass().getSimpleName();
     }
 
     @Override
@@ -72,6 +117,11 @@ public class LogicManager implements Logic {
         return model.getRecipeBook();
     }
 
+    @Override
+    public ReadOnlyRecipeBook getRecipeBookSnapshot() {
+        return model.getRecipeBookSnapshot();
+    }
+
     @Override
     public ObservableList<Recipe> getFilteredRecipeList() {
         return model.getFilteredRecipeList();
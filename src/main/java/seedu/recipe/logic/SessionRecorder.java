@@ -0,0 +1,75 @@
+package seedu.recipe.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.util.StringUtil;
+
+/**
+ * Records the text of every command given to a {@code LogicManager} to a trace file, so that the session can be
+ * replayed later by a {@link SessionReplayer}, i.e. to measure how quickly the commands of real sessions run.
+ * <p>
+ * Each command is written on its own line, after the number of milliseconds between the start of the recording and
+ * the command, and a tab. Lines starting with {@code #} are comments. Every line is written out as soon as it is
+ * recorded, so that the trace survives the application being ended abruptly.
+ */
+public class SessionRecorder implements Closeable {
+    public static final String FIELD_SEPARATOR = "\t";
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(SessionRecorder.class);
+
+    private final BufferedWriter writer;
+    private final long startNanos = System.nanoTime();
+    private boolean isStopped = false;
+
+    /**
+     * Creates a recorder which records to the file at {@code traceFilePath}, replacing any file already there.
+     *
+     * @throws IOException if the file could not be created.
+     */
+    public SessionRecorder(Path traceFilePath) throws IOException {
+        requireNonNull(traceFilePath);
+        writer = Files.newBufferedWriter(traceFilePath, StandardCharsets.UTF_8);
+        writer.write(COMMENT_PREFIX + " RecipeBook session recorded at " + LocalDateTime.now());
+        writer.newLine();
+        writer.flush();
+    }
+
+    /**
+     * Records that the command with the given text was given now.
+     * If the trace file cannot be written, the failure is logged, and no more commands are recorded.
+     */
+    public synchronized void record(String commandText) {
+        if (isStopped) {
+            return;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        try {
+            // commands are typed on a single line, but are kept on one even if they somehow are not
+            writer.write(elapsedMillis + FIELD_SEPARATOR + commandText.replaceAll("\\R", " "));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            isStopped = true;
+            logger.warning("Failed to record the session, so it is no longer being recorded "
+                + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        isStopped = true;
+        writer.close();
+    }
+}
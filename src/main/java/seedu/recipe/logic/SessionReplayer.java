@@ -0,0 +1,122 @@
+package seedu.recipe.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.recipe.commons.core.CommandMetrics;
+import seedu.recipe.commons.core.Histogram;
+import seedu.recipe.commons.exceptions.IllegalValueException;
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+
+/**
+ * Replays the commands of a session recorded by a {@link SessionRecorder}, one after another and as quickly as
+ * possible, measuring how long each takes to parse and execute.
+ * Commands which fail are counted, but do not stop the replay, as users' commands often fail in real sessions too.
+ * Commands which open a window are skipped.
+ */
+public class SessionReplayer {
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the trace is not a recorded command: %2$s";
+
+    private final Logic logic;
+
+    /**
+     * Constructs a replayer which replays commands with the given {@code Logic}.
+     */
+    public SessionReplayer(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Replays the commands in the given trace.
+     *
+     * @throws IOException if the trace could not be read.
+     * @throws IllegalValueException if a line of the trace is not a recorded command, in which case none are replayed.
+     */
+    public Result replay(BufferedReader trace) throws IOException, IllegalValueException {
+        List<String> commandTexts = readCommandTexts(trace);
+        Result result = new Result();
+        long startNanos = System.nanoTime();
+        for (String commandText : commandTexts) {
+            long commandStartNanos = System.nanoTime();
+            try {
+                Command command = logic.parseCommand(commandText);
+                if (command.requiresGui()) {
+                    result.skippedCount++;
+                    continue;
+                }
+                logic.execute(command);
+            } catch (CommandException | ParseException e) {
+                result.failedCount++;
+            }
+            result.latencyNanos.record(System.nanoTime() - commandStartNanos);
+        }
+        result.elapsedNanos = System.nanoTime() - startNanos;
+        return result;
+    }
+
+    private static List<String> readCommandTexts(BufferedReader trace) throws IOException, IllegalValueException {
+        List<String> commandTexts = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = trace.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith(SessionRecorder.COMMENT_PREFIX)) {
+                continue;
+            }
+            String[] timeAndCommand = line.split(SessionRecorder.FIELD_SEPARATOR, 2);
+            if (timeAndCommand.length < 2 || !timeAndCommand[0].matches("\\d+")) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, lineNumber, line));
+            }
+            commandTexts.add(timeAndCommand[1]);
+        }
+        return commandTexts;
+    }
+
+    /**
+     * Represents the outcome of replaying a session.
+     */
+    public static class Result {
+        public static final String MESSAGE_SUMMARY = "Replayed %1$d commands in %2$.2f s, of which %3$d failed, "
+            + "and skipped %4$d which open a window\nLatency of every command, p50 / p95 / p99 / max: %5$s";
+
+        private final Histogram latencyNanos = new Histogram();
+        private int failedCount = 0;
+        private int skippedCount = 0;
+        private long elapsedNanos = 0;
+
+        /**
+         * Returns the number of commands replayed, including those which failed, but not those skipped.
+         */
+        public long getReplayedCount() {
+            return latencyNanos.getTotalCount();
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public int getSkippedCount() {
+            return skippedCount;
+        }
+
+        /**
+         * Returns the distribution of the time taken to parse and execute each command replayed, in nanoseconds.
+         */
+        public Histogram getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_SUMMARY, getReplayedCount(), elapsedNanos / 1e9, failedCount, skippedCount,
+                latencyNanos.formatPercentiles(CommandMetrics.NANOS_PER_MILLI, "ms"));
+        }
+    }
+}
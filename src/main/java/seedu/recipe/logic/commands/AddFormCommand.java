@@ -58,4 +58,9 @@ public class AddFormCommand extends Command {
             throw new CommandException(e.getMessage());
         }
     }
+
+    @Override
+    public boolean requiresGui() {
+        return true;
+    }
 }
@@ -0,0 +1,127 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.logic.parser.Parser;
+import seedu.recipe.logic.parser.RecipeBookParser;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.RecipeBook;
+
+/**
+ * Executes a batch of commands, parsed from the lines of a script, as a single all-or-nothing command.
+ * If any command in the batch fails, even with an unchecked exception, the recipe book is restored to its state
+ * before the batch was executed.
+ * As the batch is a single command, the recipe book is only saved once, after the whole batch.
+ */
+public class BatchCommand extends Command {
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s).";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d is invalid, so nothing was run:\n%2$s";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d failed, so no changes were made:\n%2$s";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_REQUIRES_GUI = "This command opens a window, so it cannot be run from a script.";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Constructs a batch of the given commands.
+     *
+     * @param commands The commands to execute, in order.
+     * @param lineNumbers The line of the script that each command was parsed from, used to report failures.
+     */
+    public BatchCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireNonNull(commands);
+        requireNonNull(lineNumbers);
+        assert commands.size() == lineNumbers.size();
+        this.commands = List.copyOf(commands);
+        this.lineNumbers = List.copyOf(lineNumbers);
+    }
+
+    /**
+     * Parses every line of the given script into a batch of commands, skipping blank lines and lines starting
+     * with '#'. Every line is parsed up front, so that a typo at the end of a script does not leave it half-run.
+     *
+     * @param script The script to parse, with one command per line.
+     * @return The batch of parsed commands.
+     * @throws ParseException if any line is not a valid command, or is a command which cannot be batched.
+     */
+    public static BatchCommand parse(String script) throws ParseException {
+        return parse(script, new RecipeBookParser()::parseCommand);
+    }
+
+    /**
+     * Parses every line of the given script into a batch of commands with the given parser, i.e.
+     * {@code Logic::parseCommand} so that every line is recorded like a command entered by the user, skipping blank
+     * lines and lines starting with '#'.
+     *
+     * @param script The script to parse, with one command per line.
+     * @param parser The parser for each line.
+     * @return The batch of parsed commands.
+     * @throws ParseException if any line is not a valid command, or is a command which cannot be batched.
+     */
+    public static BatchCommand parse(String script, Parser<Command> parser) throws ParseException {
+        requireNonNull(script);
+        requireNonNull(parser);
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        String[] lines = script.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                Command command = parser.parse(line);
+                if (command instanceof RunCommand) {
+                    throw new ParseException(MESSAGE_NESTED_RUN);
+                }
+                if (command.requiresGui()) {
+                    throw new ParseException(MESSAGE_REQUIRES_GUI);
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, i + 1, pe.getMessage()), pe);
+            }
+        }
+        return new BatchCommand(commands, lineNumbers);
+    }
+
+    /**
+     * Returns the number of commands in this batch.
+     */
+    public int size() {
+        return commands.size();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyRecipeBook snapshot = new RecipeBook(model.getRecipeBook());
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.setRecipeBook(snapshot);
+                throw new CommandException(String.format(MESSAGE_FAILED_LINE, lineNumbers.get(i), e.getMessage()), e);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands)
+                && lineNumbers.equals(((BatchCommand) other).lineNumbers)); // state check
+    }
+}
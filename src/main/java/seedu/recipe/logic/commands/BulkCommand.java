@@ -0,0 +1,44 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.recipe.Recipe;
+
+/**
+ * Represents a command which acts on many recipes at once, as a single change to the recipe book.
+ * The recipes acted on are either every recipe in the displayed recipe list, or every recipe in the recipe book
+ * matching a query.
+ */
+public abstract class BulkCommand extends Command {
+    private final Optional<Predicate<Recipe>> query;
+
+    /**
+     * Constructs a command acting on the recipes matching the given query, or on the displayed recipes if it is empty.
+     */
+    protected BulkCommand(Optional<Predicate<Recipe>> query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    /**
+     * Returns the recipes this command acts on, in the order they are in the recipe book.
+     */
+    protected List<Recipe> getTargets(Model model) {
+        if (query.isEmpty()) {
+            return List.copyOf(model.getFilteredRecipeList());
+        }
+        return model.getRecipeBook().getRecipeList().stream()
+            .filter(query.get())
+            .collect(Collectors.toList());
+    }
+
+    protected Optional<Predicate<Recipe>> getQuery() {
+        return query;
+    }
+}
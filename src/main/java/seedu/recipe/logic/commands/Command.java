@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command can only be executed while the GUI is shown, i.e. as it opens a window.
+     * Such commands cannot be run from scripts, or when running headless.
+     */
+    public boolean requiresGui() {
+        return false;
+    }
+
 }
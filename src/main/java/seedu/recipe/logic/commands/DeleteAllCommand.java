@@ -0,0 +1,46 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.recipe.Recipe;
+
+/**
+ * Deletes every recipe in the displayed recipe list, or every recipe matching a query, from the recipe book at once.
+ */
+public class DeleteAllCommand extends BulkCommand {
+    public static final String MESSAGE_DELETE_RECIPES_SUCCESS = "Deleted %1$d recipe(s).";
+    public static final String MESSAGE_NO_RECIPES = "There are no recipes to delete.";
+
+    /**
+     * Constructs an instance of this Command deleting the recipes matching the given query, or every displayed
+     * recipe if it is empty.
+     */
+    public DeleteAllCommand(Optional<Predicate<Recipe>> query) {
+        super(query);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Recipe> recipesToDelete = getTargets(model);
+        if (recipesToDelete.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_RECIPES);
+        }
+
+        model.deleteRecipes(recipesToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_RECIPES_SUCCESS, recipesToDelete.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteAllCommand // instanceof handles nulls
+                && getQuery().equals(((DeleteAllCommand) other).getQuery())); // state check
+    }
+}
@@ -3,6 +3,7 @@ package seedu.recipe.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.recipe.commons.core.Messages;
 import seedu.recipe.commons.core.index.Index;
@@ -21,11 +22,15 @@ public class DeleteCommand extends Command {
             + ": Deletes the recipe identified by the index number used in the "
             + "displayed recipe list.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "To delete every displayed recipe, or every recipe found by a query in the format of find, use:\n"
+            + "Parameters: all [QUERY]\n"
+            + "Example: " + COMMAND_WORD + " all tag test";
 
     public static final String MESSAGE_DELETE_RECIPE_SUCCESS = "Deleted Recipe: %1$s";
 
-    private final Index targetIndex;
+    private final Index targetIndex; // null if the recipe to delete is given directly
+    private final Recipe targetRecipe; // null if the recipe to delete is given by its index
 
     /**
      * Constructs and generates an instance of this Command with the specified Index.
@@ -34,26 +39,48 @@ public class DeleteCommand extends Command {
     public DeleteCommand(Index targetIndex) {
         requireNonNull(targetIndex);
         this.targetIndex = targetIndex;
+        this.targetRecipe = null;
+    }
+
+    /**
+     * Constructs an instance of this Command which deletes the given recipe, wherever it is listed, and fails if the
+     * recipe book no longer has it, i.e. if it was edited or deleted since it was read.
+     * @param targetRecipe The recipe to be deleted.
+     */
+    public DeleteCommand(Recipe targetRecipe) {
+        requireNonNull(targetRecipe);
+        this.targetIndex = null;
+        this.targetRecipe = targetRecipe;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Recipe> lastShownList = model.getFilteredRecipeList();
+        Recipe recipeToDelete = getRecipeToDelete(model);
+        model.deleteRecipe(recipeToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_RECIPE_SUCCESS, recipeToDelete));
+    }
+
+    private Recipe getRecipeToDelete(Model model) throws CommandException {
+        if (targetRecipe != null) {
+            if (!model.getRecipeBook().getRecipeList().contains(targetRecipe)) {
+                throw new CommandException(Messages.MESSAGE_RECIPE_CHANGED);
+            }
+            return targetRecipe;
+        }
 
+        List<Recipe> lastShownList = model.getFilteredRecipeList();
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
         }
-
-        Recipe recipeToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteRecipe(recipeToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_RECIPE_SUCCESS, recipeToDelete));
+        return lastShownList.get(targetIndex.getZeroBased());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((DeleteCommand) other).targetIndex)
+                && Objects.equals(targetRecipe, ((DeleteCommand) other).targetRecipe)); // state check
     }
 }
@@ -0,0 +1,71 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recipe.model.Model.PREDICATE_SHOW_ALL_RECIPE;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.logic.util.RecipeDescriptor;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.exceptions.DuplicateRecipeException;
+
+/**
+ * Edits every recipe in the displayed recipe list, or every recipe matching a query, with the same details at once.
+ */
+public class EditAllCommand extends BulkCommand {
+    public static final String MESSAGE_EDIT_RECIPES_SUCCESS = "Edited %1$d recipe(s).";
+    public static final String MESSAGE_NO_RECIPES = "There are no recipes to edit.";
+    public static final String MESSAGE_DUPLICATE_RECIPES =
+            "These edits would give more than one recipe the same name, so no recipes were edited.";
+
+    private final RecipeDescriptor recipeDescriptor;
+
+    /**
+     * Constructs an instance of this Command editing the recipes matching the given query, or every displayed
+     * recipe if it is empty.
+     *
+     * @param query            the query selecting the recipes to edit
+     * @param recipeDescriptor details to edit every recipe with
+     */
+    public EditAllCommand(Optional<Predicate<Recipe>> query, RecipeDescriptor recipeDescriptor) {
+        super(query);
+        requireNonNull(recipeDescriptor);
+        this.recipeDescriptor = new RecipeDescriptor(recipeDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Recipe> recipesToEdit = getTargets(model);
+        if (recipesToEdit.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_RECIPES);
+        }
+
+        Map<Recipe, Recipe> editedRecipes = new LinkedHashMap<>();
+        for (Recipe recipeToEdit : recipesToEdit) {
+            editedRecipes.put(recipeToEdit, recipeDescriptor.toRecipe(recipeToEdit));
+        }
+
+        try {
+            model.setRecipes(editedRecipes);
+        } catch (DuplicateRecipeException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_RECIPES);
+        }
+        model.updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPE);
+        return new CommandResult(String.format(MESSAGE_EDIT_RECIPES_SUCCESS, recipesToEdit.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EditAllCommand // instanceof handles nulls
+                && getQuery().equals(((EditAllCommand) other).getQuery())
+                && recipeDescriptor.equals(((EditAllCommand) other).recipeDescriptor)); // state check
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.recipe.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.recipe.model.Model.PREDICATE_SHOW_ALL_RECIPE;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.recipe.commons.core.Messages;
 import seedu.recipe.commons.core.index.Index;
@@ -43,13 +44,17 @@ public class EditCommand extends Command {
             + PREFIX_TAG + "Italian "
             + PREFIX_INGREDIENT + "3 eggs "
             + PREFIX_INGREDIENT + "parmesan cheese "
-            + PREFIX_INGREDIENT + "125g spaghetti noodles ";
+            + PREFIX_INGREDIENT + "125g spaghetti noodles\n"
+            + "To edit every displayed recipe, or every recipe found by a query in the format of find, "
+            + "replace INDEX with: all [QUERY]\n"
+            + "Example: " + COMMAND_WORD + " all tag weeknight " + PREFIX_TAG + "quick";
 
     public static final String MESSAGE_EDIT_RECIPE_SUCCESS = "Edited Recipe: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_RECIPE = "This recipe already exists in the recipe book.";
 
-    private final Index index;
+    private final Index index; // null if the recipe to edit is given directly
+    private final Recipe recipe; // null if the recipe to edit is given by its index
     private final RecipeDescriptor recipeDescriptor;
 
     /**
@@ -61,19 +66,34 @@ public class EditCommand extends Command {
         requireNonNull(recipeDescriptor);
 
         this.index = index;
+        this.recipe = null;
         this.recipeDescriptor = new RecipeDescriptor(recipeDescriptor);
     }
 
+    /**
+     * Creates a command which edits the given recipe, wherever it is listed, and fails if the recipe book no longer
+     * has it, i.e. if it was edited or deleted since it was read.
+     *
+     * @param recipe           the recipe to edit
+     * @param recipeDescriptor details to edit the recipe with
+     */
+    public EditCommand(Recipe recipe, RecipeDescriptor recipeDescriptor) {
+        requireNonNull(recipe);
+        requireNonNull(recipeDescriptor);
+
+        this.index = null;
+        this.recipe = recipe;
+        this.recipeDescriptor = new RecipeDescriptor(recipeDescriptor);
+    }
+
+    public RecipeDescriptor getRecipeDescriptor() {
+        return new RecipeDescriptor(recipeDescriptor);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Recipe> lastShownList = model.getFilteredRecipeList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
-        }
-
-        Recipe recipeToEdit = lastShownList.get(index.getZeroBased());
+        Recipe recipeToEdit = getRecipeToEdit(model);
         Recipe editedRecipe = recipeDescriptor.toRecipe(recipeToEdit);
 
         if (!recipeToEdit.isSameRecipe(editedRecipe) && model.hasRecipe(editedRecipe)) {
@@ -85,6 +105,21 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_RECIPE_SUCCESS, editedRecipe));
     }
 
+    private Recipe getRecipeToEdit(Model model) throws CommandException {
+        if (recipe != null) {
+            if (!model.getRecipeBook().getRecipeList().contains(recipe)) {
+                throw new CommandException(Messages.MESSAGE_RECIPE_CHANGED);
+            }
+            return recipe;
+        }
+
+        List<Recipe> lastShownList = model.getFilteredRecipeList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -99,12 +134,14 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return Objects.equals(index, e.index)
+            && Objects.equals(recipe, e.recipe)
             && recipeDescriptor.equals(e.recipeDescriptor);
     }
 
     @Override
     public String toString() {
-        return String.format("%s|%s", index.getOneBased(), recipeDescriptor.toRecipe());
+        return String.format("%s|%s", index != null ? index.getOneBased() : recipe.getName(),
+            recipeDescriptor.toRecipe());
     }
 }
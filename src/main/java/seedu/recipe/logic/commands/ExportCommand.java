@@ -3,6 +3,7 @@ package seedu.recipe.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import javafx.stage.Stage;
 import seedu.recipe.logic.Logic;
@@ -14,12 +15,21 @@ import seedu.recipe.storage.filemanagers.ExportManager;
  * Represents the command used to export RecipeBook JSON file from this RecipeBook app to a specified file location.
  * This is deliberately triggered and created by a UI interaction using a FileWindow, as the FileWindow guarantees
  * the destination filepath passed to the app by the user is not malformed.
+ * Alternatively, the destination may be given directly by its path with {@link #of(Path)}, i.e. when running headless.
  */
 public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the RecipeBook to a JSON file, overwriting the file if it exists.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " backup/recipebook.json";
+
     public static final String ERROR_MESSAGE = "Error occurred while exporting Recipe Book: ";
     public static final String SUCCESS_MESSAGE = "Recipe Book JSON file exported successfully";
 
-    private final ExportManager exportManager;
+    private final ExportManager exportManager; // null if exporting directly to exportPath
+    private final Path exportPath;
 
     /**
      * Constructs an instance of this Command around the given Export Manager.
@@ -29,6 +39,21 @@ public class ExportCommand extends Command {
     public ExportCommand(Stage stage, Logic logic) {
         requireNonNull(logic);
         exportManager = new ExportManager(stage, logic);
+        exportPath = null;
+    }
+
+    private ExportCommand(Path exportPath) {
+        this.exportManager = null;
+        this.exportPath = exportPath;
+    }
+
+    /**
+     * Constructs an instance of this Command which exports to the given path, without any UI.
+     * @param exportPath The path of the JSON file to export to.
+     */
+    public static ExportCommand of(Path exportPath) {
+        requireNonNull(exportPath);
+        return new ExportCommand(exportPath);
     }
 
     /**
@@ -41,10 +66,27 @@ public class ExportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            exportManager.execute();
+            if (exportManager == null) {
+                ExportManager.writeToPath(model.getRecipeBook(), exportPath);
+            } else {
+                exportManager.execute();
+            }
         } catch (IOException e) {
             throw new CommandException(ERROR_MESSAGE + e.getMessage());
         }
         return new CommandResult(SUCCESS_MESSAGE);
     }
+
+    @Override
+    public boolean requiresGui() {
+        return exportManager != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && exportPath != null
+                && exportPath.equals(((ExportCommand) other).exportPath)); // state check
+    }
 }
@@ -20,10 +20,12 @@ public class FindCommand extends Command {
         + "Finds all recipes whose property contain any of "
         + "the specified keywords (case-insensitive) and displays them as a "
         + "list with index numbers.\n"
-        + "Findable properties are: name, tag"
-        + "If no property is specified, 'find' defaults to finding by recipe name."
+        + "Findable properties are: name, tag, ingredient, duration. "
+        + "If no property is specified, 'find' defaults to finding by recipe name.\n"
         + "Parameters: [PROPERTY] KEYWORD [MORE_KEYWORDS]...\n"
-        + "Example: " + COMMAND_WORD + "tag indian mexican chinese";
+        + "Example: " + COMMAND_WORD + " tag indian mexican chinese\n"
+        + "Durations are found by comparison or by range instead of by keywords.\n"
+        + "Example: " + COMMAND_WORD + " duration <30m, " + COMMAND_WORD + " duration 10m-1h";
 
     private final Predicate<Recipe> predicate;
 
@@ -36,6 +38,13 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Returns the predicate which the recipes found match.
+     */
+    public Predicate<Recipe> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
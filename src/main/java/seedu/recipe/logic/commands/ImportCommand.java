@@ -1,8 +1,14 @@
 package seedu.recipe.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.stage.Stage;
 import seedu.recipe.commons.exceptions.IllegalValueException;
+import seedu.recipe.commons.util.FileUtil;
 import seedu.recipe.logic.commands.exceptions.CommandException;
 import seedu.recipe.model.Model;
 import seedu.recipe.model.recipe.Recipe;
@@ -12,16 +18,26 @@ import seedu.recipe.storage.filemanagers.ImportManager;
  * Represents the command used to import RecipeBook JSON file from another file location into this RecipeBook app.
  * This is deliberately triggered and created by a UI interaction using a FileWindow, as the FileWindow guarantees
  * the filepath passed to the app by the user is not malformed.
+ * Alternatively, the file may be given directly by its path with {@link #of(Path)}, i.e. when running headless.
  */
 public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the recipes in a RecipeBook JSON file, ignoring any that are already in the RecipeBook.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " backup/recipebook.json";
+
     public static final String EMPTY_COMMAND = "No file was selected.";
     public static final String NOT_JSON_FILE = "Selected file '%s' is not a JSON file.";
     public static final String INVALID_VALUES = "Selected JSON file '%s' contains invalid values";
     public static final String DUPLICATE_VALUES =
             "The selected JSON file contains some duplicate recipes which have been ignored and imported successfully";
     public static final String SUCCESS_MESSAGE = "Selected JSON file imported successfully";
+    public static final String FILE_NOT_FOUND = "Selected file '%s' does not exist.";
 
     private final ImportManager importManager;
+    private final Path importPath; // null if the file is to be selected through the UI
     private boolean hasDuplicate;
 
     /**
@@ -29,10 +45,24 @@ public class ImportCommand extends Command {
      * @param stage The UI stage that triggered this command.
      */
     public ImportCommand(Stage stage) {
+        this(stage, null);
+    }
+
+    private ImportCommand(Stage stage, Path importPath) {
         this.importManager = new ImportManager(stage);
+        this.importPath = importPath;
         this.hasDuplicate = false;
     }
 
+    /**
+     * Constructs an instance of this Command which imports the JSON file at the given path, without any UI.
+     * @param importPath The path of the JSON file to import.
+     */
+    public static ImportCommand of(Path importPath) {
+        requireNonNull(importPath);
+        return new ImportCommand(null, importPath);
+    }
+
     public boolean isDuplicate() {
         return hasDuplicate;
     }
@@ -47,19 +77,16 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         try {
-            ObservableList<Recipe> importedRecipeList = importManager.execute();
+            ObservableList<Recipe> importedRecipeList = importPath == null
+                    ? importManager.execute()
+                    : importFromPath();
             if (importedRecipeList == null) {
                 throw new CommandException(EMPTY_COMMAND);
             }
-            // Validate uniqueness, add to model
-            ObservableList<Recipe> currentRecipes = model.getFilteredRecipeList();
-            for (Recipe recipe : importedRecipeList) {
-                if (currentRecipes.stream().noneMatch(recipe::isSameRecipe)) {
-                    model.addRecipe(recipe);
-                } else {
-                    hasDuplicate = true;
-                }
-            }
+            // Validate uniqueness against the whole RecipeBook, not just the displayed recipes, and add to model
+            // as a single change, so that the recipe list is only updated once however many recipes are imported
+            List<Recipe> addedRecipes = model.addRecipes(importedRecipeList);
+            hasDuplicate = addedRecipes.size() < importedRecipeList.size();
         } catch (IllegalValueException e) {
             throw new CommandException(e.getMessage());
         }
@@ -68,4 +95,27 @@ public class ImportCommand extends Command {
         }
         return new CommandResult(SUCCESS_MESSAGE);
     }
+
+    private ObservableList<Recipe> importFromPath() throws CommandException, IllegalValueException {
+        if (!FileUtil.isFileExists(importPath)) {
+            throw new CommandException(String.format(FILE_NOT_FOUND, importPath));
+        }
+        if (!importPath.getFileName().toString().endsWith(".json")) {
+            throw new CommandException(String.format(NOT_JSON_FILE, importPath.getFileName()));
+        }
+        return importManager.importRecipes(importPath.toFile());
+    }
+
+    @Override
+    public boolean requiresGui() {
+        return importPath == null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && importPath != null
+                && importPath.equals(((ImportCommand) other).importPath)); // state check
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
+
+/**
+ * Lists the ingredients most frequently used together with a given ingredient across all recipes in the recipe book.
+ * Ingredient name matching is case-insensitive.
+ */
+public class PairCommand extends Command {
+    public static final String COMMAND_WORD = "pair";
+
+    public static final int MAX_PAIRINGS_SHOWN = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the ingredients most frequently used together "
+            + "with the specified ingredient (case insensitive) across the RecipeBook.\n"
+            + "Parameters: INGREDIENT\n"
+            + "Example: " + COMMAND_WORD + " garlic";
+
+    public static final String MESSAGE_DISPLAY_PAIRINGS = "Ingredients frequently paired with %1$s:\n%2$s";
+    public static final String MESSAGE_NO_PAIRINGS = "No ingredients have been used together with %1$s yet!";
+
+    private final Ingredient queryIngredient;
+
+    public PairCommand(Ingredient queryIngredient) {
+        this.queryIngredient = queryIngredient;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<IngredientPairing> pairings = model.getRecipeBook().getTopPartners(queryIngredient, MAX_PAIRINGS_SHOWN);
+        if (pairings.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_PAIRINGS, queryIngredient));
+        }
+
+        StringBuilder pairingList = new StringBuilder();
+        for (int i = 0; i < pairings.size(); i++) {
+            pairingList.append(i + 1).append(". ").append(pairings.get(i)).append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_DISPLAY_PAIRINGS, queryIngredient,
+            pairingList.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PairCommand) // instanceof handles nulls
+                && queryIngredient.equals(((PairCommand) other).queryIngredient); //state check
+    }
+}
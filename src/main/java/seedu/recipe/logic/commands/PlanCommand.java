@@ -0,0 +1,88 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_WASTE;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.plan.MealPlan;
+import seedu.recipe.model.plan.MealPlanConstraints;
+import seedu.recipe.model.plan.MealPlanner;
+import seedu.recipe.model.recipe.Recipe;
+
+/**
+ * Picks a number of recipes from the displayed recipe list for a meal plan, subject to a total cooking time, tag and
+ * ingredient waste constraints, and displays only the picked recipes.
+ */
+public class PlanCommand extends Command {
+
+    public static final String COMMAND_WORD = "plan";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Picks the given number of recipes from the displayed recipe list for a meal plan, preferring recipes "
+            + "which share ingredients, and displays them.\n"
+            + "Parameters: COUNT (must be a positive integer) "
+            + "[" + PREFIX_DURATION + "MAX_TOTAL_TIME] "
+            + "[" + PREFIX_TAG + "REQUIRED_TAG]... "
+            + "[" + PREFIX_EXCLUDED_TAG + "EXCLUDED_TAG]... "
+            + "[" + PREFIX_WASTE + "MAX_WASTE]\n"
+            + "Example: " + COMMAND_WORD + " 5 " + PREFIX_DURATION + "4 hours " + PREFIX_EXCLUDED_TAG + "Dessert";
+
+    public static final String MESSAGE_PLAN_SUCCESS = "Planned %1$d recipes, taking %2$s in total, "
+            + "with %3$d ingredient(s) used by only one recipe:\n%4$s";
+
+    public static final String MESSAGE_NO_PLAN = "No meal plan satisfying the given constraints could be found!";
+
+    private final MealPlanConstraints constraints;
+
+    /**
+     * Constructs and generates an instance of this Command with the specified constraints.
+     * @param constraints The constraints that the meal plan must satisfy.
+     */
+    public PlanCommand(MealPlanConstraints constraints) {
+        requireNonNull(constraints);
+        this.constraints = constraints;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Optional<MealPlan> plan = new MealPlanner(model.getFilteredRecipeList()).plan(constraints);
+        if (plan.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_PLAN);
+        }
+
+        Set<Recipe> plannedRecipes = Set.copyOf(plan.get().getRecipes());
+        model.updateFilteredRecipeList(plannedRecipes::contains);
+
+        StringBuilder recipeList = new StringBuilder();
+        for (Recipe recipe : plan.get().getRecipes()) {
+            recipeList.append("- ").append(recipe.getName());
+            if (recipe.getDurationNullable() != null) {
+                recipeList.append(" (").append(recipe.getDurationNullable()).append(")");
+            }
+            recipeList.append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_PLAN_SUCCESS, plan.get().getRecipes().size(),
+            formatTotalTime(plan.get().getTotalSeconds()), plan.get().getWaste(), recipeList.toString().trim()));
+    }
+
+    private static String formatTotalTime(double seconds) {
+        long minutes = Math.round(seconds / 60);
+        return minutes < 60
+            ? String.format("%d min", minutes)
+            : String.format("%d h %d min", minutes / 60, minutes % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlanCommand // instanceof handles nulls
+                && constraints.equals(((PlanCommand) other).constraints)); // state check
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single all-or-nothing {@link BatchCommand}.
+ * Every line is parsed before any command is executed, and if any command fails, the recipe book is restored to its
+ * state before the script was run. As the batch is a single command, the recipe book is only saved once at the end.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in the given text file, one per line, as a single batch. "
+            + "If any command fails, none of the changes made by the batch are kept. "
+            + "Blank lines, and lines starting with '#', are ignored.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " weekly-edits.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s.";
+    public static final String MESSAGE_READ_ERROR = "Could not read script file %1$s";
+
+    private final Path scriptPath;
+
+    /**
+     * Constructs and generates an instance of this Command for the script at the given path.
+     * @param scriptPath The path of the script file to run.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String script;
+        try {
+            script = FileUtil.readFromFile(scriptPath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath), e);
+        }
+
+        BatchCommand batch;
+        try {
+            batch = BatchCommand.parse(script);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        }
+        batch.execute(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, batch.size(), scriptPath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath)); // state check
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipePortion;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientInformation;
+
+/**
+ * Displays the ingredients of a recipe identified using it's displayed index from the recipe book, with their
+ * quantities scaled to a given number of portions. The stored recipe is not modified.
+ */
+public class ScaleCommand extends Command {
+
+    public static final String COMMAND_WORD = "scale";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the ingredients of the recipe identified by the index number used in the "
+            + "displayed recipe list, scaled to the given number of portions. The recipe itself is not changed.\n"
+            + "Parameters: INDEX (must be a positive integer) PORTIONS (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1 4";
+
+    public static final String MESSAGE_SCALE_RECIPE_SUCCESS = "Ingredients for %1$s, scaled from %2$s to %3$d %4$s:"
+            + "\n%5$s";
+
+    public static final String MESSAGE_NO_PORTION = "This recipe has no portion to scale from! "
+            + "Edit the recipe to add a non-zero portion first.";
+
+    private final Index targetIndex;
+    private final int portions;
+
+    /**
+     * Constructs and generates an instance of this Command with the specified Index and number of portions.
+     * @param targetIndex The index of the recipe to be scaled.
+     * @param portions The positive number of portions to scale the recipe to.
+     */
+    public ScaleCommand(Index targetIndex, int portions) {
+        requireNonNull(targetIndex);
+        assert portions > 0;
+        this.targetIndex = targetIndex;
+        this.portions = portions;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Recipe> lastShownList = model.getFilteredRecipeList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
+        }
+
+        Recipe recipeToScale = lastShownList.get(targetIndex.getZeroBased());
+        RecipePortion portion = recipeToScale.getPortionNullable();
+        if (portion == null || portion.getLowerRange() == 0) {
+            throw new CommandException(MESSAGE_NO_PORTION);
+        }
+
+        double factor = (double) portions / portion.getLowerRange();
+        return new CommandResult(String.format(MESSAGE_SCALE_RECIPE_SUCCESS, recipeToScale.getName(), portion,
+            portions, portion.getPortionUnit(), formatScaledIngredients(recipeToScale, factor)));
+    }
+
+    /**
+     * Formats the ingredients of the given recipe, one per line in alphabetical order, with their quantities scaled
+     * by the given factor. Ingredients without a quantity are listed as they are.
+     *
+     * @param recipe The recipe whose ingredients are to be scaled.
+     * @param factor The positive factor to scale each quantity by.
+     * @return The formatted list of scaled ingredients.
+     */
+    public static String formatScaledIngredients(Recipe recipe, double factor) {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<Ingredient, IngredientInformation> entry : new TreeMap<>(recipe.getIngredients()).entrySet()) {
+            IngredientInformation information = entry.getValue();
+            String quantity = information.getQuantity()
+                .map(q -> q.toScaledString(factor))
+                .orElse(information.getEstimatedQuantity().orElse(""));
+            builder.append(quantity.isEmpty()
+                ? String.format("- %s\n", entry.getKey())
+                : String.format("- %s %s\n", quantity, entry.getKey()));
+        }
+        return builder.toString().trim();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScaleCommand // instanceof handles nulls
+                && targetIndex.equals(((ScaleCommand) other).targetIndex)
+                && portions == ((ScaleCommand) other).portions); // state check
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.shopping.ShoppingList;
+
+/**
+ * Generates a consolidated shopping list for the recipes identified using their displayed indexes from the recipe
+ * book, or for all displayed recipes if no indexes are given. The list may also be exported to a text file.
+ */
+public class ShopCommand extends Command {
+
+    public static final String COMMAND_WORD = "shop";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Generates a shopping list of the ingredients of the recipes identified by the index numbers used "
+            + "in the displayed recipe list, or of every displayed recipe if no index numbers are given. "
+            + "Quantities of the same ingredient are added up where possible.\n"
+            + "Parameters: [INDEX]... [" + PREFIX_FILE + "FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " 1 3 " + PREFIX_FILE + "shopping.txt";
+
+    public static final String MESSAGE_SHOPPING_LIST = "Shopping list for %1$d recipe(s):\n%2$s";
+    public static final String MESSAGE_SHOPPING_LIST_EXPORTED = "Shopping list for %1$d recipe(s) exported to %2$s:"
+            + "\n%3$s";
+    public static final String MESSAGE_EMPTY_SHOPPING_LIST = "There are no ingredients to shop for!";
+    public static final String MESSAGE_EXPORT_ERROR = "Error occurred while exporting shopping list: ";
+
+    private final List<Index> targetIndexes;
+    private final Path exportPath;
+
+    /**
+     * Constructs and generates an instance of this Command for the specified Indexes.
+     * @param targetIndexes The indexes of the recipes to shop for, or an empty list to shop for all displayed recipes.
+     * @param exportPath The path of the text file to export the shopping list to, or null if it is not to be exported.
+     */
+    public ShopCommand(List<Index> targetIndexes, Path exportPath) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
+        this.exportPath = exportPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Recipe> lastShownList = model.getFilteredRecipeList();
+
+        List<Recipe> recipesToShopFor = new ArrayList<>();
+        if (targetIndexes.isEmpty()) {
+            recipesToShopFor.addAll(lastShownList);
+        }
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
+            }
+            recipesToShopFor.add(lastShownList.get(targetIndex.getZeroBased()));
+        }
+
+        ShoppingList shoppingList = ShoppingList.of(recipesToShopFor);
+        if (shoppingList.isEmpty()) {
+            return new CommandResult(MESSAGE_EMPTY_SHOPPING_LIST);
+        }
+
+        if (exportPath == null) {
+            return new CommandResult(String.format(MESSAGE_SHOPPING_LIST, recipesToShopFor.size(), shoppingList));
+        }
+        try {
+            FileUtil.createIfMissing(exportPath);
+            FileUtil.writeToFile(exportPath, shoppingList + System.lineSeparator());
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_EXPORT_ERROR + e.getMessage());
+        }
+        return new CommandResult(String.format(MESSAGE_SHOPPING_LIST_EXPORTED, recipesToShopFor.size(), exportPath,
+            shoppingList));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShopCommand // instanceof handles nulls
+                && targetIndexes.equals(((ShopCommand) other).targetIndexes)
+                && Objects.equals(exportPath, ((ShopCommand) other).exportPath)); // state check
+    }
+}
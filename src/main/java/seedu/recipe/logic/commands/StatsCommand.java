@@ -0,0 +1,26 @@
+package seedu.recipe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.recipe.model.Model;
+
+/**
+ * Shows how long each type of command run so far took to parse, execute and persist, and how much memory it
+ * allocated, along with how often find queries were answered from the query cache.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the time taken and memory allocated by each type of command run so far.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$s\nFind query cache: %2$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getCommandMetrics(),
+            model.getQueryCacheStatistics()));
+    }
+}
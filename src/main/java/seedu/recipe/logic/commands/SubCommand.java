@@ -42,7 +42,15 @@ public class SubCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        ReadOnlyRecipeBook recipeBook = model.getRecipeBook();
+        return findSubstitutions(model.getRecipeBook());
+    }
+
+    /**
+     * Searches the given recipe book for the substitutions of the query ingredient, without changing anything, so
+     * that it can also be run on a snapshot of the recipe book.
+     */
+    public CommandResult findSubstitutions(ReadOnlyRecipeBook recipeBook) {
+        requireNonNull(recipeBook);
         ObservableList<Recipe> recipeObservableList = recipeBook.getRecipeList();
         List<IngredientBuilder> preloadedSubstitutions = recipeBook.getPreloadedSubstitutes();
 
@@ -12,4 +12,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_INGREDIENT = new Prefix("i/");
     public static final Prefix PREFIX_STEP = new Prefix("s/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
+    public static final Prefix PREFIX_EXCLUDED_TAG = new Prefix("x/");
+    public static final Prefix PREFIX_WASTE = new Prefix("w/");
+
+    /* Keyword which makes a command act on every recipe shown, or found by a query, instead of a single index */
+    public static final String KEYWORD_ALL = "all";
 }
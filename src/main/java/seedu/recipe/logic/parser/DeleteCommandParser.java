@@ -3,21 +3,28 @@ package seedu.recipe.logic.parser;
 import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.DeleteAllCommand;
 import seedu.recipe.logic.commands.DeleteCommand;
 import seedu.recipe.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new DeleteCommand object
+ * Parses input arguments and creates a new DeleteCommand object, or a DeleteAllCommand object if every recipe
+ * shown or found by a query is to be deleted
  */
-public class DeleteCommandParser implements Parser<DeleteCommand> {
+public class DeleteCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
-     * and returns a DeleteCommand object for execution.
+     * and returns a DeleteCommand or DeleteAllCommand object for execution.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public DeleteCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        if (ParserUtil.isBulkSelection(args)) {
+            return new DeleteAllCommand(ParserUtil.parseBulkSelection(args));
+        }
+
         try {
             Index index = ParserUtil.parseIndex(args);
             return new DeleteCommand(index);
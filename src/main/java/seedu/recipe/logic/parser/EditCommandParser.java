@@ -15,47 +15,60 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.EditAllCommand;
 import seedu.recipe.logic.commands.EditCommand;
 import seedu.recipe.logic.parser.exceptions.ParseException;
 import seedu.recipe.logic.util.RecipeDescriptor;
+import seedu.recipe.model.recipe.Recipe;
 import seedu.recipe.model.recipe.Step;
 import seedu.recipe.model.recipe.ingredient.Ingredient;
 import seedu.recipe.model.recipe.ingredient.IngredientInformation;
 import seedu.recipe.model.tag.Tag;
 
 /**
- * Parses input arguments and creates a new EditCommand object
+ * Parses input arguments and creates a new EditCommand object, or an EditAllCommand object if every recipe
+ * shown or found by a query is to be edited
  */
-public class EditCommandParser implements Parser<EditCommand> {
+public class EditCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
-     * and returns an EditCommand object for execution.
+     * and returns an EditCommand or EditAllCommand object for execution.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EditCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
             ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DURATION, PREFIX_PORTION,
                 PREFIX_TAG, PREFIX_INGREDIENT, PREFIX_STEP);
-        Index index;
 
+        if (ParserUtil.isBulkSelection(argMultimap.getPreamble())) {
+            Optional<Predicate<Recipe>> query = ParserUtil.parseBulkSelection(argMultimap.getPreamble());
+            return new EditAllCommand(query, parseEditedFields(argMultimap));
+        }
+
+        Index index;
         try {
             index = ParserUtil.parseIndex(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE), pe);
         }
 
+        return new EditCommand(index, parseEditedFields(argMultimap));
+    }
+
+    private static RecipeDescriptor parseEditedFields(ArgumentMultimap argMultimap) throws ParseException {
         RecipeDescriptor recipeDescriptor = ParserUtil.parseToRecipeDescriptor(argMultimap);
 
         if (!recipeDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
-
-        return new EditCommand(index, recipeDescriptor);
+        return recipeDescriptor;
     }
 
     /**
@@ -0,0 +1,29 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.logic.commands.ExportCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object for the JSON file at the given path
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns a ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        return ExportCommand.of(Paths.get(trimmedArgs));
+    }
+}
@@ -34,6 +34,21 @@ public class FindCommandParser implements Parser<FindCommand> {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        return new FindCommand(parsePredicate(trimmedArgs));
+    }
+
+    /**
+     * Parses a query in the format of the arguments of the find command, i.e. {@code tag indian mexican}, into the
+     * predicate matching the recipes it finds. This lets other commands select recipes the same way as find.
+     *
+     * @throws ParseException if the query is empty, or does not conform the expected format
+     */
+    public Predicate<Recipe> parsePredicate(String query) throws ParseException {
+        String trimmedArgs = query.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_KEYWORDS_FIND);
+        }
+
         String[] allKeywords = trimmedArgs.split("\\s+");
         String command = allKeywords[0];
         String[] findKeywords = Arrays.copyOfRange(allKeywords, 1, allKeywords.length);
@@ -50,6 +65,10 @@ public class FindCommandParser implements Parser<FindCommand> {
             predicate = new PropertyCollectionContainsKeywordsPredicate<Tag>(findKeywords,
                 FindUtil.GET_TAGS_FROM_RECIPE, FindUtil.GET_TAG_STRING);
             break;
+        case "duration":
+            validateFindKeywords(findKeywords);
+            predicate = ParserUtil.parseDurationRange(String.join(" ", findKeywords));
+            break;
         case "name":
             validateFindKeywords(findKeywords);
             predicate = new PropertyNameContainsKeywordsPredicate<Name>(findKeywords, FindUtil.GET_NAME_FROM_RECIPE,
@@ -61,7 +80,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 FindUtil.GET_NAME_STRING);
         }
 
-        return new FindCommand(predicate);
+        return predicate;
     }
 
     /**
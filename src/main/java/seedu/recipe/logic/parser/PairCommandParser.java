@@ -0,0 +1,29 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.recipe.logic.commands.PairCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+
+/**
+ * Parses input arguments and creates a new PairCommand object
+ */
+public class PairCommandParser implements Parser<PairCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PairCommand
+     * and returns a PairCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public PairCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !Ingredient.isValidIngredientName(trimmedArgs)) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PairCommand.MESSAGE_USAGE));
+        }
+
+        return new PairCommand(Ingredient.of(trimmedArgs));
+    }
+}
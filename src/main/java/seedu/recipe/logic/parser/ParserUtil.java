@@ -1,6 +1,7 @@
 package seedu.recipe.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.recipe.logic.parser.CliSyntax.KEYWORD_ALL;
 import static seedu.recipe.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.recipe.logic.parser.CliSyntax.PREFIX_INGREDIENT;
 import static seedu.recipe.logic.parser.CliSyntax.PREFIX_NAME;
@@ -15,13 +16,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.recipe.commons.core.index.Index;
 import seedu.recipe.commons.util.StringUtil;
 import seedu.recipe.logic.parser.exceptions.ParseException;
 import seedu.recipe.logic.util.RecipeDescriptor;
 import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
 import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.RecipeDurationWithinRangePredicate;
 import seedu.recipe.model.recipe.RecipePortion;
 import seedu.recipe.model.recipe.Step;
 import seedu.recipe.model.recipe.ingredient.Ingredient;
@@ -50,6 +54,29 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Returns true if the given arguments select many recipes instead of a single index, i.e. they are
+     * {@code all}, optionally followed by a query in the format of the arguments of the find command.
+     */
+    public static boolean isBulkSelection(String args) {
+        return args.trim().split("\\s+", 2)[0].equalsIgnoreCase(KEYWORD_ALL);
+    }
+
+    /**
+     * Parses the query following {@code all} in the given arguments into the predicate selecting the recipes to act
+     * on, or an empty {@code Optional} if there is no query, so that the displayed recipes are acted on instead.
+     *
+     * @throws ParseException if the query does not conform the format of the arguments of the find command.
+     */
+    public static Optional<Predicate<Recipe>> parseBulkSelection(String args) throws ParseException {
+        assert isBulkSelection(args);
+        String[] words = args.trim().split("\\s+", 2);
+        if (words.length == 1) {
+            return Optional.empty();
+        }
+        return Optional.of(new FindCommandParser().parsePredicate(words[1]));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -82,6 +109,23 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String query} into a {@code RecipeDurationWithinRangePredicate}, i.e. `<30m` or `10m-1h`.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code query} is invalid.
+     */
+    public static RecipeDurationWithinRangePredicate parseDurationRange(String query) throws ParseException {
+        requireNonNull(query);
+        String trimmedQuery = query.trim();
+
+        try {
+            return RecipeDurationWithinRangePredicate.of(trimmedQuery);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage());
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Portion}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,66 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_WASTE;
+
+import java.util.Set;
+
+import seedu.recipe.commons.util.StringUtil;
+import seedu.recipe.logic.commands.PlanCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.plan.MealPlanConstraints;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new PlanCommand object
+ */
+public class PlanCommandParser implements Parser<PlanCommand> {
+    public static final String MESSAGE_INVALID_MAX_TOTAL_TIME =
+        "The maximum total time of a plan should be a duration in a recognised time unit, i.e. `4 hours`.";
+    public static final String MESSAGE_INVALID_MAX_WASTE =
+        "The maximum waste of a plan should be a non-negative integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PlanCommand
+     * and returns a PlanCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PlanCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
+            args, PREFIX_DURATION, PREFIX_TAG, PREFIX_EXCLUDED_TAG, PREFIX_WASTE);
+
+        String count = argMultimap.getPreamble();
+        if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE));
+        }
+
+        double maxTotalSeconds = MealPlanConstraints.NO_TIME_LIMIT;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            RecipeDuration maxTotalTime = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+            if (!maxTotalTime.isNormalizable()) {
+                throw new ParseException(MESSAGE_INVALID_MAX_TOTAL_TIME);
+            }
+            maxTotalSeconds = maxTotalTime.getSeconds();
+        }
+
+        int maxWaste = MealPlanConstraints.NO_WASTE_LIMIT;
+        if (argMultimap.getValue(PREFIX_WASTE).isPresent()) {
+            String waste = argMultimap.getValue(PREFIX_WASTE).get();
+            if (!waste.equals("0") && !StringUtil.isNonZeroUnsignedInteger(waste)) {
+                throw new ParseException(MESSAGE_INVALID_MAX_WASTE);
+            }
+            maxWaste = Integer.parseInt(waste);
+        }
+
+        Set<Tag> requiredTags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<Tag> excludedTags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_EXCLUDED_TAG));
+        return new PlanCommand(new MealPlanConstraints(
+            Integer.parseInt(count), maxTotalSeconds, requiredTags, excludedTags, maxWaste));
+    }
+
+}
@@ -13,9 +13,17 @@ import seedu.recipe.logic.commands.Command;
 import seedu.recipe.logic.commands.DeleteCommand;
 import seedu.recipe.logic.commands.EditCommand;
 import seedu.recipe.logic.commands.ExitCommand;
+import seedu.recipe.logic.commands.ExportCommand;
 import seedu.recipe.logic.commands.FindCommand;
 import seedu.recipe.logic.commands.HelpCommand;
+import seedu.recipe.logic.commands.ImportCommand;
 import seedu.recipe.logic.commands.ListCommand;
+import seedu.recipe.logic.commands.PairCommand;
+import seedu.recipe.logic.commands.PlanCommand;
+import seedu.recipe.logic.commands.RunCommand;
+import seedu.recipe.logic.commands.ScaleCommand;
+import seedu.recipe.logic.commands.ShopCommand;
+import seedu.recipe.logic.commands.StatsCommand;
 import seedu.recipe.logic.commands.SubCommand;
 import seedu.recipe.logic.parser.exceptions.ParseException;
 
@@ -75,6 +83,30 @@ public class RecipeBookParser {
         case SubCommand.COMMAND_WORD:
             return new SubCommandParser().parse(arguments);
 
+        case ScaleCommand.COMMAND_WORD:
+            return new ScaleCommandParser().parse(arguments);
+
+        case ShopCommand.COMMAND_WORD:
+            return new ShopCommandParser().parse(arguments);
+
+        case PlanCommand.COMMAND_WORD:
+            return new PlanCommandParser().parse(arguments);
+
+        case PairCommand.COMMAND_WORD:
+            return new PairCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,36 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.commons.util.StringUtil;
+import seedu.recipe.logic.commands.ScaleCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScaleCommand object
+ */
+public class ScaleCommandParser implements Parser<ScaleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScaleCommand
+     * and returns a ScaleCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScaleCommand parse(String args) throws ParseException {
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length != 2 || !StringUtil.isNonZeroUnsignedInteger(tokens[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScaleCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Index index = ParserUtil.parseIndex(tokens[0]);
+            return new ScaleCommand(index, Integer.parseInt(tokens[1]));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScaleCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.logic.commands.ShopCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ShopCommand object
+ */
+public class ShopCommandParser implements Parser<ShopCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShopCommand
+     * and returns a ShopCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShopCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+
+        List<Index> indexes = new ArrayList<>();
+        String preamble = argMultimap.getPreamble().trim();
+        try {
+            if (!preamble.isEmpty()) {
+                for (String token : preamble.split("\\s+")) {
+                    indexes.add(ParserUtil.parseIndex(token));
+                }
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShopCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (argMultimap.getValue(PREFIX_FILE).isEmpty()) {
+            return new ShopCommand(indexes, null);
+        }
+        String filePath = argMultimap.getValue(PREFIX_FILE).get();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShopCommand.MESSAGE_USAGE));
+        }
+        return new ShopCommand(indexes, Paths.get(filePath));
+    }
+
+}
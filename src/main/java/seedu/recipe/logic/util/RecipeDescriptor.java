@@ -33,7 +33,7 @@ public class RecipeDescriptor {
     private RecipePortion portion;
     private boolean portionChanged;
     private Set<Tag> tags;
-    private HashMap<Ingredient, IngredientInformation> ingredients;
+    private Map<Ingredient, IngredientInformation> ingredients;
     private List<Step> steps;
 
     /**
@@ -69,35 +69,25 @@ public class RecipeDescriptor {
         requireNonNull(recipeToEdit);
 
         Name updatedName = getName().orElse(recipeToEdit.getName());
-        Recipe newRecipe = new Recipe(updatedName);
 
         RecipeDuration updatedDuration = getDuration().orElseGet(() -> durationChanged ? null
             : recipeToEdit.getDurationNullable());
-        newRecipe.setDuration(updatedDuration);
 
         RecipePortion updatedPortion = getPortion()
             .orElseGet(() -> portionChanged
                 ? null
                 : recipeToEdit.getPortionNullable()
             );
-        newRecipe.setPortion(updatedPortion);
 
-        Tag[] updatedTags = getTags().orElse(recipeToEdit.getTags()).toArray(Tag[]::new);
-        if (updatedTags.length > 0) {
-            newRecipe.setTags(updatedTags);
-        }
+        Set<Tag> updatedTags = getTags().orElse(recipeToEdit.getTags());
 
-        HashMap<Ingredient, IngredientInformation> updatedIngredients = getIngredients()
-            .map(HashMap::new)
+        Map<Ingredient, IngredientInformation> updatedIngredients = getIngredients()
             .orElse(recipeToEdit.getIngredients());
-        newRecipe.setIngredients(updatedIngredients);
 
-        Step[] updatedSteps = getSteps().orElse(recipeToEdit.getSteps()).toArray(Step[]::new);
-        if (updatedSteps.length > 0) {
-            newRecipe.setSteps(updatedSteps);
-        }
+        List<Step> updatedSteps = getSteps().orElse(recipeToEdit.getSteps());
 
-        return newRecipe;
+        return new Recipe(updatedName, updatedPortion, updatedDuration, updatedTags, updatedIngredients,
+            updatedSteps);
     }
 
     /**
@@ -169,7 +159,7 @@ public class RecipeDescriptor {
             : Optional.empty();
     }
 
-    public void setIngredients(HashMap<Ingredient, IngredientInformation> ingredientTable) {
+    public void setIngredients(Map<Ingredient, IngredientInformation> ingredientTable) {
         this.ingredients = ingredientTable;
     }
 
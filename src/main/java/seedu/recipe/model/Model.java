@@ -1,9 +1,13 @@
 package seedu.recipe.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.recipe.commons.core.CommandMetrics;
 import seedu.recipe.commons.core.GuiSettings;
 import seedu.recipe.model.recipe.Recipe;
 
@@ -56,6 +60,20 @@ public interface Model {
      */
     void setRecipeBook(ReadOnlyRecipeBook recipeBook);
 
+    /**
+     * Returns the latest published snapshot of the recipe book, which can be read safely from any thread, without
+     * waiting for changes being made to the recipe book.
+     */
+    RecipeBookSnapshot getRecipeBookSnapshot();
+
+    /**
+     * Publishes the current recipe book to readers, if it has changed since it was last published, by copying its list
+     * of recipes into a new snapshot.
+     * This must be called from the thread which changes the recipe book, once a complete set of changes is made,
+     * so that readers never see a partially applied change.
+     */
+    void publishRecipeBookSnapshot();
+
     /**
      * Returns true if a recipe with the same identity as {@code recipe} exists in the recipe book.
      */
@@ -67,12 +85,26 @@ public interface Model {
      */
     void deleteRecipe(Recipe target);
 
+    /**
+     * Deletes the given recipes, as a single change to the recipe book.
+     * The recipes must all exist in the recipe book.
+     */
+    void deleteRecipes(Collection<Recipe> targets);
+
     /**
      * Adds the given recipe.
      * {@code recipe} must not already exist in the recipe book.
      */
     void addRecipe(Recipe recipe);
 
+    /**
+     * Adds every given recipe which does not already exist in the recipe book, all at once.
+     * Of several given recipes with the same identity, only the first is added.
+     *
+     * @return The recipes which were added.
+     */
+    List<Recipe> addRecipes(Collection<Recipe> recipes);
+
     /**
      * Replaces the given recipe {@code target} with {@code editedRecipe}.
      * {@code target} must exist in the recipe book.
@@ -80,6 +112,12 @@ public interface Model {
      */
     void setRecipe(Recipe target, Recipe editedRecipe);
 
+    /**
+     * Replaces each recipe which is a key of {@code editedRecipes} with its value, as a single change to the
+     * recipe book. The keys must all exist in the recipe book, and no two recipes may have the same identity after.
+     */
+    void setRecipes(Map<Recipe, Recipe> editedRecipes);
+
     /**
      * Returns an unmodifiable view of the filtered recipe list
      */
@@ -91,4 +129,15 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredRecipeList(Predicate<Recipe> predicate);
+
+    /**
+     * Returns how often filtering the recipe list was answered from the results of an earlier identical query.
+     * This can be called from any thread.
+     */
+    QueryResultCache.Statistics getQueryCacheStatistics();
+
+    /**
+     * Returns the metrics recorded of the commands run on this model.
+     */
+    CommandMetrics getCommandMetrics();
 }
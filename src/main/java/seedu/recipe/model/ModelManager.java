@@ -4,13 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.recipe.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.recipe.commons.core.CommandMetrics;
 import seedu.recipe.commons.core.GuiSettings;
 import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.core.flightrecorder.ModelChangeEvent;
 import seedu.recipe.model.recipe.Recipe;
 
 /**
@@ -22,6 +28,15 @@ public class ModelManager implements Model {
     private final RecipeBook recipeBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Recipe> filteredRecipes;
+    private final QueryResultCache queryResultCache = new QueryResultCache();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    // Counts every change to the recipes, so that results cached for an older version are never used
+    private long modificationCount = 0;
+
+    // Readers on other threads only ever see a published snapshot, never the recipe book itself. Snapshots are built
+    // by the thread which changes the recipe book, as it publishes its changes, so readers never wait or copy.
+    private volatile RecipeBookSnapshot snapshot;
+    private boolean hasUnpublishedChanges = false; // only accessed by the thread which changes the recipe book
 
     /**
      * Initializes a ModelManager with the given recipeBook and userPrefs.
@@ -34,6 +49,11 @@ public class ModelManager implements Model {
         this.recipeBook = new RecipeBook(recipeBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredRecipes = new FilteredList<>(this.recipeBook.getRecipeList());
+        this.recipeBook.getRecipeList().addListener((ListChangeListener<Recipe>) change -> {
+            hasUnpublishedChanges = true;
+            modificationCount++;
+        });
+        snapshot = new RecipeBookSnapshot(0, this.recipeBook);
     }
 
     public ModelManager() {
@@ -84,7 +104,28 @@ public class ModelManager implements Model {
 
     @Override
     public void setRecipeBook(ReadOnlyRecipeBook recipeBook) {
-        this.recipeBook.resetData(recipeBook);
+        requireNonNull(recipeBook);
+        ModelChangeEvent event = ModelChangeEvent.start("setRecipeBook");
+        boolean isSuccessful = false;
+        try {
+            this.recipeBook.resetData(recipeBook);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, recipeBook.getRecipeList().size(), getRecipeCount());
+        }
+    }
+
+    @Override
+    public RecipeBookSnapshot getRecipeBookSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void publishRecipeBookSnapshot() {
+        if (hasUnpublishedChanges) {
+            snapshot = new RecipeBookSnapshot(snapshot.getVersion() + 1, recipeBook);
+            hasUnpublishedChanges = false;
+        }
     }
 
     @Override
@@ -95,20 +136,87 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteRecipe(Recipe target) {
-        recipeBook.removeRecipe(target);
+        ModelChangeEvent event = ModelChangeEvent.start("deleteRecipe");
+        boolean isSuccessful = false;
+        try {
+            recipeBook.removeRecipe(target);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, 1, getRecipeCount());
+        }
+    }
+
+    @Override
+    public void deleteRecipes(Collection<Recipe> targets) {
+        requireNonNull(targets);
+        ModelChangeEvent event = ModelChangeEvent.start("deleteRecipes");
+        boolean isSuccessful = false;
+        try {
+            recipeBook.removeRecipes(targets);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, targets.size(), getRecipeCount());
+        }
     }
 
     @Override
     public void addRecipe(Recipe recipe) {
-        recipeBook.addRecipe(recipe);
-        updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPE);
+        ModelChangeEvent event = ModelChangeEvent.start("addRecipe");
+        boolean isSuccessful = false;
+        try {
+            recipeBook.addRecipe(recipe);
+            updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPE);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, 1, getRecipeCount());
+        }
+    }
+
+    @Override
+    public List<Recipe> addRecipes(Collection<Recipe> recipes) {
+        requireNonNull(recipes);
+        ModelChangeEvent event = ModelChangeEvent.start("addRecipes");
+        List<Recipe> added = List.of();
+        boolean isSuccessful = false;
+        try {
+            added = recipeBook.addRecipes(recipes);
+            updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPE);
+            isSuccessful = true;
+            return added;
+        } finally {
+            event.finish(isSuccessful, isSuccessful ? added.size() : recipes.size(), getRecipeCount());
+        }
     }
 
     @Override
     public void setRecipe(Recipe target, Recipe editedRecipe) {
         requireAllNonNull(target, editedRecipe);
 
-        recipeBook.setRecipe(target, editedRecipe);
+        ModelChangeEvent event = ModelChangeEvent.start("setRecipe");
+        boolean isSuccessful = false;
+        try {
+            recipeBook.setRecipe(target, editedRecipe);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, 1, getRecipeCount());
+        }
+    }
+
+    @Override
+    public void setRecipes(Map<Recipe, Recipe> editedRecipes) {
+        requireNonNull(editedRecipes);
+        ModelChangeEvent event = ModelChangeEvent.start("setRecipes");
+        boolean isSuccessful = false;
+        try {
+            recipeBook.setRecipes(editedRecipes);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, editedRecipes.size(), getRecipeCount());
+        }
+    }
+
+    private int getRecipeCount() {
+        return recipeBook.getRecipeList().size();
     }
 
     //=========== Filtered Recipe List Accessors =============================================================
@@ -125,7 +233,22 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredRecipeList(Predicate<Recipe> predicate) {
         requireNonNull(predicate);
-        filteredRecipes.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_RECIPE) {
+            filteredRecipes.setPredicate(predicate);
+            return;
+        }
+        filteredRecipes.setPredicate(queryResultCache.resolve(predicate, modificationCount, recipeBook));
+        logger.fine("Query cache: " + queryResultCache.getStatistics());
+    }
+
+    @Override
+    public QueryResultCache.Statistics getQueryCacheStatistics() {
+        return queryResultCache.getStatistics();
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
     }
 
     @Override
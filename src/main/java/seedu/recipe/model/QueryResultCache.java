@@ -0,0 +1,161 @@
+package seedu.recipe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDurationWithinRangePredicate;
+
+/**
+ * Caches the recipes matched by the most recently used queries, so that repeating a query, i.e. running the same
+ * find command again, does not test every recipe in the recipe book against it again.
+ * <p>
+ * Queries are keyed by the predicate itself, so predicates must implement {@code equals} and {@code hashCode} by
+ * value to ever be found again. Cached results are only valid for the version of the recipe book they were found in,
+ * so the whole cache is discarded as soon as it is asked about a different version.
+ */
+public class QueryResultCache {
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<Predicate<Recipe>, Set<Recipe>> results;
+    private long version = -1;
+    // Every recipe in the recipe book at this version, for telling apart recipes added since the queries were cached
+    private Set<Recipe> knownRecipes = Collections.emptySet();
+    // Only changed by the thread resolving queries, but read by any thread, i.e. by the metrics file writer
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile int size = 0;
+
+    /**
+     * Constructs an empty cache keeping the results of the default number of queries.
+     */
+    public QueryResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty cache keeping the results of up to {@code capacity} of the most recently used queries.
+     */
+    public QueryResultCache(int capacity) {
+        assert capacity > 0;
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Recipe>, Set<Recipe>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate equivalent to the given query, which tests every recipe in the given recipe book by a lookup
+     * into the results of the query, reusing the cached results if the query was already answered at this version.
+     * Recipes added to the recipe book afterwards are tested against the query itself.
+     *
+     * @param query The query to answer.
+     * @param version The modification version of the recipe book, which must change whenever its recipes change.
+     * @param recipeBook The recipe book to answer the query over.
+     */
+    public Predicate<Recipe> resolve(Predicate<Recipe> query, long version, ReadOnlyRecipeBook recipeBook) {
+        requireNonNull(query);
+        requireNonNull(recipeBook);
+        if (version != this.version) {
+            results.clear();
+            size = 0;
+            knownRecipes = newIdentitySet(recipeBook.getRecipeList());
+            this.version = version;
+        }
+
+        Set<Recipe> matches = results.get(query);
+        if (matches == null) {
+            missCount.incrementAndGet();
+            matches = newIdentitySet(findMatches(query, recipeBook));
+            results.put(query, matches);
+            size = results.size();
+        } else {
+            hitCount.incrementAndGet();
+        }
+
+        Set<Recipe> matchesAtVersion = matches;
+        Set<Recipe> recipesAtVersion = knownRecipes;
+        return recipe -> matchesAtVersion.contains(recipe)
+            || !recipesAtVersion.contains(recipe) && query.test(recipe);
+    }
+
+    /**
+     * Answers the given query over every recipe in the recipe book, using the duration index for duration queries.
+     */
+    private static Collection<Recipe> findMatches(Predicate<Recipe> query, ReadOnlyRecipeBook recipeBook) {
+        if (query instanceof RecipeDurationWithinRangePredicate) {
+            RecipeDurationWithinRangePredicate range = (RecipeDurationWithinRangePredicate) query;
+            return recipeBook.getRecipesWithDurationWithin(range.getLowerSeconds(), range.getUpperSeconds());
+        }
+        return recipeBook.getRecipeList().stream().filter(query).collect(Collectors.toList());
+    }
+
+    private static Set<Recipe> newIdentitySet(Collection<Recipe> recipes) {
+        Set<Recipe> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(recipes);
+        return set;
+    }
+
+    /**
+     * Returns the statistics of this cache so far. Unlike the rest of the cache, this can be called from any thread,
+     * though a query resolved meanwhile may be counted in some statistics and not yet in others.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hitCount.get(), missCount.get(), size);
+    }
+
+    /**
+     * Represents the number of queries answered from and added to a {@code QueryResultCache}, at a point in time.
+     */
+    public static class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final int size;
+
+        Statistics(long hitCount, long missCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the number of queries currently cached.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the fraction of queries answered from the cache, or 0 if no query was made yet.
+         */
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses (%.0f%% hit rate), %d queries cached",
+                hitCount, missCount, getHitRate() * 100, size);
+        }
+    }
+}
@@ -4,7 +4,9 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
 import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
 
 
 
@@ -19,6 +21,18 @@ public interface ReadOnlyRecipeBook {
      */
     ObservableList<Recipe> getRecipeList();
 
+    /**
+     * Returns the recipes whose durations, normalized to seconds, lie within the given inclusive range,
+     * in ascending order of duration.
+     */
+    List<Recipe> getRecipesWithDurationWithin(double lowerSeconds, double upperSeconds);
+
+    /**
+     * Returns up to {@code limit} ingredients most frequently used together with the given ingredient,
+     * in descending order of lift.
+     */
+    List<IngredientPairing> getTopPartners(Ingredient ingredient, int limit);
+
     /**
      * Returns the preloaded substitutions list.
      *
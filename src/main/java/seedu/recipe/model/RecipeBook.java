@@ -2,12 +2,16 @@ package seedu.recipe.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.recipe.model.recipe.Recipe;
 import seedu.recipe.model.recipe.UniqueRecipeList;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
 import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
 import seedu.recipe.model.util.SubstitutionsUtil;
 
 /**
@@ -81,15 +85,14 @@ public class RecipeBook implements ReadOnlyRecipeBook {
     }
 
     /**
-     * Adds a list of recipes to the recipe book.
-     * The recipes must not already exist in the recipe book.
+     * Adds every recipe in {@code recipeList} which does not already exist in the recipe book, all at once.
+     * Of several recipes in {@code recipeList} with the same identity, only the first is added.
+     *
+     * @return The recipes which were added.
      */
-    public void addRecipes(ObservableList<Recipe> recipeList) {
-        for (Recipe recipe : recipeList) {
-            if (!hasRecipe(recipe)) {
-                recipes.add(recipe);
-            }
-        }
+    public List<Recipe> addRecipes(Collection<Recipe> recipeList) {
+        requireNonNull(recipeList);
+        return recipes.addAllAbsent(recipeList);
     }
 
     /**
@@ -103,6 +106,15 @@ public class RecipeBook implements ReadOnlyRecipeBook {
         recipes.setRecipe(target, editedRecipe);
     }
 
+    /**
+     * Replaces each recipe which is a key of {@code replacements} with its value, all at once.
+     * Every key must exist in the recipe book, and the recipes in the recipe book afterwards must all be unique.
+     */
+    public void setRecipes(Map<Recipe, Recipe> replacements) {
+        requireNonNull(replacements);
+        recipes.setRecipes(replacements);
+    }
+
     /**
      * Removes {@code key} from this {@code RecipeBook}.
      * {@code key} must exist in the recipe book.
@@ -111,6 +123,25 @@ public class RecipeBook implements ReadOnlyRecipeBook {
         recipes.remove(key);
     }
 
+    /**
+     * Removes every recipe in {@code keys} from this {@code RecipeBook}, all at once.
+     * Every recipe in {@code keys} must exist in the recipe book.
+     */
+    public void removeRecipes(Collection<Recipe> keys) {
+        requireNonNull(keys);
+        recipes.removeAll(keys);
+    }
+
+
+    @Override
+    public List<Recipe> getRecipesWithDurationWithin(double lowerSeconds, double upperSeconds) {
+        return recipes.getRecipesWithDurationWithin(lowerSeconds, upperSeconds);
+    }
+
+    @Override
+    public List<IngredientPairing> getTopPartners(Ingredient ingredient, int limit) {
+        return recipes.getTopPartners(ingredient, limit);
+    }
 
     /**
      * Returns the preloaded substitutes in this {@code RecipeBook}.
@@ -0,0 +1,105 @@
+package seedu.recipe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.recipe.model.recipe.IngredientCooccurrenceMatrix;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDurationIndex;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
+
+/**
+ * An immutable version of the recipe book, which can be read from any thread without locking, i.e. by exports,
+ * the API server and background jobs, while the recipe book itself continues to be changed.
+ * <p>
+ * A snapshot only copies the list of recipes, not the recipes themselves, which is safe as recipes are immutable:
+ * editing a recipe replaces it with a new one instead.
+ * Its duration index and ingredient co-occurrence matrix are built the first time they are queried, so that versions
+ * which are never queried do not pay for them. If several threads make the first query at once, each may build its
+ * own copy of an index, but all of them are equivalent, and only one is kept.
+ */
+public final class RecipeBookSnapshot implements ReadOnlyRecipeBook {
+    private final long version;
+    private final ObservableList<Recipe> recipes;
+    private final List<IngredientBuilder> preloadedSubstitutes;
+
+    private volatile RecipeDurationIndex durationIndex;
+    private volatile IngredientCooccurrenceMatrix cooccurrenceMatrix;
+
+    /**
+     * Takes a snapshot of the given recipe book.
+     * This must not be called while the recipe book is being changed by another thread.
+     *
+     * @param version The version of the recipe book being captured, which increases with every change published.
+     * @param source The recipe book to capture.
+     */
+    public RecipeBookSnapshot(long version, ReadOnlyRecipeBook source) {
+        requireNonNull(source);
+        this.version = version;
+        this.recipes = FXCollections.unmodifiableObservableList(
+            FXCollections.observableList(List.copyOf(source.getRecipeList())));
+        this.preloadedSubstitutes = List.copyOf(source.getPreloadedSubstitutes());
+    }
+
+    /**
+     * Returns the version of the recipe book captured by this snapshot. Later snapshots have greater versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Recipe> getRecipeList() {
+        return recipes;
+    }
+
+    @Override
+    public List<Recipe> getRecipesWithDurationWithin(double lowerSeconds, double upperSeconds) {
+        RecipeDurationIndex index = durationIndex;
+        if (index == null) {
+            index = new RecipeDurationIndex();
+            index.setAll(recipes);
+            durationIndex = index;
+        }
+        return index.getRecipesWithin(lowerSeconds, upperSeconds);
+    }
+
+    @Override
+    public List<IngredientPairing> getTopPartners(Ingredient ingredient, int limit) {
+        IngredientCooccurrenceMatrix matrix = cooccurrenceMatrix;
+        if (matrix == null) {
+            matrix = new IngredientCooccurrenceMatrix();
+            matrix.setAll(recipes);
+            cooccurrenceMatrix = matrix;
+        }
+        return matrix.getTopPartners(ingredient, limit);
+    }
+
+    @Override
+    public List<IngredientBuilder> getPreloadedSubstitutes() {
+        return preloadedSubstitutes;
+    }
+
+    @Override
+    public String toString() {
+        return recipes.size() + " recipes (version " + version + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecipeBookSnapshot // instanceof handles nulls
+                && version == ((RecipeBookSnapshot) other).version
+                && recipes.equals(((RecipeBookSnapshot) other).recipes)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return recipes.hashCode();
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.recipe.model.plan;
+
+import java.util.List;
+
+import seedu.recipe.model.recipe.Recipe;
+
+/**
+ * Represents a set of recipes picked by the {@link MealPlanner}, along with its total cooking time and waste.
+ */
+public class MealPlan {
+    private final List<Recipe> recipes;
+    private final double totalSeconds;
+    private final int waste;
+
+    /**
+     * Constructs a meal plan.
+     *
+     * @param recipes The recipes in the plan.
+     * @param totalSeconds The total cooking time of the recipes with known durations, in seconds.
+     * @param waste The number of ingredients used by only one recipe in the plan.
+     */
+    public MealPlan(List<Recipe> recipes, double totalSeconds, int waste) {
+        this.recipes = List.copyOf(recipes);
+        this.totalSeconds = totalSeconds;
+        this.waste = waste;
+    }
+
+    public List<Recipe> getRecipes() {
+        return recipes;
+    }
+
+    public double getTotalSeconds() {
+        return totalSeconds;
+    }
+
+    public int getWaste() {
+        return waste;
+    }
+}
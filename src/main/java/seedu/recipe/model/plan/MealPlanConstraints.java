@@ -0,0 +1,93 @@
+package seedu.recipe.model.plan;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.recipe.model.tag.Tag;
+
+/**
+ * Represents the constraints that a meal plan generated by the {@link MealPlanner} must satisfy.
+ */
+public class MealPlanConstraints {
+    /**
+     * Sentinel value for a plan without a limit on its total cooking time.
+     */
+    public static final double NO_TIME_LIMIT = Double.MAX_VALUE;
+
+    /**
+     * Sentinel value for a plan without a limit on its ingredient waste.
+     */
+    public static final int NO_WASTE_LIMIT = Integer.MAX_VALUE;
+
+    private final int recipeCount;
+    private final double maxTotalSeconds;
+    private final Set<Tag> requiredTags;
+    private final Set<Tag> forbiddenTags;
+    private final int maxWaste;
+
+    /**
+     * Constructs the constraints for a meal plan.
+     *
+     * @param recipeCount The positive number of recipes in the plan.
+     * @param maxTotalSeconds The maximum total cooking time of the plan, in seconds, or {@link #NO_TIME_LIMIT}.
+     * @param requiredTags The tags that every recipe in the plan must have.
+     * @param forbiddenTags The tags that no recipe in the plan may have.
+     * @param maxWaste The maximum number of ingredients used by only one recipe in the plan, or
+     *                 {@link #NO_WASTE_LIMIT}.
+     */
+    public MealPlanConstraints(int recipeCount, double maxTotalSeconds, Set<Tag> requiredTags,
+                               Set<Tag> forbiddenTags, int maxWaste) {
+        requireNonNull(requiredTags);
+        requireNonNull(forbiddenTags);
+        if (recipeCount <= 0 || maxTotalSeconds < 0 || maxWaste < 0) {
+            throw new IllegalArgumentException("Meal plan constraints must be non-negative, with at least 1 recipe.");
+        }
+        this.recipeCount = recipeCount;
+        this.maxTotalSeconds = maxTotalSeconds;
+        this.requiredTags = Set.copyOf(requiredTags);
+        this.forbiddenTags = Set.copyOf(forbiddenTags);
+        this.maxWaste = maxWaste;
+    }
+
+    public int getRecipeCount() {
+        return recipeCount;
+    }
+
+    public double getMaxTotalSeconds() {
+        return maxTotalSeconds;
+    }
+
+    public boolean hasTimeLimit() {
+        return maxTotalSeconds != NO_TIME_LIMIT;
+    }
+
+    public Set<Tag> getRequiredTags() {
+        return requiredTags;
+    }
+
+    public Set<Tag> getForbiddenTags() {
+        return forbiddenTags;
+    }
+
+    public int getMaxWaste() {
+        return maxWaste;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof MealPlanConstraints // instanceof handles nulls
+            && recipeCount == ((MealPlanConstraints) other).recipeCount
+            && maxTotalSeconds == ((MealPlanConstraints) other).maxTotalSeconds
+            && requiredTags.equals(((MealPlanConstraints) other).requiredTags)
+            && forbiddenTags.equals(((MealPlanConstraints) other).forbiddenTags)
+            && maxWaste == ((MealPlanConstraints) other).maxWaste); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(recipeCount, maxTotalSeconds, requiredTags, forbiddenTags, maxWaste);
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.recipe.model.plan;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.tag.Tag;
+
+/**
+ * Picks a set of recipes satisfying a set of {@link MealPlanConstraints}, preferring recipes which share their
+ * ingredients, so that fewer ingredients are bought for only a single meal, and then shorter total cooking times.
+ * <p>
+ * Each recipe is first reduced to a compact {@link RecipeFeatures} vector. Plans are then built up one recipe at a
+ * time with a beam search, which keeps only the best few partial plans at each step. This bounds the work to
+ * (recipes in plan) x (beam width) x (candidate recipes) bitset operations, so that plans over thousands of recipes
+ * are found quickly, at the cost of not always finding the optimal plan.
+ */
+public class MealPlanner {
+    public static final int DEFAULT_BEAM_WIDTH = 64;
+
+    private static final Comparator<Extension> EXTENSION_ORDER = Comparator
+        .comparingInt((Extension extension) -> extension.waste)
+        .thenComparingDouble(extension -> extension.seconds)
+        .thenComparingInt(extension -> extension.candidate)
+        .thenComparingInt(extension -> extension.parentRank);
+
+    private final List<Recipe> recipes;
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final RecipeFeatures[] features;
+    private final int ingredientWords;
+    private final int tagWords;
+    private final int beamWidth;
+
+    /**
+     * Constructs a planner over the given recipes, with the default beam width.
+     */
+    public MealPlanner(List<Recipe> recipes) {
+        this(recipes, DEFAULT_BEAM_WIDTH);
+    }
+
+    /**
+     * Constructs a planner over the given recipes, precomputing the feature vector of every recipe.
+     *
+     * @param recipes The recipes to plan with.
+     * @param beamWidth The number of partial plans kept at each step of the search. Wider beams find better plans,
+     *                  but take proportionally longer.
+     */
+    public MealPlanner(List<Recipe> recipes, int beamWidth) {
+        requireNonNull(recipes);
+        assert beamWidth > 0;
+        this.recipes = List.copyOf(recipes);
+        this.beamWidth = beamWidth;
+
+        Map<Ingredient, Integer> ingredientIds = new HashMap<>();
+        for (Recipe recipe : this.recipes) {
+            recipe.getIngredients().keySet().forEach(ingredient ->
+                ingredientIds.putIfAbsent(ingredient, ingredientIds.size()));
+            recipe.getTags().forEach(tag -> tagIds.putIfAbsent(normalizeTag(tag), tagIds.size()));
+        }
+        ingredientWords = RecipeFeatures.wordsFor(ingredientIds.size());
+        tagWords = RecipeFeatures.wordsFor(tagIds.size());
+
+        features = new RecipeFeatures[this.recipes.size()];
+        for (int i = 0; i < features.length; i++) {
+            Recipe recipe = this.recipes.get(i);
+            long[] ingredientBits = new long[ingredientWords];
+            recipe.getIngredients().keySet().forEach(ingredient ->
+                RecipeFeatures.set(ingredientBits, ingredientIds.get(ingredient)));
+            long[] tagBits = toTagBits(recipe.getTags());
+
+            RecipeDuration duration = recipe.getDurationNullable();
+            boolean hasKnownDuration = duration != null && duration.isNormalizable();
+            features[i] = new RecipeFeatures(i, hasKnownDuration ? duration.getSeconds() : 0, hasKnownDuration,
+                ingredientBits, tagBits);
+        }
+    }
+
+    private static String normalizeTag(Tag tag) {
+        return tag.getTagName().toLowerCase();
+    }
+
+    /**
+     * Returns the bitset of the given tags, ignoring any tag that no recipe in this planner has.
+     */
+    private long[] toTagBits(Collection<Tag> tags) {
+        long[] bits = new long[tagWords];
+        for (Tag tag : tags) {
+            Integer id = tagIds.get(normalizeTag(tag));
+            if (id != null) {
+                RecipeFeatures.set(bits, id);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Picks a set of recipes satisfying the given constraints.
+     *
+     * @param constraints The constraints that the plan must satisfy.
+     * @return The plan found, or an empty Optional if no plan satisfying the constraints was found.
+     */
+    public Optional<MealPlan> plan(MealPlanConstraints constraints) {
+        requireNonNull(constraints);
+        boolean hasUnknownRequiredTag = constraints.getRequiredTags().stream()
+            .anyMatch(tag -> !tagIds.containsKey(normalizeTag(tag)));
+        if (hasUnknownRequiredTag) {
+            return Optional.empty();
+        }
+
+        long[] requiredTagBits = toTagBits(constraints.getRequiredTags());
+        long[] forbiddenTagBits = toTagBits(constraints.getForbiddenTags());
+        List<RecipeFeatures> candidates = new ArrayList<>();
+        for (RecipeFeatures recipe : features) {
+            boolean isWithinTimeLimit = !constraints.hasTimeLimit()
+                || recipe.hasKnownDuration && recipe.seconds <= constraints.getMaxTotalSeconds();
+            if (isWithinTimeLimit
+                && RecipeFeatures.containsAll(recipe.tagBits, requiredTagBits)
+                && !RecipeFeatures.intersects(recipe.tagBits, forbiddenTagBits)) {
+                candidates.add(recipe);
+            }
+        }
+        if (candidates.size() < constraints.getRecipeCount()) {
+            return Optional.empty();
+        }
+
+        List<State> beam = List.of(new State(new int[0], new long[ingredientWords], new long[ingredientWords], 0, 0));
+        for (int step = 0; step < constraints.getRecipeCount() && !beam.isEmpty(); step++) {
+            beam = extend(beam, candidates, constraints.getMaxTotalSeconds(), step + 1);
+        }
+        return beam.stream()
+            .filter(state -> state.waste <= constraints.getMaxWaste())
+            .findFirst()
+            .map(state -> toMealPlan(state, candidates));
+    }
+
+    /**
+     * Extends every partial plan in the beam by one more candidate recipe, and returns the best distinct extended
+     * plans, in ascending order of waste and then total cooking time.
+     */
+    private List<State> extend(List<State> beam, List<RecipeFeatures> candidates, double maxTotalSeconds,
+                               int planSize) {
+        // The same plan can be reached from up to planSize parent plans, so enough extensions are kept for the
+        // beam to be filled even after duplicates are discarded.
+        int capacity = beamWidth * planSize;
+        PriorityQueue<Extension> best = new PriorityQueue<>(capacity + 1, EXTENSION_ORDER.reversed());
+
+        for (int parentRank = 0; parentRank < beam.size(); parentRank++) {
+            State parent = beam.get(parentRank);
+            for (int candidate = 0; candidate < candidates.size(); candidate++) {
+                RecipeFeatures recipe = candidates.get(candidate);
+                double seconds = parent.seconds + recipe.seconds;
+                if (seconds > maxTotalSeconds || Arrays.binarySearch(parent.chosen, candidate) >= 0) {
+                    continue;
+                }
+                Extension extension = new Extension(parentRank, candidate, seconds,
+                    parent.wasteWith(recipe.ingredientBits));
+                if (best.size() < capacity || EXTENSION_ORDER.compare(extension, best.peek()) < 0) {
+                    best.add(extension);
+                }
+                if (best.size() > capacity) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<Extension> extensions = new ArrayList<>(best);
+        extensions.sort(EXTENSION_ORDER);
+        List<State> nextBeam = new ArrayList<>();
+        Set<List<Integer>> seenPlans = new HashSet<>();
+        for (Extension extension : extensions) {
+            State state = beam.get(extension.parentRank).with(extension.candidate,
+                candidates.get(extension.candidate), extension.seconds, extension.waste);
+            if (seenPlans.add(state.chosenList()) && nextBeam.size() < beamWidth) {
+                nextBeam.add(state);
+            }
+        }
+        return nextBeam;
+    }
+
+    private MealPlan toMealPlan(State state, List<RecipeFeatures> candidates) {
+        List<Recipe> plannedRecipes = new ArrayList<>();
+        for (int candidate : state.chosen) {
+            plannedRecipes.add(recipes.get(candidates.get(candidate).recipeIndex));
+        }
+        return new MealPlan(plannedRecipes, state.seconds, state.waste);
+    }
+
+    /**
+     * Represents a partial plan, tracking which ingredients are used by at least one and at least two of its recipes.
+     */
+    private static class State {
+        private final int[] chosen; // positions of the chosen candidates, in ascending order
+        private final long[] usedAtLeastOnce;
+        private final long[] usedAtLeastTwice;
+        private final double seconds;
+        private final int waste;
+
+        State(int[] chosen, long[] usedAtLeastOnce, long[] usedAtLeastTwice, double seconds, int waste) {
+            this.chosen = chosen;
+            this.usedAtLeastOnce = usedAtLeastOnce;
+            this.usedAtLeastTwice = usedAtLeastTwice;
+            this.seconds = seconds;
+            this.waste = waste;
+        }
+
+        /**
+         * Returns the number of ingredients that would be used by only one recipe, if a recipe with the given
+         * ingredients were added to this plan.
+         */
+        int wasteWith(long[] ingredientBits) {
+            int waste = 0;
+            for (int i = 0; i < ingredientBits.length; i++) {
+                long once = usedAtLeastOnce[i] | ingredientBits[i];
+                long twice = usedAtLeastTwice[i] | (usedAtLeastOnce[i] & ingredientBits[i]);
+                waste += Long.bitCount(once & ~twice);
+            }
+            return waste;
+        }
+
+        State with(int candidate, RecipeFeatures recipe, double newSeconds, int newWaste) {
+            int[] newChosen = Arrays.copyOf(chosen, chosen.length + 1);
+            newChosen[chosen.length] = candidate;
+            Arrays.sort(newChosen);
+
+            long[] newUsedAtLeastOnce = new long[usedAtLeastOnce.length];
+            long[] newUsedAtLeastTwice = new long[usedAtLeastTwice.length];
+            for (int i = 0; i < usedAtLeastOnce.length; i++) {
+                newUsedAtLeastOnce[i] = usedAtLeastOnce[i] | recipe.ingredientBits[i];
+                newUsedAtLeastTwice[i] = usedAtLeastTwice[i] | (usedAtLeastOnce[i] & recipe.ingredientBits[i]);
+            }
+            return new State(newChosen, newUsedAtLeastOnce, newUsedAtLeastTwice, newSeconds, newWaste);
+        }
+
+        List<Integer> chosenList() {
+            List<Integer> chosenList = new ArrayList<>(chosen.length);
+            for (int candidate : chosen) {
+                chosenList.add(candidate);
+            }
+            return chosenList;
+        }
+    }
+
+    /**
+     * Represents a candidate recipe added to a partial plan in the beam, before the extended plan is materialised.
+     */
+    private static class Extension {
+        private final int parentRank;
+        private final int candidate;
+        private final double seconds;
+        private final int waste;
+
+        Extension(int parentRank, int candidate, double seconds, int waste) {
+            this.parentRank = parentRank;
+            this.candidate = candidate;
+            this.seconds = seconds;
+            this.waste = waste;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.recipe.model.plan;
+
+/**
+ * A compact, precomputed feature vector of a single Recipe, used by the {@link MealPlanner} to evaluate candidate
+ * plans without going through the rich model objects.
+ * Ingredients and tags are interned into integer ids by the planner, and are stored here as bitsets over those ids.
+ */
+class RecipeFeatures {
+    final int recipeIndex;
+    final double seconds;
+    final boolean hasKnownDuration;
+    final long[] ingredientBits;
+    final long[] tagBits;
+
+    RecipeFeatures(int recipeIndex, double seconds, boolean hasKnownDuration, long[] ingredientBits, long[] tagBits) {
+        this.recipeIndex = recipeIndex;
+        this.seconds = seconds;
+        this.hasKnownDuration = hasKnownDuration;
+        this.ingredientBits = ingredientBits;
+        this.tagBits = tagBits;
+    }
+
+    /**
+     * Returns the number of 64-bit words needed to store a bitset over {@code size} ids.
+     */
+    static int wordsFor(int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    static void set(long[] bits, int id) {
+        bits[id / Long.SIZE] |= 1L << (id % Long.SIZE);
+    }
+
+    /**
+     * Returns true if every bit set in {@code subset} is also set in {@code bits}.
+     */
+    static boolean containsAll(long[] bits, long[] subset) {
+        for (int i = 0; i < bits.length; i++) {
+            if ((bits[i] & subset[i]) != subset[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any bit set in {@code other} is also set in {@code bits}.
+     */
+    static boolean intersects(long[] bits, long[] other) {
+        for (int i = 0; i < bits.length; i++) {
+            if ((bits[i] & other[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.recipe.model.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.recipe.commons.core.flightrecorder.IndexRebuildEvent;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
+
+/**
+ * A sparse matrix of how many recipes use each pair of ingredients together, kept up to date incrementally as
+ * recipes are added and removed.
+ * Ingredients are interned into integer ids, and each row of the matrix is a primitive int-keyed hash table, so that
+ * the frequent partners of an ingredient are found by scanning only the ingredients it has been used with.
+ * Partners are ranked by lift, i.e. {@code P(a and b) / (P(a) * P(b))}.
+ */
+public class IngredientCooccurrenceMatrix {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Comparator<IngredientPairing> PAIRING_ORDER = Comparator
+        .comparingDouble(IngredientPairing::getLift)
+        .thenComparingInt(IngredientPairing::getSharedRecipeCount)
+        .thenComparing(pairing -> pairing.getPartner().getName(), Comparator.reverseOrder());
+
+    private final Map<Ingredient, Integer> ids = new HashMap<>();
+    private final List<Ingredient> ingredients = new ArrayList<>();
+    private int[] recipeCounts = new int[INITIAL_CAPACITY];
+    private IntCounter[] rows = new IntCounter[INITIAL_CAPACITY];
+    private int totalRecipeCount = 0;
+
+    /**
+     * Counts the ingredients of the given recipe.
+     */
+    public void add(Recipe recipe) {
+        update(recipe, 1);
+    }
+
+    /**
+     * Stops counting the ingredients of the given recipe, which must have been added before.
+     */
+    public void remove(Recipe recipe) {
+        update(recipe, -1);
+    }
+
+    /**
+     * Replaces the contents of this matrix with the counts for {@code replacement}.
+     */
+    public void setAll(List<Recipe> replacement) {
+        requireNonNull(replacement);
+        IndexRebuildEvent event = IndexRebuildEvent.start("ingredientCooccurrence");
+        ids.clear();
+        ingredients.clear();
+        recipeCounts = new int[INITIAL_CAPACITY];
+        rows = new IntCounter[INITIAL_CAPACITY];
+        totalRecipeCount = 0;
+        replacement.forEach(this::add);
+        event.finish(replacement.size());
+    }
+
+    private void update(Recipe recipe, int delta) {
+        requireNonNull(recipe);
+        int[] recipeIds = recipe.getIngredients().keySet().stream().mapToInt(this::intern).toArray();
+        for (int i = 0; i < recipeIds.length; i++) {
+            recipeCounts[recipeIds[i]] += delta;
+            for (int j = i + 1; j < recipeIds.length; j++) {
+                rows[recipeIds[i]].increment(recipeIds[j], delta);
+                rows[recipeIds[j]].increment(recipeIds[i], delta);
+            }
+        }
+        totalRecipeCount += delta;
+    }
+
+    private int intern(Ingredient ingredient) {
+        Integer id = ids.get(ingredient);
+        if (id != null) {
+            return id;
+        }
+        int newId = ingredients.size();
+        ids.put(ingredient, newId);
+        ingredients.add(ingredient);
+        if (newId == rows.length) {
+            recipeCounts = Arrays.copyOf(recipeCounts, newId * 2);
+            rows = Arrays.copyOf(rows, newId * 2);
+        }
+        rows[newId] = new IntCounter();
+        return newId;
+    }
+
+    /**
+     * Returns the number of recipes currently counted which use the given ingredient.
+     */
+    public int getRecipeCount(Ingredient ingredient) {
+        Integer id = ids.get(ingredient);
+        return id == null ? 0 : recipeCounts[id];
+    }
+
+    /**
+     * Returns up to {@code limit} ingredients most strongly associated with the given ingredient, in descending
+     * order of lift. Ties are broken by the number of recipes using both ingredients.
+     *
+     * @param ingredient The ingredient to find partners for.
+     * @param limit The maximum number of partners to return.
+     * @return The partners found, or an empty list if the ingredient is not used by any recipe.
+     */
+    public List<IngredientPairing> getTopPartners(Ingredient ingredient, int limit) {
+        requireNonNull(ingredient);
+        Integer id = ids.get(ingredient);
+        if (id == null || recipeCounts[id] == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // min-heap of the best pairings so far, so the weakest can be evicted
+        PriorityQueue<IngredientPairing> best = new PriorityQueue<>(limit + 1, PAIRING_ORDER);
+        IntCounter row = rows[id];
+        for (int slot = 0; slot < row.keys.length; slot++) {
+            int sharedRecipeCount = row.values[slot];
+            if (row.keys[slot] == IntCounter.EMPTY || sharedRecipeCount <= 0) {
+                continue;
+            }
+            int partnerId = row.keys[slot];
+            double lift = (double) sharedRecipeCount * totalRecipeCount
+                / ((double) recipeCounts[id] * recipeCounts[partnerId]);
+            best.add(new IngredientPairing(ingredients.get(partnerId), sharedRecipeCount, lift));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<IngredientPairing> topPartners = new ArrayList<>(best);
+        topPartners.sort(PAIRING_ORDER.reversed());
+        return topPartners;
+    }
+
+    /**
+     * An open-addressing hash table from non-negative int keys to int counts, avoiding boxing.
+     * Keys whose counts drop to zero are kept, as ingredients which were once paired are likely to be paired again.
+     */
+    private static class IntCounter {
+        private static final int EMPTY = -1;
+        private static final int INITIAL_SLOTS = 8;
+
+        private int[] keys = newKeys(INITIAL_SLOTS);
+        private int[] values = new int[INITIAL_SLOTS];
+        private int size = 0;
+
+        private static int[] newKeys(int slots) {
+            int[] newKeys = new int[slots];
+            Arrays.fill(newKeys, EMPTY);
+            return newKeys;
+        }
+
+        void increment(int key, int delta) {
+            int slot = findSlot(keys, key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] += delta;
+            // keep the table at most half full, so that probe sequences stay short
+            if (size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        private static int findSlot(int[] keys, int key) {
+            int mask = keys.length - 1;
+            int hash = key * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = findSlot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.recipe.model.recipe;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -17,6 +19,8 @@ import seedu.recipe.commons.util.StringUtil;
  */
 public class PropertyCollectionContainsKeywordsPredicate<T> implements Predicate<Recipe> {
     private final List<String> keywords;
+    // Keywords are matched as whole words ignoring case, so their order, case and repetition do not matter
+    private final Set<String> normalizedKeywords;
     /**
      * This method gets the name string of property T from Recipe.
      */
@@ -34,6 +38,9 @@ public class PropertyCollectionContainsKeywordsPredicate<T> implements Predicate
                                                        Function<Recipe, Collection<T>> propertyGetter,
                                                        Function<T, String> nameGetter) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream()
+            .map(keyword -> keyword.trim().toLowerCase())
+            .collect(Collectors.toSet());
         this.propertyGetter = propertyGetter;
         this.nameGetter = nameGetter;
     }
@@ -74,9 +81,14 @@ public class PropertyCollectionContainsKeywordsPredicate<T> implements Predicate
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof PropertyCollectionContainsKeywordsPredicate<?> // instanceof handles nulls
-            && keywords.equals(((PropertyCollectionContainsKeywordsPredicate<?>) other).keywords)
+            && normalizedKeywords.equals(((PropertyCollectionContainsKeywordsPredicate<?>) other).normalizedKeywords)
             && propertyGetter.equals(((PropertyCollectionContainsKeywordsPredicate<?>) other).propertyGetter)
             && nameGetter.equals(((PropertyCollectionContainsKeywordsPredicate<?>) other).nameGetter)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(normalizedKeywords, propertyGetter, nameGetter);
+    }
+
 }
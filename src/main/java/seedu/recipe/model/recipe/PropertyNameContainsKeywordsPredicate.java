@@ -2,8 +2,11 @@ package seedu.recipe.model.recipe;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.recipe.commons.util.StringUtil;
 
@@ -15,6 +18,8 @@ import seedu.recipe.commons.util.StringUtil;
  */
 public class PropertyNameContainsKeywordsPredicate<T> implements Predicate<Recipe> {
     private final List<String> keywords;
+    // Keywords are matched as whole words ignoring case, so their order, case and repetition do not matter
+    private final Set<String> normalizedKeywords;
     /**
      * This method gets the name string of property T from Recipe.
      */
@@ -32,9 +37,11 @@ public class PropertyNameContainsKeywordsPredicate<T> implements Predicate<Recip
     public PropertyNameContainsKeywordsPredicate(List<String> keywords, Function<Recipe, T> propertyGetter,
                                                  Function<T, String> nameGetter) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream()
+            .map(keyword -> keyword.trim().toLowerCase())
+            .collect(Collectors.toSet());
         this.propertyGetter = propertyGetter;
         this.nameGetter = nameGetter;
-
     }
 
     /**
@@ -67,9 +74,14 @@ public class PropertyNameContainsKeywordsPredicate<T> implements Predicate<Recip
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof PropertyNameContainsKeywordsPredicate<?> // instanceof handles nulls
-            && keywords.equals(((PropertyNameContainsKeywordsPredicate<?>) other).keywords)
+            && normalizedKeywords.equals(((PropertyNameContainsKeywordsPredicate<?>) other).normalizedKeywords)
             && propertyGetter.equals(((PropertyNameContainsKeywordsPredicate<?>) other).propertyGetter)
             && nameGetter.equals(((PropertyNameContainsKeywordsPredicate<?>) other).nameGetter)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(normalizedKeywords, propertyGetter, nameGetter);
+    }
+
 }
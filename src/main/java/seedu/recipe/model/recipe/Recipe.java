@@ -4,16 +4,17 @@ import static seedu.recipe.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.recipe.model.util.IngredientUtil.ingredientTableToString;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import seedu.recipe.commons.util.ArrayMap;
+import seedu.recipe.commons.util.ArraySet;
 import seedu.recipe.model.recipe.exceptions.RecipeDurationNotPresentException;
 import seedu.recipe.model.recipe.exceptions.RecipePortionNotPresentException;
 import seedu.recipe.model.recipe.ingredient.Ingredient;
@@ -23,46 +24,77 @@ import seedu.recipe.model.tag.Tag;
 
 /**
  * Represents a Recipe in the recipe book.
- * Guarantees: details are present and not null, field values are validated.
+ * Guarantees: immutable; details are present and not null, field values are validated.
+ * <p>
+ * As a recipe book may hold a great many recipes, each is kept compact: its tags, ingredients and steps are held in
+ * immutable array-backed collections, and its portion and duration are null rather than empty {@code Optional}s when
+ * absent. Recipes are never changed once built; the {@code with} methods return a changed copy instead.
  */
-@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public class Recipe {
-
     // Identity field
     private final Name name;
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Step> steps = new ArrayList<>();
-    private final HashMap<Ingredient, IngredientInformation> ingredientTable = new HashMap<>();
+    private final Set<Tag> tags;
+    private final List<Step> steps;
+    private final Map<Ingredient, IngredientInformation> ingredientTable;
 
-    // Data fields
-    private Optional<RecipePortion> portion = Optional.empty();
-    private Optional<RecipeDuration> duration = Optional.empty();
+    // Data fields, null if absent
+    private final RecipePortion portion;
+    private final RecipeDuration duration;
 
     /**
      * Only the name field is required. The rest are optional (but recommended)
      */
     public Recipe(Name name) {
-        requireAllNonNull(name);
+        this(name, null, null, ArraySet.of(), ArrayMap.of(), List.of());
+    }
+
+    /**
+     * Every field must be present and not null, except for {@code portion} and {@code duration}, which are null if
+     * absent. Duplicate tags are only kept once.
+     */
+    public Recipe(Name name, RecipePortion portion, RecipeDuration duration, Collection<Tag> tags,
+                  Map<? extends Ingredient, ? extends IngredientInformation> ingredientTable, List<Step> steps) {
+        requireAllNonNull(name, tags, ingredientTable, steps);
         this.name = name;
+        this.portion = portion;
+        this.duration = duration;
+        this.tags = ArraySet.copyOf(tags);
+        this.ingredientTable = ArrayMap.copyOf(ingredientTable);
+        this.steps = List.copyOf(steps);
     }
 
     public Name getName() {
         return name;
     }
 
-    public HashMap<Ingredient, IngredientInformation> getIngredients() {
+    /**
+     * Returns an immutable ingredient table, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Map<Ingredient, IngredientInformation> getIngredients() {
         return ingredientTable;
     }
 
-    public void setIngredients(IngredientBuilder... ingredients) {
+    /**
+     * Returns a copy of this recipe, with the ingredients built by each of {@code ingredients} added to its
+     * ingredient table.
+     */
+    public Recipe withIngredients(IngredientBuilder... ingredients) {
+        Map<Ingredient, IngredientInformation> updatedTable = new LinkedHashMap<>(ingredientTable);
         for (IngredientBuilder ingredientBuilder : ingredients) {
-            ingredientTable.putAll(
+            updatedTable.putAll(
                 ingredientBuilder.build());
         }
+        return new Recipe(name, portion, duration, tags, updatedTable, steps);
     }
 
-    public void setIngredients(Map<? extends Ingredient, ? extends IngredientInformation> ingredientMap) {
-        this.ingredientTable.putAll(ingredientMap);
+    /**
+     * Returns a copy of this recipe, with the ingredients in {@code ingredientMap} added to its ingredient table.
+     */
+    public Recipe withIngredients(Map<? extends Ingredient, ? extends IngredientInformation> ingredientMap) {
+        Map<Ingredient, IngredientInformation> updatedTable = new LinkedHashMap<>(ingredientTable);
+        updatedTable.putAll(ingredientMap);
+        return new Recipe(name, portion, duration, tags, updatedTable, steps);
     }
 
     public Set<Ingredient> getIngredientList() {
@@ -70,31 +102,35 @@ public class Recipe {
     }
 
     public RecipePortion getPortion() {
-        portion.orElseThrow(RecipePortionNotPresentException::new);
-        return portion.get();
+        return Optional.ofNullable(portion).orElseThrow(RecipePortionNotPresentException::new);
     }
 
-    public void setPortion(RecipePortion portion) {
-        this.portion = Optional.ofNullable(portion);
+    /**
+     * Returns a copy of this recipe with the given portion, or without one if it is null.
+     */
+    public Recipe withPortion(RecipePortion portion) {
+        return new Recipe(name, portion, duration, tags, ingredientTable, steps);
     }
 
     public RecipeDuration getDuration() {
-        duration.orElseThrow(RecipeDurationNotPresentException::new);
-        return duration.get();
+        return Optional.ofNullable(duration).orElseThrow(RecipeDurationNotPresentException::new);
     }
 
-    public void setDuration(RecipeDuration duration) {
-        this.duration = Optional.ofNullable(duration);
+    /**
+     * Returns a copy of this recipe with the given duration, or without one if it is null.
+     */
+    public Recipe withDuration(RecipeDuration duration) {
+        return new Recipe(name, portion, duration, tags, ingredientTable, steps);
     }
 
     // nullable variants of getPortion and getDuration
     // when we are okay with receiving null
     public RecipePortion getPortionNullable() {
-        return portion.orElse(null);
+        return portion;
     }
 
     public RecipeDuration getDurationNullable() {
-        return duration.orElse(null);
+        return duration;
     }
 
     /**
@@ -107,16 +143,30 @@ public class Recipe {
         return tags;
     }
 
-    public void setTags(Tag... tags) {
-        this.tags.addAll(Arrays.asList(tags));
+    /**
+     * Returns a copy of this recipe, with the given tags added to its tags.
+     */
+    public Recipe withTags(Tag... tags) {
+        List<Tag> updatedTags = new ArrayList<>(this.tags);
+        updatedTags.addAll(List.of(tags));
+        return new Recipe(name, portion, duration, updatedTags, ingredientTable, steps);
     }
 
+    /**
+     * Returns an immutable step list, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public List<Step> getSteps() {
         return steps;
     }
 
-    public void setSteps(Step... steps) {
-        this.steps.addAll(List.of(steps));
+    /**
+     * Returns a copy of this recipe, with the given steps added to the end of its steps.
+     */
+    public Recipe withSteps(Step... steps) {
+        List<Step> updatedSteps = new ArrayList<>(this.steps);
+        updatedSteps.addAll(List.of(steps));
+        return new Recipe(name, portion, duration, tags, ingredientTable, updatedSteps);
     }
 
     /**
@@ -148,8 +198,8 @@ public class Recipe {
 
         Recipe otherRecipe = (Recipe) other;
         return otherRecipe.getName().equals(getName())
-            && otherRecipe.portion.equals(portion)
-            && otherRecipe.duration.equals(duration)
+            && Objects.equals(otherRecipe.portion, portion)
+            && Objects.equals(otherRecipe.duration, duration)
             && otherRecipe.getTags().equals(getTags())
             && otherRecipe.getIngredients().equals(getIngredients())
             && otherRecipe.getSteps().equals(getSteps());
@@ -166,9 +216,13 @@ public class Recipe {
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append(getName());
 
-        portion.ifPresent(p -> stringBuilder.append(";\nPortion: ").append(p));
+        if (portion != null) {
+            stringBuilder.append(";\nPortion: ").append(portion);
+        }
 
-        duration.ifPresent(d -> stringBuilder.append(";\nDuration: ").append(d));
+        if (duration != null) {
+            stringBuilder.append(";\nDuration: ").append(duration);
+        }
 
         if (!tags.isEmpty()) {
             stringBuilder.append(";\nTags: ");
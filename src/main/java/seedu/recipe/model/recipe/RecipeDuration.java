@@ -10,17 +10,25 @@ import seedu.recipe.model.recipe.unit.TimeUnit;
 
 /**
  * Represents the Duration that a Recipe is estimated to take to complete.
+ * If the duration's time unit is a recognised one, the duration is also normalized to a number of seconds upon
+ * construction, allowing durations to be compared and queried regardless of the unit they were written in.
  */
 public class RecipeDuration {
     public static final String MESSAGE_CONSTRAINTS =
         "A Recipe's duration should consist of an integer/fraction/decimal section and an alphabetic time unit "
         + "(spaces allowed)";
 
+    /**
+     * Sentinel value for the normalized duration of a RecipeDuration whose time unit is not recognised.
+     */
+    public static final double UNKNOWN_SECONDS = -1;
+
     // format: {number} {unit} OR {number}{. or /}{number} {unit}
     private static final Pattern VALIDATION_REGEX = Pattern.compile("((\\d+)(?:([.\\/])(\\d+))?)\\s+([A-Za-z ]+)");
 
     private final double time;
     private final TimeUnit timeUnit;
+    private final double seconds;
 
     /**
      * Generates and returns an instance of a RecipeDuration object, if the provided parameters are valid.
@@ -34,6 +42,7 @@ public class RecipeDuration {
         }
         this.time = time;
         this.timeUnit = timeUnit;
+        this.seconds = timeUnit.isNormalizable() ? time * timeUnit.getSecondsPerUnit() : UNKNOWN_SECONDS;
     }
 
     /**
@@ -89,6 +98,20 @@ public class RecipeDuration {
         return timeUnit;
     }
 
+    /**
+     * Returns true if this duration's time unit is recognised, and it can hence be normalized to seconds.
+     */
+    public boolean isNormalizable() {
+        return seconds != UNKNOWN_SECONDS;
+    }
+
+    /**
+     * Returns this duration normalized to seconds, or {@link #UNKNOWN_SECONDS} if its time unit is not recognised.
+     */
+    public double getSeconds() {
+        return seconds;
+    }
+
     @Override
     public boolean equals(Object o) {
         return o == this
@@ -0,0 +1,192 @@
+package seedu.recipe.model.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.recipe.commons.core.flightrecorder.IndexRebuildEvent;
+
+/**
+ * A sorted index of recipes over their durations, normalized to seconds.
+ * Recipes without a duration, or whose duration is in an unrecognised time unit, are not indexed.
+ * This allows range queries over recipe durations to be answered via binary search instead of testing every recipe.
+ *
+ * @see RecipeDuration#getSeconds()
+ */
+public class RecipeDurationIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] seconds = new double[INITIAL_CAPACITY];
+    private Recipe[] recipes = new Recipe[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds the given recipe to the index, if it has a normalizable duration.
+     */
+    public void add(Recipe toAdd) {
+        requireNonNull(toAdd);
+        RecipeDuration duration = toAdd.getDurationNullable();
+        if (duration == null || !duration.isNormalizable()) {
+            return;
+        }
+        ensureCapacity(size + 1);
+        int position = upperBound(duration.getSeconds());
+        System.arraycopy(seconds, position, seconds, position + 1, size - position);
+        System.arraycopy(recipes, position, recipes, position + 1, size - position);
+        seconds[position] = duration.getSeconds();
+        recipes[position] = toAdd;
+        size++;
+    }
+
+    /**
+     * Adds the given recipes to the index, merging them in after sorting only them, so that adding a few recipes to a
+     * large index does not sort it all again.
+     */
+    public void addAll(Collection<Recipe> toAdd) {
+        requireNonNull(toAdd);
+        List<Recipe> indexed = getIndexable(toAdd);
+        ensureCapacity(size + indexed.size());
+        // Merges from the back, so that no entry is overwritten before it is moved, and new entries go after existing
+        // entries with the same duration, as they would if added one at a time
+        int existing = size - 1;
+        int added = indexed.size() - 1;
+        for (int position = size + indexed.size() - 1; added >= 0; position--) {
+            double addedSeconds = indexed.get(added).getDurationNullable().getSeconds();
+            if (existing >= 0 && seconds[existing] > addedSeconds) {
+                seconds[position] = seconds[existing];
+                recipes[position] = recipes[existing--];
+            } else {
+                seconds[position] = addedSeconds;
+                recipes[position] = indexed.get(added--);
+            }
+        }
+        size += indexed.size();
+    }
+
+    /**
+     * Removes the given recipe from the index, if it was indexed.
+     */
+    public void remove(Recipe toRemove) {
+        requireNonNull(toRemove);
+        RecipeDuration duration = toRemove.getDurationNullable();
+        if (duration == null || !duration.isNormalizable()) {
+            return;
+        }
+        // Only recipes with exactly the same normalized duration need to be checked
+        int end = upperBound(duration.getSeconds());
+        for (int i = lowerBound(duration.getSeconds()); i < end; i++) {
+            if (recipes[i].equals(toRemove)) {
+                System.arraycopy(seconds, i + 1, seconds, i, size - i - 1);
+                System.arraycopy(recipes, i + 1, recipes, i, size - i - 1);
+                recipes[--size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code replacement}, sorting them all at once.
+     */
+    public void setAll(List<Recipe> replacement) {
+        requireNonNull(replacement);
+        IndexRebuildEvent event = IndexRebuildEvent.start("duration");
+        List<Recipe> indexed = getIndexable(replacement);
+
+        int capacity = Math.max(INITIAL_CAPACITY, indexed.size());
+        seconds = new double[capacity];
+        recipes = new Recipe[capacity];
+        size = indexed.size();
+        for (int i = 0; i < size; i++) {
+            recipes[i] = indexed.get(i);
+            seconds[i] = recipes[i].getDurationNullable().getSeconds();
+        }
+        event.finish(replacement.size());
+    }
+
+    /**
+     * Returns the recipes whose normalized durations lie within the inclusive range given, in ascending order of
+     * duration.
+     *
+     * @param lowerSeconds The inclusive lower bound of the range, in seconds.
+     * @param upperSeconds The inclusive upper bound of the range, in seconds.
+     * @return An unmodifiable list of the matching recipes.
+     */
+    public List<Recipe> getRecipesWithin(double lowerSeconds, double upperSeconds) {
+        if (lowerSeconds > upperSeconds) {
+            return Collections.emptyList();
+        }
+        int start = lowerBound(lowerSeconds);
+        int end = upperBound(upperSeconds);
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(recipes, start, end)));
+    }
+
+    /**
+     * Returns the number of recipes in this index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the recipes of {@code recipes} which have a normalizable duration, sorted stably by that duration.
+     */
+    private static List<Recipe> getIndexable(Collection<Recipe> recipes) {
+        List<Recipe> indexable = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            RecipeDuration duration = recipe.getDurationNullable();
+            if (duration != null && duration.isNormalizable()) {
+                indexable.add(recipe);
+            }
+        }
+        indexable.sort(Comparator.comparingDouble(recipe -> recipe.getDurationNullable().getSeconds()));
+        return indexable;
+    }
+
+    /**
+     * Returns the index of the first entry whose duration is not less than {@code key}.
+     */
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (seconds[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first entry whose duration is greater than {@code key}.
+     */
+    private int upperBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (seconds[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= seconds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, seconds.length * 2);
+        seconds = Arrays.copyOf(seconds, newCapacity);
+        recipes = Arrays.copyOf(recipes, newCapacity);
+    }
+}
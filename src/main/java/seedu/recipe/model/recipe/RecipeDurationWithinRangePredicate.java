@@ -0,0 +1,123 @@
+package seedu.recipe.model.recipe;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.recipe.model.recipe.unit.TimeUnit;
+
+/**
+ * Tests that the duration of a {@code Recipe}, normalized to seconds, lies within an inclusive range.
+ * Recipes without a duration, or with a duration in an unrecognised time unit, never match.
+ */
+public class RecipeDurationWithinRangePredicate implements Predicate<Recipe> {
+    public static final String MESSAGE_CONSTRAINTS =
+        "A duration query should be a comparison against a duration, or a range of two durations.\n"
+            + "Durations consist of a number and a time unit such as 's', 'min', 'h' or 'days'.\n"
+            + "i.e. `<30m`, `<=1h`, `>1.5 hours`, `10m-1h`";
+
+    // format: {number}{unit}, where whitespace between the two is allowed
+    private static final String AMOUNT_REGEX = "(\\d+(?:\\.\\d+)?)\\s*([A-Za-z]+)";
+    private static final Pattern COMPARISON_FORMAT = Pattern.compile("(<=|>=|<|>)?\\s*" + AMOUNT_REGEX);
+    private static final Pattern RANGE_FORMAT = Pattern.compile(AMOUNT_REGEX + "\\s*(?:-|to)\\s*" + AMOUNT_REGEX);
+
+    private final double lowerSeconds;
+    private final double upperSeconds;
+
+    /**
+     * Constructs an instance of RecipeDurationWithinRangePredicate.
+     *
+     * @param lowerSeconds The inclusive lower bound of the range, in seconds.
+     * @param upperSeconds The inclusive upper bound of the range, in seconds.
+     */
+    public RecipeDurationWithinRangePredicate(double lowerSeconds, double upperSeconds) {
+        if (lowerSeconds < 0 || upperSeconds < lowerSeconds) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        this.lowerSeconds = lowerSeconds;
+        this.upperSeconds = upperSeconds;
+    }
+
+    /**
+     * Parses a duration query, i.e. `<30m` or `10m-1h`, and generates the predicate matching it.
+     *
+     * @param candidate The duration query to parse.
+     * @return The generated RecipeDurationWithinRangePredicate instance, if the query is valid.
+     */
+    public static RecipeDurationWithinRangePredicate of(String candidate) {
+        assert candidate != null;
+        String trimmedCandidate = candidate.trim();
+
+        Matcher rangeMatcher = RANGE_FORMAT.matcher(trimmedCandidate);
+        if (rangeMatcher.matches()) {
+            double lower = toSeconds(rangeMatcher.group(1), rangeMatcher.group(2));
+            double upper = toSeconds(rangeMatcher.group(3), rangeMatcher.group(4));
+            return new RecipeDurationWithinRangePredicate(lower, upper);
+        }
+
+        Matcher comparisonMatcher = COMPARISON_FORMAT.matcher(trimmedCandidate);
+        if (!comparisonMatcher.matches()) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        double bound = toSeconds(comparisonMatcher.group(2), comparisonMatcher.group(3));
+        String operator = comparisonMatcher.group(1) == null ? "" : comparisonMatcher.group(1);
+
+        switch (operator) {
+        case "<":
+            return new RecipeDurationWithinRangePredicate(0, Math.nextDown(bound));
+        case "<=":
+            return new RecipeDurationWithinRangePredicate(0, bound);
+        case ">":
+            return new RecipeDurationWithinRangePredicate(Math.nextUp(bound), Double.MAX_VALUE);
+        case ">=":
+            return new RecipeDurationWithinRangePredicate(bound, Double.MAX_VALUE);
+        default: // no comparison operator, so look for an exact match
+            return new RecipeDurationWithinRangePredicate(bound, bound);
+        }
+    }
+
+    private static double toSeconds(String amount, String unit) {
+        double secondsPerUnit = TimeUnit.lookupSecondsPerUnit(unit);
+        if (secondsPerUnit == TimeUnit.UNKNOWN_SECONDS_PER_UNIT) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return Double.parseDouble(amount) * secondsPerUnit;
+    }
+
+    public double getLowerSeconds() {
+        return lowerSeconds;
+    }
+
+    public double getUpperSeconds() {
+        return upperSeconds;
+    }
+
+    /**
+     * Tests if the normalized duration of the given Recipe lies within this range.
+     *
+     * @param recipe the input Recipe
+     * @return Whether the Recipe's duration lies within the range
+     */
+    @Override
+    public boolean test(Recipe recipe) {
+        RecipeDuration duration = recipe.getDurationNullable();
+        return duration != null
+            && duration.isNormalizable()
+            && duration.getSeconds() >= lowerSeconds
+            && duration.getSeconds() <= upperSeconds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof RecipeDurationWithinRangePredicate // instanceof handles nulls
+            && lowerSeconds == ((RecipeDurationWithinRangePredicate) other).lowerSeconds
+            && upperSeconds == ((RecipeDurationWithinRangePredicate) other).upperSeconds); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerSeconds, upperSeconds);
+    }
+}
@@ -6,6 +6,9 @@ import static seedu.recipe.commons.util.AppUtil.checkArgument;
 /**
  * Represents one of a recipe's steps for a recipe in the recipe book.
  * Guarantees: immutable, is valid as declared in {@link #isValidStep(String)}
+ * <p>
+ * The description of a step constructed with a {@link StepTextArena} is stored off the heap in that arena, and
+ * decoded whenever it is displayed or searched, to keep the heap small for very large recipe books.
  */
 public class Step {
     public static final String MESSAGE_CONSTRAINTS =
@@ -22,7 +25,10 @@ public class Step {
             "^[A-Za-z0-9]+([\\-,/.][A-Za-z0-9]+)?[.,:;]?(\\s+[(]?([A-Za-z0-9]+|[0-9]+\\.[0-9]+)([\\-,/.]"
                     + "([A-Za-z0-9]+|([0-9]+\\.[0-9]+)))?[.,!:;)]{0,2})+";
 
-    private final String description;
+    private final String description; // null if the description is stored in the arena instead
+    private final StepTextArena arena;
+    private final long handle;
+    private final int hash;
 
     /**
      * Constructs a {@code Step}
@@ -33,6 +39,32 @@ public class Step {
         requireNonNull(description);
         checkArgument(isValidStep(description), MESSAGE_CONSTRAINTS);
         this.description = description;
+        this.arena = null;
+        this.handle = 0;
+        this.hash = description.hashCode();
+    }
+
+    /**
+     * Constructs a {@code Step} whose description is stored off the heap in {@code arena}.
+     *
+     * @param description A valid description for the step
+     * @param arena The arena to store the description in
+     */
+    public Step(String description, StepTextArena arena) {
+        requireNonNull(description);
+        requireNonNull(arena);
+        checkArgument(isValidStep(description), MESSAGE_CONSTRAINTS);
+        this.description = null;
+        this.arena = arena;
+        this.handle = arena.store(description);
+        this.hash = description.hashCode();
+    }
+
+    /**
+     * Returns true if this step's description is stored off the heap.
+     */
+    public boolean isStoredOffHeap() {
+        return arena != null;
     }
 
     /**
@@ -44,18 +76,19 @@ public class Step {
 
     @Override
     public String toString() {
-        return description;
+        return description != null ? description : arena.load(handle);
     }
 
     @Override
     public int hashCode() {
-        return description.hashCode();
+        return hash;
     }
 
     @Override
     public boolean equals(Object o) {
         return o == this
                 || o instanceof Step
-                && ((Step) o).description.equals(this.description);
+                && ((Step) o).hash == this.hash
+                && o.toString().equals(this.toString());
     }
 }
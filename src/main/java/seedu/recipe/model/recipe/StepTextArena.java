@@ -0,0 +1,104 @@
+package seedu.recipe.model.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores text off the Java heap, in direct byte buffers, so that the text of a great many steps neither takes up the
+ * heap nor has to be traced by the garbage collector.
+ * <p>
+ * Each text is encoded once as UTF-8, after its length, and appended to the current chunk of the arena, or to a new
+ * chunk if it does not fit. It is then referred to by a handle, from which it is decoded again whenever it is needed.
+ * Text is never removed, so the arena only grows; its memory is released once the arena itself is no longer used.
+ * Texts may be stored and loaded from any thread. Both hold the lock of the arena, so that a text loaded by another
+ * thread than the one which stored it is always read whole: the bytes written into a chunk are not published by the
+ * handle alone, and the chunk may still be written to by later stores while it is read.
+ */
+public class StepTextArena {
+    static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final int chunkSize;
+    private final List<ByteBuffer> chunks = new ArrayList<>(); // guarded by this
+    private ByteBuffer currentChunk; // guarded by this
+    private long storedBytes = 0; // guarded by this
+
+    /**
+     * Creates an empty arena, which allocates off-heap memory 1 MiB at a time.
+     */
+    public StepTextArena() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an empty arena, which allocates off-heap memory {@code chunkSize} bytes at a time, or more for text
+     * larger than that.
+     */
+    StepTextArena(int chunkSize) {
+        assert chunkSize > LENGTH_BYTES;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Stores the given text, and returns the handle with which to {@link #load(long)} it.
+     */
+    public synchronized long store(String text) {
+        requireNonNull(text);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int size = LENGTH_BYTES + bytes.length;
+        if (currentChunk == null || currentChunk.remaining() < size) {
+            currentChunk = ByteBuffer.allocateDirect(Math.max(chunkSize, size));
+            chunks.add(currentChunk);
+        }
+        int offset = currentChunk.position();
+        currentChunk.putInt(bytes.length).put(bytes);
+        storedBytes += size;
+        return toHandle(chunks.size() - 1, offset);
+    }
+
+    /**
+     * Returns the text stored with the given handle.
+     */
+    public String load(long handle) {
+        return new String(loadBytes(handle), StandardCharsets.UTF_8);
+    }
+
+    private synchronized byte[] loadBytes(long handle) {
+        ByteBuffer chunk = chunks.get(toChunkIndex(handle)).duplicate();
+        chunk.position(toOffset(handle));
+        byte[] bytes = new byte[chunk.getInt()];
+        chunk.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns the number of bytes taken by the texts stored so far.
+     */
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory allocated so far.
+     */
+    public synchronized long getAllocatedBytes() {
+        return chunks.stream().mapToLong(ByteBuffer::capacity).sum();
+    }
+
+    private static long toHandle(int chunkIndex, int offset) {
+        return ((long) chunkIndex << Integer.SIZE) | offset;
+    }
+
+    private static int toChunkIndex(long handle) {
+        return (int) (handle >>> Integer.SIZE);
+    }
+
+    private static int toOffset(long handle) {
+        return (int) handle;
+    }
+}
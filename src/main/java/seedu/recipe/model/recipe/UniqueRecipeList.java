@@ -3,13 +3,21 @@ package seedu.recipe.model.recipe;
 import static java.util.Objects.requireNonNull;
 import static seedu.recipe.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recipe.model.recipe.exceptions.DuplicateRecipeException;
 import seedu.recipe.model.recipe.exceptions.RecipeNotFoundException;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
 
 /**
  * A list of recipes that enforces uniqueness between its elements and does not allow nulls.
@@ -17,7 +25,8 @@ import seedu.recipe.model.recipe.exceptions.RecipeNotFoundException;
  * recipes uses Recipe#isSameRecipe(Recipe) for equality to ensure that the recipe being added or updated is
  * unique in terms of identity in the UniqueRecipeList. However, the removal of a recipe uses Recipe#equals(Object)
  * to ensure that the recipe with exactly the same fields will be removed.
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations, including adding, removing or replacing many recipes as a single change,
+ * and keeps a {@code RecipeDurationIndex} and an {@code IngredientCooccurrenceMatrix} of its recipes up to date.
  *
  * @see Recipe#isSameRecipe(Recipe)
  */
@@ -26,13 +35,17 @@ public class UniqueRecipeList implements Iterable<Recipe> {
     private final ObservableList<Recipe> internalList = FXCollections.observableArrayList();
     private final ObservableList<Recipe> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final RecipeDurationIndex durationIndex = new RecipeDurationIndex();
+    private final IngredientCooccurrenceMatrix cooccurrenceMatrix = new IngredientCooccurrenceMatrix();
+    // Recipes have the same identity exactly when they have the same name, so these identify every recipe in the list
+    private final Set<Name> names = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent recipe as the given argument.
      */
     public boolean contains(Recipe toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecipe);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -45,6 +58,34 @@ public class UniqueRecipeList implements Iterable<Recipe> {
             throw new DuplicateRecipeException();
         }
         internalList.add(toAdd);
+        names.add(toAdd.getName());
+        durationIndex.add(toAdd);
+        cooccurrenceMatrix.add(toAdd);
+    }
+
+    /**
+     * Adds every recipe in {@code toAdd} to the end of the list at once, as a single change to the list.
+     * None of the recipes may already exist in the list, and they must all be unique.
+     */
+    public void addAll(Collection<Recipe> toAdd) {
+        requireAllNonNull(toAdd);
+        if (selectAbsent(toAdd).size() != toAdd.size()) {
+            throw new DuplicateRecipeException();
+        }
+        append(toAdd);
+    }
+
+    /**
+     * Adds every recipe in {@code toAdd} which does not already exist in the list to the end of the list at once, as a
+     * single change to the list. Of several recipes in {@code toAdd} with the same identity, only the first is added.
+     *
+     * @return The recipes which were added.
+     */
+    public List<Recipe> addAllAbsent(Collection<Recipe> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Recipe> absent = selectAbsent(toAdd);
+        append(absent);
+        return absent;
     }
 
     /**
@@ -64,7 +105,13 @@ public class UniqueRecipeList implements Iterable<Recipe> {
             throw new DuplicateRecipeException();
         }
 
-        internalList.set(index, editedRecipe);
+        Recipe replaced = internalList.set(index, editedRecipe);
+        names.remove(replaced.getName());
+        names.add(editedRecipe.getName());
+        durationIndex.remove(replaced);
+        durationIndex.add(editedRecipe);
+        cooccurrenceMatrix.remove(replaced);
+        cooccurrenceMatrix.add(editedRecipe);
     }
 
     /**
@@ -76,11 +123,55 @@ public class UniqueRecipeList implements Iterable<Recipe> {
         if (!internalList.remove(toRemove)) {
             throw new RecipeNotFoundException();
         }
+        names.remove(toRemove.getName());
+        durationIndex.remove(toRemove);
+        cooccurrenceMatrix.remove(toRemove);
+    }
+
+    /**
+     * Removes every recipe in {@code toRemove} from the list at once, as a single change to the list.
+     * Every recipe in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Recipe> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Recipe> remaining = new HashSet<>(toRemove);
+        List<Recipe> kept = new ArrayList<>(internalList.size());
+        for (Recipe recipe : internalList) {
+            if (!remaining.remove(recipe)) {
+                kept.add(recipe);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new RecipeNotFoundException();
+        }
+        replaceContents(kept);
+    }
+
+    /**
+     * Replaces every recipe which is a key of {@code replacements} with its value at once, as a single change to the
+     * list. Every key must exist in the list, and the recipes in the list afterwards must all be unique.
+     */
+    public void setRecipes(Map<Recipe, Recipe> replacements) {
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        Map<Recipe, Recipe> remaining = new HashMap<>(replacements);
+        List<Recipe> updated = new ArrayList<>(internalList.size());
+        for (Recipe recipe : internalList) {
+            Recipe replacement = remaining.remove(recipe);
+            updated.add(replacement == null ? recipe : replacement);
+        }
+        if (!remaining.isEmpty()) {
+            throw new RecipeNotFoundException();
+        }
+        if (!recipesAreUnique(updated)) {
+            throw new DuplicateRecipeException();
+        }
+        replaceContents(updated);
     }
 
     public void setRecipes(UniqueRecipeList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.internalList);
     }
 
     /**
@@ -92,8 +183,27 @@ public class UniqueRecipeList implements Iterable<Recipe> {
         if (!recipesAreUnique(recipes)) {
             throw new DuplicateRecipeException();
         }
+        replaceContents(recipes);
+    }
 
-        internalList.setAll(recipes);
+    /**
+     * Returns the recipes whose durations, normalized to seconds, lie within the given inclusive range.
+     * Recipes without a duration, or with a duration in an unrecognised time unit, are never returned.
+     *
+     * @param lowerSeconds The inclusive lower bound of the range, in seconds.
+     * @param upperSeconds The inclusive upper bound of the range, in seconds.
+     * @return The matching recipes, in ascending order of duration.
+     */
+    public List<Recipe> getRecipesWithDurationWithin(double lowerSeconds, double upperSeconds) {
+        return durationIndex.getRecipesWithin(lowerSeconds, upperSeconds);
+    }
+
+    /**
+     * Returns up to {@code limit} ingredients most frequently used together with the given ingredient across the
+     * recipes in this list, in descending order of lift.
+     */
+    public List<IngredientPairing> getTopPartners(Ingredient ingredient, int limit) {
+        return cooccurrenceMatrix.getTopPartners(ingredient, limit);
     }
 
     /**
@@ -120,15 +230,52 @@ public class UniqueRecipeList implements Iterable<Recipe> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the recipes in {@code recipes} which neither exist in the list nor have the same identity as an earlier
+     * recipe in {@code recipes}, checking each recipe once, without going through the list.
+     */
+    private List<Recipe> selectAbsent(Collection<Recipe> recipes) {
+        Set<Name> newNames = new HashSet<>();
+        List<Recipe> absent = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            if (!names.contains(recipe.getName()) && newNames.add(recipe.getName())) {
+                absent.add(recipe);
+            }
+        }
+        return absent;
+    }
+
+    /**
+     * Appends {@code toAdd}, which must all be unique and absent from the list, merging them into the indexes rather
+     * than rebuilding those.
+     */
+    private void append(Collection<Recipe> toAdd) {
+        if (toAdd.isEmpty()) {
+            return;
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(recipe -> names.add(recipe.getName()));
+        durationIndex.addAll(toAdd);
+        toAdd.forEach(cooccurrenceMatrix::add);
+    }
+
+    private void replaceContents(List<Recipe> recipes) {
+        internalList.setAll(recipes);
+        names.clear();
+        internalList.forEach(recipe -> names.add(recipe.getName()));
+        durationIndex.setAll(internalList);
+        cooccurrenceMatrix.setAll(internalList);
+    }
+
     /**
      * Returns true if {@code recipes} contains only unique recipes.
      */
     private boolean recipesAreUnique(List<Recipe> recipes) {
-        for (int i = 0; i < recipes.size() - 1; i++) {
-            for (int j = i + 1; j < recipes.size(); j++) {
-                if (recipes.get(i).isSameRecipe(recipes.get(j))) {
-                    return false;
-                }
+        // Recipes have the same identity exactly when they have the same name
+        Set<Name> names = new HashSet<>();
+        for (Recipe recipe : recipes) {
+            if (!names.add(recipe.getName())) {
+                return false;
             }
         }
         return true;
@@ -1,5 +1,6 @@
 package seedu.recipe.model.recipe.ingredient;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -9,10 +10,12 @@ import java.util.stream.Collectors;
  * Represents a container for the values stored with respect to an Ingredient,
  * within a Recipe instance.
  */
-@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public class IngredientInformation {
-    private final Optional<IngredientQuantity> quantity;
-    private final Optional<String> estimatedQuantity;
+    private static final String NON_BLANK_REGEX = "^\\S+(\\s+\\S+)*$";
+
+    // null if absent
+    private final IngredientQuantity quantity;
+    private final String estimatedQuantity;
     private final List<String> remarks;
     private final List<Ingredient> substitutions;
 
@@ -32,18 +35,17 @@ public class IngredientInformation {
             String[] remarks,
             Ingredient[] substitutions
     ) {
-        this.quantity = Optional.ofNullable(quantity);
+        this.quantity = quantity;
 
         //Ensure non-empty
-        this.estimatedQuantity = Optional.ofNullable(estimatedQuantity)
-                .filter(s -> s.matches("^\\S+(\\s+\\S+)*$"));
+        this.estimatedQuantity = estimatedQuantity != null && estimatedQuantity.matches(NON_BLANK_REGEX)
+                ? estimatedQuantity
+                : null;
 
-        //List::of is unmodifiable by default
-        List<String> remarkList = List.of(remarks);
-        remarkList = remarkList.stream()
-                .filter(r -> r != null && r.matches("^\\S+(\\s+\\S+)*$"))
-                .collect(Collectors.toList());
-        this.remarks = remarkList;
+        //List::of is unmodifiable by default, and shared when empty
+        this.remarks = Arrays.stream(remarks)
+                .filter(r -> r != null && r.matches(NON_BLANK_REGEX))
+                .collect(Collectors.toUnmodifiableList());
 
         //Validated by Ingredient
         List<Ingredient> substituteIngredients = List.of(substitutions);
@@ -53,11 +55,11 @@ public class IngredientInformation {
     }
 
     public Optional<IngredientQuantity> getQuantity() {
-        return this.quantity;
+        return Optional.ofNullable(this.quantity);
     }
 
     public Optional<String> getEstimatedQuantity() {
-        return this.estimatedQuantity;
+        return Optional.ofNullable(this.estimatedQuantity);
     }
 
     public List<String> getRemarks() {
@@ -71,8 +73,8 @@ public class IngredientInformation {
     @Override
     public String toString() {
         return String.format("{Q: %s; E: %s; S: %s; R: %s}",
-            quantity.map(v -> "" + v).orElse("<>"),
-            estimatedQuantity.map(v -> "" + v).orElse("<>"),
+            quantity == null ? "<>" : quantity,
+            estimatedQuantity == null ? "<>" : estimatedQuantity,
             substitutions,
             remarks
         );
@@ -82,8 +84,8 @@ public class IngredientInformation {
     public boolean equals(Object o) {
         return o == this
             || o instanceof IngredientInformation
-            && ((IngredientInformation) o).quantity.equals(this.quantity)
-            && ((IngredientInformation) o).estimatedQuantity.equals(this.estimatedQuantity)
+            && Objects.equals(((IngredientInformation) o).quantity, this.quantity)
+            && Objects.equals(((IngredientInformation) o).estimatedQuantity, this.estimatedQuantity)
             && ((IngredientInformation) o).remarks.equals(this.remarks)
             && ((IngredientInformation) o).substitutions.equals(this.substitutions);
     }
@@ -0,0 +1,57 @@
+package seedu.recipe.model.recipe.ingredient;
+
+import java.util.Objects;
+
+/**
+ * Represents an ingredient that is frequently used together with another ingredient, along with how strongly the two
+ * are associated.
+ */
+public class IngredientPairing {
+    private final Ingredient partner;
+    private final int sharedRecipeCount;
+    private final double lift;
+
+    /**
+     * Constructs an IngredientPairing.
+     *
+     * @param partner The ingredient paired with.
+     * @param sharedRecipeCount The number of recipes using both ingredients.
+     * @param lift How many times more often the two ingredients are used together than if they were unrelated.
+     */
+    public IngredientPairing(Ingredient partner, int sharedRecipeCount, double lift) {
+        this.partner = partner;
+        this.sharedRecipeCount = sharedRecipeCount;
+        this.lift = lift;
+    }
+
+    public Ingredient getPartner() {
+        return partner;
+    }
+
+    public int getSharedRecipeCount() {
+        return sharedRecipeCount;
+    }
+
+    public double getLift() {
+        return lift;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (in %d recipe(s), %.2fx more often than by chance)", partner, sharedRecipeCount, lift);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this
+            || o instanceof IngredientPairing
+            && ((IngredientPairing) o).partner.equals(partner)
+            && ((IngredientPairing) o).sharedRecipeCount == sharedRecipeCount
+            && ((IngredientPairing) o).lift == lift;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partner, sharedRecipeCount, lift);
+    }
+}
@@ -1,9 +1,16 @@
 package seedu.recipe.model.recipe.ingredient;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import seedu.recipe.model.recipe.exceptions.RecipeQuantityInvalidArgumentException;
+import seedu.recipe.model.recipe.unit.QuantityUnit;
+import seedu.recipe.model.recipe.unit.QuantityUnit.Dimension;
 
 /**
  * Represents the Quantity field associated with a {@code IngredientBuilder}.
+ * On top of the amount String as entered, the quantity is parsed once into a numeric amount (or range of amounts)
+ * and a recognised {@link QuantityUnit}, so that it can be scaled, converted and summed without re-parsing.
  */
 public class IngredientQuantity {
     public static final String MESSAGE_CONSTRAINTS =
@@ -26,16 +33,34 @@ public class IngredientQuantity {
     //The above patterns, followed by at least one group of whitespace separated alphabet groups
     private static final String VALIDATION_REGEX = String.format("^%s(\\s+[A-Za-z]+\\.?)*", AMOUNT_REGEX);
 
+    //The validation pattern, with the amount and unit portions captured
+    private static final Pattern PARSE_FORMAT = Pattern.compile(
+        String.format("^(?<amount>%s)(?<unit>(\\s+[A-Za-z]+\\.?)*)", AMOUNT_REGEX));
+
+    //Trailing prepositions in units, i.e. "A pinch of"
+    private static final String UNIT_SUFFIX_REGEX = "\\s+of$";
+
     private final String amount;
+    private final double lowerAmount;
+    private final double upperAmount;
+    private final QuantityUnit unit;
+    private final String unitName;
 
     /**
      * Instantiates an IngredientQuantity instance around
-     * a String representing a valid Ingredient Quantity amount.
+     * a String representing a valid Ingredient Quantity amount, and its parsed numeric representation.
      *
      * @param amount The String amount to be stored.
+     * @param lowerAmount The parsed amount, or the lower end of the parsed range.
+     * @param upperAmount The parsed amount, or the upper end of the parsed range.
+     * @param unitName The normalized unit portion of the amount String.
      */
-    private IngredientQuantity(String amount) {
+    private IngredientQuantity(String amount, double lowerAmount, double upperAmount, String unitName) {
         this.amount = amount;
+        this.lowerAmount = lowerAmount;
+        this.upperAmount = upperAmount;
+        this.unit = QuantityUnit.lookup(unitName);
+        this.unitName = unit == QuantityUnit.OTHER ? unitName : unit.getSymbol();
     }
 
     /**
@@ -50,12 +75,10 @@ public class IngredientQuantity {
             return false;
         }
         //Validate amount strings, only if it is a range.
-        String[] tokens = candidate.split("\\s+", 2);
-        if (tokens[0].matches(RANGE_REGEX)) {
-            String[] rangeComponents = tokens[0].split("-|to");
-            double lowerRange = Integer.parseInt(rangeComponents[0]);
-            double upperRange = Integer.parseInt(rangeComponents[1]);
-            return lowerRange < upperRange;
+        Matcher matcher = PARSE_FORMAT.matcher(candidate);
+        if (matcher.matches() && matcher.group("amount").matches(RANGE_REGEX)) {
+            double[] range = parseRange(matcher.group("amount"));
+            return range[0] < range[1];
         }
         //Else, using regex, it is of 1 of these three formats:
         //1) "A quart of", "One gallon" - Alphabetic amount quantifiers, for singular amounts
@@ -77,7 +100,100 @@ public class IngredientQuantity {
         if (!isValidRecipeQuantity(candidate)) {
             throw new RecipeQuantityInvalidArgumentException(candidate);
         }
-        return new IngredientQuantity(candidate);
+        Matcher matcher = PARSE_FORMAT.matcher(candidate);
+        boolean isParsed = matcher.matches();
+        assert isParsed;
+
+        String amountString = matcher.group("amount");
+        String unitName = normalizeUnit(matcher.group("unit"));
+        if (amountString.matches(RANGE_REGEX)) {
+            double[] range = parseRange(amountString);
+            return new IngredientQuantity(candidate, range[0], range[1], unitName);
+        }
+        double parsedAmount = parseAmount(amountString);
+        return new IngredientQuantity(candidate, parsedAmount, parsedAmount, unitName);
+    }
+
+    private static double[] parseRange(String range) {
+        String[] rangeComponents = range.split("\\s*(-|to)\\s*");
+        return new double[] {Integer.parseInt(rangeComponents[0]), Integer.parseInt(rangeComponents[1])};
+    }
+
+    private static double parseAmount(String amount) {
+        if (amount.matches(ALPHA_AMOUNT_REGEX)) {
+            return 1;
+        }
+        if (amount.contains("/")) {
+            String[] fractionComponents = amount.split("/");
+            return Double.parseDouble(fractionComponents[0]) / Double.parseDouble(fractionComponents[1]);
+        }
+        return Double.parseDouble(amount);
+    }
+
+    /**
+     * Normalizes the unit portion of a quantity, i.e. " Fl. oz." to "fl oz" and " pinch of" to "pinch".
+     */
+    private static String normalizeUnit(String unit) {
+        return unit.replace(".", "")
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase()
+            .replaceAll(UNIT_SUFFIX_REGEX, "");
+    }
+
+    /**
+     * Returns the parsed amount, or the lower end of the parsed range if this quantity is a range.
+     */
+    public double getLowerAmount() {
+        return lowerAmount;
+    }
+
+    /**
+     * Returns the parsed amount, or the upper end of the parsed range if this quantity is a range.
+     */
+    public double getUpperAmount() {
+        return upperAmount;
+    }
+
+    public boolean isRange() {
+        return lowerAmount != upperAmount;
+    }
+
+    public QuantityUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the name of this quantity's unit; the unit's symbol if it is recognised, or the normalized unit portion
+     * of the amount String otherwise, i.e. "g" for "200 Grams" and "knob" for "1 knob".
+     */
+    public String getUnitName() {
+        return unitName;
+    }
+
+    public Dimension getDimension() {
+        return unit.getDimension();
+    }
+
+    /**
+     * Formats this quantity, scaled by the given factor, in human-friendly fractions and units.
+     * The scaling is done on the parsed numeric representation of this quantity, so no re-parsing is needed.
+     *
+     * @param factor The positive factor to scale this quantity by.
+     * @return The formatted scaled quantity, i.e. "1 1/2 cups" for "3/4 cup" scaled by 2.
+     */
+    public String toScaledString(double factor) {
+        assert factor > 0;
+        return QuantityFormatter.format(lowerAmount * factor, upperAmount * factor, unit, unitName);
+    }
+
+    /**
+     * Returns true if this quantity and the other can be converted into the same unit and summed.
+     * Quantities in unrecognised units are only compatible with quantities in exactly the same unit.
+     */
+    public boolean isCompatibleWith(IngredientQuantity other) {
+        return unit.isConvertibleTo(other.unit)
+            || unit == QuantityUnit.OTHER && other.unit == QuantityUnit.OTHER && unitName.equals(other.unitName);
     }
 
     @Override
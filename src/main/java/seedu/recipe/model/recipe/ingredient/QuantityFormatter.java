@@ -0,0 +1,138 @@
+package seedu.recipe.model.recipe.ingredient;
+
+import static seedu.recipe.model.recipe.unit.QuantityUnit.CUP;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.GALLON;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.GRAM;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.KILOGRAM;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.LITRE;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.MILLIGRAM;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.MILLILITRE;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.OTHER;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.OUNCE;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.PINT;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.POUND;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.QUART;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.TABLESPOON;
+import static seedu.recipe.model.recipe.unit.QuantityUnit.TEASPOON;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import seedu.recipe.model.recipe.unit.QuantityUnit;
+
+/**
+ * Formats numeric ingredient quantities into human-friendly Strings, i.e. "1 1/2 cups" or "1.25 kg".
+ * Metric units are given in decimals, while all other units are given in the nearest common fraction.
+ * Amounts in units with a larger or smaller sibling, i.e. 1500 g, are moved to the sibling that reads best.
+ */
+public class QuantityFormatter {
+    private static final Set<QuantityUnit> DECIMAL_UNITS = EnumSet.of(MILLIGRAM, GRAM, KILOGRAM, MILLILITRE, LITRE);
+    private static final Set<QuantityUnit> PLURALIZABLE_UNITS = EnumSet.of(CUP, PINT, QUART, GALLON);
+    private static final int[] FRACTION_DENOMINATORS = {2, 3, 4, 8};
+    private static final int DECIMAL_PLACES = 2;
+
+    // Sibling units from smallest to largest, and the smallest amount of each unit that reads well in that unit
+    private static final QuantityUnit[][] UNIT_LADDERS = {
+        {MILLIGRAM, GRAM, KILOGRAM}, {MILLILITRE, LITRE}, {TEASPOON, TABLESPOON, CUP}, {OUNCE, POUND}
+    };
+    private static final double[][] LADDER_THRESHOLDS = {
+        {0, 1, 1}, {0, 1}, {0, 1, 0.25}, {0, 1}
+    };
+
+    /**
+     * Formats the given amount, or range of amounts, in the given unit.
+     *
+     * @param lowerAmount The amount, or the lower end of the range of amounts.
+     * @param upperAmount The amount, or the upper end of the range of amounts.
+     * @param unit The unit of the amounts.
+     * @param unitName The name to display for the unit if it is {@link QuantityUnit#OTHER}.
+     * @return The formatted quantity, i.e. "1 1/2 cups", "1.25 kg", or "2 - 4 slices".
+     */
+    public static String format(double lowerAmount, double upperAmount, QuantityUnit unit, String unitName) {
+        QuantityUnit displayUnit = selectDisplayUnit(lowerAmount, unit);
+        double displayLowerAmount = convert(lowerAmount, unit, displayUnit);
+        double displayUpperAmount = convert(upperAmount, unit, displayUnit);
+        String lower = formatAmount(displayLowerAmount, displayUnit);
+        String upper = formatAmount(displayUpperAmount, displayUnit);
+        String amount = lower.equals(upper) ? lower : lower + " - " + upper;
+
+        String displayUnitName = displayUnit == OTHER ? unitName : displayUnit.getSymbol();
+        if (PLURALIZABLE_UNITS.contains(displayUnit) && displayUpperAmount > 1) {
+            displayUnitName += "s";
+        }
+        return displayUnitName.isEmpty() ? amount : amount + " " + displayUnitName;
+    }
+
+    /**
+     * Returns the largest sibling of the given unit in which the amount still reads well, or the unit itself if it
+     * has no siblings.
+     */
+    private static QuantityUnit selectDisplayUnit(double amount, QuantityUnit unit) {
+        for (int i = 0; i < UNIT_LADDERS.length; i++) {
+            QuantityUnit[] ladder = UNIT_LADDERS[i];
+            if (!Arrays.asList(ladder).contains(unit)) {
+                continue;
+            }
+            QuantityUnit selected = ladder[0];
+            for (int j = 1; j < ladder.length; j++) {
+                if (unit.convert(amount, ladder[j]) >= LADDER_THRESHOLDS[i][j]) {
+                    selected = ladder[j];
+                }
+            }
+            return selected;
+        }
+        return unit;
+    }
+
+    private static double convert(double amount, QuantityUnit from, QuantityUnit to) {
+        return from == to ? amount : from.convert(amount, to);
+    }
+
+    private static String formatAmount(double amount, QuantityUnit unit) {
+        if (DECIMAL_UNITS.contains(unit)) {
+            return formatDecimal(amount);
+        }
+        return formatFraction(amount);
+    }
+
+    private static String formatDecimal(double amount) {
+        return BigDecimal.valueOf(amount)
+            .setScale(DECIMAL_PLACES, RoundingMode.HALF_UP)
+            .stripTrailingZeros()
+            .toPlainString();
+    }
+
+    /**
+     * Formats the amount as a whole number and the nearest common fraction, i.e. "1 1/2" or "2/3".
+     * Amounts too small to be written as a common fraction are given in decimals instead.
+     */
+    private static String formatFraction(double amount) {
+        long whole = (long) Math.floor(amount);
+        double remainder = amount - whole;
+
+        int bestNumerator = 0;
+        int bestDenominator = 1;
+        double bestError = remainder;
+        for (int denominator : FRACTION_DENOMINATORS) {
+            int numerator = (int) Math.round(remainder * denominator);
+            double error = Math.abs(remainder - (double) numerator / denominator);
+            if (error < bestError) {
+                bestNumerator = numerator;
+                bestDenominator = denominator;
+                bestError = error;
+            }
+        }
+
+        if (bestNumerator == bestDenominator) {
+            return String.valueOf(whole + 1);
+        }
+        if (bestNumerator == 0) {
+            return whole == 0 ? formatDecimal(amount) : String.valueOf(whole);
+        }
+        String fraction = bestNumerator + "/" + bestDenominator;
+        return whole == 0 ? fraction : whole + " " + fraction;
+    }
+}
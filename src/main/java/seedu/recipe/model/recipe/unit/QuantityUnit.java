@@ -0,0 +1,134 @@
+package seedu.recipe.model.recipe.unit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a recognised unit of measurement for the quantity of an Ingredient, i.e. grams, cups or pieces.
+ * Each unit belongs to a {@link Dimension}, and is expressed as a multiple of that dimension's base unit
+ * (grams for mass, millilitres for volume, and single pieces for counts).
+ * The conversion factors between every pair of units are precomputed once, so conversions are a single lookup.
+ */
+public enum QuantityUnit {
+    MILLIGRAM(Dimension.MASS, 0.001, "mg", "milligram", "milligrams", "milligramme", "milligrammes"),
+    GRAM(Dimension.MASS, 1, "g", "gm", "gms", "gram", "grams", "gramme", "grammes"),
+    KILOGRAM(Dimension.MASS, 1000, "kg", "kgs", "kilo", "kilos", "kilogram", "kilograms"),
+    OUNCE(Dimension.MASS, 28.349523125, "oz", "ozs", "ounce", "ounces"),
+    POUND(Dimension.MASS, 453.59237, "lb", "lbs", "pound", "pounds"),
+
+    MILLILITRE(Dimension.VOLUME, 1, "ml", "millilitre", "millilitres", "milliliter", "milliliters"),
+    LITRE(Dimension.VOLUME, 1000, "L", "litre", "litres", "liter", "liters"),
+    TEASPOON(Dimension.VOLUME, 4.92892159375, "tsp", "tsps", "teaspoon", "teaspoons"),
+    TABLESPOON(Dimension.VOLUME, 14.78676478125, "tbsp", "tbsps", "tablespoon", "tablespoons"),
+    FLUID_OUNCE(Dimension.VOLUME, 29.5735295625, "fl oz", "floz", "fluid ounce", "fluid ounces"),
+    CUP(Dimension.VOLUME, 236.5882365, "cup", "cups"),
+    PINT(Dimension.VOLUME, 473.176473, "pint", "pints", "pt"),
+    QUART(Dimension.VOLUME, 946.352946, "quart", "quarts", "qt"),
+    GALLON(Dimension.VOLUME, 3785.411784, "gallon", "gallons", "gal"),
+
+    PIECE(Dimension.COUNT, 1, "", "piece", "pieces", "pc", "pcs"),
+    DOZEN(Dimension.COUNT, 12, "dozen", "dozens"),
+
+    /**
+     * Any unit that is not recognised, i.e. "knob" or "pinch". Such quantities can only be combined with
+     * quantities written with exactly the same unit.
+     */
+    OTHER(Dimension.OTHER, 1, "");
+
+    /**
+     * Represents the physical dimension measured by a unit. Only units of the same dimension are interconvertible.
+     */
+    public enum Dimension {
+        MASS, VOLUME, COUNT, OTHER
+    }
+
+    private static final Map<String, QuantityUnit> UNITS_BY_ALIAS = new HashMap<>();
+    private static final double[][] CONVERSION_FACTORS;
+
+    static {
+        for (QuantityUnit unit : values()) {
+            UNITS_BY_ALIAS.put(unit.symbol.toLowerCase(), unit);
+            for (String alias : unit.aliases) {
+                UNITS_BY_ALIAS.put(alias.toLowerCase(), unit);
+            }
+        }
+        UNITS_BY_ALIAS.remove(""); // unitless amounts are resolved explicitly in lookup
+
+        QuantityUnit[] units = values();
+        CONVERSION_FACTORS = new double[units.length][units.length];
+        for (QuantityUnit from : units) {
+            for (QuantityUnit to : units) {
+                CONVERSION_FACTORS[from.ordinal()][to.ordinal()] = from.dimension == to.dimension
+                    ? from.baseUnitsPerUnit / to.baseUnitsPerUnit
+                    : Double.NaN;
+            }
+        }
+    }
+
+    private final Dimension dimension;
+    private final double baseUnitsPerUnit;
+    private final String symbol;
+    private final String[] aliases;
+
+    QuantityUnit(Dimension dimension, double baseUnitsPerUnit, String symbol, String... aliases) {
+        this.dimension = dimension;
+        this.baseUnitsPerUnit = baseUnitsPerUnit;
+        this.symbol = symbol;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Looks up the unit referred to by the given alias, i.e. "Tbsp", "grams" or "fl oz".
+     * The lookup is case-insensitive and ignores surrounding whitespace. An empty alias refers to {@link #PIECE}.
+     *
+     * @param alias The unit alias to look up.
+     * @return The unit referred to, or {@link #OTHER} if it is not recognised.
+     */
+    public static QuantityUnit lookup(String alias) {
+        assert alias != null;
+        String normalizedAlias = alias.trim().toLowerCase();
+        if (normalizedAlias.isEmpty()) {
+            return PIECE;
+        }
+        return UNITS_BY_ALIAS.getOrDefault(normalizedAlias, OTHER);
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns the number of base units of this unit's dimension in one of this unit, i.e. 1000 for kilograms.
+     */
+    public double getBaseUnitsPerUnit() {
+        return baseUnitsPerUnit;
+    }
+
+    /**
+     * Returns the short form of this unit used when displaying quantities, i.e. "g" or "cup".
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Returns true if amounts in this unit can be converted to the given unit.
+     */
+    public boolean isConvertibleTo(QuantityUnit target) {
+        return dimension == target.dimension && dimension != Dimension.OTHER;
+    }
+
+    /**
+     * Converts an amount in this unit into the given unit.
+     *
+     * @param amount The amount, in this unit.
+     * @param target The unit to convert into, which must be of the same dimension as this unit.
+     * @return The equivalent amount in the target unit.
+     */
+    public double convert(double amount, QuantityUnit target) {
+        if (!isConvertibleTo(target)) {
+            throw new IllegalArgumentException(String.format("Cannot convert from %s to %s.", this, target));
+        }
+        return amount * CONVERSION_FACTORS[ordinal()][target.ordinal()];
+    }
+}
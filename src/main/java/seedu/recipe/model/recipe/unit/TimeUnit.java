@@ -1,12 +1,70 @@
 package seedu.recipe.model.recipe.unit;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Represents the unit of measurement for the time taken to use a certain Recipe in the RecipeBook. This can refer to
  * seconds or hours etc.
+ * Recognised units (and their common aliases, i.e. "min", "hrs") are normalized to a number of seconds per unit,
+ * so that durations written with different units can be compared against one another.
  */
 public class TimeUnit extends Unit {
+    /**
+     * Sentinel value for the number of seconds in a unit that is not recognised.
+     */
+    public static final double UNKNOWN_SECONDS_PER_UNIT = -1;
+
+    private static final Map<String, Double> SECONDS_PER_UNIT = new HashMap<>();
+
+    static {
+        registerAliases(1, "s", "sec", "secs", "second", "seconds");
+        registerAliases(60, "m", "min", "mins", "minute", "minutes");
+        registerAliases(60 * 60, "h", "hr", "hrs", "hour", "hours");
+        registerAliases(60 * 60 * 24, "d", "day", "days");
+        registerAliases(60 * 60 * 24 * 7, "w", "wk", "wks", "week", "weeks");
+    }
+
+    private final double secondsPerUnit;
+
+    /**
+     * Generates and returns a TimeUnit instance around the provided String unit parameter, resolving the
+     * number of seconds it represents if it is a recognised unit.
+     *
+     * @param unit The String representing the unit around which to construct this TimeUnit instance.
+     */
     public TimeUnit(String unit) {
         super(unit);
+        this.secondsPerUnit = lookupSecondsPerUnit(unit);
+    }
+
+    private static void registerAliases(double seconds, String... aliases) {
+        for (String alias : aliases) {
+            SECONDS_PER_UNIT.put(alias, seconds);
+        }
+    }
+
+    /**
+     * Looks up the number of seconds represented by one unit of the given time unit alias.
+     * The lookup is case-insensitive, and ignores surrounding whitespace.
+     *
+     * @param alias The time unit alias to look up, i.e. "mins", "Hours".
+     * @return The number of seconds in one such unit, or {@link #UNKNOWN_SECONDS_PER_UNIT} if it is not recognised.
+     */
+    public static double lookupSecondsPerUnit(String alias) {
+        assert alias != null;
+        return SECONDS_PER_UNIT.getOrDefault(alias.trim().toLowerCase(), UNKNOWN_SECONDS_PER_UNIT);
+    }
+
+    /**
+     * Returns true if this unit is a recognised time unit, and can be normalized to seconds.
+     */
+    public boolean isNormalizable() {
+        return secondsPerUnit != UNKNOWN_SECONDS_PER_UNIT;
+    }
+
+    public double getSecondsPerUnit() {
+        return secondsPerUnit;
     }
 
     @Override
@@ -38,4 +38,9 @@ public abstract class Unit {
                 || o instanceof Unit
                 && ((Unit) o).unit.equals(this.unit);
     }
+
+    @Override
+    public int hashCode() {
+        return unit.hashCode();
+    }
 }
@@ -0,0 +1,183 @@
+package seedu.recipe.model.shopping;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientInformation;
+import seedu.recipe.model.recipe.ingredient.IngredientQuantity;
+import seedu.recipe.model.recipe.ingredient.QuantityFormatter;
+import seedu.recipe.model.recipe.unit.QuantityUnit;
+
+/**
+ * Represents a consolidated shopping list of the ingredients across several recipes.
+ * Quantities of the same ingredient are summed if they are compatible, i.e. "200 g" and "1 lb", and kept separate
+ * otherwise. Estimated quantities and substitutions of each ingredient are carried over as they are.
+ */
+public class ShoppingList {
+    private static final Comparator<Ingredient> INGREDIENT_ORDER =
+        Comparator.comparing(Ingredient::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<Ingredient, Entry> entries = new HashMap<>();
+
+    /**
+     * Generates the shopping list for the given recipes. Recipes are tallied in parallel, and the partial shopping
+     * lists merged, so that lists across many recipes are generated quickly.
+     *
+     * @param recipes The recipes to shop for.
+     * @return The consolidated shopping list.
+     */
+    public static ShoppingList of(Collection<Recipe> recipes) {
+        requireNonNull(recipes);
+        return recipes.parallelStream()
+            .map(Recipe::getIngredients)
+            .collect(ShoppingList::new, ShoppingList::addAll, ShoppingList::merge);
+    }
+
+    /**
+     * Adds the given table of ingredients from a single recipe to this shopping list.
+     */
+    public void addAll(Map<Ingredient, IngredientInformation> ingredients) {
+        ingredients.forEach((ingredient, information) ->
+            entries.computeIfAbsent(ingredient, k -> new Entry()).add(information));
+    }
+
+    /**
+     * Merges the entries of the other shopping list into this shopping list.
+     */
+    public void merge(ShoppingList other) {
+        other.entries.forEach((ingredient, entry) ->
+            entries.computeIfAbsent(ingredient, k -> new Entry()).merge(entry));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the formatted quantities to buy of the given ingredient, or an empty list if it is not on this list
+     * or has no quantities.
+     */
+    public List<String> getQuantities(Ingredient ingredient) {
+        Entry entry = entries.get(ingredient);
+        return entry == null ? List.of() : entry.getQuantities();
+    }
+
+    /**
+     * Formats this shopping list with one ingredient per line, in alphabetical order.
+     */
+    @Override
+    public String toString() {
+        return entries.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(INGREDIENT_ORDER))
+            .map(entry -> formatLine(entry.getKey(), entry.getValue()))
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static String formatLine(Ingredient ingredient, Entry entry) {
+        StringBuilder line = new StringBuilder("- ").append(ingredient);
+        List<String> quantities = entry.getQuantities();
+        if (!quantities.isEmpty()) {
+            line.append(": ").append(String.join(" + ", quantities));
+        }
+        if (!entry.substitutions.isEmpty()) {
+            line.append(" (substitutes: ")
+                .append(entry.substitutions.stream().map(Ingredient::toString).collect(Collectors.joining(", ")))
+                .append(")");
+        }
+        return line.toString();
+    }
+
+    /**
+     * Tallies the quantities and substitutions of a single ingredient.
+     */
+    private static class Entry {
+        // Totals in base units, keyed by dimension, or by unit name for unrecognised units
+        private final Map<String, Total> totals = new TreeMap<>();
+        // Sorted, so that the list does not depend on the order in which recipes are tallied
+        private final Set<String> estimatedQuantities = new TreeSet<>();
+        private final Set<Ingredient> substitutions = new TreeSet<>(INGREDIENT_ORDER);
+
+        void add(IngredientInformation information) {
+            information.getQuantity().ifPresent(quantity -> addTotal(new Total(quantity)));
+            information.getEstimatedQuantity().ifPresent(estimatedQuantities::add);
+            substitutions.addAll(information.getSubstitutions());
+        }
+
+        void merge(Entry other) {
+            other.totals.values().forEach(this::addTotal);
+            estimatedQuantities.addAll(other.estimatedQuantities);
+            substitutions.addAll(other.substitutions);
+        }
+
+        private void addTotal(Total total) {
+            totals.merge(total.key(), total, Total::plus);
+        }
+
+        List<String> getQuantities() {
+            List<String> quantities = new ArrayList<>();
+            totals.values().forEach(total -> quantities.add(total.toString()));
+            quantities.addAll(estimatedQuantities);
+            return quantities;
+        }
+    }
+
+    /**
+     * Represents a sum of compatible quantities, in the base unit of their dimension.
+     */
+    private static class Total {
+        private final QuantityUnit unit;
+        private final String unitName;
+        private final double lowerBaseAmount;
+        private final double upperBaseAmount;
+
+        Total(IngredientQuantity quantity) {
+            this(quantity.getUnit(), quantity.getUnitName(),
+                quantity.getLowerAmount() * quantity.getUnit().getBaseUnitsPerUnit(),
+                quantity.getUpperAmount() * quantity.getUnit().getBaseUnitsPerUnit());
+        }
+
+        Total(QuantityUnit unit, String unitName, double lowerBaseAmount, double upperBaseAmount) {
+            this.unit = unit;
+            this.unitName = unitName;
+            this.lowerBaseAmount = lowerBaseAmount;
+            this.upperBaseAmount = upperBaseAmount;
+        }
+
+        String key() {
+            return unit == QuantityUnit.OTHER ? unitName : unit.getDimension().name();
+        }
+
+        /**
+         * Sums this total with another compatible total, displayed in whichever of their two units is declared first
+         * in {@code QuantityUnit}, so that the result does not depend on the order in which totals are summed.
+         */
+        Total plus(Total other) {
+            QuantityUnit displayUnit = unit.compareTo(other.unit) <= 0 ? unit : other.unit;
+            return new Total(displayUnit, unitName, lowerBaseAmount + other.lowerBaseAmount,
+                upperBaseAmount + other.upperBaseAmount);
+        }
+
+        @Override
+        public String toString() {
+            double baseUnitsPerUnit = unit.getBaseUnitsPerUnit();
+            return QuantityFormatter.format(lowerBaseAmount / baseUnitsPerUnit, upperBaseAmount / baseUnitsPerUnit,
+                unit, unitName);
+        }
+    }
+}
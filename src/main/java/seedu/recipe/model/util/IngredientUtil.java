@@ -1,10 +1,12 @@
 package seedu.recipe.model.util;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 
 import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
 import seedu.recipe.model.recipe.ingredient.IngredientInformation;
 
 
@@ -12,12 +14,23 @@ import seedu.recipe.model.recipe.ingredient.IngredientInformation;
  * A set of utility methods for formatting Ingredients within a Recipe.
  */
 public class IngredientUtil {
+    /**
+     * Builds each of {@code ingredients}, and merges the key-value pairs built into one table, in the same order.
+     * @param ingredients The ingredients to build.
+     * @return The table of all the key-value pairs built.
+     */
+    public static Map<Ingredient, IngredientInformation> buildIngredientTable(List<IngredientBuilder> ingredients) {
+        Map<Ingredient, IngredientInformation> ingredientTable = new LinkedHashMap<>();
+        ingredients.forEach(ingredientBuilder -> ingredientTable.putAll(ingredientBuilder.build()));
+        return ingredientTable;
+    }
+
     /**
      * Given a table of Ingredient-IngredientInformation key-value pairs, formats them as a human-friendly String.
      * @param ingredientTable The table of key-value pairs
      * @return The table formatted as a String.
      */
-    public static String ingredientTableToString(HashMap<Ingredient, IngredientInformation> ingredientTable) {
+    public static String ingredientTableToString(Map<Ingredient, IngredientInformation> ingredientTable) {
         StringBuilder stringBuilder = new StringBuilder();
         TreeMap<Ingredient, IngredientInformation> sortedIngredientTable = new TreeMap<>(ingredientTable);
         sortedIngredientTable.forEach((ingredient, info) ->
@@ -0,0 +1,248 @@
+package seedu.recipe.model.util;
+
+import static seedu.recipe.model.util.IngredientUtil.buildIngredientTable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.RecipePortion;
+import seedu.recipe.model.recipe.Step;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.tag.Tag;
+
+/**
+ * Generates realistic recipe books of any size, for testing and benchmarking the application at scale.
+ * <p>
+ * Generation is deterministic: generators with the same seed always generate the same recipes, in the same order.
+ * As in real recipe books, a few ingredients and tags are used by most recipes, while most are used by few, so both
+ * are drawn from a Zipf distribution. Every recipe also has a portion and duration, and varying numbers of
+ * ingredients, substitutions and steps. Recipe names are numbered, so they are always unique.
+ */
+public class RecipeBookGenerator {
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] INGREDIENTS = {
+        "salt", "olive oil", "garlic", "onion", "butter", "black pepper", "sugar", "eggs", "flour", "water",
+        "milk", "lemon juice", "tomatoes", "parsley", "ginger", "soy sauce", "chicken stock", "carrots", "cumin",
+        "paprika", "honey", "vegetable oil", "rice", "potatoes", "cilantro", "chili flakes", "thyme", "basil",
+        "parmesan", "baking powder", "vanilla extract", "heavy cream", "spring onions", "red wine vinegar",
+        "chickpeas", "coconut milk", "spinach", "mushrooms", "bell pepper", "cinnamon", "oregano", "lime juice",
+        "cheddar", "brown sugar", "chicken thighs", "ground beef", "bacon", "celery", "turmeric", "bay leaves",
+        "mustard", "yogurt", "sesame oil", "zucchini", "lentils", "feta", "mozzarella", "pasta", "bread crumbs",
+        "cornstarch", "walnuts", "almonds", "maple syrup", "rosemary", "shallots", "fish sauce", "tofu", "avocado",
+        "cabbage", "sweet potatoes", "salmon", "prawns", "pork shoulder", "lamb", "green beans", "peas", "kale",
+        "quinoa", "oats", "dark chocolate", "cocoa powder", "blueberries", "bananas", "apples", "pecorino",
+        "tahini", "miso", "saffron", "star anise", "cardamom", "fennel seeds", "capers", "anchovies", "leeks",
+    };
+    private static final String[] TAGS = {
+        "Dinner", "Vegetarian", "Quick", "Italian", "Indian", "Dessert", "Breakfast", "Lunch", "Vegan", "Mexican",
+        "Chinese", "Baking", "Healthy", "Comfort Food", "Spicy", "Soup", "Salad", "Thai", "Japanese", "French",
+        "Gluten Free", "One Pot", "Snack", "Party", "Holiday", "Korean", "Greek", "Grill", "Kids", "Budget",
+    };
+    private static final String[] ADJECTIVES = {
+        "Easy", "Classic", "Spicy", "Creamy", "Roasted", "Crispy", "Smoky", "Herby", "Golden", "Rustic", "Zesty",
+        "Slow Cooked", "Quick", "Sticky", "Simple", "Hearty",
+    };
+    private static final String[] DISHES = {
+        "Curry", "Stew", "Pasta", "Salad", "Soup", "Tart", "Pie", "Bake", "Stir Fry", "Risotto", "Tacos", "Cake",
+        "Pancakes", "Bowl", "Noodles", "Skewers", "Fritters", "Gratin", "Casserole", "Flatbread",
+    };
+    private static final String[] QUANTITIES = {
+        "1", "2", "3", "4", "6", "1 pinch", "1/2 tsp", "1 tsp", "2 tsp", "1 tbsp", "2 tbsp", "3 tbsp", "1/4 cup",
+        "1/2 cup", "1 cup", "1.5 cups", "2 cups", "50 g", "100 g", "200 g", "250 g", "500 g", "1 kg", "100 ml",
+        "250 ml", "400 ml", "1 L", "4 oz", "1 lb",
+    };
+    private static final String[] REMARKS = {
+        "finely chopped", "diced", "minced", "to taste", "softened", "grated", "sliced", "at room temperature",
+        "roughly chopped", "divided", "optional", "rinsed",
+    };
+    private static final String[] ACTIONS = {"Chop", "Dice", "Add", "Stir in", "Whisk", "Fold in", "Toss in",
+        "Season with", "Sprinkle over", "Mix in"};
+    private static final String[] METHODS = {
+        "Cook over medium heat for %1$d minutes, stirring occasionally.",
+        "Simmer gently for %1$d minutes until thickened.",
+        "Bake in the oven at 180 degrees for %1$d minutes.",
+        "Fry until golden, about %1$d minutes.",
+        "Leave to rest for %1$d minutes before serving.",
+        "Bring to a boil, then reduce the heat and cook for %1$d minutes.",
+    };
+
+    private static final int MAX_INGREDIENTS = 20;
+    private static final int MAX_STEPS = 15;
+    private static final int MAX_TAGS = 4;
+    private static final double SUBSTITUTION_PROBABILITY = 0.15;
+
+    private final Random random;
+    private final ZipfDistribution ingredientDistribution = new ZipfDistribution(INGREDIENTS.length, 1.0);
+    private final ZipfDistribution tagDistribution = new ZipfDistribution(TAGS.length, 1.1);
+    private int generatedCount = 0;
+
+    /**
+     * Constructs a generator with the default seed.
+     */
+    public RecipeBookGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Constructs a generator which generates the same recipes as every other generator with the same seed.
+     */
+    public RecipeBookGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns a lazily generated stream of the next {@code count} recipes, so that large recipe books can be written
+     * out without ever holding every recipe in memory.
+     */
+    public Stream<Recipe> generate(int count) {
+        assert count >= 0;
+        return Stream.generate(this::next).limit(count);
+    }
+
+    /**
+     * Returns a recipe book of the next {@code count} recipes.
+     */
+    public RecipeBook generateRecipeBook(int count) {
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.setRecipes(generate(count).collect(Collectors.toList()));
+        return recipeBook;
+    }
+
+    /**
+     * Generates the next recipe.
+     */
+    public Recipe next() {
+        generatedCount++;
+        List<String> ingredients = pickDistinct(INGREDIENTS, ingredientDistribution, 3 + geometric(0.2,
+            MAX_INGREDIENTS - 3));
+        String mainIngredient = capitalize(ingredients.get(random.nextInt(Math.min(3, ingredients.size()))));
+
+        Name name = new Name(String.format("%s %s %s %d", pick(ADJECTIVES), mainIngredient, pick(DISHES),
+            generatedCount));
+        RecipePortion portion = generatePortion();
+        RecipeDuration duration = RecipeDuration.of(generateMinutes() + " minutes");
+        List<Tag> tags = pickDistinct(TAGS, tagDistribution, 1 + random.nextInt(MAX_TAGS)).stream()
+            .map(Tag::new).collect(Collectors.toList());
+        List<IngredientBuilder> ingredientBuilders = ingredients.stream().map(this::generateIngredient)
+            .collect(Collectors.toList());
+        List<Step> steps = generateSteps(ingredients);
+        return new Recipe(name, portion, duration, tags, buildIngredientTable(ingredientBuilders), steps);
+    }
+
+    private RecipePortion generatePortion() {
+        int lower = 1 + geometric(0.4, 7);
+        if (random.nextBoolean()) {
+            return RecipePortion.of(lower + " servings");
+        }
+        return RecipePortion.of(lower + " - " + (lower + 1 + random.nextInt(3)) + " servings");
+    }
+
+    /**
+     * Returns a duration in minutes, mostly around half an hour, but sometimes of several hours.
+     */
+    private int generateMinutes() {
+        double minutes = Math.exp(3.3 + 0.7 * random.nextGaussian());
+        return (int) Math.max(5, Math.min(480, Math.round(minutes / 5) * 5));
+    }
+
+    private IngredientBuilder generateIngredient(String name) {
+        StringBuilder command = new StringBuilder();
+        command.append("-a ").append(pick(QUANTITIES));
+        command.append(" -n ").append(name);
+        if (random.nextDouble() < SUBSTITUTION_PROBABILITY) {
+            int substitutionCount = 1 + random.nextInt(2);
+            List<String> substitutions = pickDistinct(INGREDIENTS, ingredientDistribution, substitutionCount + 1);
+            substitutions.remove(name);
+            substitutions.stream().limit(substitutionCount)
+                .forEach(substitution -> command.append(" -s ").append(substitution));
+        }
+        if (random.nextInt(3) == 0) {
+            command.append(" -r ").append(pick(REMARKS));
+        }
+        return new IngredientBuilder(command.toString());
+    }
+
+    private List<Step> generateSteps(List<String> ingredients) {
+        int stepCount = 1 + geometric(0.2, MAX_STEPS - 1);
+        List<Step> steps = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            String ingredient = ingredients.get(random.nextInt(ingredients.size()));
+            String method = String.format(pick(METHODS), 2 + random.nextInt(29));
+            steps.add(new Step(String.format("%s the %s. %s", pick(ACTIONS), ingredient, method)));
+        }
+        return steps;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Picks up to {@code count} distinct values, more common ones first as drawn from the given distribution.
+     */
+    private List<String> pickDistinct(String[] values, ZipfDistribution distribution, int count) {
+        Set<String> picked = new LinkedHashSet<>();
+        for (int attempt = 0; picked.size() < count && attempt < count * 4; attempt++) {
+            picked.add(values[distribution.sample(random)]);
+        }
+        return new ArrayList<>(picked);
+    }
+
+    /**
+     * Returns the number of failures before the first success of trials succeeding with the given probability,
+     * capped at {@code max}.
+     */
+    private int geometric(double probability, int max) {
+        int failures = 0;
+        while (failures < max && random.nextDouble() >= probability) {
+            failures++;
+        }
+        return failures;
+    }
+
+    private static String capitalize(String words) {
+        return Character.toUpperCase(words.charAt(0)) + words.substring(1);
+    }
+
+    /**
+     * Represents a Zipf distribution over the ranks {@code 0} to {@code size - 1}, in which rank {@code k} is drawn
+     * with probability proportional to {@code 1 / (k + 1)^exponent}.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeWeights;
+
+        ZipfDistribution(int size, double exponent) {
+            cumulativeWeights = new double[size];
+            double total = 0;
+            for (int rank = 0; rank < size; rank++) {
+                total += 1 / Math.pow(rank + 1, exponent);
+                cumulativeWeights[rank] = total;
+            }
+        }
+
+        int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int low = 0;
+            int high = cumulativeWeights.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulativeWeights[middle] <= target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.recipe.model.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.recipe.model.util.IngredientUtil.buildIngredientTable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -230,13 +231,7 @@ public class SampleDataUtil {
         requireNonNull(tags);
         requireNonNull(ingredients);
         requireNonNull(steps);
-        Recipe out = new Recipe(name);
-        out.setPortion(portion);
-        out.setDuration(duration);
-        out.setTags(tags.toArray(Tag[]::new));
-        out.setIngredients(ingredients.toArray(IngredientBuilder[]::new));
-        out.setSteps(steps.toArray(Step[]::new));
-        return out;
+        return new Recipe(name, portion, duration, tags, buildIngredientTable(ingredients), steps);
     }
 
 
@@ -0,0 +1,45 @@
+package seedu.recipe.server;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the number of requests made to an endpoint, and how long they took to handle.
+ * Recording is lock-free, so that requests handled concurrently do not contend with each other.
+ */
+public class EndpointMetrics {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a request which took the given number of nanoseconds to handle.
+     */
+    public void record(long nanos) {
+        assert nanos >= 0;
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean time taken to handle a request, in milliseconds, or 0 if no requests were recorded.
+     */
+    public double getMeanMillis() {
+        long requests = count.sum();
+        return requests == 0 ? 0 : totalNanos.sum() / NANOS_PER_MILLI / requests;
+    }
+
+    /**
+     * Returns the longest time taken to handle a request, in milliseconds.
+     */
+    public double getMaxMillis() {
+        return maxNanos.get() / NANOS_PER_MILLI;
+    }
+}
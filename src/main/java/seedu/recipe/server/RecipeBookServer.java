@@ -0,0 +1,447 @@
+package seedu.recipe.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.commons.util.JsonUtil;
+import seedu.recipe.logic.Logic;
+import seedu.recipe.logic.commands.BatchCommand;
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.CommandResult;
+import seedu.recipe.logic.commands.DeleteCommand;
+import seedu.recipe.logic.commands.EditCommand;
+import seedu.recipe.logic.commands.FindCommand;
+import seedu.recipe.logic.commands.SubCommand;
+import seedu.recipe.logic.commands.exceptions.CommandException;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.storage.JsonSerializableRecipeBook;
+import seedu.recipe.storage.jsonadapters.JsonAdaptedRecipe;
+
+/**
+ * An embedded HTTP server, bound to localhost, which exposes the recipe book as a JSON API on top of {@link Logic}.
+ * This lets other tools, i.e. kitchen displays, query and update the same recipe book as the app.
+ * <p>
+ * The endpoints are:
+ * <ul>
+ *     <li>{@code GET /recipes} lists every recipe, and {@code GET /recipes/INDEX} shows a single recipe.</li>
+ *     <li>{@code POST /recipes} adds many recipes at once, as a single all-or-nothing batch. Each line of the body
+ *     describes one recipe, in the format of the arguments of the {@code add} command.</li>
+ *     <li>{@code PUT /recipes/INDEX} edits a recipe, with a body in the format of the arguments of the {@code edit}
+ *     command after its index.</li>
+ *     <li>{@code DELETE /recipes/INDEX} deletes a recipe.</li>
+ *     <li>{@code GET /find?q=QUERY} lists the recipes matching a query in the format of the {@code find} command.</li>
+ *     <li>{@code GET /sub?ingredient=INGREDIENT} shows the substitutions for an ingredient.</li>
+ *     <li>{@code GET /export} downloads the whole recipe book, in the format of its data file.</li>
+ *     <li>{@code GET /metrics} shows the number of requests made to each endpoint, and how long they took.</li>
+ * </ul>
+ * Recipe indexes are 1-based positions in the whole recipe book, as listed by {@code GET /recipes}. Edits and deletes
+ * apply to the recipe at that position in the latest snapshot, and are rejected if it has been edited or deleted since.
+ * <p>
+ * Requests are parsed and their responses are serialized by a bounded pool of worker threads. When all workers are
+ * busy and the queue is full, requests are handled on the thread accepting connections, which slows down clients
+ * instead of dropping their requests. As {@code Logic} is not thread-safe, every command is executed on a single
+ * logic thread, one request at a time. Requests which only read recipes, including finds and substitutions, use the
+ * latest recipe book snapshot instead, so they are served concurrently, even while commands are running, and never
+ * change what the app shows or save the recipe book.
+ */
+public class RecipeBookServer {
+    public static final int DEFAULT_WORKER_THREADS = 4;
+
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint or recipe.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "This endpoint does not support %1$s requests.";
+    public static final String MESSAGE_BODY_TOO_LARGE = "Request bodies can be at most %1$d bytes long.";
+    public static final String MESSAGE_MISSING_PARAMETER = "Missing query parameter '%1$s'.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled.";
+    public static final String MESSAGE_RECIPE_CHANGED = Messages.MESSAGE_RECIPE_CHANGED;
+
+    static final int MAX_BODY_BYTES = 1 << 20;
+
+    private static final int MAX_QUEUED_REQUESTS = 64;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_CONFLICT = 409;
+    private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final String RECIPES_PATH = "/recipes";
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(RecipeBookServer.class);
+
+    private final Logic logic;
+    private final HttpServer httpServer;
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService logicThread;
+    private final Map<String, EndpointMetrics> metrics = new ConcurrentHashMap<>();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * Constructs a server over the given {@code Logic}, bound to the given port on localhost.
+     * The server does not accept requests until it is started.
+     *
+     * @param logic The logic to handle requests with.
+     * @param port The port to listen on, or 0 to pick any free port.
+     * @param workerThreads The number of threads handling requests concurrently.
+     * @throws IOException if the server could not be bound to the port.
+     */
+    public RecipeBookServer(Logic logic, int port, int workerThreads) throws IOException {
+        requireNonNull(logic);
+        assert workerThreads > 0;
+        this.logic = logic;
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_REQUESTS), new ThreadPoolExecutor.CallerRunsPolicy());
+        logicThread = Executors.newSingleThreadExecutor(task -> new Thread(task, "recipe-server-logic"));
+
+        httpServer.setExecutor(workers);
+        httpServer.createContext(RECIPES_PATH, exchange -> handle(exchange, this::handleRecipes));
+        httpServer.createContext("/find", exchange -> handle(exchange, this::handleFind));
+        httpServer.createContext("/sub", exchange -> handle(exchange, this::handleSub));
+        httpServer.createContext("/export", exchange -> handle(exchange, this::handleExport));
+        httpServer.createContext("/metrics", exchange -> handle(exchange, this::handleMetrics));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("Recipe book server listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, and waits briefly for the requests being handled to complete.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        workers.shutdown();
+        logicThread.shutdown();
+        stopped.countDown();
+        logger.info("Recipe book server stopped");
+    }
+
+    /**
+     * Blocks until this server is stopped.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the metrics recorded for the given endpoint, i.e. {@code "GET /recipes"}.
+     */
+    public Optional<EndpointMetrics> getMetrics(String endpoint) {
+        return Optional.ofNullable(metrics.get(endpoint));
+    }
+
+    private Response handleRecipes(HttpExchange exchange) throws Exception {
+        String method = exchange.getRequestMethod();
+        Optional<String> index = getRecipeIndex(exchange);
+        switch (method) {
+        case "GET":
+            // Reads use the latest snapshot directly, so they never wait behind commands on the logic thread
+            if (index.isEmpty()) {
+                return Response.ok(toJson(logic.getRecipeBookSnapshot().getRecipeList()));
+            }
+            return Response.ok(new JsonAdaptedRecipe(getListedRecipe(index.get())));
+        case "POST":
+            if (index.isPresent()) {
+                throw new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, method));
+            }
+            BatchCommand batch = BatchCommand.parse(toAddScript(readBody(exchange)), this::parse);
+            return new Response(STATUS_CREATED, message(execute(batch)));
+        case "PUT":
+            // Parsed through Logic like any command, but applied to the listed recipe rather than the displayed one
+            EditCommand edit = (EditCommand) parse(EditCommand.COMMAND_WORD + " " + requireIndex(index, method) + " "
+                + readBody(exchange));
+            Recipe recipeToEdit = getListedRecipe(index.get());
+            return Response.ok(message(execute(recipeToEdit, new EditCommand(recipeToEdit,
+                edit.getRecipeDescriptor()))));
+        case "DELETE":
+            parse(DeleteCommand.COMMAND_WORD + " " + requireIndex(index, method));
+            Recipe recipeToDelete = getListedRecipe(index.get());
+            return Response.ok(message(execute(recipeToDelete, new DeleteCommand(recipeToDelete))));
+        default:
+            throw new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, method));
+        }
+    }
+
+    private Response handleFind(HttpExchange exchange) throws Exception {
+        requireMethod(exchange, "GET");
+        FindCommand find = (FindCommand) parse(FindCommand.COMMAND_WORD + " " + getQueryParameter(exchange, "q"));
+        List<Recipe> recipes = logic.getRecipeBookSnapshot().getRecipeList().stream()
+            .filter(find.getPredicate())
+            .collect(Collectors.toList());
+        return Response.ok(toJson(recipes));
+    }
+
+    private Response handleSub(HttpExchange exchange) throws Exception {
+        requireMethod(exchange, "GET");
+        SubCommand sub = (SubCommand) parse(SubCommand.COMMAND_WORD + " " + getQueryParameter(exchange, "ingredient"));
+        return Response.ok(message(sub.findSubstitutions(logic.getRecipeBookSnapshot())));
+    }
+
+    private Response handleExport(HttpExchange exchange) throws Exception {
+        requireMethod(exchange, "GET");
+        JsonSerializableRecipeBook recipeBook = new JsonSerializableRecipeBook(logic.getRecipeBookSnapshot());
+        exchange.getResponseHeaders().set("Content-Disposition", "attachment; filename=\"recipebook.json\"");
+        return Response.ok(recipeBook);
+    }
+
+    private Response handleMetrics(HttpExchange exchange) throws Exception {
+        requireMethod(exchange, "GET");
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        metrics.forEach((endpoint, endpointMetrics) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", endpointMetrics.getCount());
+            values.put("meanMillis", endpointMetrics.getMeanMillis());
+            values.put("maxMillis", endpointMetrics.getMaxMillis());
+            snapshot.put(endpoint, values);
+        });
+        return Response.ok(snapshot);
+    }
+
+    /**
+     * Handles a request with the given endpoint, responding with its result or error, and records how long it took.
+     */
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = endpoint.handle(exchange);
+        } catch (ApiException e) {
+            response = Response.error(e.status, e.getMessage());
+        } catch (ParseException | CommandException e) {
+            response = Response.error(STATUS_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + e);
+            response = Response.error(STATUS_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+        }
+
+        try {
+            send(exchange, response);
+        } finally {
+            metrics.computeIfAbsent(getEndpointName(exchange), unused -> new EndpointMetrics())
+                .record(System.nanoTime() - start);
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Returns the name under which requests to the given exchange are recorded, i.e. {@code "GET /recipes"}.
+     * Unsupported request methods are grouped together, so that clients cannot create metrics without bound.
+     */
+    private static String getEndpointName(HttpExchange exchange) {
+        String method = exchange.getRequestMethod();
+        boolean isSupportedMethod = List.of("GET", "POST", "PUT", "DELETE").contains(method);
+        return (isSupportedMethod ? method : "OTHER") + " " + exchange.getHttpContext().getPath();
+    }
+
+    /**
+     * Runs the given task on the logic thread, waiting for its result.
+     */
+    private <T> T onLogicThread(Callable<T> task) throws Exception {
+        try {
+            return logicThread.submit(task).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the given command on the logic thread, and reads the recipe book snapshot straight after, so that the
+     * client's later reads see its change, even if other changes are being made by then.
+     */
+    private CommandResult execute(Command command) throws Exception {
+        return onLogicThread(() -> executeAndSnapshot(command));
+    }
+
+    /**
+     * Executes the given command, which changes the given recipe, like {@link #execute(Command)}, unless the recipe
+     * has been edited or deleted since it was listed to the client.
+     */
+    private CommandResult execute(Recipe listedRecipe, Command command) throws Exception {
+        return onLogicThread(() -> {
+            // Only the logic thread changes the recipe book, so the recipe cannot change before the command runs
+            if (!logic.getRecipeBook().getRecipeList().contains(listedRecipe)) {
+                throw new ApiException(STATUS_CONFLICT, MESSAGE_RECIPE_CHANGED);
+            }
+            return executeAndSnapshot(command);
+        });
+    }
+
+    private CommandResult executeAndSnapshot(Command command) throws CommandException {
+        CommandResult commandResult = logic.execute(command);
+        logic.getRecipeBookSnapshot();
+        return commandResult;
+    }
+
+    private Command parse(String commandText) throws ParseException {
+        return logic.parseCommand(commandText);
+    }
+
+    /**
+     * Converts the body of a bulk insert, with the arguments of one {@code add} command per line, into a script.
+     */
+    private static String toAddScript(String body) {
+        return body.lines()
+            .map(line -> line.isBlank() || line.strip().startsWith(COMMENT_PREFIX)
+                ? line
+                : "add " + line)
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static Optional<String> getRecipeIndex(HttpExchange exchange) throws ApiException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(RECIPES_PATH) || path.equals(RECIPES_PATH + "/")) {
+            return Optional.empty();
+        }
+        String index = path.substring(RECIPES_PATH.length() + 1);
+        if (!path.startsWith(RECIPES_PATH + "/") || !index.matches("[1-9]\\d{0,8}")) {
+            throw new ApiException(STATUS_NOT_FOUND, MESSAGE_NOT_FOUND);
+        }
+        return Optional.of(index);
+    }
+
+    /**
+     * Returns the recipe at the given 1-based index in the latest recipe book snapshot.
+     */
+    private Recipe getListedRecipe(String index) throws ApiException {
+        List<Recipe> recipes = logic.getRecipeBookSnapshot().getRecipeList();
+        int position = Integer.parseInt(index) - 1;
+        if (position >= recipes.size()) {
+            throw new ApiException(STATUS_NOT_FOUND, MESSAGE_NOT_FOUND);
+        }
+        return recipes.get(position);
+    }
+
+    private static String requireIndex(Optional<String> index, String method) throws ApiException {
+        return index.orElseThrow(() -> new ApiException(STATUS_METHOD_NOT_ALLOWED,
+            String.format(MESSAGE_METHOD_NOT_ALLOWED, method)));
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws ApiException {
+        if (!exchange.getRequestMethod().equals(method)) {
+            throw new ApiException(STATUS_METHOD_NOT_ALLOWED,
+                String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod()));
+        }
+    }
+
+    private static String getQueryParameter(HttpExchange exchange, String name) throws ApiException {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                String[] nameAndValue = parameter.split("=", 2);
+                if (nameAndValue.length == 2 && nameAndValue[0].equals(name)) {
+                    return URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8);
+                }
+            }
+        }
+        throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_PARAMETER, name));
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException, ApiException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            byte[] body = requestBody.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new ApiException(STATUS_PAYLOAD_TOO_LARGE, String.format(MESSAGE_BODY_TOO_LARGE, MAX_BODY_BYTES));
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, Object> toJson(List<Recipe> recipes) {
+        return Map.of("recipes", recipes.stream().map(JsonAdaptedRecipe::new).collect(Collectors.toList()));
+    }
+
+    private static Map<String, Object> message(CommandResult commandResult) {
+        return Map.of("message", commandResult.getFeedbackToUser());
+    }
+
+    /**
+     * Represents the handling of requests to an endpoint.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Response handle(HttpExchange exchange) throws Exception;
+    }
+
+    /**
+     * Represents a response to a request, with a body to be serialized as JSON.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(Object body) {
+            return new Response(STATUS_OK, body);
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message));
+        }
+    }
+
+    /**
+     * Represents an error in a request, to be reported to the client with the given HTTP status.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
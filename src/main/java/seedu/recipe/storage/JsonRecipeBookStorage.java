@@ -5,7 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import seedu.recipe.commons.core.LogsCenter;
 import seedu.recipe.commons.exceptions.DataConversionException;
@@ -13,17 +15,31 @@ import seedu.recipe.commons.exceptions.IllegalValueException;
 import seedu.recipe.commons.util.FileUtil;
 import seedu.recipe.commons.util.JsonUtil;
 import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.StepTextArena;
+import seedu.recipe.storage.jsonadapters.JsonAdaptedRecipe;
 
 /**
  * A class to access RecipeBook data stored as a json file on the hard disk.
+ * The text of the steps of the recipes it reads can be stored off the heap, in a {@code StepTextArena}.
  */
 public class JsonRecipeBookStorage implements RecipeBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonRecipeBookStorage.class);
 
     private final Path filePath;
+    private final StepTextArena stepTextArena; // null if step text is kept on the heap
 
     public JsonRecipeBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which stores the text of the steps of the recipes it
+     * reads in {@code stepTextArena}, or on the heap if it is null.
+     */
+    public JsonRecipeBookStorage(Path filePath, StepTextArena stepTextArena) {
         this.filePath = filePath;
+        this.stepTextArena = stepTextArena;
     }
 
     public Path getRecipeBookFilePath() {
@@ -51,9 +67,28 @@ public class JsonRecipeBookStorage implements RecipeBookStorage {
         }
 
         try {
-            return Optional.of(jsonRecipeBook.get().toModelType());
+            return Optional.of(jsonRecipeBook.get().toModelType(stepTextArena));
+        } catch (IllegalValueException e) {
+            logger.info(() -> "Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public OptionalInt readRecipePages(int pageSize, RecipePageListener pageListener)
+            throws DataConversionException {
+        requireNonNull(pageListener);
+
+        Optional<JsonSerializableRecipeBook> jsonRecipeBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableRecipeBook.class);
+        if (!jsonRecipeBook.isPresent()) {
+            return OptionalInt.empty();
+        }
+
+        try {
+            return OptionalInt.of(jsonRecipeBook.get().toModelPages(pageSize, stepTextArena, pageListener));
         } catch (IllegalValueException e) {
-            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            logger.info(() -> "Illegal values found in " + filePath + ": " + e.getMessage());
             throw new DataConversionException(e);
         }
     }
@@ -76,4 +111,16 @@ public class JsonRecipeBookStorage implements RecipeBookStorage {
         JsonUtil.saveJsonFile(new JsonSerializableRecipeBook(recipeBook), filePath);
     }
 
+    /**
+     * Saves the given recipes as the recipe book, converting and writing out each recipe as it is taken from the
+     * stream, so that recipe books too large to hold in memory at once can be saved.
+     * The recipes must be unique for the saved recipe book to be read back.
+     */
+    public void saveRecipes(Stream<Recipe> recipes) throws IOException {
+        requireNonNull(recipes);
+
+        JsonUtil.saveJsonArrayFile(recipes.map(JsonAdaptedRecipe::new).iterator(),
+            JsonSerializableRecipeBook.RECIPES_FIELD, filePath);
+    }
+
 }
@@ -1,7 +1,9 @@
 package seedu.recipe.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,8 +13,11 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.recipe.commons.exceptions.IllegalValueException;
 import seedu.recipe.model.ReadOnlyRecipeBook;
 import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.Name;
 import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.StepTextArena;
 import seedu.recipe.storage.jsonadapters.JsonAdaptedRecipe;
+import seedu.recipe.storage.jsonadapters.RecipeLoadContext;
 
 /**
  * An Immutable RecipeBook that is serializable to JSON format.
@@ -21,6 +26,7 @@ import seedu.recipe.storage.jsonadapters.JsonAdaptedRecipe;
 public class JsonSerializableRecipeBook {
 
     public static final String MESSAGE_DUPLICATE_RECIPE = "Recipes list contains duplicate recipe(s).";
+    public static final String RECIPES_FIELD = "recipes";
 
     private final List<JsonAdaptedRecipe> recipes = new ArrayList<>();
 
@@ -28,7 +34,7 @@ public class JsonSerializableRecipeBook {
      * Constructs a {@code JsonSerializableRecipeBook} with the given recipes.
      */
     @JsonCreator
-    public JsonSerializableRecipeBook(@JsonProperty("recipes") List<JsonAdaptedRecipe> recipes) {
+    public JsonSerializableRecipeBook(@JsonProperty(RECIPES_FIELD) List<JsonAdaptedRecipe> recipes) {
         this.recipes.addAll(recipes);
     }
 
@@ -47,15 +53,62 @@ public class JsonSerializableRecipeBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public RecipeBook toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this address book into the model's {@code RecipeBook} object, storing the text of its recipes' steps
+     * in {@code stepTextArena}, or on the heap if it is null.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public RecipeBook toModelType(StepTextArena stepTextArena) throws IllegalValueException {
+        List<Recipe> recipeList = new ArrayList<>(recipes.size());
+        toModelPages(Math.max(recipes.size(), 1), stepTextArena, (page, totalRecipes) -> recipeList.addAll(page));
         RecipeBook recipeBook = new RecipeBook();
+        recipeBook.setRecipes(recipeList);
+        return recipeBook;
+    }
+
+    /**
+     * Converts the recipes of this address book into the model's {@code Recipe} objects, handing them to
+     * {@code pageListener} in pages of up to {@code pageSize} recipes as they are converted, without building a
+     * {@code RecipeBook} of them all.
+     * Every page handed over holds only valid and unique recipes, even if a later recipe turns out not to be.
+     * The values which recur across recipes, e.g. their tags, are shared between the recipes converted.
+     *
+     * @return The number of recipes converted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public int toModelPages(int pageSize, RecipePageListener pageListener) throws IllegalValueException {
+        return toModelPages(pageSize, null, pageListener);
+    }
+
+    /**
+     * Similar to {@link #toModelPages(int, RecipePageListener)}, but stores the text of the recipes' steps in
+     * {@code stepTextArena}, or on the heap if it is null.
+     */
+    public int toModelPages(int pageSize, StepTextArena stepTextArena, RecipePageListener pageListener)
+            throws IllegalValueException {
+        assert pageSize > 0;
+        Set<Name> names = new HashSet<>();
+        List<Recipe> page = new ArrayList<>(Math.min(pageSize, recipes.size()));
+        RecipeLoadContext context = new RecipeLoadContext(stepTextArena);
         for (JsonAdaptedRecipe jsonAdaptedRecipe : recipes) {
-            Recipe recipe = jsonAdaptedRecipe.toModelType();
-            if (recipeBook.hasRecipe(recipe)) {
+            Recipe recipe = jsonAdaptedRecipe.toModelType(context);
+            if (!names.add(recipe.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_RECIPE);
             }
-            recipeBook.addRecipe(recipe);
+            page.add(recipe);
+            if (page.size() == pageSize) {
+                pageListener.onPageRead(page, recipes.size());
+                page = new ArrayList<>(pageSize);
+            }
         }
-        return recipeBook;
+        if (!page.isEmpty()) {
+            pageListener.onPageRead(page, recipes.size());
+        }
+        return recipes.size();
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.recipe.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import seedu.recipe.commons.exceptions.DataConversionException;
 import seedu.recipe.model.ReadOnlyRecipeBook;
@@ -31,6 +32,17 @@ public interface RecipeBookStorage {
      */
     Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the recipes of the RecipeBook data, like {@link #readRecipeBook()}, but only hands them to
+     * {@code pageListener} in pages of up to {@code pageSize} recipes as soon as they are read, rather than returning
+     * them all as a {@link ReadOnlyRecipeBook}.
+     * Pages may have been handed over before a {@code DataConversionException} is thrown.
+     *
+     * @return The number of recipes read, or an empty {@code OptionalInt} if the storage file is not found.
+     */
+    OptionalInt readRecipePages(int pageSize, RecipePageListener pageListener)
+            throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyRecipeBook} to the storage.
      *
@@ -0,0 +1,19 @@
+package seedu.recipe.storage;
+
+import java.util.List;
+
+import seedu.recipe.model.recipe.Recipe;
+
+/**
+ * Receives the recipes of a recipe book one page at a time, as they are read from storage.
+ */
+@FunctionalInterface
+public interface RecipePageListener {
+    /**
+     * Called with each page of recipes as soon as it is read, in the order the recipes are stored.
+     *
+     * @param page         The recipes just read.
+     * @param totalRecipes The number of recipes in the whole recipe book being read.
+     */
+    void onPageRead(List<Recipe> page, int totalRecipes);
+}
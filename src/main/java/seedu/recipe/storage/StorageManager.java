@@ -3,9 +3,11 @@ package seedu.recipe.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
 
 import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.core.flightrecorder.StorageEvent;
 import seedu.recipe.commons.exceptions.DataConversionException;
 import seedu.recipe.model.ReadOnlyRecipeBook;
 import seedu.recipe.model.ReadOnlyUserPrefs;
@@ -60,8 +62,33 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return recipeBookStorage.readRecipeBook(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        StorageEvent event = StorageEvent.start("read", filePath);
+        Optional<ReadOnlyRecipeBook> recipeBook = Optional.empty();
+        boolean isSuccessful = false;
+        try {
+            recipeBook = recipeBookStorage.readRecipeBook(filePath);
+            isSuccessful = true;
+            return recipeBook;
+        } finally {
+            event.finish(isSuccessful, getRecipeCount(recipeBook));
+        }
+    }
+
+    @Override
+    public OptionalInt readRecipePages(int pageSize, RecipePageListener pageListener)
+            throws DataConversionException, IOException {
+        logger.fine(() -> "Attempting to read data in pages from file: " + recipeBookStorage.getRecipeBookFilePath());
+        StorageEvent event = StorageEvent.start("readInPages", recipeBookStorage.getRecipeBookFilePath());
+        OptionalInt recipeCount = OptionalInt.empty();
+        boolean isSuccessful = false;
+        try {
+            recipeCount = recipeBookStorage.readRecipePages(pageSize, pageListener);
+            isSuccessful = true;
+            return recipeCount;
+        } finally {
+            event.finish(isSuccessful, recipeCount.orElse(0));
+        }
     }
 
     @Override
@@ -71,8 +98,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        recipeBookStorage.saveRecipeBook(recipeBook, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        StorageEvent event = StorageEvent.start("save", filePath);
+        boolean isSuccessful = false;
+        try {
+            recipeBookStorage.saveRecipeBook(recipeBook, filePath);
+            isSuccessful = true;
+        } finally {
+            event.finish(isSuccessful, recipeBook.getRecipeList().size());
+        }
+    }
+
+    private static int getRecipeCount(Optional<ReadOnlyRecipeBook> recipeBook) {
+        return recipeBook.map(book -> book.getRecipeList().size()).orElse(0);
     }
 
 }
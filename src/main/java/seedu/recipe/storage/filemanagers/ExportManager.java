@@ -103,8 +103,18 @@ public class ExportManager {
      * @throws IOException if there is an error while writing to the file.
      */
     public void writeToFileUsingLogic(File selectedFile) throws IOException {
-        ReadOnlyRecipeBook recipeBook = logic.getRecipeBook();
-        JsonRecipeBookStorage jsonRecipeBookStorage = new JsonRecipeBookStorage(selectedFile.toPath());
+        writeToPath(logic.getRecipeBook(), selectedFile.toPath());
+    }
+
+    /**
+     * Writes the given RecipeBook to a JSON file at the given path, creating the file if it does not exist.
+     *
+     * @param recipeBook the RecipeBook to write.
+     * @param path the path of the file to write to.
+     * @throws IOException if there is an error while writing to the file.
+     */
+    public static void writeToPath(ReadOnlyRecipeBook recipeBook, Path path) throws IOException {
+        JsonRecipeBookStorage jsonRecipeBookStorage = new JsonRecipeBookStorage(path);
         jsonRecipeBookStorage.saveRecipeBook(recipeBook);
     }
 
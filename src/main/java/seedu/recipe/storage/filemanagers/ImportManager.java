@@ -9,11 +9,13 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.stage.FileChooser;
 import javafx.stage.FileChooser.ExtensionFilter;
 import javafx.stage.Stage;
 import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.commons.core.flightrecorder.ImportEvent;
 import seedu.recipe.commons.exceptions.DataConversionException;
 import seedu.recipe.commons.exceptions.IllegalValueException;
 import seedu.recipe.logic.parser.CliSyntax;
@@ -92,7 +94,7 @@ public class ImportManager {
 
         // Check if the file is a JSON file
         if (!selectedFile.getName().endsWith(".json")) {
-            logger.warning(String.format(NOT_JSON_FILE, selectedFile.getName()));
+            logger.warning(() -> String.format(NOT_JSON_FILE, selectedFile.getName()));
             return null;
         }
 
@@ -108,16 +110,22 @@ public class ImportManager {
      */
     public ObservableList<Recipe> importRecipes(File selectedFile) throws IllegalValueException {
         Path filePath = selectedFile.toPath();
-        logger.info("Selected file: " + filePath.toString());
+        logger.info(() -> "Selected file: " + filePath.toString());
 
+        ImportEvent event = ImportEvent.start(filePath);
         JsonRecipeBookStorage importedStorage = new JsonRecipeBookStorage(filePath);
-        Optional<ReadOnlyRecipeBook> importedRecipeBook;
+        ObservableList<Recipe> importedRecipes = FXCollections.emptyObservableList();
+        boolean isSuccessful = false;
         try {
-            importedRecipeBook = importedStorage.readRecipeBook();
+            Optional<ReadOnlyRecipeBook> importedRecipeBook = importedStorage.readRecipeBook();
+            importedRecipes = importedRecipeBook.get().getRecipeList();
+            isSuccessful = true;
+            return importedRecipes;
         } catch (DataConversionException e) {
             throw new IllegalValueException(String.format(INVALID_VALUES, filePath));
+        } finally {
+            event.finish(isSuccessful, importedRecipes.size());
         }
-        return importedRecipeBook.get().getRecipeList();
     }
 
     /**
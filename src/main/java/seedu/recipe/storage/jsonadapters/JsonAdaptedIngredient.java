@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -93,26 +94,39 @@ public class JsonAdaptedIngredient {
      * @throws IllegalValueException if there were any data constraints violated in the adapted ingredient.
      */
     public HashMap<Ingredient, IngredientInformation> toModelType() throws IllegalValueException {
+        return toModelType(new RecipeLoadContext());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted ingredient object into the model's {@code HashMap} mapping of
+     * {@code Ingredient}-{@code IngredientInformation} key-value pairs, sharing the names, quantities and remarks it
+     * has in common with the other ingredients converted with {@code context}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted ingredient.
+     */
+    public HashMap<Ingredient, IngredientInformation> toModelType(RecipeLoadContext context)
+            throws IllegalValueException {
+        requireNonNull(context);
         HashMap<Ingredient, IngredientInformation> ingredientKeyValuePair = new HashMap<>();
         //Validate Ingredient
-        Ingredient mainIngredient = Ingredient.of(ingredientName);
+        Ingredient mainIngredient = Ingredient.of(context.intern(ingredientName));
         if (commonName != null) {
-            mainIngredient.setCommonName(commonName);
+            mainIngredient.setCommonName(context.intern(commonName));
         }
 
         //Validate quantity
         IngredientQuantity quantity = null;
         if (ingredientQuantity != null) {
-            quantity = IngredientQuantity.of(ingredientQuantity);
+            quantity = context.intern(IngredientQuantity.of(ingredientQuantity));
         }
 
         // Validate substitutions
         IngredientInformation info = new IngredientInformation(
             quantity,
-            estimatedQuantity,
-            remarks.toArray(String[]::new),
+            estimatedQuantity == null ? null : context.intern(estimatedQuantity),
+            remarks.stream().filter(Objects::nonNull).map(context::intern).toArray(String[]::new),
             substitutions.stream()
-                .map(JsonAdaptedSubstitutionIngredient::toModelType)
+                .map(substitution -> substitution.toModelType(context))
                 .toArray(Ingredient[]::new)
         );
         ingredientKeyValuePair.put(mainIngredient, info);
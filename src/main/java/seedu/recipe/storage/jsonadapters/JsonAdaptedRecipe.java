@@ -107,6 +107,17 @@ public class JsonAdaptedRecipe {
      * @throws IllegalValueException if there were any data constraints violated in the adapted recipe.
      */
     public Recipe toModelType() throws IllegalValueException {
+        return toModelType(new RecipeLoadContext());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recipe object into the model's {@code Recipe} object, sharing the values
+     * it has in common with the other recipes converted with {@code context}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recipe.
+     */
+    public Recipe toModelType(RecipeLoadContext context) throws IllegalValueException {
+        requireNonNull(context);
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -114,42 +125,39 @@ public class JsonAdaptedRecipe {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
 
-        Recipe res = new Recipe(name.toModelType());
-
         // set portion and duration
+        RecipePortion modelPortion = null;
         if (portion == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, RecipePortion.class.getSimpleName()));
         } else if (portion.isPresent()) {
-            res.setPortion(portion.get().toModelType());
+            modelPortion = context.intern(portion.get().toModelType());
         }
+        RecipeDuration modelDuration = null;
         if (duration == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, RecipeDuration.class.getSimpleName())
             );
         } else if (duration.isPresent()) {
-            res.setDuration(duration.get().toModelType());
+            modelDuration = context.intern(duration.get().toModelType());
         }
 
         List<Tag> tagList = new ArrayList<>();
         for (JsonAdaptedTag t : tags) {
-            tagList.add(t.toModelType());
+            tagList.add(context.intern(t.toModelType()));
         }
-        res.setTags(tagList.toArray(Tag[]::new));
 
         HashMap<Ingredient, IngredientInformation> ingredientTable = new HashMap<>();
         for (JsonAdaptedIngredient i : ingredients) {
-            ingredientTable.putAll(i.toModelType());
+            ingredientTable.putAll(i.toModelType(context));
         }
-        res.setIngredients(ingredientTable);
 
         List<Step> stepList = new ArrayList<>();
         for (JsonAdaptedStep s : steps) {
-            stepList.add(s.toModelType());
+            stepList.add(s.toModelType(context.getStepTextArena()));
         }
-        res.setSteps(stepList.toArray(Step[]::new));
 
-        return res;
+        return new Recipe(name.toModelType(), modelPortion, modelDuration, tagList, ingredientTable, stepList);
     }
 
 }
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.recipe.commons.exceptions.IllegalValueException;
 import seedu.recipe.model.recipe.Step;
+import seedu.recipe.model.recipe.StepTextArena;
 
 /**
  * Jackson-friendly version of {@link Step}.
@@ -45,8 +46,18 @@ public class JsonAdaptedStep {
      * @throws IllegalValueException if there were any data constraints violated in the adapted step.
      */
     public Step toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted step object into the model's {@code Step} object, with its description
+     * stored in {@code stepTextArena}, or on the heap if it is null.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted step.
+     */
+    public Step toModelType(StepTextArena stepTextArena) throws IllegalValueException {
         try {
-            return new Step(stepName);
+            return stepTextArena == null ? new Step(stepName) : new Step(stepName, stepTextArena);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Step.MESSAGE_CONSTRAINTS);
         }
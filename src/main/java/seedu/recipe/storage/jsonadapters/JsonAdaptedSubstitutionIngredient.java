@@ -44,4 +44,12 @@ public class JsonAdaptedSubstitutionIngredient {
     public Ingredient toModelType() throws IllegalArgumentException {
         return Ingredient.of(ingredientName);
     }
+
+    /**
+     * Converts this instance into an Ingredient, sharing its name with the other ingredients converted with
+     * {@code context}.
+     */
+    public Ingredient toModelType(RecipeLoadContext context) throws IllegalArgumentException {
+        return Ingredient.of(context.intern(ingredientName));
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.recipe.storage.jsonadapters;
+
+import seedu.recipe.commons.util.Interner;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.RecipePortion;
+import seedu.recipe.model.recipe.StepTextArena;
+import seedu.recipe.model.recipe.ingredient.IngredientQuantity;
+import seedu.recipe.model.tag.Tag;
+
+/**
+ * Holds what is shared by the recipes converted during one load of a recipe book, i.e. the interners with which the
+ * tags, portions, durations, quantities and strings that recur across its recipes are stored only once, and the arena
+ * the text of their steps is stored in, if it is kept off the heap.
+ * A context is used by the thread loading the recipe book, and dropped once it is loaded.
+ */
+public class RecipeLoadContext {
+    private final Interner<Tag> tags = new Interner<>();
+    private final Interner<RecipePortion> portions = new Interner<>();
+    private final Interner<RecipeDuration> durations = new Interner<>();
+    private final Interner<IngredientQuantity> quantities = new Interner<>();
+    private final Interner<String> strings = new Interner<>();
+    private final StepTextArena stepTextArena; // null if step text is kept on the heap
+
+    /**
+     * Creates a context for a load which keeps the text of steps on the heap.
+     */
+    public RecipeLoadContext() {
+        this(null);
+    }
+
+    /**
+     * Creates a context for a load which stores the text of steps in {@code stepTextArena}, or on the heap if it is
+     * null.
+     */
+    public RecipeLoadContext(StepTextArena stepTextArena) {
+        this.stepTextArena = stepTextArena;
+    }
+
+    public StepTextArena getStepTextArena() {
+        return stepTextArena;
+    }
+
+    public Tag intern(Tag tag) {
+        return tags.intern(tag);
+    }
+
+    public RecipePortion intern(RecipePortion portion) {
+        return portions.intern(portion);
+    }
+
+    public RecipeDuration intern(RecipeDuration duration) {
+        return durations.intern(duration);
+    }
+
+    public IngredientQuantity intern(IngredientQuantity quantity) {
+        return quantities.intern(quantity);
+    }
+
+    public String intern(String string) {
+        return strings.intern(string);
+    }
+}
@@ -1,13 +1,13 @@
 package seedu.recipe.ui;
 
+import java.util.concurrent.CompletionStage;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Region;
 import seedu.recipe.logic.commands.CommandResult;
-import seedu.recipe.logic.commands.exceptions.CommandException;
-import seedu.recipe.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -57,19 +57,27 @@ public class CommandBox extends UiPart<Region> {
      * Handles the Enter button pressed event.
      */
     private void handleCommandEntered() {
-        String commandText = commandTextArea.getText().replace("\n\\", " ");
-        commandText = commandText.replace("\n", "");
+        String commandText = toCommandText(commandTextArea.getText());
 
         if (commandText.equals("")) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextArea.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            // The command may finish after the user has started typing the next one, which must be kept
+            if (!toCommandText(commandTextArea.getText()).equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextArea.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    private static String toCommandText(String text) {
+        return text.replace("\n\\", " ").replace("\n", "");
     }
 
     /**
@@ -101,11 +109,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Queues the command to be executed, returning a future completed on the JavaFX application thread with its
+         * result, or with the {@code CommandException} or {@code ParseException} explaining why it failed.
          *
-         * @see seedu.recipe.logic.Logic#execute(String)
+         * @see seedu.recipe.logic.CommandDispatcher#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
     }
 
 }
@@ -3,9 +3,14 @@ package seedu.recipe.ui;
 import static seedu.recipe.ui.events.DeleteRecipeEvent.DELETE_RECIPE_EVENT_TYPE;
 import static seedu.recipe.ui.events.EditRecipeEvent.EDIT_RECIPE_EVENT_TYPE;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,15 +19,16 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import seedu.recipe.RecipeBookLoader;
 import seedu.recipe.commons.core.GuiSettings;
 import seedu.recipe.commons.core.LogsCenter;
+import seedu.recipe.logic.CommandDispatcher;
 import seedu.recipe.logic.Logic;
 import seedu.recipe.logic.commands.Command;
 import seedu.recipe.logic.commands.CommandResult;
 import seedu.recipe.logic.commands.ExportCommand;
 import seedu.recipe.logic.commands.ImportCommand;
-import seedu.recipe.logic.commands.exceptions.CommandException;
-import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.recipe.Recipe;
 import seedu.recipe.ui.events.DeleteRecipeEvent;
 import seedu.recipe.ui.events.EditRecipeEvent;
 
@@ -34,16 +40,23 @@ import seedu.recipe.ui.events.EditRecipeEvent;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private final Stage primaryStage;
     private final Logic logic;
-    private final HelpWindow helpWindow;
+    private HelpWindow helpWindow; // only built once help is first asked for
+
+    // Commands run off the JavaFX application thread, so the recipes shown are a copy updated after each command
+    private final CommandDispatcher commandDispatcher;
+    private final ObservableList<Recipe> displayedRecipes;
+    private int pendingCommands = 0;
 
     // Independent Ui parts residing in this Ui container
     private RecipeListPanel recipeListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -90,7 +103,9 @@ public class MainWindow extends UiPart<Stage> {
         getRoot().addEventFilter(DELETE_RECIPE_EVENT_TYPE, this::handleDeleteRecipeEvent);
         getRoot().addEventFilter(EDIT_RECIPE_EVENT_TYPE, this::handleEditRecipeEvent);
 
-        helpWindow = new HelpWindow();
+        displayedRecipes = FXCollections.observableArrayList(logic.getFilteredRecipeList());
+        commandDispatcher = new CommandDispatcher(logic, Platform::runLater, recipes ->
+            displayedRecipes.setAll(recipes));
     }
 
     /**
@@ -133,12 +148,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleImport() {
-        ImportCommand importCommand = new ImportCommand(primaryStage);
-        try {
-            executeCommand(importCommand);
-        } catch (CommandException e) {
-            logger.warning(e.getMessage());
-        }
+        executeCommand(new ImportCommand(primaryStage));
     }
 
     /**
@@ -148,11 +158,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExport() {
-        try {
-            executeCommand(new ExportCommand(primaryStage, logic));
-        } catch (CommandException e) {
-            logger.warning(e.getMessage());
-        }
+        executeCommand(new ExportCommand(primaryStage, logic));
     }
 
     /**
@@ -163,12 +169,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     private void handleDeleteRecipeEvent(DeleteRecipeEvent event) {
         int recipeIndex = event.getRecipeIndex();
-        try {
-            String commandText = "delete " + (recipeIndex);
-            executeCommand(commandText);
-        } catch (CommandException | ParseException e) {
-            logger.info("Failed to delete recipe: " + recipeIndex);
-        }
+        executeCommand("delete " + recipeIndex);
     }
 
     /**
@@ -178,25 +179,20 @@ public class MainWindow extends UiPart<Stage> {
      * @param event the EditRecipeEvent containing the command string to be executed.
      */
     private void handleEditRecipeEvent(EditRecipeEvent event) {
-        String commandText = event.getCommandText();
-        try {
-            executeCommand(commandText);
-        } catch (CommandException | ParseException e) {
-            logger.info("Failed to edit recipe with command: " + commandText);
-        }
+        executeCommand(event.getCommandText());
     }
 
     /**
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        recipeListPanel = new RecipeListPanel(logic.getFilteredRecipeList());
+        recipeListPanel = new RecipeListPanel(displayedRecipes);
         recipeListPanelPlaceholder.getChildren().add(recipeListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getRecipeBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getRecipeBookFilePath());
         statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -205,6 +201,25 @@ public class MainWindow extends UiPart<Stage> {
         Platform.runLater(() -> commandBox.getRoot().requestFocus());
     }
 
+    /**
+     * Queues the recipes read by {@code recipeBookLoader} to be added to the recipe list ahead of any command, showing
+     * each page of them as soon as it is added. Commands entered meanwhile run once every recipe is loaded, so that
+     * they never see, or save, only part of the recipe book.
+     */
+    void loadRecipes(RecipeBookLoader recipeBookLoader) {
+        statusBarFooter.setLoadingProgress(0, 0);
+        commandDispatcher.submit(publishRecipeListChanges -> recipeBookLoader.addLoadedRecipes((loaded, total) -> {
+            publishRecipeListChanges.run();
+            Platform.runLater(() -> statusBarFooter.setLoadingProgress(loaded, total));
+        })).whenComplete((unused, error) -> {
+            statusBarFooter.setLoaded();
+            if (error != null) {
+                logger.warning("Failed to load recipes: " + error.getMessage());
+                resultDisplay.setFeedbackToUser(error.getMessage());
+            }
+        });
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -222,6 +237,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -244,10 +262,27 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
             (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
+    /**
+     * Stops accepting commands, waiting for those already queued to finish so that their changes are saved.
+     * As this is called on the JavaFX application thread, queued commands which require the GUI are not executed,
+     * rather than waiting for this thread until the timeout.
+     */
+    void stopCommands() {
+        try {
+            if (!commandDispatcher.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Exiting before every queued command has finished.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Returns the {@code RecipeListPanel} contained in this main window.
      *
@@ -258,47 +293,40 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command based on the given {@code commandText} and returns the result.
-     * Updates the UI components based on the command result.
+     * Queues the command based on the given {@code commandText} to be executed off the JavaFX application thread.
+     * The UI components are updated based on the command result once it is executed.
      *
      * @param commandText the command text to execute.
-     * @return the resulting {@code CommandResult} after executing the command.
-     * @throws CommandException if the command execution fails.
-     * @throws ParseException   if the command text cannot be parsed.
+     * @return a future completed on the JavaFX application thread with the resulting {@code CommandResult}, or with
+     *     the {@code CommandException} or {@code ParseException} explaining why the command failed.
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+    private CompletionStage<CommandResult> executeCommand(String commandText) {
+        return track(commandDispatcher.submit(commandText), commandText);
     }
 
     /**
-     * Executes the command based on the given {@code commandText} and returns the result.
-     * Updates the UI components based on the command result.
+     * Queues the given command to be executed off the JavaFX application thread.
      *
-     * @param command the command instance to execute.
-     * @return the resulting {@code CommandResult} after executing the command.
-     * @throws CommandException if the command execution fails.
+     * @see #executeCommand(String)
      */
-    private CommandResult executeCommand(Command command) throws CommandException {
-        try {
-            CommandResult commandResult = logic.execute(command);
+    private CompletionStage<CommandResult> executeCommand(Command command) {
+        return track(commandDispatcher.submit(command), command.getClass().getSimpleName());
+    }
+
+    /**
+     * Shows the busy indicator until the given queued command finishes, and then updates the UI components based on
+     * its result.
+     */
+    private CompletionStage<CommandResult> track(CompletableFuture<CommandResult> pendingResult, String command) {
+        statusBarFooter.setPendingCommands(++pendingCommands);
+        pendingResult.whenComplete((commandResult, error) -> {
+            statusBarFooter.setPendingCommands(--pendingCommands);
+            if (error != null) {
+                logger.info("Invalid command: " + command);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
             if (commandResult.isShowHelp()) {
@@ -307,11 +335,7 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-            return commandResult;
-        } catch (CommandException e) {
-            logger.info("Invalid command: " + command.getClass().getSimpleName());
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
+        return pendingResult;
     }
 }
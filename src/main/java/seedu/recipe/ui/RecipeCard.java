@@ -2,10 +2,11 @@ package seedu.recipe.ui;
 
 //Core Java Imports
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -42,7 +43,8 @@ public class RecipeCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/recipebook-level4/issues/336">The issue on RecipeBook level 4</a>
      */
-    public final Recipe recipe;
+    private Recipe recipe;
+    private int displayedIndex;
     private boolean isRecipeSelected = false;
     @FXML
     private HBox cardPane;
@@ -79,43 +81,30 @@ public class RecipeCard extends UiPart<Region> {
      * @param isSelected     indicates if the card is being selected in the list panel
      */
     public RecipeCard(Recipe recipe, int displayedIndex, boolean isSelected) {
+        this();
+        setRecipe(recipe, displayedIndex, isSelected);
+    }
+
+    /**
+     * Creates an empty {@code RecipeCard}, which displays nothing until it is given a {@code Recipe} through
+     * {@link #setRecipe(Recipe, int, boolean)}. This lets a list cell load the card once, and then reuse it for every
+     * recipe it is scrolled onto.
+     */
+    public RecipeCard() {
         super(FXML);
         borderContainer.minHeightProperty().bind(this.getRoot().heightProperty().multiply(0.8));
-        this.recipe = recipe;
-        this.isRecipeSelected = isSelected;
         cardPane.setFocusTraversable(true);
-        id.setText(displayedIndex + ". ");
-        name.setText(recipe.getName().recipeName);
-
-        //Duration
-        duration.setText("Duration: "
-            + Optional.ofNullable(recipe.getDurationNullable())
-            .map(Object::toString)
-            .orElse(String.format(MESSAGE_EMPTY_FIELD_SHORT, "duration")));
-
-        //Portion
-        portion.setText("Portion: "
-            + Optional.ofNullable(recipe.getPortionNullable())
-            .map(Object::toString)
-            .orElse(String.format(MESSAGE_EMPTY_FIELD_SHORT, "portion")));
-
-        //Ingredients
-        setIngredients(recipe.getIngredients());
-
-        //Steps
-        setSteps(recipe.getSteps());
-
-        //Tags
-        setTags(recipe.getTags());
 
         // Handle keypress events
         cardPane.setOnKeyPressed(event -> {
+            if (recipe == null) {
+                return;
+            }
             KeyCode input = event.getCode();
-            ConfirmationDialog deleteConfirmation = new ConfirmationDialog();
             if (input == KeyCode.DELETE
                 || input == KeyCode.D
                 || input == KeyCode.BACK_SPACE) {
-                if (deleteConfirmation.getConfirmation()) {
+                if (new ConfirmationDialog().getConfirmation()) {
                     DeleteRecipeEvent deleteEvent = new DeleteRecipeEvent(displayedIndex);
                     cardPane.fireEvent(deleteEvent);
                 }
@@ -148,7 +137,54 @@ public class RecipeCard extends UiPart<Region> {
         cardPane.setOnMouseClicked(event -> {
             cardPane.requestFocus();
         });
+    }
+
+    /**
+     * Displays the given {@code Recipe} and index on this card, replacing whatever it displayed before.
+     *
+     * @param recipe         the {@code Recipe} to display
+     * @param displayedIndex the index of the {@code Recipe} in the list
+     * @param isSelected     indicates if the card is being selected in the list panel
+     */
+    public void setRecipe(Recipe recipe, int displayedIndex, boolean isSelected) {
+        this.recipe = recipe;
+        this.displayedIndex = displayedIndex;
+        this.isRecipeSelected = isSelected;
+        id.setText(displayedIndex + ". ");
+        name.setText(recipe.getName().recipeName);
+
+        //Duration
+        duration.setText("Duration: "
+            + Optional.ofNullable(recipe.getDurationNullable())
+            .map(Object::toString)
+            .orElse(String.format(MESSAGE_EMPTY_FIELD_SHORT, "duration")));
+
+        //Portion
+        portion.setText("Portion: "
+            + Optional.ofNullable(recipe.getPortionNullable())
+            .map(Object::toString)
+            .orElse(String.format(MESSAGE_EMPTY_FIELD_SHORT, "portion")));
+
+        //Ingredients
+        ingredients.getChildren().clear();
+        setIngredients(recipe.getIngredients());
+
+        //Steps
+        steps.getChildren().clear();
+        setSteps(recipe.getSteps());
+
+        //Tags
+        tags.getChildren().clear();
+        emptyTags.getChildren().clear();
+        setTags(recipe.getTags());
+    }
+
+    public void setSelected(boolean isSelected) {
+        this.isRecipeSelected = isSelected;
+    }
 
+    public Recipe getRecipe() {
+        return recipe;
     }
 
     private Label createUnorderedListItem(String text) {
@@ -165,7 +201,7 @@ public class RecipeCard extends UiPart<Region> {
         return label;
     }
 
-    private void setIngredients(HashMap<Ingredient, IngredientInformation> ingredientsTable) {
+    private void setIngredients(Map<Ingredient, IngredientInformation> ingredientsTable) {
         if (ingredientsTable.size() == 0) {
             ingredients.add(createLabel(String.format(MESSAGE_EMPTY_FIELD, "ingredients")), 0, 0);
             return;
@@ -227,7 +263,7 @@ public class RecipeCard extends UiPart<Region> {
         // state check
         RecipeCard card = (RecipeCard) other;
         return id.getText().equals(card.id.getText())
-            && recipe.equals(card.recipe);
+            && Objects.equals(recipe, card.recipe);
     }
 
 }
@@ -27,16 +27,32 @@ public class RecipeListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Recipe} using a {@code RecipeCard}.
+     * Each cell loads a single card, the first time it is given a recipe, and reuses it for every recipe it displays
+     * afterwards, so scrolling only updates the contents of existing cards.
      */
     class RecipeListViewCell extends ListCell<Recipe> {
+        private RecipeCard recipeCard;
+
         @Override
         protected void updateItem(Recipe recipe, boolean empty) {
             super.updateItem(recipe, empty);
             if (empty || recipe == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new RecipeCard(recipe, getIndex() + 1, this.isSelected()).getRoot());
+                return;
+            }
+            if (recipeCard == null) {
+                recipeCard = new RecipeCard();
+            }
+            recipeCard.setRecipe(recipe, getIndex() + 1, isSelected());
+            setGraphic(recipeCard.getRoot());
+        }
+
+        @Override
+        public void updateSelected(boolean selected) {
+            super.updateSelected(selected);
+            if (recipeCard != null) {
+                recipeCard.setSelected(selected);
             }
         }
     }
@@ -1,8 +1,8 @@
 package seedu.recipe.ui;
 
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.fxml.FXML;
@@ -95,7 +95,7 @@ public class RecipePopup extends UiPart<Region> {
     }
 
     private void createIngredientList(Recipe recipe) {
-        HashMap<Ingredient, IngredientInformation> ingredientTable = recipe.getIngredients();
+        Map<Ingredient, IngredientInformation> ingredientTable = recipe.getIngredients();
         if (ingredientTable.size() == 0) {
             ingredients.getChildren().add(new Label("No Ingredients were added. Add some!"));
             return;
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
 
 /**
@@ -12,17 +13,74 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_BUSY_SINGLE = "Running command...";
+    public static final String MESSAGE_BUSY = "Running %1$d commands...";
+    public static final String MESSAGE_LOADING = "Loading recipes...";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading recipes: %1$d of %2$d";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
+    @FXML
+    private Label busyStatus;
+
+    private int pendingCommands = 0;
+    private boolean isLoading = false;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setPendingCommands(0);
+    }
+
+    /**
+     * Shows the busy indicator while any commands are queued or running, along with how many there are.
+     * While recipes are still being loaded, the loading progress is shown instead.
+     */
+    public void setPendingCommands(int pendingCommands) {
+        this.pendingCommands = pendingCommands;
+        if (isLoading) {
+            return;
+        }
+        boolean isBusy = pendingCommands > 0;
+        busyIndicator.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
+        busyIndicator.setVisible(isBusy);
+        busyStatus.setVisible(isBusy);
+        busyStatus.setText(pendingCommands == 1 ? MESSAGE_BUSY_SINGLE : String.format(MESSAGE_BUSY, pendingCommands));
+    }
+
+    /**
+     * Shows how many of the recipes being loaded have been loaded so far, until {@link #setLoaded()} is called.
+     *
+     * @param totalRecipes The number of recipes being loaded, or 0 if it is not known yet.
+     */
+    public void setLoadingProgress(int loadedRecipes, int totalRecipes) {
+        isLoading = true;
+        busyIndicator.setVisible(true);
+        busyStatus.setVisible(true);
+        if (totalRecipes == 0) {
+            busyIndicator.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
+            busyStatus.setText(MESSAGE_LOADING);
+        } else {
+            busyIndicator.setProgress((double) loadedRecipes / totalRecipes);
+            busyStatus.setText(String.format(MESSAGE_LOADING_PROGRESS, loadedRecipes, totalRecipes));
+        }
+    }
+
+    /**
+     * Stops showing the loading progress, going back to showing the commands queued or running.
+     */
+    public void setLoaded() {
+        isLoading = false;
+        setPendingCommands(pendingCommands);
     }
 
 }
@@ -12,4 +12,9 @@ public interface Ui {
      */
     void start(Stage primaryStage);
 
+    /**
+     * Stops the UI, waiting for any commands it has queued to finish.
+     */
+    void stop();
+
 }
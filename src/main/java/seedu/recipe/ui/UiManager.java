@@ -1,13 +1,16 @@
 package seedu.recipe.ui;
 
+import java.lang.management.ManagementFactory;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.recipe.MainApp;
+import seedu.recipe.RecipeBookLoader;
 import seedu.recipe.commons.core.LogsCenter;
 import seedu.recipe.commons.util.StringUtil;
 import seedu.recipe.logic.Logic;
@@ -23,13 +26,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/recipebook_icon1.png";
 
     private final Logic logic;
+    private final RecipeBookLoader recipeBookLoader;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which shows the recipes loaded by the given
+     * {@code RecipeBookLoader} as they are loaded.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, RecipeBookLoader recipeBookLoader) {
         this.logic = logic;
+        this.recipeBookLoader = recipeBookLoader;
     }
 
     /**
@@ -54,6 +60,7 @@ public class UiManager implements Ui {
 
     @Override
     public void start(Stage primaryStage) {
+        long uiStartMillis = ManagementFactory.getRuntimeMXBean().getUptime();
         logger.info("Starting UI...");
 
         //Set the application icon.
@@ -63,6 +70,8 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            mainWindow.loadRecipes(recipeBookLoader);
+            logTimeToFirstFrame(primaryStage.getScene(), uiStartMillis);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -70,6 +79,28 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.stopCommands();
+        }
+    }
+
+    /**
+     * Logs how long after the JVM started the first frame of the given scene was laid out, once it has been, so that
+     * regressions in startup time show up in the logs.
+     */
+    private static void logTimeToFirstFrame(Scene scene, long uiStartMillis) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                logger.info(String.format("First frame laid out %d ms after startup (UI started at %d ms).",
+                    ManagementFactory.getRuntimeMXBean().getUptime(), uiStartMillis));
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -2,8 +2,13 @@ package seedu.recipe.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.recipe.MainApp;
@@ -19,6 +24,9 @@ public abstract class UiPart<T> {
      */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    // Every FXML document is read once, and then parsed from memory for every later UiPart built from it
+    private static final Map<String, byte[]> fxmlDocuments = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -84,10 +92,26 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(readFxmlDocument(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
+        } catch (UncheckedIOException e) {
+            throw new AssertionError(e.getCause());
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at the given location, reading it only if it was not read before.
+     */
+    private static byte[] readFxmlDocument(URL location) {
+        // Keyed by the external form, as URL#equals may resolve host names
+        return fxmlDocuments.computeIfAbsent(location.toExternalForm(), unused -> {
+            try (InputStream document = location.openStream()) {
+                return document.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
 }
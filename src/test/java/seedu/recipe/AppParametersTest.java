@@ -37,6 +37,21 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParameterMap_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Map.of("config", "config.json")));
+    }
+
+    @Test
+    public void parse_sessionTracePath_success() {
+        expected.setSessionTracePath(Paths.get("session.trace"));
+        assertEquals(expected, AppParameters.parse(Map.of("record", "session.trace")));
+
+        // an invalid path is ignored
+        assertEquals(new AppParameters(), AppParameters.parse(Map.of("record", "a\0")));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
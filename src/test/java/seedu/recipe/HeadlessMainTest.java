@@ -0,0 +1,178 @@
+package seedu.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX;
+import static seedu.recipe.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.logic.LogicManager;
+import seedu.recipe.logic.commands.ExitCommand;
+import seedu.recipe.logic.commands.ListCommand;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.ReadOnlyRecipeBook;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.util.RecipeBookGenerator;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.StorageManager;
+
+public class HeadlessMainTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessMain headlessMain;
+
+    @BeforeEach
+    public void setUp() {
+        JsonRecipeBookStorage recipeBookStorage =
+                new JsonRecipeBookStorage(temporaryFolder.resolve("recipeBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(recipeBookStorage, userPrefsStorage);
+        headlessMain = new HeadlessMain(new LogicManager(model, storage));
+    }
+
+    private int run(String input) throws Exception {
+        return headlessMain.run(new BufferedReader(new StringReader(input)),
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validCommands_success() throws Exception {
+        int recipeCount = model.getRecipeBook().getRecipeList().size();
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run("# trim the book\n\ndelete 1\n  list  \n"));
+        assertEquals(recipeCount - 1, model.getRecipeBook().getRecipeList().size());
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith(NEWLINE + ListCommand.MESSAGE_SUCCESS + NEWLINE));
+    }
+
+    @Test
+    public void run_failingCommands_continuesAndReportsFailure() throws Exception {
+        int recipeCount = model.getRecipeBook().getRecipeList().size();
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, run("unknown\ndelete 1000\naddf\ndelete 1\n"));
+        assertEquals(recipeCount - 1, model.getRecipeBook().getRecipeList().size());
+        assertEquals(String.format(HeadlessMain.MESSAGE_FAILED_LINE, 1, MESSAGE_UNKNOWN_COMMAND) + NEWLINE
+                + String.format(HeadlessMain.MESSAGE_FAILED_LINE, 2, MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX) + NEWLINE
+                + String.format(HeadlessMain.MESSAGE_FAILED_LINE, 3, HeadlessMain.MESSAGE_REQUIRES_GUI) + NEWLINE,
+            err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_uncheckedFailure_continuesAndReportsFailure() throws Exception {
+        Model failingModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs()) {
+            @Override
+            public void deleteRecipe(Recipe target) {
+                throw new IllegalArgumentException("Invalid recipe");
+            }
+        };
+        StorageManager storage = new StorageManager(new JsonRecipeBookStorage(temporaryFolder.resolve("book.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        headlessMain = new HeadlessMain(new LogicManager(failingModel, storage));
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, run("delete 1\nlist\n"));
+        assertEquals(String.format(HeadlessMain.MESSAGE_FAILED_LINE, 1, "Invalid recipe") + NEWLINE,
+            err.toString(StandardCharsets.UTF_8));
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith(ListCommand.MESSAGE_SUCCESS + NEWLINE));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int recipeCount = model.getRecipeBook().getRecipeList().size();
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run("exit\ndelete 1\n"));
+        assertEquals(recipeCount, model.getRecipeBook().getRecipeList().size());
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + NEWLINE, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void launch_tooManyScripts_usageError() {
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "a.txt", "b.txt"}));
+    }
+
+    @Test
+    public void launch_invalidPort_usageError() {
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--port=http"}));
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--port=70000"}));
+
+        // a script cannot be run while serving
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--port=8080", "a.txt"}));
+    }
+
+    @Test
+    public void launch_generate_recipeBookWritten() throws Exception {
+        Path outputPath = temporaryFolder.resolve("generated.json");
+        assertEquals(HeadlessMain.EXIT_SUCCESS, HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG,
+            "--generate=20", "--seed=3", outputPath.toString()}));
+
+        ReadOnlyRecipeBook generated = new JsonRecipeBookStorage(outputPath).readRecipeBook().get();
+        assertEquals(new RecipeBookGenerator(3).generateRecipeBook(20), new RecipeBook(generated));
+    }
+
+    @Test
+    public void launch_invalidGenerate_usageError() {
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--generate=many", "out.json"}));
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--generate=10", "--seed=x", "out.json"}));
+
+        // the generated recipes must be written to exactly one file
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--generate=10"}));
+    }
+
+    @Test
+    public void launch_generateToUnwritableFile_ioError() throws Exception {
+        Path notFolder = temporaryFolder.resolve("notFolder");
+        Files.writeString(notFolder, "");
+        assertEquals(HeadlessMain.EXIT_IO_ERROR, HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG,
+            "--generate=10", notFolder.resolve("generated.json").toString()}));
+    }
+
+    @Test
+    public void launch_replay_replaysAgainstCopyOfRecipeBook() throws Exception {
+        Path recipeBookPath = temporaryFolder.resolve("recipeBook.json");
+        new JsonRecipeBookStorage(recipeBookPath).saveRecipeBook(getTypicalRecipeBook());
+        String recipeBookJson = Files.readString(recipeBookPath);
+        Path tracePath = temporaryFolder.resolve("session.trace");
+        Files.writeString(tracePath, "# session\n0\tdelete 1\n250\tlist\n");
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG,
+            "--replay=" + tracePath, recipeBookPath.toString()}));
+        assertEquals(recipeBookJson, Files.readString(recipeBookPath));
+    }
+
+    @Test
+    public void launch_invalidReplay_error() throws Exception {
+        // the recipe book to replay against must be given
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR,
+            HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG, "--replay=session.trace"}));
+
+        Path recipeBookPath = temporaryFolder.resolve("recipeBook.json");
+        new JsonRecipeBookStorage(recipeBookPath).saveRecipeBook(getTypicalRecipeBook());
+        assertEquals(HeadlessMain.EXIT_IO_ERROR, HeadlessMain.launch(new String[] {HeadlessMain.HEADLESS_FLAG,
+            "--replay=" + temporaryFolder.resolve("missing.trace"), recipeBookPath.toString()}));
+    }
+}
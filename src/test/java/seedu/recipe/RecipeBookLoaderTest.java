@@ -0,0 +1,102 @@
+package seedu.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.util.RecipeBookGenerator;
+import seedu.recipe.model.util.SampleDataUtil;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.StorageManager;
+
+public class RecipeBookLoaderTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new RecipeBook(), new UserPrefs());
+    private final List<int[]> progress = new ArrayList<>();
+    private Path recipeBookFilePath;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        recipeBookFilePath = temporaryFolder.resolve("recipeBook.json");
+        storage = new StorageManager(new JsonRecipeBookStorage(recipeBookFilePath),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void addLoadedRecipes_savedRecipeBook_allRecipesLoaded() throws Exception {
+        storage.saveRecipeBook(getTypicalRecipeBook());
+
+        load();
+
+        assertEquals(getTypicalRecipeBook(), model.getRecipeBook());
+        assertEquals(model.getRecipeBook().getRecipeList(), model.getFilteredRecipeList());
+        int recipeCount = getTypicalRecipeBook().getRecipeList().size();
+        assertLastProgress(recipeCount, recipeCount);
+    }
+
+    @Test
+    public void addLoadedRecipes_manyPages_progressThrottledAndWholeBookPublished() throws Exception {
+        int recipeCount = 20 * RecipeBookLoader.PAGE_SIZE;
+        storage.saveRecipeBook(new RecipeBookGenerator().generateRecipeBook(recipeCount));
+
+        load();
+
+        assertTrue(progress.size() < 20);
+        assertLastProgress(recipeCount, recipeCount);
+        assertEquals(model.getRecipeBook().getRecipeList(), model.getRecipeBookSnapshot().getRecipeList());
+    }
+
+    @Test
+    public void addLoadedRecipes_missingFile_sampleRecipesLoaded() throws Exception {
+        load();
+
+        assertEquals(new RecipeBook(SampleDataUtil.getSampleRecipeBook()), model.getRecipeBook());
+        int recipeCount = SampleDataUtil.getSampleRecipeBook().getRecipeList().size();
+        assertLastProgress(recipeCount, recipeCount);
+    }
+
+    @Test
+    public void addLoadedRecipes_invalidFile_emptyRecipeBookLoaded() throws Exception {
+        Files.writeString(recipeBookFilePath, "not a recipe book");
+
+        load();
+
+        assertEquals(new RecipeBook(), model.getRecipeBook());
+        assertLastProgress(0, 0);
+    }
+
+    @Test
+    public void addLoadedRecipes_loadingFinished_nothingSaved() throws Exception {
+        load();
+        assertTrue(Files.notExists(recipeBookFilePath));
+    }
+
+    private void load() throws Exception {
+        RecipeBookLoader loader = new RecipeBookLoader(storage, model);
+        loader.start();
+        loader.addLoadedRecipes((loaded, total) -> progress.add(new int[] {loaded, total}));
+    }
+
+    private void assertLastProgress(int expectedLoaded, int expectedTotal) {
+        int[] last = progress.get(progress.size() - 1);
+        assertEquals(expectedLoaded, last[0]);
+        assertEquals(expectedTotal, last[1]);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.recipe.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+    private final RecordingHandler recordingHandler = new RecordingHandler();
+    private AsyncLogHandler asyncHandler;
+
+    @AfterEach
+    public void tearDown() {
+        recordingHandler.release.countDown();
+        asyncHandler.close();
+    }
+
+    @Test
+    public void publish_record_writtenOnWriterThreadWithLoggerAsSource() {
+        asyncHandler = new AsyncLogHandler(List.of(recordingHandler), 16);
+        LogRecord record = new LogRecord(Level.INFO, "message");
+        record.setLoggerName("LogicManager");
+        recordingHandler.release.countDown();
+
+        asyncHandler.publish(record);
+        asyncHandler.flush();
+
+        assertEquals(List.of("message"), recordingHandler.getMessages());
+        assertEquals(List.of(AsyncLogHandler.WRITER_THREAD_NAME), recordingHandler.threadNames);
+        assertEquals("LogicManager", record.getSourceClassName());
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        asyncHandler = new AsyncLogHandler(List.of(recordingHandler), 16);
+        asyncHandler.setLevel(Level.WARNING);
+        recordingHandler.release.countDown();
+
+        asyncHandler.publish(new LogRecord(Level.INFO, "ignored"));
+        asyncHandler.publish(new LogRecord(Level.WARNING, "written"));
+        asyncHandler.flush();
+
+        assertEquals(List.of("written"), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFull_dropsRecordsWithoutBlockingAndReportsThem() throws Exception {
+        asyncHandler = new AsyncLogHandler(List.of(recordingHandler), 2);
+        asyncHandler.publish(new LogRecord(Level.INFO, "1"));
+        // the writer is now stuck writing the first record, so only two more fit in the buffer
+        assertTrue(recordingHandler.started.await(5, TimeUnit.SECONDS));
+        for (int i = 2; i <= 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+        }
+
+        recordingHandler.release.countDown();
+        asyncHandler.flush();
+
+        // the drops are noticed as soon as the record being written when they happened is written
+        assertEquals(List.of("1", String.format(AsyncLogHandler.MESSAGE_DROPPED, 2), "2", "3"),
+            recordingHandler.getMessages());
+    }
+
+    @Test
+    public void close_recordsPending_writesThemAndClosesHandlers() {
+        asyncHandler = new AsyncLogHandler(List.of(recordingHandler), 16);
+        asyncHandler.publish(new LogRecord(Level.INFO, "1"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "2"));
+        recordingHandler.release.countDown();
+
+        asyncHandler.close();
+        asyncHandler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("1", "2"), recordingHandler.getMessages());
+        assertTrue(recordingHandler.isClosed);
+    }
+
+    /**
+     * A handler which keeps every record written to it, waiting to be released before writing the first.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean isClosed = false;
+
+        @Override
+        public void publish(LogRecord record) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            records.add(record);
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
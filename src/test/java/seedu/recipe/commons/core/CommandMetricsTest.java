@@ -0,0 +1,58 @@
+package seedu.recipe.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.commons.core.CommandMetrics.CommandTypeMetrics;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void recordExecution_notPersisted_persistNotRecorded() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordParse("AddCommand", 1_000);
+        metrics.recordExecution("AddCommand", 2_000_000, 3_000_000, 4096);
+        metrics.recordExecution("AddCommand", 2_000_000, -1, -1);
+
+        CommandTypeMetrics addMetrics = metrics.getMetrics("AddCommand").get();
+        assertEquals(1, addMetrics.getParseNanos().getTotalCount());
+        assertEquals(2, addMetrics.getExecuteNanos().getTotalCount());
+        assertEquals(1, addMetrics.getPersistNanos().getTotalCount());
+        assertEquals(1, addMetrics.getAllocatedBytes().getTotalCount());
+        assertFalse(metrics.getMetrics("DeleteCommand").isPresent());
+    }
+
+    @Test
+    public void toString_noCommands_saysSo() {
+        assertEquals("No commands recorded yet.", new CommandMetrics().toString());
+    }
+
+    @Test
+    public void toString_commandsRecorded_percentilesOfEachType() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordExecution("ListCommand", 1_000_000, 2_000_000, 1024);
+        metrics.recordExecution("AddCommand", 1_000_000, -1, -1);
+
+        String expected = String.format("p50 / p95 / p99 / max of each type of command:"
+            + "%nAddCommand: run 1 times"
+            + "%n  execute   1.00 / 1.00 / 1.00 / 1.00 ms"
+            + "%nListCommand: run 1 times"
+            + "%n  execute   1.00 / 1.00 / 1.00 / 1.00 ms"
+            + "%n  persist   2.00 / 2.00 / 2.00 / 2.00 ms"
+            + "%n  allocated 1.00 / 1.00 / 1.00 / 1.00 KiB");
+        assertEquals(expected, metrics.toString());
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_allocating_increases() {
+        long before = CommandMetrics.getCurrentThreadAllocatedBytes();
+        if (before < 0) {
+            return; // not measured by this JVM
+        }
+        byte[] allocated = new byte[1 << 20];
+        assertTrue(CommandMetrics.getCurrentThreadAllocatedBytes() - before >= allocated.length);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.recipe.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.nio.file.Path;
@@ -14,9 +15,15 @@ public class ConfigTest {
     //Test base config
     private static final String USER_PREFS_FILE_PATH_STRING = "preferences.json";
     private static final Path USER_PREFS_FILE_PATH = Paths.get(USER_PREFS_FILE_PATH_STRING);
+    private static final String METRICS_FILE_PATH_STRING = "metrics.txt";
+    private static final Path METRICS_FILE_PATH = Paths.get(METRICS_FILE_PATH_STRING);
+    private static final long METRICS_DUMP_INTERVAL_SECONDS = 60;
+    private static final boolean STEP_TEXT_OFF_HEAP = false;
     private static final Level CONFIG_BASE_LEVEL = Level.INFO;
     private static final String DEFAULT_CONFIG_STRING = String.format("Current log level : %s\n"
-        + "Preference file Location : %s", CONFIG_BASE_LEVEL, USER_PREFS_FILE_PATH_STRING);
+        + "Preference file Location : %s\nMetrics file Location : %s\nMetrics dump interval : %ds\n"
+        + "Step text off heap : %s", CONFIG_BASE_LEVEL, USER_PREFS_FILE_PATH_STRING, METRICS_FILE_PATH_STRING,
+        METRICS_DUMP_INTERVAL_SECONDS, STEP_TEXT_OFF_HEAP);
 
     @Test
     public void getLogLevel_initialLevel_baseLevel() {
@@ -44,16 +51,35 @@ public class ConfigTest {
         assertEquals(defaultConfig.getUserPrefsFilePath(), newPath);
     }
 
+    @Test
+    public void getMetricsDumpIntervalSeconds_initialValue_matchesConfigInitialValue() {
+        assertEquals(METRICS_DUMP_INTERVAL_SECONDS, new Config().getMetricsDumpIntervalSeconds());
+    }
+
+    @Test
+    public void isStepTextOffHeap_initialValue_false() {
+        assertEquals(STEP_TEXT_OFF_HEAP, new Config().isStepTextOffHeap());
+    }
+
     @Test
     public void equals() {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertEquals(defaultConfig, defaultConfig);
+
+        Config otherConfig = new Config();
+        otherConfig.setMetricsDumpIntervalSeconds(0);
+        assertNotEquals(defaultConfig, otherConfig);
+
+        Config offHeapConfig = new Config();
+        offHeapConfig.setStepTextOffHeap(true);
+        assertNotEquals(defaultConfig, offHeapConfig);
     }
 
     @Test
     public void hashCode_initialValue_matchesInitialValuesHash() {
-        assertEquals(Objects.hash(CONFIG_BASE_LEVEL, USER_PREFS_FILE_PATH), new Config().hashCode());
+        assertEquals(Objects.hash(CONFIG_BASE_LEVEL, USER_PREFS_FILE_PATH, METRICS_FILE_PATH,
+            METRICS_DUMP_INTERVAL_SECONDS, STEP_TEXT_OFF_HEAP), new Config().hashCode());
     }
 
     @Test
@@ -0,0 +1,56 @@
+package seedu.recipe.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(95, histogram.getValueAtPercentile(95));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(50.5, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinTwoPercent() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        assertWithinTwoPercent(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinTwoPercent(95_000_000, histogram.getValueAtPercentile(95));
+        assertWithinTwoPercent(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getMaxValue());
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_valueAboveHighestTrackable_countedAsHighestTrackable() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Histogram.HIGHEST_TRACKABLE_VALUE, histogram.getMaxValue());
+        assertEquals(Histogram.HIGHEST_TRACKABLE_VALUE, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertWithinTwoPercent(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected * 0.02, expected + " but was " + actual);
+    }
+}
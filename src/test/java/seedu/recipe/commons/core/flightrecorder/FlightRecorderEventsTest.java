@@ -0,0 +1,124 @@
+package seedu.recipe.commons.core.flightrecorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.recipe.logic.LogicManager;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.exceptions.RecipeNotFoundException;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.StorageManager;
+
+public class FlightRecorderEventsTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_recording_emitsEventsForCommandModelChangeAndSave() throws Exception {
+        Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        Path recipeBookFile = temporaryFolder.resolve("recipeBook.json");
+        StorageManager storage = new StorageManager(new JsonRecipeBookStorage(recipeBookFile),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(model, storage);
+        int recipeCount = model.getRecipeBook().getRecipeList().size();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.enable(ModelChangeEvent.class);
+            recording.enable(StorageEvent.class);
+            recording.enable(IndexRebuildEvent.class);
+            recording.start();
+            logic.execute("delete 1");
+            model.setRecipeBook(getTypicalRecipeBook());
+            recording.stop();
+            Path recordingFile = temporaryFolder.resolve("recording.jfr");
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        }
+
+        RecordedEvent command = getOnlyEvent(events, "seedu.recipe.Command");
+        assertEquals("DeleteCommand", command.getString("commandType"));
+        assertEquals(recipeCount - 1, command.getInt("recipeCount"));
+        assertTrue(command.getBoolean("isSuccessful"));
+        // deleting a recipe and saving the recipe book allocates, if only for the JSON written
+        assertTrue(command.getLong("allocatedBytes") > 0);
+
+        List<RecordedEvent> modelChanges = getEvents(events, "seedu.recipe.ModelChange");
+        assertEquals(List.of("deleteRecipe", "setRecipeBook"), modelChanges.stream()
+            .map(event -> event.getString("operation")).collect(Collectors.toList()));
+        assertEquals(recipeCount, modelChanges.get(1).getInt("recipeCount"));
+        assertTrue(modelChanges.get(0).getLong("allocatedBytes") >= 0);
+        assertTrue(modelChanges.get(1).getLong("allocatedBytes") > 0);
+        assertTrue(modelChanges.stream().allMatch(event -> event.getBoolean("isSuccessful")));
+
+        RecordedEvent save = getOnlyEvent(events, "seedu.recipe.Storage");
+        assertEquals("save", save.getString("operation"));
+        assertEquals(recipeCount - 1, save.getInt("recipeCount"));
+        assertEquals(recipeBookFile.toFile().length(), save.getLong("fileSize"));
+        assertTrue(save.getBoolean("isSuccessful"));
+
+        // resetting the recipe book rebuilds both indexes of the recipe list
+        assertEquals(2, getEvents(events, "seedu.recipe.IndexRebuild").size());
+    }
+
+    @Test
+    public void failedOperations_recording_emitsUnsuccessfulEvents() throws Exception {
+        Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        Path notFolder = temporaryFolder.resolve("notFolder");
+        Files.writeString(notFolder, "");
+        StorageManager storage = new StorageManager(new JsonRecipeBookStorage(notFolder.resolve("recipeBook.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ModelChangeEvent.class);
+            recording.enable(StorageEvent.class);
+            recording.start();
+            assertThrows(RecipeNotFoundException.class, () -> model.deleteRecipe(new Recipe(new Name("Missing"))));
+            assertThrows(IOException.class, () -> storage.saveRecipeBook(model.getRecipeBook()));
+            recording.stop();
+            Path recordingFile = temporaryFolder.resolve("recording.jfr");
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        }
+
+        RecordedEvent modelChange = getOnlyEvent(events, "seedu.recipe.ModelChange");
+        assertEquals("deleteRecipe", modelChange.getString("operation"));
+        assertFalse(modelChange.getBoolean("isSuccessful"));
+        RecordedEvent save = getOnlyEvent(events, "seedu.recipe.Storage");
+        assertEquals("save", save.getString("operation"));
+        assertFalse(save.getBoolean("isSuccessful"));
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent getOnlyEvent(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = getEvents(events, name);
+        assertEquals(1, matching.size());
+        return matching.get(0);
+    }
+}
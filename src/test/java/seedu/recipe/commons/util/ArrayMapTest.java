@@ -0,0 +1,76 @@
+package seedu.recipe.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ArrayMapTest {
+    private static final Map<String, Integer> ENTRIES = new LinkedHashMap<>();
+
+    static {
+        ENTRIES.put("b", 2);
+        ENTRIES.put("a", 1);
+        ENTRIES.put("c", 3);
+    }
+
+    @Test
+    public void copyOf_map_keepsIterationOrder() {
+        ArrayMap<String, Integer> map = ArrayMap.copyOf(ENTRIES);
+        assertEquals(List.of("b", "a", "c"), new ArrayList<>(map.keySet()));
+        assertEquals(List.of(2, 1, 3), new ArrayList<>(map.values()));
+        List<String> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key + value));
+        assertEquals(List.of("b2", "a1", "c3"), visited);
+    }
+
+    @Test
+    public void copyOf_nullValue_throwsNullPointerException() {
+        Map<String, Integer> entries = new HashMap<>();
+        entries.put("a", null);
+        assertThrows(NullPointerException.class, () -> ArrayMap.copyOf(entries));
+    }
+
+    @Test
+    public void copyOf_emptyOrArrayMap_notCopied() {
+        assertSame(ArrayMap.of(), ArrayMap.copyOf(new HashMap<>()));
+        ArrayMap<String, Integer> map = ArrayMap.copyOf(ENTRIES);
+        assertSame(map, ArrayMap.copyOf(map));
+    }
+
+    @Test
+    public void getAndContainsKey() {
+        ArrayMap<String, Integer> map = ArrayMap.copyOf(ENTRIES);
+        assertEquals(Integer.valueOf(1), map.get("a"));
+        assertNull(map.get("d"));
+        assertNull(map.get(null));
+        assertTrue(map.containsKey("c"));
+        assertFalse(map.containsKey("d"));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameEntriesAsHashMap_equal() {
+        Map<String, Integer> hashMap = new HashMap<>(ENTRIES);
+        ArrayMap<String, Integer> map = ArrayMap.copyOf(ENTRIES);
+        assertEquals(hashMap, map);
+        assertEquals(map, hashMap);
+        assertEquals(hashMap.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        ArrayMap<String, Integer> map = ArrayMap.copyOf(ENTRIES);
+        assertThrows(UnsupportedOperationException.class, () -> map.put("d", 4));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove("a"));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.recipe.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ArraySetTest {
+    @Test
+    public void of_duplicateElements_keepsFirstOfEachInOrder() {
+        ArraySet<String> set = ArraySet.of("b", "a", "b", "c", "a");
+        assertEquals(List.of("b", "a", "c"), new ArrayList<>(set));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ArraySet.of("a", null));
+    }
+
+    @Test
+    public void of_noElements_sharesEmptySet() {
+        assertSame(ArraySet.of(), ArraySet.copyOf(List.of()));
+        assertTrue(ArraySet.of().isEmpty());
+    }
+
+    @Test
+    public void copyOf_arraySet_returnsSameSet() {
+        ArraySet<String> set = ArraySet.of("a", "b");
+        assertSame(set, ArraySet.copyOf(set));
+    }
+
+    @Test
+    public void contains() {
+        ArraySet<String> set = ArraySet.of("a", "b");
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("c"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameElementsAsHashSet_equal() {
+        Set<String> hashSet = new HashSet<>(Arrays.asList("a", "b", "c"));
+        ArraySet<String> set = ArraySet.of("c", "a", "b");
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        ArraySet<String> set = ArraySet.of("a");
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.recipe.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.recipe.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_equalValues_returnsFirstInterned() {
+        String first = new String("value");
+        String second = new String("value");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(new String("value")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsEach() {
+        String first = interner.intern(new String("first"));
+        String second = interner.intern(new String("second"));
+        assertSame(first, interner.intern(new String("first")));
+        assertSame(second, interner.intern(new String("second")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.recipe.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.logic.commands.Command;
+import seedu.recipe.logic.commands.CommandResult;
+import seedu.recipe.logic.commands.ListCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.StorageManager;
+
+public class CommandDispatcherTest {
+    private static final String CALLBACK_THREAD_NAME = "callback";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final List<List<Recipe>> publishedLists = Collections.synchronizedList(new ArrayList<>());
+    // Stands in for the JavaFX application thread
+    private final ExecutorService callbackThread = Executors.newSingleThreadExecutor(runnable ->
+        new Thread(runnable, CALLBACK_THREAD_NAME));
+    private CommandDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+            new JsonRecipeBookStorage(temporaryFolder.resolve("recipeBook.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        dispatcher = new CommandDispatcher(new LogicManager(model, storage), callbackThread, publishedLists::add);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+        callbackThread.shutdownNow();
+    }
+
+    @Test
+    public void submit_validCommand_resultOnCallbackThread() throws Exception {
+        CompletableFuture<String> resultThread = new CompletableFuture<>();
+        CommandResult result = dispatcher.submit("delete 1")
+            .whenComplete((unused, error) -> resultThread.complete(Thread.currentThread().getName()))
+            .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Deleted Recipe: "));
+        assertEquals(CALLBACK_THREAD_NAME, resultThread.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(model.getFilteredRecipeList()), publishedLists);
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithParseException() throws Exception {
+        ExecutionException thrown = assertThrowsExecution(dispatcher.submit("uicfhmowqewca"));
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, thrown.getCause().getMessage());
+
+        // the recipe list did not change, so it is not handed back
+        assertEquals(List.of(), publishedLists);
+
+        // later commands still run
+        assertEquals(ListCommand.MESSAGE_SUCCESS, dispatcher.submit(ListCommand.COMMAND_WORD)
+            .get(5, TimeUnit.SECONDS).getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_whileCommandRunning_returnsImmediatelyAndRunsInOrder() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> completionOrder = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<CommandResult> blocked = dispatcher.submit(new StubCommand(false, () -> {
+            release.await();
+            return "blocked";
+        }));
+        List<CompletableFuture<CommandResult>> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int position = i;
+            queued.add(dispatcher.submit("delete 1").whenComplete((unused, error) -> completionOrder.add(position)));
+        }
+        assertFalse(blocked.isDone());
+
+        release.countDown();
+        assertEquals("blocked", blocked.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        for (CompletableFuture<CommandResult> future : queued) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4), completionOrder);
+        assertEquals(0, model.getRecipeBook().getRecipeList().size());
+    }
+
+    @Test
+    public void submit_guiCommand_executedOnCallbackThread() throws Exception {
+        CommandResult result = dispatcher.submit(new StubCommand(true, () -> Thread.currentThread().getName()))
+            .get(5, TimeUnit.SECONDS);
+        assertEquals(CALLBACK_THREAD_NAME, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_task_publishesChangesAndRunsBeforeLaterCommands() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> task = dispatcher.submit(publishRecipeListChanges -> {
+            model.deleteRecipe(model.getFilteredRecipeList().get(0));
+            publishRecipeListChanges.run();
+            release.await();
+            model.deleteRecipe(model.getFilteredRecipeList().get(0));
+        });
+        CompletableFuture<CommandResult> later = dispatcher.submit("delete 1");
+        assertFalse(later.isDone());
+
+        release.countDown();
+        task.get(5, TimeUnit.SECONDS);
+        later.get(5, TimeUnit.SECONDS);
+        int recipeCount = getTypicalRecipeBook().getRecipeList().size();
+        assertEquals(recipeCount - 3, model.getRecipeBook().getRecipeList().size());
+        // the change made before the task finished was handed back on its own
+        assertEquals(3, publishedLists.size());
+        assertEquals(recipeCount - 1, publishedLists.get(0).size());
+    }
+
+    @Test
+    public void submit_failingTask_failsWithException() throws Exception {
+        CompletableFuture<Void> task = dispatcher.submit(publishRecipeListChanges -> {
+            throw new IllegalStateException("failed");
+        });
+        ExecutionException thrown = assertThrowsExecution(task);
+        assertEquals("failed", thrown.getCause().getMessage());
+    }
+
+    @Test
+    public void shutdown_waitsForQueuedCommands() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            dispatcher.submit("delete 1");
+        }
+        assertTrue(dispatcher.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(2, model.getRecipeBook().getRecipeList().size());
+    }
+
+    @Test
+    public void shutdown_fromCallbackThread_cancelsGuiCommandsAndRunsOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        // blocks the callback thread, as stopping the app blocks the JavaFX application thread
+        CompletableFuture<Boolean> isShutDown = CompletableFuture.supplyAsync(() -> {
+            try {
+                release.await();
+                return dispatcher.shutdown(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }, callbackThread);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<CommandResult> guiCommand = dispatcher.submit(new StubCommand(true, () -> {
+            executed.add("gui");
+            return "gui";
+        }));
+        dispatcher.submit("delete 1");
+        dispatcher.submit(new StubCommand(true, () -> {
+            executed.add("later gui");
+            return "later gui";
+        }));
+
+        release.countDown();
+        assertTrue(isShutDown.get(5, TimeUnit.SECONDS));
+        ExecutionException thrown = assertThrowsExecution(guiCommand);
+        assertEquals(CommandDispatcher.MESSAGE_SHUTTING_DOWN, thrown.getCause().getMessage());
+        assertEquals(List.of(), executed);
+        assertEquals(getTypicalRecipeBook().getRecipeList().size() - 1, model.getRecipeBook().getRecipeList().size());
+    }
+
+    private static ExecutionException assertThrowsExecution(CompletableFuture<?> future)
+            throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e;
+        }
+        throw new AssertionError("Expected the command to fail.");
+    }
+
+    /**
+     * A command which runs the given action, and returns its result as feedback.
+     */
+    private static class StubCommand extends Command {
+        private final boolean requiresGui;
+        private final Action action;
+
+        StubCommand(boolean requiresGui, Action action) {
+            this.requiresGui = requiresGui;
+            this.action = action;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            try {
+                return new CommandResult(action.run());
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public boolean requiresGui() {
+            return requiresGui;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        String run() throws InterruptedException;
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.recipe.commons.core.CommandMetrics.CommandTypeMetrics;
 import seedu.recipe.logic.commands.AddCommand;
 import seedu.recipe.logic.commands.Command;
 import seedu.recipe.logic.commands.CommandResult;
@@ -131,6 +132,22 @@ public class LogicManagerTest {
         }
     }
 
+    @Test
+    public void executeStringCommand_validCommand_recordsMetrics() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertCommandException("delete 9", MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
+
+        CommandTypeMetrics listMetrics = model.getCommandMetrics().getMetrics("ListCommand").get();
+        assertEquals(1, listMetrics.getParseNanos().getTotalCount());
+        assertEquals(1, listMetrics.getExecuteNanos().getTotalCount());
+        assertEquals(1, listMetrics.getPersistNanos().getTotalCount());
+
+        // commands which fail are not persisted
+        CommandTypeMetrics deleteMetrics = model.getCommandMetrics().getMetrics("DeleteCommand").get();
+        assertEquals(1, deleteMetrics.getExecuteNanos().getTotalCount());
+        assertEquals(0, deleteMetrics.getPersistNanos().getTotalCount());
+    }
+
     @Test
     public void getFilteredRecipeList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredRecipeList().remove(0));
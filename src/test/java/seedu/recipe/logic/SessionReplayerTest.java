@@ -0,0 +1,80 @@
+package seedu.recipe.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.commons.exceptions.IllegalValueException;
+import seedu.recipe.logic.commands.AddFormCommand;
+import seedu.recipe.logic.commands.ListCommand;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.StorageManager;
+
+public class SessionReplayerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void replay_recordedSession_sameChangesMadeAgain() throws Exception {
+        Model recordedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        LogicManager recordedLogic = createLogic(recordedModel, "recorded.json");
+        Path traceFile = temporaryFolder.resolve("session.trace");
+        try (SessionRecorder recorder = new SessionRecorder(traceFile)) {
+            recordedLogic.setSessionRecorder(recorder);
+            recordedLogic.execute("delete 1");
+            recordedLogic.execute(ListCommand.COMMAND_WORD);
+            assertThrows(ParseException.class, () -> recordedLogic.execute("uicfhmowqewca"));
+            recordedLogic.parseCommand(AddFormCommand.COMMAND_WORD);
+        }
+
+        List<String> lines = Files.readAllLines(traceFile, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).startsWith(SessionRecorder.COMMENT_PREFIX));
+        assertTrue(lines.get(1).matches("\\d+\tdelete 1"));
+
+        Model replayedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        SessionReplayer.Result result;
+        try (BufferedReader trace = Files.newBufferedReader(traceFile, StandardCharsets.UTF_8)) {
+            result = new SessionReplayer(createLogic(replayedModel, "replayed.json")).replay(trace);
+        }
+        assertEquals(recordedModel.getRecipeBook(), replayedModel.getRecipeBook());
+        assertEquals(3, result.getReplayedCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, result.getSkippedCount());
+        assertEquals(3, result.getLatencyNanos().getTotalCount());
+        assertTrue(replayedModel.getCommandMetrics().getMetrics("DeleteCommand").isPresent());
+    }
+
+    @Test
+    public void replay_invalidLine_throwsIllegalValueExceptionWithoutReplaying() {
+        Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        SessionReplayer replayer = new SessionReplayer(createLogic(model, "recipeBook.json"));
+        String trace = "# comment\n0\tdelete 1\nnot a command\n";
+
+        assertThrows(IllegalValueException.class, String.format(SessionReplayer.MESSAGE_INVALID_LINE, 3,
+            "not a command"), () -> replayer.replay(new BufferedReader(new StringReader(trace))));
+        assertEquals(getTypicalRecipeBook(), model.getRecipeBook());
+    }
+
+    private LogicManager createLogic(Model model, String recipeBookFileName) {
+        return new LogicManager(model, new StorageManager(
+            new JsonRecipeBookStorage(temporaryFolder.resolve(recipeBookFileName)),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+    }
+}
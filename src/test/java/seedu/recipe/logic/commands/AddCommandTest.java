@@ -10,17 +10,23 @@ import static seedu.recipe.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.recipe.commons.core.CommandMetrics;
 import seedu.recipe.commons.core.GuiSettings;
 import seedu.recipe.logic.commands.exceptions.CommandException;
 import seedu.recipe.model.Model;
+import seedu.recipe.model.QueryResultCache;
 import seedu.recipe.model.ReadOnlyRecipeBook;
 import seedu.recipe.model.ReadOnlyUserPrefs;
 import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.RecipeBookSnapshot;
 import seedu.recipe.model.recipe.Recipe;
 
 //@@author alson001
@@ -116,6 +122,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteRecipes(Collection<Recipe> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setRecipes(Map<Recipe, Recipe> editedRecipes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RecipeBookSnapshot getRecipeBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void publishRecipeBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRecipe(Recipe recipe) {
             throw new AssertionError("This method should not be called.");
@@ -126,6 +152,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Recipe> addRecipes(Collection<Recipe> recipes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setRecipe(Recipe target, Recipe editedRecipe) {
             throw new AssertionError("This method should not be called.");
@@ -140,6 +171,16 @@ public class AddCommandTest {
         public void updateFilteredRecipeList(Predicate<Recipe> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public QueryResultCache.Statistics getQueryCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,101 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.Assert.assertThrows;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_SECOND_RECIPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.logic.parser.exceptions.ParseException;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+
+public class BatchCommandTest {
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    @Test
+    public void parse_validScript_skipsBlankAndCommentLines() throws Exception {
+        BatchCommand batch = BatchCommand.parse("# comment\n\ndelete 1\r\n  delete 2  ");
+        assertEquals(2, batch.size());
+        List<Command> expectedCommands =
+            List.of(new DeleteCommand(INDEX_FIRST_RECIPE), new DeleteCommand(INDEX_SECOND_RECIPE));
+        assertEquals(new BatchCommand(expectedCommands, List.of(3, 4)), batch);
+    }
+
+    @Test
+    public void parse_withParser_parsesEveryLineWithIt() throws Exception {
+        List<String> parsedLines = new ArrayList<>();
+        BatchCommand batch = BatchCommand.parse("# comment\ndelete 1\n\ndelete 2", line -> {
+            parsedLines.add(line);
+            return new DeleteCommand(INDEX_FIRST_RECIPE);
+        });
+        assertEquals(List.of("delete 1", "delete 2"), parsedLines);
+        assertEquals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_RECIPE),
+            new DeleteCommand(INDEX_FIRST_RECIPE)), List.of(2, 4)), batch);
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() {
+        assertThrows(ParseException.class,
+            String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, Messages.MESSAGE_UNKNOWN_COMMAND), () ->
+                BatchCommand.parse("list\nunknownCommand"));
+    }
+
+    @Test
+    public void execute_allSucceed_success() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        expectedModel.deleteRecipe(expectedModel.getFilteredRecipeList().get(0));
+        expectedModel.deleteRecipe(expectedModel.getFilteredRecipeList().get(0));
+
+        assertCommandSuccess(BatchCommand.parse("delete 1\ndelete 1"), model,
+            String.format(BatchCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_failure_restoresRecipeBook() throws Exception {
+        assertCommandFailure(BatchCommand.parse("delete 1\n\ndelete 1000"), model,
+            String.format(BatchCommand.MESSAGE_FAILED_LINE, 3, Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_uncheckedFailure_restoresRecipeBook() {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalArgumentException("Invalid recipe");
+            }
+        };
+        BatchCommand batch = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_RECIPE), failingCommand),
+            List.of(1, 2));
+
+        assertCommandFailure(batch, model, String.format(BatchCommand.MESSAGE_FAILED_LINE, 2, "Invalid recipe"));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        BatchCommand batch = BatchCommand.parse("delete 1");
+
+        // same object -> returns true
+        assertTrue(batch.equals(batch));
+
+        // same commands and lines -> returns true
+        assertTrue(batch.equals(BatchCommand.parse("delete 1")));
+
+        // different lines -> returns false
+        assertFalse(batch.equals(BatchCommand.parse("\ndelete 1")));
+
+        // null -> returns false
+        assertFalse(batch.equals(null));
+    }
+}
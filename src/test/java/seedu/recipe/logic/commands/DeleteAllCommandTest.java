@@ -0,0 +1,102 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.logic.commands.CommandTestUtil.showRecipeAtIndex;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code DeleteAllCommand}.
+ */
+public class DeleteAllCommandTest {
+    private static final Predicate<Recipe> ENGLISH = recipe -> recipe.getTags().contains(new Tag("English"));
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    @Test
+    public void execute_noQueryFilteredList_deletesDisplayedRecipes() {
+        showRecipeAtIndex(model, INDEX_FIRST_RECIPE);
+        Recipe recipeToDelete = model.getFilteredRecipeList().get(0);
+
+        ModelManager expectedModel = new ModelManager(model.getRecipeBook(), new UserPrefs());
+        expectedModel.deleteRecipe(recipeToDelete);
+        showNoRecipe(expectedModel);
+
+        assertCommandSuccess(new DeleteAllCommand(Optional.empty()), model,
+            String.format(DeleteAllCommand.MESSAGE_DELETE_RECIPES_SUCCESS, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_query_deletesMatchingRecipesInWholeBook() {
+        // the query is run over the whole recipe book, not just the displayed recipes
+        showRecipeAtIndex(model, INDEX_FIRST_RECIPE);
+        List<Recipe> english = model.getRecipeBook().getRecipeList().stream()
+            .filter(ENGLISH)
+            .collect(Collectors.toList());
+        assertEquals(2, english.size());
+
+        ModelManager expectedModel = new ModelManager(model.getRecipeBook(), new UserPrefs());
+        english.forEach(expectedModel::deleteRecipe);
+        showRecipeAtIndex(expectedModel, INDEX_FIRST_RECIPE);
+
+        assertCommandSuccess(new DeleteAllCommand(Optional.of(ENGLISH)), model,
+            String.format(DeleteAllCommand.MESSAGE_DELETE_RECIPES_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingRecipes_throwsCommandException() {
+        assertCommandFailure(new DeleteAllCommand(Optional.of(recipe -> false)), model,
+            DeleteAllCommand.MESSAGE_NO_RECIPES);
+        Model emptyModel = new ModelManager(new RecipeBook(), new UserPrefs());
+        assertCommandFailure(new DeleteAllCommand(Optional.empty()), emptyModel, DeleteAllCommand.MESSAGE_NO_RECIPES);
+    }
+
+    @Test
+    public void execute_manyRecipes_singleChangeToRecipeList() throws Exception {
+        int[] changes = {0};
+        model.getRecipeBook().getRecipeList().addListener((ListChangeListener<Recipe>) change -> changes[0]++);
+        new DeleteAllCommand(Optional.empty()).execute(model);
+        assertEquals(1, changes[0]);
+        assertTrue(model.getRecipeBook().getRecipeList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand deleteDisplayed = new DeleteAllCommand(Optional.empty());
+        DeleteAllCommand deleteEnglish = new DeleteAllCommand(Optional.of(ENGLISH));
+
+        assertTrue(deleteDisplayed.equals(deleteDisplayed));
+        assertTrue(deleteDisplayed.equals(new DeleteAllCommand(Optional.empty())));
+        assertTrue(deleteEnglish.equals(new DeleteAllCommand(Optional.of(ENGLISH))));
+        assertFalse(deleteDisplayed.equals(deleteEnglish));
+        assertFalse(deleteDisplayed.equals(null));
+        assertFalse(deleteDisplayed.equals(new DeleteCommand(INDEX_FIRST_RECIPE)));
+    }
+
+    /**
+     * Updates {@code model}'s filtered list to show no one.
+     */
+    private void showNoRecipe(Model model) {
+        model.updateFilteredRecipeList(p -> false);
+        assertTrue(model.getFilteredRecipeList().isEmpty());
+    }
+}
@@ -111,7 +111,29 @@ public class DeleteCommandTest {
 
     @Test
     public void constructor_nullIndex_nullPointerExceptionThrown() {
-        assertThrows(NullPointerException.class, () -> new DeleteCommand(null));
+        assertThrows(NullPointerException.class, () -> new DeleteCommand((Index) null));
+        assertThrows(NullPointerException.class, () -> new DeleteCommand((Recipe) null));
+    }
+
+    @Test
+    public void execute_recipeNotDisplayed_success() {
+        showNoRecipe(model);
+        Recipe recipeToDelete = model.getRecipeBook().getRecipeList().get(INDEX_SECOND_RECIPE.getZeroBased());
+
+        ModelManager expectedModel = new ModelManager(model.getRecipeBook(), new UserPrefs());
+        expectedModel.deleteRecipe(recipeToDelete);
+        showNoRecipe(expectedModel);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_RECIPE_SUCCESS, recipeToDelete);
+        assertCommandSuccess(new DeleteCommand(recipeToDelete), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_recipeNoLongerInRecipeBook_throwsCommandException() {
+        Recipe recipeToDelete = model.getRecipeBook().getRecipeList().get(INDEX_FIRST_RECIPE.getZeroBased());
+        model.deleteRecipe(recipeToDelete);
+
+        assertCommandFailure(new DeleteCommand(recipeToDelete), model, Messages.MESSAGE_RECIPE_CHANGED);
     }
 
     /**
@@ -0,0 +1,86 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.VALID_NAME_CHICKEN;
+import static seedu.recipe.logic.commands.CommandTestUtil.VALID_TAG_CHINESE;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.logic.commands.CommandTestUtil.showRecipeAtIndex;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.util.RecipeDescriptor;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.tag.Tag;
+import seedu.recipe.testutil.EditRecipeDescriptorBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for EditAllCommand.
+ */
+public class EditAllCommandTest {
+    private static final Predicate<Recipe> ENGLISH = recipe -> recipe.getTags().contains(new Tag("English"));
+    private static final RecipeDescriptor TAG_CHINESE =
+        new EditRecipeDescriptorBuilder().withTags(VALID_TAG_CHINESE).build();
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    @Test
+    public void execute_query_editsMatchingRecipes() {
+        Model expectedModel = new ModelManager(new RecipeBook(model.getRecipeBook()), new UserPrefs());
+        for (Recipe recipe : model.getRecipeBook().getRecipeList()) {
+            if (ENGLISH.test(recipe)) {
+                expectedModel.setRecipe(recipe, TAG_CHINESE.toRecipe(recipe));
+            }
+        }
+
+        assertCommandSuccess(new EditAllCommand(Optional.of(ENGLISH), TAG_CHINESE), model,
+            String.format(EditAllCommand.MESSAGE_EDIT_RECIPES_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_noQueryFilteredList_editsDisplayedRecipes() {
+        showRecipeAtIndex(model, INDEX_FIRST_RECIPE);
+        Recipe recipeToEdit = model.getFilteredRecipeList().get(0);
+        Model expectedModel = new ModelManager(new RecipeBook(model.getRecipeBook()), new UserPrefs());
+        expectedModel.setRecipe(recipeToEdit, TAG_CHINESE.toRecipe(recipeToEdit));
+
+        assertCommandSuccess(new EditAllCommand(Optional.empty(), TAG_CHINESE), model,
+            String.format(EditAllCommand.MESSAGE_EDIT_RECIPES_SUCCESS, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_sameNameForManyRecipes_failure() {
+        RecipeDescriptor rename = new EditRecipeDescriptorBuilder().withName(VALID_NAME_CHICKEN).build();
+        assertCommandFailure(new EditAllCommand(Optional.empty(), rename), model,
+            EditAllCommand.MESSAGE_DUPLICATE_RECIPES);
+    }
+
+    @Test
+    public void execute_noMatchingRecipes_failure() {
+        assertCommandFailure(new EditAllCommand(Optional.of(recipe -> false), TAG_CHINESE), model,
+            EditAllCommand.MESSAGE_NO_RECIPES);
+    }
+
+    @Test
+    public void equals() {
+        EditAllCommand editEnglish = new EditAllCommand(Optional.of(ENGLISH), TAG_CHINESE);
+
+        assertTrue(editEnglish.equals(editEnglish));
+        assertTrue(editEnglish.equals(new EditAllCommand(Optional.of(ENGLISH), TAG_CHINESE)));
+        assertFalse(editEnglish.equals(new EditAllCommand(Optional.empty(), TAG_CHINESE)));
+        assertFalse(editEnglish.equals(new EditAllCommand(Optional.of(ENGLISH),
+            new EditRecipeDescriptorBuilder().withName(VALID_NAME_CHICKEN).build())));
+        assertFalse(editEnglish.equals(null));
+        assertFalse(editEnglish.equals(new DeleteAllCommand(Optional.of(ENGLISH))));
+    }
+}
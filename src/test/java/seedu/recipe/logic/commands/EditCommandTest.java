@@ -115,6 +115,29 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_recipeNotDisplayed_success() {
+        showRecipeAtIndex(model, INDEX_FIRST_RECIPE);
+        Recipe recipeToEdit = model.getRecipeBook().getRecipeList().get(INDEX_SECOND_RECIPE.getZeroBased());
+        Recipe editedRecipe = new EditRecipeDescriptorBuilder(recipeToEdit)
+                .withName(VALID_NAME_CHICKEN).build().toRecipe();
+        EditCommand editCommand = new EditCommand(recipeToEdit,
+                new EditRecipeDescriptorBuilder().withName(VALID_NAME_CHICKEN).build());
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_RECIPE_SUCCESS, editedRecipe);
+        Model expectedModel = new ModelManager(new RecipeBook(model.getRecipeBook()), new UserPrefs());
+        expectedModel.setRecipe(recipeToEdit, editedRecipe);
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_recipeNoLongerInRecipeBook_failure() {
+        Recipe recipeToEdit = model.getRecipeBook().getRecipeList().get(INDEX_FIRST_RECIPE.getZeroBased());
+        model.deleteRecipe(recipeToEdit);
+        EditCommand editCommand = new EditCommand(recipeToEdit,
+                new EditRecipeDescriptorBuilder().withName(VALID_NAME_CHICKEN).build());
+        assertCommandFailure(editCommand, model, Messages.MESSAGE_RECIPE_CHANGED);
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(INDEX_FIRST_RECIPE, DESC_CHICKEN);
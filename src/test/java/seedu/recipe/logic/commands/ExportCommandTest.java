@@ -1,16 +1,26 @@
 package seedu.recipe.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.recipe.commons.core.Config;
 import seedu.recipe.logic.Logic;
 import seedu.recipe.logic.LogicManager;
+import seedu.recipe.model.Model;
 import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.UserPrefs;
 import seedu.recipe.storage.JsonRecipeBookStorage;
 import seedu.recipe.storage.JsonUserPrefsStorage;
 import seedu.recipe.storage.Storage;
@@ -20,8 +30,12 @@ import seedu.recipe.storage.StorageManager;
  * Validates the constructor and initial behavior of this Command.
  * As Ubuntu environments do not work with TestFX, we are unable to mock the
  * behavior of this Command with Stage instances in the CI environment.
+ * Exports to a given path do not need a Stage, and are tested fully.
  */
 public class ExportCommandTest {
+    @TempDir
+    public Path testFolder;
+
     private static final Logic logic;
     static {
         Config config = new Config();
@@ -41,4 +55,32 @@ public class ExportCommandTest {
     public void constructor_validParams_doesNotThrow() {
         assertDoesNotThrow(() -> new ExportCommand(null, logic));
     }
+
+    @Test
+    public void execute_validPath_writesRecipeBook() throws Exception {
+        Path exportPath = testFolder.resolve("export").resolve("recipebook.json");
+        Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+        assertCommandSuccess(ExportCommand.of(exportPath), model, ExportCommand.SUCCESS_MESSAGE, expectedModel);
+        assertEquals(getTypicalRecipeBook(),
+            new RecipeBook(new JsonRecipeBookStorage(exportPath).readRecipeBook().get()));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = ExportCommand.of(Path.of("a.json"));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same path -> returns true
+        assertTrue(exportCommand.equals(ExportCommand.of(Path.of("a.json"))));
+
+        // different path -> returns false
+        assertFalse(exportCommand.equals(ExportCommand.of(Path.of("b.json"))));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+    }
 }
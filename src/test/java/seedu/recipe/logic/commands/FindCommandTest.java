@@ -8,6 +8,8 @@ import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.recipe.testutil.TypicalRecipes.BLUEBERRY_PANCAKES;
 import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
 import static seedu.recipe.testutil.TypicalRecipes.FISH_AND_CHIPS;
+import static seedu.recipe.testutil.TypicalRecipes.GRILLED_CHEESE;
+import static seedu.recipe.testutil.TypicalRecipes.MASALA_DOSA;
 import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
 
 import java.util.Arrays;
@@ -22,6 +24,7 @@ import seedu.recipe.model.UserPrefs;
 import seedu.recipe.model.recipe.Name;
 import seedu.recipe.model.recipe.PropertyCollectionContainsKeywordsPredicate;
 import seedu.recipe.model.recipe.PropertyNameContainsKeywordsPredicate;
+import seedu.recipe.model.recipe.RecipeDurationWithinRangePredicate;
 import seedu.recipe.model.recipe.ingredient.Ingredient;
 import seedu.recipe.model.tag.Tag;
 
@@ -120,6 +123,31 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BLUEBERRY_PANCAKES, CACIO_E_PEPE, FISH_AND_CHIPS), model.getFilteredRecipeList());
     }
 
+    @Test
+    public void execute_durationPropertyUpperBound_multipleRecipesFound() {
+        String expectedMessage = String.format(MESSAGE_RECIPES_LISTED_OVERVIEW, 3);
+        RecipeDurationWithinRangePredicate predicate = RecipeDurationWithinRangePredicate.of("<30m");
+
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredRecipeList(predicate);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CACIO_E_PEPE, FISH_AND_CHIPS, GRILLED_CHEESE), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void execute_durationPropertyRange_multipleRecipesFound() {
+        String expectedMessage = String.format(MESSAGE_RECIPES_LISTED_OVERVIEW, 4);
+        RecipeDurationWithinRangePredicate predicate = RecipeDurationWithinRangePredicate.of("10m-1h");
+
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredRecipeList(predicate);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BLUEBERRY_PANCAKES, CACIO_E_PEPE, FISH_AND_CHIPS, MASALA_DOSA),
+            model.getFilteredRecipeList());
+    }
+
     @Test
     public void constructor_nullPredicate_nullPointerExceptionThrown() {
         assertThrows(NullPointerException.class, () -> new FindCommand(null));
@@ -2,15 +2,31 @@ package seedu.recipe.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.storage.JsonRecipeBookStorage;
 
 /**
  * Validates the constructor and initial behavior of this Command.
  * As Ubuntu environments do not work with TestFX, we are unable to mock the
  * behavior of this Command with Stage instances in the CI environment.
+ * Imports from a given path do not need a Stage, and are tested fully.
  */
 public class ImportCommandTest {
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void constructor_noError() {
         assertDoesNotThrow(() -> new ImportCommand(null));
@@ -20,4 +36,51 @@ public class ImportCommandTest {
     public void isDuplicate_initial_isFalse() {
         assertFalse(new ImportCommand(null).isDuplicate());
     }
+
+    @Test
+    public void execute_validPath_importsNewRecipes() throws Exception {
+        Path importPath = testFolder.resolve("recipebook.json");
+        new JsonRecipeBookStorage(importPath).saveRecipeBook(getTypicalRecipeBook());
+
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        assertCommandSuccess(ImportCommand.of(importPath), model, ImportCommand.SUCCESS_MESSAGE, expectedModel);
+
+        // importing again only finds duplicates, which are ignored
+        assertCommandSuccess(ImportCommand.of(importPath), model, ImportCommand.DUPLICATE_VALUES, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidPath_throwsCommandException() throws Exception {
+        Model model = new ModelManager();
+
+        Path missingPath = testFolder.resolve("missing.json");
+        assertCommandFailure(ImportCommand.of(missingPath), model,
+            String.format(ImportCommand.FILE_NOT_FOUND, missingPath));
+
+        Path textPath = testFolder.resolve("recipebook.txt");
+        new JsonRecipeBookStorage(textPath).saveRecipeBook(getTypicalRecipeBook());
+        assertCommandFailure(ImportCommand.of(textPath), model,
+            String.format(ImportCommand.NOT_JSON_FILE, textPath.getFileName()));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = ImportCommand.of(Path.of("a.json"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same path -> returns true
+        assertTrue(importCommand.equals(ImportCommand.of(Path.of("a.json"))));
+
+        // different path -> returns false
+        assertFalse(importCommand.equals(ImportCommand.of(Path.of("b.json"))));
+
+        // commands from the UI -> returns false
+        assertFalse(new ImportCommand(null).equals(new ImportCommand(null)));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+    }
 }
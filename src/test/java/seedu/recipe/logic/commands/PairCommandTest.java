@@ -0,0 +1,60 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
+
+public class PairCommandTest {
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(model.getRecipeBook(), new UserPrefs());
+
+    @Test
+    public void execute_pairedIngredient_pairingsListed() {
+        Ingredient butter = Ingredient.of("butter");
+        List<IngredientPairing> pairings = model.getRecipeBook().getTopPartners(butter, PairCommand.MAX_PAIRINGS_SHOWN);
+        assertFalse(pairings.isEmpty());
+
+        StringBuilder expectedList = new StringBuilder();
+        for (int i = 0; i < pairings.size(); i++) {
+            expectedList.append(i + 1).append(". ").append(pairings.get(i)).append("\n");
+        }
+        String expectedMessage = String.format(PairCommand.MESSAGE_DISPLAY_PAIRINGS, butter,
+            expectedList.toString().trim());
+        assertCommandSuccess(new PairCommand(butter), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownIngredient_noPairings() {
+        Ingredient saffron = Ingredient.of("saffron");
+        assertCommandSuccess(new PairCommand(saffron), model,
+            String.format(PairCommand.MESSAGE_NO_PAIRINGS, saffron), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        PairCommand pairCommand = new PairCommand(Ingredient.of("garlic"));
+
+        // same object -> returns true
+        assertTrue(pairCommand.equals(pairCommand));
+
+        // same ingredient, case-insensitive -> returns true
+        assertTrue(pairCommand.equals(new PairCommand(Ingredient.of("Garlic"))));
+
+        // different ingredient -> returns false
+        assertFalse(pairCommand.equals(new PairCommand(Ingredient.of("onion"))));
+
+        // null -> returns false
+        assertFalse(pairCommand.equals(null));
+    }
+}
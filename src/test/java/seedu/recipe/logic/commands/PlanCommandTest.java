@@ -0,0 +1,57 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.plan.MealPlanConstraints;
+import seedu.recipe.model.tag.Tag;
+
+public class PlanCommandTest {
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    private static MealPlanConstraints constraints(int count, Set<Tag> requiredTags) {
+        return new MealPlanConstraints(count, MealPlanConstraints.NO_TIME_LIMIT, requiredTags, Set.of(),
+            MealPlanConstraints.NO_WASTE_LIMIT);
+    }
+
+    @Test
+    public void execute_plannable_displaysPlannedRecipes() {
+        CommandResult result = new PlanCommand(constraints(2, Set.of())).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith("Planned 2 recipes"));
+        assertEquals(2, model.getFilteredRecipeList().size());
+    }
+
+    @Test
+    public void execute_unplannable_listUnchanged() {
+        assertCommandSuccess(new PlanCommand(constraints(1, Set.of(new Tag("Unheardof")))), model,
+            PlanCommand.MESSAGE_NO_PLAN, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        PlanCommand planCommand = new PlanCommand(constraints(2, Set.of()));
+
+        // same object -> returns true
+        assertTrue(planCommand.equals(planCommand));
+
+        // same values -> returns true
+        assertTrue(planCommand.equals(new PlanCommand(constraints(2, Set.of()))));
+
+        // different constraints -> returns false
+        assertFalse(planCommand.equals(new PlanCommand(constraints(3, Set.of()))));
+
+        // null -> returns false
+        assertFalse(planCommand.equals(null));
+    }
+}
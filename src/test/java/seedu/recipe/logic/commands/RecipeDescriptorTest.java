@@ -178,11 +178,11 @@ public class RecipeDescriptorTest {
     @Test
     public void fieldsChanged_toRecipe_allFieldsCopied() {
         Recipe newRecipe = new Recipe(TEST_NAME);
-        newRecipe.setDuration(TEST_DURATION);
-        newRecipe.setPortion(TEST_PORTION);
-        newRecipe.setTags(TEST_TAGS.toArray(Tag[]::new));
-        newRecipe.setIngredients(TEST_INGREDIENT_TABLE);
-        newRecipe.setSteps(TEST_STEPS.toArray(Step[]::new));
+        newRecipe = newRecipe.withDuration(TEST_DURATION);
+        newRecipe = newRecipe.withPortion(TEST_PORTION);
+        newRecipe = newRecipe.withTags(TEST_TAGS.toArray(Tag[]::new));
+        newRecipe = newRecipe.withIngredients(TEST_INGREDIENT_TABLE);
+        newRecipe = newRecipe.withSteps(TEST_STEPS.toArray(Step[]::new));
         testDescriptor.setName(TEST_NAME);
         testDescriptor.setDuration(TEST_DURATION);
         testDescriptor.setPortion(TEST_PORTION);
@@ -196,7 +196,7 @@ public class RecipeDescriptorTest {
         //Test if neither Recipe has a Portion, but the current descriptor has its flag set to true.
         testDescriptor.setPortion(null);
         testDescriptor.setPortionChanged(true);
-        newRecipe.setPortion(null);
+        newRecipe = newRecipe.withPortion(null);
         assertEquals(newRecipe, testDescriptor.toRecipe(newRecipe));
     }
 }
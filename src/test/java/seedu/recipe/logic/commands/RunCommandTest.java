@@ -0,0 +1,100 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_SECOND_RECIPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Recipe;
+
+public class RunCommandTest {
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    private Path writeScript(String content) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        FileUtil.writeToFile(scriptPath, content);
+        return scriptPath;
+    }
+
+    @Test
+    public void execute_validScript_runsAllCommands() throws Exception {
+        Path scriptPath = writeScript("# tidy up\ndelete 1\n\n  delete 1  \n");
+
+        Model expectedModel = new ModelManager(model.getRecipeBook(), new UserPrefs());
+        Recipe first = expectedModel.getFilteredRecipeList().get(INDEX_FIRST_RECIPE.getZeroBased());
+        Recipe second = expectedModel.getFilteredRecipeList().get(INDEX_SECOND_RECIPE.getZeroBased());
+        expectedModel.deleteRecipe(first);
+        expectedModel.deleteRecipe(second);
+
+        assertCommandSuccess(new RunCommand(scriptPath), model,
+            String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath), expectedModel);
+    }
+
+    @Test
+    public void execute_failingCommand_rollsBackEarlierCommands() throws Exception {
+        Path scriptPath = writeScript("delete 1\ndelete 1000\n");
+        assertCommandFailure(new RunCommand(scriptPath), model,
+            String.format(BatchCommand.MESSAGE_FAILED_LINE, 2, Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_invalidLine_nothingRun() throws Exception {
+        Path scriptPath = writeScript("delete 1\nunknownCommand\n");
+        assertCommandFailure(new RunCommand(scriptPath), model,
+            String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, Messages.MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_nestedRun_nothingRun() throws Exception {
+        Path scriptPath = writeScript("delete 1\nrun other.txt\n");
+        assertCommandFailure(new RunCommand(scriptPath), model,
+            String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, BatchCommand.MESSAGE_NESTED_RUN));
+    }
+
+    @Test
+    public void execute_guiCommand_nothingRun() throws Exception {
+        Path scriptPath = writeScript("delete 1\naddf\n");
+        assertCommandFailure(new RunCommand(scriptPath), model,
+            String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, BatchCommand.MESSAGE_REQUIRES_GUI));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(scriptPath), model,
+            String.format(RunCommand.MESSAGE_READ_ERROR, scriptPath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("a.txt"))));
+
+        // different path -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("b.txt"))));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_SECOND_RECIPE;
+import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+
+public class ScaleCommandTest {
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_recipeUnchanged() {
+        Index cacioIndex = Index.fromZeroBased(model.getFilteredRecipeList().indexOf(CACIO_E_PEPE));
+        String expectedIngredients = "- 1 1/2 cups Grana Padano\n"
+            + "- Kosher salt\n"
+            + "- 2/3 cup Pecorino\n"
+            + "- 2 tsp black pepper\n"
+            + "- 12 oz egg tagliolini\n"
+            + "- 3/8 cup unsalted butter";
+        String expectedMessage = String.format(ScaleCommand.MESSAGE_SCALE_RECIPE_SUCCESS,
+            CACIO_E_PEPE.getName(), CACIO_E_PEPE.getPortion(), 2, CACIO_E_PEPE.getPortion().getPortionUnit(),
+            expectedIngredients);
+
+        assertCommandSuccess(new ScaleCommand(cacioIndex, 2), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredRecipeList().size() + 1);
+        assertCommandFailure(new ScaleCommand(outOfBoundIndex, 2), model,
+            Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noPortion_throwsCommandException() {
+        model.addRecipe(new Recipe(new Name("Plain toast")));
+        Index lastIndex = Index.fromOneBased(model.getFilteredRecipeList().size());
+        assertCommandFailure(new ScaleCommand(lastIndex, 2), model, ScaleCommand.MESSAGE_NO_PORTION);
+    }
+
+    @Test
+    public void equals() {
+        ScaleCommand scaleFirstCommand = new ScaleCommand(INDEX_FIRST_RECIPE, 2);
+
+        // same object -> returns true
+        assertTrue(scaleFirstCommand.equals(scaleFirstCommand));
+
+        // same values -> returns true
+        assertEquals(scaleFirstCommand, new ScaleCommand(INDEX_FIRST_RECIPE, 2));
+
+        // different index or portions -> returns false
+        assertFalse(scaleFirstCommand.equals(new ScaleCommand(INDEX_SECOND_RECIPE, 2)));
+        assertFalse(scaleFirstCommand.equals(new ScaleCommand(INDEX_FIRST_RECIPE, 3)));
+
+        // null -> returns false
+        assertFalse(scaleFirstCommand.equals(null));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.recipe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_SECOND_RECIPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.commons.core.Messages;
+import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.commons.util.FileUtil;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.shopping.ShoppingList;
+
+public class ShopCommandTest {
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    @Test
+    public void execute_noIndexes_shopsForDisplayedList() {
+        ShoppingList expectedList = ShoppingList.of(model.getFilteredRecipeList());
+        String expectedMessage = String.format(ShopCommand.MESSAGE_SHOPPING_LIST,
+            model.getFilteredRecipeList().size(), expectedList);
+        assertCommandSuccess(new ShopCommand(List.of(), null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_validIndexes_success() {
+        ShoppingList expectedList = ShoppingList.of(List.of(
+            model.getFilteredRecipeList().get(INDEX_FIRST_RECIPE.getZeroBased()),
+            model.getFilteredRecipeList().get(INDEX_SECOND_RECIPE.getZeroBased())));
+        String expectedMessage = String.format(ShopCommand.MESSAGE_SHOPPING_LIST, 2, expectedList);
+        assertCommandSuccess(new ShopCommand(List.of(INDEX_FIRST_RECIPE, INDEX_SECOND_RECIPE), null),
+            model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_exportPath_writesFile() throws Exception {
+        Path exportPath = testFolder.resolve("shopping.txt");
+        ShoppingList expectedList = ShoppingList.of(List.of(
+            model.getFilteredRecipeList().get(INDEX_FIRST_RECIPE.getZeroBased())));
+
+        new ShopCommand(List.of(INDEX_FIRST_RECIPE), exportPath).execute(model);
+        assertEquals(expectedList + System.lineSeparator(), FileUtil.readFromFile(exportPath));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredRecipeList().size() + 1);
+        assertCommandFailure(new ShopCommand(List.of(INDEX_FIRST_RECIPE, outOfBoundIndex), null), model,
+            Messages.MESSAGE_INVALID_RECIPE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        ShopCommand shopFirstCommand = new ShopCommand(List.of(INDEX_FIRST_RECIPE), null);
+
+        // same object -> returns true
+        assertTrue(shopFirstCommand.equals(shopFirstCommand));
+
+        // same values -> returns true
+        assertTrue(shopFirstCommand.equals(new ShopCommand(List.of(INDEX_FIRST_RECIPE), null)));
+
+        // different indexes or export path -> returns false
+        assertFalse(shopFirstCommand.equals(new ShopCommand(List.of(INDEX_SECOND_RECIPE), null)));
+        assertFalse(shopFirstCommand.equals(new ShopCommand(List.of(INDEX_FIRST_RECIPE), Path.of("a.txt"))));
+
+        // null -> returns false
+        assertFalse(shopFirstCommand.equals(null));
+    }
+}
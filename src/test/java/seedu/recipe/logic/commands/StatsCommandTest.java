@@ -0,0 +1,24 @@
+package seedu.recipe.logic.commands;
+
+import static seedu.recipe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_stats_showsCommandMetricsAndQueryCacheStatistics() {
+        Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        model.getCommandMetrics().recordExecution("ListCommand", 1_000_000, 1_000_000, 1024);
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, model.getCommandMetrics(),
+            model.getQueryCacheStatistics());
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
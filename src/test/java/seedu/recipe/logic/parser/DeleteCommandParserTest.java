@@ -1,12 +1,16 @@
 package seedu.recipe.logic.parser;
 
+import static seedu.recipe.commons.core.Messages.MESSAGE_EMPTY_KEYWORDS_FIND;
 import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.recipe.logic.commands.DeleteAllCommand;
 import seedu.recipe.logic.commands.DeleteCommand;
 
 /**
@@ -26,6 +30,17 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, VALID_INDEX, new DeleteCommand(INDEX_FIRST_RECIPE));
     }
 
+    @Test
+    public void parse_all_returnsDeleteAllCommand() throws Exception {
+        assertParseSuccess(parser, "all", new DeleteAllCommand(Optional.empty()));
+        assertParseSuccess(parser, " ALL ", new DeleteAllCommand(Optional.empty()));
+        assertParseSuccess(parser, "all tag test",
+            new DeleteAllCommand(Optional.of(new FindCommandParser().parsePredicate("tag test"))));
+
+        // an invalid query
+        assertParseFailure(parser, "all tag", MESSAGE_EMPTY_KEYWORDS_FIND);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, INVALID_INDEX,
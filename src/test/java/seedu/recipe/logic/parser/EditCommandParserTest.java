@@ -47,6 +47,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.recipe.commons.core.index.Index;
+import seedu.recipe.logic.commands.EditAllCommand;
 import seedu.recipe.logic.commands.EditCommand;
 import seedu.recipe.logic.parser.exceptions.ParseException;
 import seedu.recipe.logic.util.RecipeDescriptor;
@@ -82,6 +83,17 @@ public class EditCommandParserTest {
         assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
     }
 
+    @Test
+    public void parse_all_returnsEditAllCommand() throws Exception {
+        RecipeDescriptor descriptor = new EditRecipeDescriptorBuilder().withTags(VALID_TAG_CHINESE).build();
+        assertParseSuccess(parser, "all" + TAG_DESC_CHINESE, new EditAllCommand(Optional.empty(), descriptor));
+        assertParseSuccess(parser, "all tag test" + TAG_DESC_CHINESE,
+            new EditAllCommand(Optional.of(new FindCommandParser().parsePredicate("tag test")), descriptor));
+
+        // no field specified
+        assertParseFailure(parser, "all tag test", EditCommand.MESSAGE_NOT_EDITED);
+    }
+
     @Test
     public void parse_invalidPreamble_failure() {
         // negative index
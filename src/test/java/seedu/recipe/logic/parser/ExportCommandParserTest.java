@@ -0,0 +1,33 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, "recipebook.json", ExportCommand.of(Paths.get("recipebook.json")));
+        assertParseSuccess(parser, "  backup/my recipes.json  ", ExportCommand.of(Paths.get("backup/my recipes.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no path
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+
+        // invalid path
+        assertParseFailure(parser, "a\0b.json", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -13,12 +13,14 @@ import seedu.recipe.logic.commands.FindCommand;
 import seedu.recipe.logic.util.FindUtil;
 import seedu.recipe.model.recipe.PropertyCollectionContainsKeywordsPredicate;
 import seedu.recipe.model.recipe.PropertyNameContainsKeywordsPredicate;
+import seedu.recipe.model.recipe.RecipeDurationWithinRangePredicate;
 
 public class FindCommandParserTest {
     private static final String WHITESPACE = "     ";
     private static final String TRAILING_WHITESPACE_NAME = "name     ";
     private static final String TRAILING_WHITESPACE_TAG = "tag     ";
     private static final String TRAILING_WHITESPACE_INGREDIENT = "ingredient     ";
+    private static final String TRAILING_WHITESPACE_DURATION = "duration     ";
     private final FindCommandParser parser = new FindCommandParser();
 
     @Test
@@ -97,4 +99,28 @@ public class FindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, "ingredient \n pecorino \n \t pepper  \t", expectedFindCommand);
     }
+
+    @Test
+    public void parse_durationPropertyEmptyArg_throwsParseException() {
+        assertParseFailure(parser, TRAILING_WHITESPACE_DURATION, MESSAGE_EMPTY_KEYWORDS_FIND);
+    }
+
+    @Test
+    public void parse_durationPropertyInvalidArgs_throwsParseException() {
+        assertParseFailure(parser, "duration quick", RecipeDurationWithinRangePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "duration <30 fortnights", RecipeDurationWithinRangePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "duration 1h-10m", RecipeDurationWithinRangePredicate.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_durationPropertyValidArgs_returnsFindCommand() {
+        FindCommand expectedUnderCommand = new FindCommand(new RecipeDurationWithinRangePredicate(0,
+            Math.nextDown(1800.0)));
+        assertParseSuccess(parser, "duration <30m", expectedUnderCommand);
+        assertParseSuccess(parser, "duration < 30 minutes", expectedUnderCommand);
+
+        FindCommand expectedRangeCommand = new FindCommand(new RecipeDurationWithinRangePredicate(600, 3600));
+        assertParseSuccess(parser, "duration 10m-1h", expectedRangeCommand);
+        assertParseSuccess(parser, "duration 10 mins to 1 hr", expectedRangeCommand);
+    }
 }
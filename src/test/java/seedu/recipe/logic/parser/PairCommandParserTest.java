@@ -0,0 +1,25 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.commands.PairCommand;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+
+public class PairCommandParserTest {
+    private final PairCommandParser parser = new PairCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPairCommand() {
+        assertParseSuccess(parser, "  golden syrup ", new PairCommand(Ingredient.of("golden syrup")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, PairCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "salt2", String.format(MESSAGE_INVALID_COMMAND_FORMAT, PairCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.commands.PlanCommand;
+import seedu.recipe.model.plan.MealPlanConstraints;
+import seedu.recipe.model.tag.Tag;
+
+public class PlanCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE);
+    private final PlanCommandParser parser = new PlanCommandParser();
+
+    @Test
+    public void parse_countOnly_noLimits() {
+        assertParseSuccess(parser, " 5", new PlanCommand(new MealPlanConstraints(5,
+            MealPlanConstraints.NO_TIME_LIMIT, Set.of(), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " 5 d/4 hours t/Dinner x/Dessert x/Spicy w/0",
+            new PlanCommand(new MealPlanConstraints(5, 4 * 60 * 60, Set.of(new Tag("Dinner")),
+                Set.of(new Tag("Dessert"), new Tag("Spicy")), 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing or invalid count
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+
+        // unrecognised time unit
+        assertParseFailure(parser, " 5 d/4 fortnights", PlanCommandParser.MESSAGE_INVALID_MAX_TOTAL_TIME);
+
+        // negative waste
+        assertParseFailure(parser, " 5 w/-1", PlanCommandParser.MESSAGE_INVALID_MAX_WASTE);
+    }
+}
@@ -20,9 +20,17 @@ import seedu.recipe.logic.commands.ClearCommand;
 import seedu.recipe.logic.commands.DeleteCommand;
 import seedu.recipe.logic.commands.EditCommand;
 import seedu.recipe.logic.commands.ExitCommand;
+import seedu.recipe.logic.commands.ExportCommand;
 import seedu.recipe.logic.commands.FindCommand;
 import seedu.recipe.logic.commands.HelpCommand;
+import seedu.recipe.logic.commands.ImportCommand;
 import seedu.recipe.logic.commands.ListCommand;
+import seedu.recipe.logic.commands.PairCommand;
+import seedu.recipe.logic.commands.PlanCommand;
+import seedu.recipe.logic.commands.RunCommand;
+import seedu.recipe.logic.commands.ScaleCommand;
+import seedu.recipe.logic.commands.ShopCommand;
+import seedu.recipe.logic.commands.StatsCommand;
 import seedu.recipe.logic.commands.SubCommand;
 import seedu.recipe.logic.parser.exceptions.ParseException;
 import seedu.recipe.logic.util.FindUtil;
@@ -87,8 +95,8 @@ public class RecipeBookParserTest {
     @Test
     public void parseCommand_edit_success() {
         Recipe recipe = new Recipe(new Name("Lasagna"));
-        recipe.setPortion(RecipePortion.of("1 - 2 servings"));
-        recipe.setDuration(RecipeDuration.of("15 min"));
+        recipe = recipe.withPortion(RecipePortion.of("1 - 2 servings"));
+        recipe = recipe.withDuration(RecipeDuration.of("15 min"));
         RecipeDescriptor descriptor = new EditRecipeDescriptorBuilder(recipe).build();
 
         try {
@@ -153,6 +161,15 @@ public class RecipeBookParserTest {
         }
     }
 
+    @Test
+    public void parseCommand_stats_success() {
+        try {
+            assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
     @Test
     public void parseCommand_sub_success() {
         try {
@@ -163,6 +180,69 @@ public class RecipeBookParserTest {
         }
     }
 
+    @Test
+    public void parseCommand_scale_success() {
+        try {
+            ScaleCommand command = (ScaleCommand) parser.parseCommand(
+                ScaleCommand.COMMAND_WORD + " " + INDEX_FIRST_RECIPE.getOneBased() + " 4");
+            assertEquals(new ScaleCommand(INDEX_FIRST_RECIPE, 4), command);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseCommand_shop_success() {
+        try {
+            ShopCommand command = (ShopCommand) parser.parseCommand(
+                ShopCommand.COMMAND_WORD + " " + INDEX_FIRST_RECIPE.getOneBased());
+            assertEquals(new ShopCommand(List.of(INDEX_FIRST_RECIPE), null), command);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseCommand_plan_success() {
+        try {
+            assertTrue(parser.parseCommand(PlanCommand.COMMAND_WORD + " 3") instanceof PlanCommand);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseCommand_pair_success() {
+        try {
+            assertThrows(ParseException.class, () -> parser.parseCommand(PairCommand.COMMAND_WORD));
+            assertTrue(parser.parseCommand(PairCommand.COMMAND_WORD + " garlic") instanceof PairCommand);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseCommand_run_success() {
+        try {
+            assertThrows(ParseException.class, () -> parser.parseCommand(RunCommand.COMMAND_WORD));
+            assertTrue(parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt") instanceof RunCommand);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseCommand_importExport_success() {
+        try {
+            assertThrows(ParseException.class, () -> parser.parseCommand(ImportCommand.COMMAND_WORD));
+            assertThrows(ParseException.class, () -> parser.parseCommand(ExportCommand.COMMAND_WORD));
+            assertTrue(parser.parseCommand(ImportCommand.COMMAND_WORD + " a.json") instanceof ImportCommand);
+            assertTrue(parser.parseCommand(ExportCommand.COMMAND_WORD + " a.json") instanceof ExportCommand);
+        } catch (ParseException e) {
+            fail(e.getMessage());
+        }
+    }
+
     /* ----- INVALID INPUTS ---------------- */
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
@@ -0,0 +1,34 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, "script.txt", new RunCommand(Paths.get("script.txt")));
+        assertParseSuccess(parser, "  scripts/weekly edits.txt  ",
+            new RunCommand(Paths.get("scripts/weekly edits.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no path
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+
+        // invalid path
+        assertParseFailure(parser, "a\0b.txt", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.commands.ScaleCommand;
+
+public class ScaleCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScaleCommand.MESSAGE_USAGE);
+    private final ScaleCommandParser parser = new ScaleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsScaleCommand() {
+        assertParseSuccess(parser, "1 4", new ScaleCommand(INDEX_FIRST_RECIPE, 4));
+        assertParseSuccess(parser, "  1   4  ", new ScaleCommand(INDEX_FIRST_RECIPE, 4));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing portions
+        assertParseFailure(parser, "1", MESSAGE_INVALID_FORMAT);
+
+        // invalid index
+        assertParseFailure(parser, "a 4", MESSAGE_INVALID_FORMAT);
+
+        // non-positive or non-integer portions
+        assertParseFailure(parser, "1 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 1.5", MESSAGE_INVALID_FORMAT);
+
+        // extra arguments
+        assertParseFailure(parser, "1 4 5", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.recipe.logic.parser;
+
+import static seedu.recipe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.recipe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
+import static seedu.recipe.testutil.TypicalIndexes.INDEX_SECOND_RECIPE;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.commands.ShopCommand;
+
+public class ShopCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShopCommand.MESSAGE_USAGE);
+    private final ShopCommandParser parser = new ShopCommandParser();
+
+    @Test
+    public void parse_noArgs_shopsForDisplayedList() {
+        assertParseSuccess(parser, "", new ShopCommand(List.of(), null));
+    }
+
+    @Test
+    public void parse_validArgs_returnsShopCommand() {
+        assertParseSuccess(parser, "1 2",
+            new ShopCommand(List.of(INDEX_FIRST_RECIPE, INDEX_SECOND_RECIPE), null));
+        assertParseSuccess(parser, "1 f/shopping.txt",
+            new ShopCommand(List.of(INDEX_FIRST_RECIPE), Paths.get("shopping.txt")));
+        assertParseSuccess(parser, " f/shopping.txt",
+            new ShopCommand(List.of(), Paths.get("shopping.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // invalid index
+        assertParseFailure(parser, "1 a", MESSAGE_INVALID_FORMAT);
+
+        // empty file path
+        assertParseFailure(parser, "1 f/", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -178,4 +178,24 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasRecipe(MASALA_DOSA));
         assertTrue(modelManager.hasRecipe(FISH_AND_CHIPS));
     }
+
+    @Test
+    public void updateFilteredRecipeList_repeatedQuery_answeredFromCacheUntilRecipesChange() {
+        modelManager.addRecipe(CACIO_E_PEPE);
+        modelManager.addRecipe(MASALA_DOSA);
+        PropertyNameContainsKeywordsPredicate<Name> predicate = new PropertyNameContainsKeywordsPredicate<Name>(
+            CACIO_E_PEPE.getName().recipeName.split("\\s+"), FindUtil.GET_NAME_FROM_RECIPE,
+            FindUtil.GET_NAME_STRING);
+
+        modelManager.updateFilteredRecipeList(predicate);
+        modelManager.updateFilteredRecipeList(predicate);
+        assertEquals(List.of(CACIO_E_PEPE), modelManager.getFilteredRecipeList());
+        assertEquals(1, modelManager.getQueryCacheStatistics().getHitCount());
+
+        // the recipes changed, so the query is answered again
+        modelManager.deleteRecipe(CACIO_E_PEPE);
+        modelManager.updateFilteredRecipeList(predicate);
+        assertEquals(List.of(), modelManager.getFilteredRecipeList());
+        assertEquals(2, modelManager.getQueryCacheStatistics().getMissCount());
+    }
 }
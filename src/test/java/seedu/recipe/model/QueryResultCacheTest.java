@@ -0,0 +1,133 @@
+package seedu.recipe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+import static seedu.recipe.testutil.TypicalRecipes.BLUEBERRY_PANCAKES;
+import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.logic.util.FindUtil;
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.PropertyNameContainsKeywordsPredicate;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDurationWithinRangePredicate;
+
+public class QueryResultCacheTest {
+    private final RecipeBook recipeBook = getTypicalRecipeBook();
+    private final QueryResultCache cache = new QueryResultCache();
+
+    @Test
+    public void resolve_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.resolve(null, 0, recipeBook));
+        assertThrows(NullPointerException.class, () -> cache.resolve(nameQuery("pancakes"), 0, null));
+    }
+
+    @Test
+    public void resolve_sameResultsAsQuery() {
+        assertSameResults(nameQuery("pancakes", "pepe"), cache.resolve(nameQuery("pancakes", "pepe"), 0, recipeBook));
+        RecipeDurationWithinRangePredicate range = RecipeDurationWithinRangePredicate.of("10m-30m");
+        assertSameResults(range, cache.resolve(range, 0, recipeBook));
+    }
+
+    @Test
+    public void resolve_equalQueryAtSameVersion_hit() {
+        cache.resolve(nameQuery("pancakes"), 0, recipeBook);
+        Predicate<Recipe> resolved = cache.resolve(nameQuery("PANCAKES", "pancakes"), 0, recipeBook);
+
+        assertSameResults(nameQuery("pancakes"), resolved);
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(1, cache.getStatistics().getMissCount());
+        assertEquals(0.5, cache.getStatistics().getHitRate());
+    }
+
+    @Test
+    public void resolve_newVersion_cacheDiscarded() {
+        cache.resolve(nameQuery("pancakes"), 0, recipeBook);
+        recipeBook.removeRecipe(BLUEBERRY_PANCAKES);
+        Predicate<Recipe> resolved = cache.resolve(nameQuery("pancakes"), 1, recipeBook);
+
+        assertSameResults(nameQuery("pancakes"), resolved);
+        assertEquals(0, cache.getStatistics().getHitCount());
+        assertEquals(2, cache.getStatistics().getMissCount());
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void resolve_recipeAddedAfterwards_testedAgainstQuery() {
+        recipeBook.removeRecipe(CACIO_E_PEPE);
+        Predicate<Recipe> resolved = cache.resolve(nameQuery("pepe"), 0, recipeBook);
+        assertFalse(resolved.test(BLUEBERRY_PANCAKES));
+        assertTrue(resolved.test(CACIO_E_PEPE));
+    }
+
+    @Test
+    public void resolve_durationQuery_onlyRecipesAddedAfterwardsTestedAgainstQuery() {
+        recipeBook.removeRecipe(CACIO_E_PEPE);
+        CountingDurationPredicate range = new CountingDurationPredicate();
+        Predicate<Recipe> resolved = cache.resolve(range, 0, recipeBook);
+
+        // answered from the duration index, so recipes already in the recipe book are never tested one by one
+        recipeBook.getRecipeList().forEach(resolved::test);
+        assertEquals(0, range.testCount);
+
+        resolved.test(CACIO_E_PEPE);
+        assertEquals(1, range.testCount);
+    }
+
+    @Test
+    public void resolve_overCapacity_leastRecentlyUsedEvicted() {
+        QueryResultCache smallCache = new QueryResultCache(2);
+        smallCache.resolve(nameQuery("pancakes"), 0, recipeBook);
+        smallCache.resolve(nameQuery("pepe"), 0, recipeBook);
+        smallCache.resolve(nameQuery("pancakes"), 0, recipeBook); // hit, so "pepe" is now the least recently used
+        smallCache.resolve(nameQuery("cheese"), 0, recipeBook);
+
+        smallCache.resolve(nameQuery("pancakes"), 0, recipeBook);
+        assertEquals(2, smallCache.getStatistics().getHitCount());
+        smallCache.resolve(nameQuery("pepe"), 0, recipeBook);
+        assertEquals(4, smallCache.getStatistics().getMissCount());
+        assertEquals(2, smallCache.getStatistics().getSize());
+    }
+
+    @Test
+    public void getStatistics_noQueries_zeroHitRate() {
+        assertEquals(0, cache.getStatistics().getHitRate());
+        assertEquals("0 hits, 0 misses (0% hit rate), 0 queries cached", cache.getStatistics().toString());
+    }
+
+    /**
+     * A duration query which counts the recipes it is tested against.
+     */
+    private static class CountingDurationPredicate extends RecipeDurationWithinRangePredicate {
+        private int testCount = 0;
+
+        CountingDurationPredicate() {
+            super(0, Double.MAX_VALUE);
+        }
+
+        @Override
+        public boolean test(Recipe recipe) {
+            testCount++;
+            return super.test(recipe);
+        }
+    }
+
+    private static PropertyNameContainsKeywordsPredicate<Name> nameQuery(String... keywords) {
+        return new PropertyNameContainsKeywordsPredicate<>(keywords, FindUtil.GET_NAME_FROM_RECIPE,
+            FindUtil.GET_NAME_STRING);
+    }
+
+    private void assertSameResults(Predicate<Recipe> expected, Predicate<Recipe> actual) {
+        List<Recipe> recipes = recipeBook.getRecipeList();
+        assertEquals(recipes.stream().filter(expected).collect(Collectors.toList()),
+            recipes.stream().filter(actual).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.recipe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
+import static seedu.recipe.testutil.TypicalRecipes.FISH_AND_CHIPS;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+
+public class RecipeBookSnapshotTest {
+    private static final int WRITES = 2000;
+    private static final int READERS = 4;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecipeBookSnapshot(0, null));
+    }
+
+    @Test
+    public void constructor_laterChangesToSource_notVisible() {
+        RecipeBook recipeBook = getTypicalRecipeBook();
+        RecipeBookSnapshot snapshot = new RecipeBookSnapshot(3, recipeBook);
+        recipeBook.removeRecipe(CACIO_E_PEPE);
+
+        assertEquals(3, snapshot.getVersion());
+        assertEquals(getTypicalRecipeBook().getRecipeList(), snapshot.getRecipeList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getRecipeList().remove(0));
+    }
+
+    @Test
+    public void queries_sameResultsAsRecipeBook() {
+        RecipeBook recipeBook = getTypicalRecipeBook();
+        RecipeBookSnapshot snapshot = new RecipeBookSnapshot(0, recipeBook);
+
+        assertEquals(recipeBook.getRecipesWithDurationWithin(600, 2100),
+            snapshot.getRecipesWithDurationWithin(600, 2100));
+        assertEquals(recipeBook.getRecipesWithDurationWithin(0, Double.MAX_VALUE),
+            snapshot.getRecipesWithDurationWithin(0, Double.MAX_VALUE));
+        Ingredient ingredient = FISH_AND_CHIPS.getIngredients().keySet().iterator().next();
+        assertEquals(recipeBook.getTopPartners(ingredient, 3), snapshot.getTopPartners(ingredient, 3));
+        assertEquals(recipeBook.getPreloadedSubstitutes(), snapshot.getPreloadedSubstitutes());
+    }
+
+    @Test
+    public void equals() {
+        RecipeBookSnapshot snapshot = new RecipeBookSnapshot(1, getTypicalRecipeBook());
+
+        assertTrue(snapshot.equals(snapshot));
+        assertTrue(snapshot.equals(new RecipeBookSnapshot(1, getTypicalRecipeBook())));
+        assertNotEquals(snapshot, null);
+        assertNotEquals(snapshot, new RecipeBookSnapshot(2, getTypicalRecipeBook()));
+        assertNotEquals(snapshot, new RecipeBookSnapshot(1, new RecipeBook()));
+    }
+
+    @Test
+    public void publishRecipeBookSnapshot_onlyChangesPublished() {
+        ModelManager modelManager = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+        RecipeBookSnapshot initial = modelManager.getRecipeBookSnapshot();
+        assertEquals(0, initial.getVersion());
+
+        // nothing changed, so the same snapshot is kept
+        modelManager.publishRecipeBookSnapshot();
+        assertSame(initial, modelManager.getRecipeBookSnapshot());
+
+        // changes are not visible until they are published
+        modelManager.deleteRecipe(CACIO_E_PEPE);
+        assertSame(initial, modelManager.getRecipeBookSnapshot());
+        modelManager.publishRecipeBookSnapshot();
+        RecipeBookSnapshot published = modelManager.getRecipeBookSnapshot();
+        assertEquals(1, published.getVersion());
+        assertEquals(modelManager.getRecipeBook().getRecipeList(), published.getRecipeList());
+        assertEquals(getTypicalRecipeBook().getRecipeList(), initial.getRecipeList());
+    }
+
+    @Test
+    public void publishRecipeBookSnapshot_laterChanges_notSeenUntilPublished() {
+        ModelManager modelManager = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+        modelManager.deleteRecipe(CACIO_E_PEPE);
+        modelManager.publishRecipeBookSnapshot();
+        RecipeBookSnapshot first = modelManager.getRecipeBookSnapshot();
+        List<Recipe> firstRecipes = List.copyOf(modelManager.getRecipeBook().getRecipeList());
+        modelManager.deleteRecipe(FISH_AND_CHIPS);
+        // every version published is kept as it was, however the recipe book changes afterwards
+        assertSame(first, modelManager.getRecipeBookSnapshot());
+        assertEquals(firstRecipes, first.getRecipeList());
+
+        modelManager.publishRecipeBookSnapshot();
+        RecipeBookSnapshot second = modelManager.getRecipeBookSnapshot();
+        assertEquals(2, second.getVersion());
+        assertEquals(modelManager.getRecipeBook().getRecipeList(), second.getRecipeList());
+        assertSame(second, modelManager.getRecipeBookSnapshot());
+    }
+
+    /**
+     * Changes the recipe book in pairs of recipes, publishing only whole pairs, while other threads read snapshots.
+     * A reader which saw only half of a pair, or an index out of step with the recipe list, would see a torn read.
+     */
+    @Test
+    public void getRecipeBookSnapshot_concurrentReadsDuringWrites_noTornReads() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            readers.add(new Thread(() -> {
+                long lastVersion = -1;
+                while (isWriting.get()) {
+                    RecipeBookSnapshot snapshot = modelManager.getRecipeBookSnapshot();
+                    if (snapshot.getVersion() < lastVersion) {
+                        failures.add("Version went back from " + lastVersion + " to " + snapshot.getVersion());
+                    }
+                    lastVersion = snapshot.getVersion();
+                    checkWholePairs(snapshot, failures);
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+
+        try {
+            for (int i = 0; i < WRITES; i++) {
+                Recipe first = recipe("A " + i, i % 90 + 1);
+                Recipe second = recipe("B " + i, i % 90 + 1);
+                modelManager.addRecipe(first);
+                modelManager.addRecipe(second);
+                if (i % 3 == 2) {
+                    modelManager.deleteRecipe(first);
+                    modelManager.deleteRecipe(second);
+                }
+                modelManager.publishRecipeBookSnapshot();
+            }
+        } finally {
+            isWriting.set(false);
+            for (Thread reader : readers) {
+                reader.join(TimeUnit.SECONDS.toMillis(10));
+            }
+        }
+
+        assertEquals(List.of(), new ArrayList<>(failures));
+        RecipeBookSnapshot last = modelManager.getRecipeBookSnapshot();
+        assertEquals(modelManager.getRecipeBook().getRecipeList(), last.getRecipeList());
+        checkWholePairs(last, failures);
+        assertEquals(List.of(), new ArrayList<>(failures));
+    }
+
+    private static Recipe recipe(String name, int minutes) {
+        Recipe recipe = new Recipe(new Name(name));
+        recipe = recipe.withDuration(RecipeDuration.of(minutes + " min"));
+        return recipe;
+    }
+
+    private static void checkWholePairs(RecipeBookSnapshot snapshot, ConcurrentLinkedQueue<String> failures) {
+        List<Recipe> recipes = snapshot.getRecipeList();
+        Set<String> names = recipes.stream()
+            .map(recipe -> recipe.getName().recipeName)
+            .collect(Collectors.toCollection(HashSet::new));
+        for (String name : names) {
+            String partner = name.startsWith("A ") ? "B " + name.substring(2) : "A " + name.substring(2);
+            if (!names.contains(partner)) {
+                failures.add("Version " + snapshot.getVersion() + " has " + name + " without " + partner);
+            }
+        }
+
+        // the lazily built index must agree with the recipe list of the same snapshot
+        List<Recipe> indexed = snapshot.getRecipesWithDurationWithin(0, 30 * 60);
+        long expected = recipes.stream()
+            .filter(recipe -> recipe.getDurationNullable().getSeconds() <= 30 * 60)
+            .count();
+        if (indexed.size() != expected) {
+            failures.add("Version " + snapshot.getVersion() + " indexed " + indexed.size() + " of " + expected);
+        }
+    }
+}
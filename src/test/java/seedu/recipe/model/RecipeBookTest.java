@@ -27,7 +27,9 @@ import javafx.collections.ObservableList;
 import seedu.recipe.model.recipe.Recipe;
 import seedu.recipe.model.recipe.exceptions.DuplicateRecipeException;
 import seedu.recipe.model.recipe.exceptions.RecipeNotFoundException;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
 import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
 import seedu.recipe.model.tag.Tag;
 import seedu.recipe.model.util.SubstitutionsUtil;
 import seedu.recipe.testutil.RecipeBuilder;
@@ -58,7 +60,7 @@ public class RecipeBookTest {
     public void resetData_withDuplicateRecipes_throwsDuplicateRecipeException() {
         // Two recipes with the same name fields
         Recipe editedDosa = new RecipeBuilder(MASALA_DOSA).build();
-        editedDosa.setTags(CACIO_TAGS.toArray(Tag[]::new));
+        editedDosa = editedDosa.withTags(CACIO_TAGS.toArray(Tag[]::new));
         List<Recipe> newRecipes = Arrays.asList(MASALA_DOSA, editedDosa);
         RecipeBookStub newData = new RecipeBookStub(newRecipes);
 
@@ -85,7 +87,7 @@ public class RecipeBookTest {
     public void hasRecipe_recipeWithSameIdentityFieldsInRecipeBook_returnsTrue() {
         recipeBook.addRecipe(MASALA_DOSA);
         Recipe editedDosa = new RecipeBuilder(MASALA_DOSA).build();
-        editedDosa.setTags(CACIO_TAGS.toArray(Tag[]::new));
+        editedDosa = editedDosa.withTags(CACIO_TAGS.toArray(Tag[]::new));
         assertTrue(recipeBook.hasRecipe(editedDosa));
     }
 
@@ -94,6 +96,16 @@ public class RecipeBookTest {
         assertThrows(UnsupportedOperationException.class, () -> recipeBook.getRecipeList().remove(0));
     }
 
+    @Test
+    public void addRecipes_someAlreadyExist_onlyNewRecipesAdded() {
+        recipeBook.addRecipe(CACIO_E_PEPE);
+        List<Recipe> added = recipeBook.addRecipes(List.of(MASALA_DOSA, new RecipeBuilder(CACIO_E_PEPE).build(),
+            FISH_AND_CHIPS, MASALA_DOSA));
+
+        assertEquals(List.of(MASALA_DOSA, FISH_AND_CHIPS), added);
+        assertEquals(List.of(CACIO_E_PEPE, MASALA_DOSA, FISH_AND_CHIPS), recipeBook.getRecipeList());
+    }
+
     @Test
     public void addRecipe() {
         recipeBook.addRecipes(getTypicalRecipesObservableList());
@@ -165,6 +177,16 @@ public class RecipeBookTest {
             return recipes;
         }
 
+        @Override
+        public List<Recipe> getRecipesWithDurationWithin(double lowerSeconds, double upperSeconds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<IngredientPairing> getTopPartners(Ingredient ingredient, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<IngredientBuilder> getPreloadedSubstitutes() {
             return preloadedSubs;
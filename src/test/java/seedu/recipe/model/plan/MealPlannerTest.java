@@ -0,0 +1,118 @@
+package seedu.recipe.model.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.tag.Tag;
+
+public class MealPlannerTest {
+    private static final Tag DINNER = new Tag("Dinner");
+    private static final Tag DESSERT = new Tag("Dessert");
+
+    private static final Recipe RICE_BOWL = createRecipe("Rice bowl", "30 minutes", Set.of(DINNER),
+        "rice", "chicken", "onion");
+    private static final Recipe FRIED_RICE = createRecipe("Fried rice", "20 minutes", Set.of(DINNER),
+        "rice", "chicken", "garlic");
+    private static final Recipe COOKIES = createRecipe("Cookies", "10 minutes", Set.of(DINNER, DESSERT),
+        "sugar", "flour");
+    private static final Recipe BIRYANI = createRecipe("Biryani", "2 hours", Set.of(DINNER),
+        "rice", "chicken", "onion", "garlic");
+    private static final Recipe STEAK = createRecipe("Steak", null, Set.of(), "beef");
+
+    private static final List<Recipe> RECIPES = List.of(RICE_BOWL, FRIED_RICE, COOKIES, BIRYANI, STEAK);
+
+    private static Recipe createRecipe(String name, String duration, Set<Tag> tags, String... ingredients) {
+        Recipe recipe = new Recipe(new Name(name));
+        if (duration != null) {
+            recipe = recipe.withDuration(RecipeDuration.of(duration));
+        }
+        recipe = recipe.withTags(tags.toArray(Tag[]::new));
+        IngredientBuilder[] builders = new IngredientBuilder[ingredients.length];
+        for (int i = 0; i < ingredients.length; i++) {
+            builders[i] = new IngredientBuilder("-n " + ingredients[i]);
+        }
+        recipe = recipe.withIngredients(builders);
+        return recipe;
+    }
+
+    private static MealPlanConstraints constraints(int count, double maxTotalSeconds, Set<Tag> requiredTags,
+                                                   Set<Tag> forbiddenTags, int maxWaste) {
+        return new MealPlanConstraints(count, maxTotalSeconds, requiredTags, forbiddenTags, maxWaste);
+    }
+
+    @Test
+    public void plan_noLimits_leastWasteThenShortestTime() {
+        MealPlan plan = new MealPlanner(RECIPES).plan(constraints(2, MealPlanConstraints.NO_TIME_LIMIT,
+            Set.of(), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).get();
+
+        // biryani shares 3 ingredients with either rice dish, and fried rice is quicker
+        assertEquals(List.of(FRIED_RICE, BIRYANI), plan.getRecipes());
+        assertEquals(1, plan.getWaste());
+        assertEquals(8400, plan.getTotalSeconds());
+    }
+
+    @Test
+    public void plan_timeLimit_recipesWithUnknownDurationsExcluded() {
+        MealPlan plan = new MealPlanner(RECIPES).plan(constraints(2, 60 * 60,
+            Set.of(), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).get();
+        assertEquals(List.of(RICE_BOWL, FRIED_RICE), plan.getRecipes());
+        assertEquals(2, plan.getWaste());
+
+        // three recipes cannot fit within 35 minutes
+        assertTrue(new MealPlanner(RECIPES).plan(constraints(3, 35 * 60,
+            Set.of(), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).isEmpty());
+    }
+
+    @Test
+    public void plan_tags_filterCandidates() {
+        // required tags are matched case-insensitively
+        MealPlan plan = new MealPlanner(RECIPES).plan(constraints(1, MealPlanConstraints.NO_TIME_LIMIT,
+            Set.of(new Tag("dessert")), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).get();
+        assertEquals(List.of(COOKIES), plan.getRecipes());
+
+        // unknown required tag -> no plan
+        assertTrue(new MealPlanner(RECIPES).plan(constraints(1, MealPlanConstraints.NO_TIME_LIMIT,
+            Set.of(new Tag("Vegan")), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).isEmpty());
+
+        // forbidden tags
+        MealPlan noDessertPlan = new MealPlanner(RECIPES).plan(constraints(4, MealPlanConstraints.NO_TIME_LIMIT,
+            Set.of(), Set.of(DESSERT), MealPlanConstraints.NO_WASTE_LIMIT)).get();
+        assertEquals(List.of(RICE_BOWL, FRIED_RICE, BIRYANI, STEAK), noDessertPlan.getRecipes());
+    }
+
+    @Test
+    public void plan_wasteLimit_exceeded() {
+        assertTrue(new MealPlanner(RECIPES).plan(constraints(2, MealPlanConstraints.NO_TIME_LIMIT,
+            Set.of(), Set.of(), 0)).isEmpty());
+    }
+
+    @Test
+    public void plan_tooFewCandidates_empty() {
+        assertTrue(new MealPlanner(RECIPES).plan(constraints(6, MealPlanConstraints.NO_TIME_LIMIT,
+            Set.of(), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).isEmpty());
+    }
+
+    @Test
+    public void plan_manyRecipes_constraintsSatisfied() {
+        String[] pantry = {"rice", "chicken", "onion", "garlic", "beef", "tofu", "egg", "noodles", "carrot", "leek"};
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            recipes.add(createRecipe("Recipe " + i, (10 + i % 50) + " minutes", Set.of(DINNER),
+                pantry[i % pantry.length], pantry[(i * 7 + 3) % pantry.length], "spice " + (char) ('a' + i % 26)));
+        }
+        MealPlan plan = new MealPlanner(recipes).plan(constraints(7, 2 * 60 * 60,
+            Set.of(), Set.of(), MealPlanConstraints.NO_WASTE_LIMIT)).get();
+        assertEquals(7, plan.getRecipes().size());
+        assertTrue(plan.getTotalSeconds() <= 2 * 60 * 60);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.recipe.model.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.recipe.ingredient.IngredientPairing;
+
+public class IngredientCooccurrenceMatrixTest {
+    private static final Ingredient GARLIC = Ingredient.of("garlic");
+
+    private static final Recipe GARLIC_RICE = createRecipe("Garlic rice", "garlic", "onion", "rice");
+    private static final Recipe GARLIC_ONIONS = createRecipe("Garlic onions", "garlic", "onion");
+    private static final Recipe PESTO = createRecipe("Pesto", "Garlic", "basil");
+    private static final Recipe EGG_RICE = createRecipe("Egg rice", "rice", "egg");
+
+    private static Recipe createRecipe(String name, String... ingredients) {
+        Recipe recipe = new Recipe(new Name(name));
+        IngredientBuilder[] builders = new IngredientBuilder[ingredients.length];
+        for (int i = 0; i < ingredients.length; i++) {
+            builders[i] = new IngredientBuilder("-n " + ingredients[i]);
+        }
+        recipe = recipe.withIngredients(builders);
+        return recipe;
+    }
+
+    private static List<String> partnerNames(List<IngredientPairing> pairings) {
+        return pairings.stream().map(pairing -> pairing.getPartner().getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getTopPartners_rankedByLiftThenSharedRecipes() {
+        IngredientCooccurrenceMatrix matrix = new IngredientCooccurrenceMatrix();
+        matrix.setAll(List.of(GARLIC_RICE, GARLIC_ONIONS, PESTO, EGG_RICE));
+
+        List<IngredientPairing> pairings = matrix.getTopPartners(GARLIC, 10);
+        assertEquals(List.of("onion", "basil", "rice"), partnerNames(pairings));
+        assertEquals(2, pairings.get(0).getSharedRecipeCount());
+        assertEquals(4.0 / 3, pairings.get(0).getLift(), 1e-9);
+
+        // ingredient names are matched case-insensitively
+        assertEquals(3, matrix.getRecipeCount(Ingredient.of("GARLIC")));
+
+        // limited number of partners
+        assertEquals(List.of("onion"), partnerNames(matrix.getTopPartners(GARLIC, 1)));
+    }
+
+    @Test
+    public void remove_countsUpdatedIncrementally() {
+        IngredientCooccurrenceMatrix matrix = new IngredientCooccurrenceMatrix();
+        List.of(GARLIC_RICE, GARLIC_ONIONS, PESTO, EGG_RICE).forEach(matrix::add);
+        matrix.remove(GARLIC_ONIONS);
+
+        // lift and shared recipes tied between basil and onion -> alphabetical order
+        assertEquals(List.of("basil", "onion", "rice"), partnerNames(matrix.getTopPartners(GARLIC, 10)));
+
+        matrix.remove(GARLIC_RICE);
+        matrix.remove(PESTO);
+        assertTrue(matrix.getTopPartners(GARLIC, 10).isEmpty());
+    }
+
+    @Test
+    public void getTopPartners_unknownIngredient_emptyList() {
+        IngredientCooccurrenceMatrix matrix = new IngredientCooccurrenceMatrix();
+        matrix.add(GARLIC_RICE);
+        assertTrue(matrix.getTopPartners(Ingredient.of("saffron"), 10).isEmpty());
+    }
+
+    @Test
+    public void getTopPartners_manyPartners_allCounted() {
+        IngredientCooccurrenceMatrix matrix = new IngredientCooccurrenceMatrix();
+        List<String> partners = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String partner = "spice " + (char) ('a' + i / 26 % 26) + (char) ('a' + i % 26);
+            partners.add(partner);
+            matrix.add(createRecipe("Recipe " + i, "garlic", partner));
+        }
+        matrix.add(createRecipe("Extra", "garlic", "spice aa"));
+
+        List<IngredientPairing> pairings = matrix.getTopPartners(GARLIC, 1000);
+        assertEquals(500, pairings.size());
+        assertEquals("spice aa", pairings.get(0).getPartner().getName());
+    }
+}
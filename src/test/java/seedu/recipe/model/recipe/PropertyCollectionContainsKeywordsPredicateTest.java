@@ -59,6 +59,19 @@ public class PropertyCollectionContainsKeywordsPredicateTest {
         assertNotEquals(firstPredicate, secondPredicate);
     }
 
+    @Test
+    public void equals_sameKeywordsInAnyOrderOrCase_equalWithSameHashCode() {
+        PropertyCollectionContainsKeywordsPredicate<Tag> predicate =
+            new PropertyCollectionContainsKeywordsPredicate<Tag>(Arrays.asList("first", "Second"),
+                FindUtil.GET_TAGS_FROM_RECIPE, FindUtil.GET_TAG_STRING);
+        PropertyCollectionContainsKeywordsPredicate<Tag> normalizedCopy =
+            new PropertyCollectionContainsKeywordsPredicate<Tag>(Arrays.asList("SECOND", "first", "first"),
+                FindUtil.GET_TAGS_FROM_RECIPE, FindUtil.GET_TAG_STRING);
+
+        assertEquals(predicate, normalizedCopy);
+        assertEquals(predicate.hashCode(), normalizedCopy.hashCode());
+    }
+
     @Test
     public void test_tagsContainKeywords_returnsTrue() {
         // Only one keyword, one matching
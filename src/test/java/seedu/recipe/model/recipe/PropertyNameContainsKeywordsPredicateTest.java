@@ -55,6 +55,17 @@ public class PropertyNameContainsKeywordsPredicateTest {
         assertNotEquals(firstPredicate, secondPredicate);
     }
 
+    @Test
+    public void equals_sameKeywordsInAnyOrderOrCase_equalWithSameHashCode() {
+        PropertyNameContainsKeywordsPredicate<Name> predicate = new PropertyNameContainsKeywordsPredicate<Name>(
+            Arrays.asList("first", "Second"), FindUtil.GET_NAME_FROM_RECIPE, FindUtil.GET_NAME_STRING);
+        PropertyNameContainsKeywordsPredicate<Name> normalizedCopy = new PropertyNameContainsKeywordsPredicate<Name>(
+            Arrays.asList("SECOND", "first", "first"), FindUtil.GET_NAME_FROM_RECIPE, FindUtil.GET_NAME_STRING);
+
+        assertEquals(predicate, normalizedCopy);
+        assertEquals(predicate.hashCode(), normalizedCopy.hashCode());
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -101,14 +112,14 @@ public class PropertyNameContainsKeywordsPredicateTest {
             Arrays.asList("Butter", "Onions", "Halibut", "Mediterranean"), FindUtil.GET_NAME_FROM_RECIPE,
             FindUtil.GET_NAME_STRING);
         Recipe r = new Recipe(new Name("Pan-roasted fish"));
-        r.setPortion(RecipePortion.of("1 serving"));
-        r.setDuration(RecipeDuration.of("2 h"));
-        r.setTags(new Tag("Mediterranean"));
-        r.setIngredients(
+        r = r.withPortion(RecipePortion.of("1 serving"));
+        r = r.withDuration(RecipeDuration.of("2 h"));
+        r = r.withTags(new Tag("Mediterranean"));
+        r = r.withIngredients(
             new IngredientBuilder("-n Butter"),
             new IngredientBuilder("-n Onions"),
             new IngredientBuilder("-n Halibut"));
-        r.setSteps(new Step("Descale the fish with a paring knife."));
+        r = r.withSteps(new Step("Descale the fish with a paring knife."));
         assertFalse(predicate.test(r));
     }
 }
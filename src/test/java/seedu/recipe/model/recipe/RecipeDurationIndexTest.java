@@ -0,0 +1,86 @@
+package seedu.recipe.model.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.recipe.testutil.TypicalRecipes.BLUEBERRY_PANCAKES;
+import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
+import static seedu.recipe.testutil.TypicalRecipes.FISH_AND_CHIPS;
+import static seedu.recipe.testutil.TypicalRecipes.GRILLED_CHEESE;
+import static seedu.recipe.testutil.TypicalRecipes.MASALA_DOSA;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RecipeDurationIndexTest {
+    private final RecipeDurationIndex index = new RecipeDurationIndex();
+
+    @Test
+    public void add_unsortedRecipes_returnedInDurationOrder() {
+        getTypicalRecipes().forEach(index::add);
+        assertEquals(5, index.size());
+        assertEquals(List.of(GRILLED_CHEESE, FISH_AND_CHIPS, CACIO_E_PEPE, BLUEBERRY_PANCAKES, MASALA_DOSA),
+            index.getRecipesWithin(0, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void add_recipeWithoutDuration_notIndexed() {
+        index.add(new Recipe(new Name("Toast")));
+        Recipe unknownUnit = new Recipe(new Name("Sourdough"));
+        unknownUnit = unknownUnit.withDuration(RecipeDuration.of("2 fortnights"));
+        index.add(unknownUnit);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void getRecipesWithin_inclusiveBounds_matchingRecipesReturned() {
+        getTypicalRecipes().forEach(index::add);
+        // 10 minutes to 35 minutes, inclusive of both
+        assertEquals(List.of(FISH_AND_CHIPS, CACIO_E_PEPE, BLUEBERRY_PANCAKES), index.getRecipesWithin(600, 2100));
+        assertEquals(List.of(MASALA_DOSA), index.getRecipesWithin(3600, 3600));
+        assertEquals(Collections.emptyList(), index.getRecipesWithin(3601, Double.MAX_VALUE));
+        assertEquals(Collections.emptyList(), index.getRecipesWithin(2100, 600));
+    }
+
+    @Test
+    public void remove_indexedRecipe_noLongerReturned() {
+        getTypicalRecipes().forEach(index::add);
+        index.remove(CACIO_E_PEPE);
+        assertEquals(4, index.size());
+        assertEquals(List.of(FISH_AND_CHIPS, BLUEBERRY_PANCAKES), index.getRecipesWithin(600, 2100));
+
+        // removing a recipe that is not indexed does nothing
+        index.remove(CACIO_E_PEPE);
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void addAll_recipesMergedIn_sameOrderAsAddingOneAtATime() {
+        RecipeDurationIndex expected = new RecipeDurationIndex();
+        List<Recipe> first = new ArrayList<>();
+        List<Recipe> second = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Recipe recipe = new Recipe(new Name("Recipe " + i));
+            recipe = recipe.withDuration(RecipeDuration.of((i * 7) % 13 + " min"));
+            (i < 25 ? first : second).add(recipe);
+        }
+        first.forEach(expected::add);
+        second.forEach(expected::add);
+        second.add(new Recipe(new Name("Toast")));
+
+        index.addAll(first);
+        index.addAll(second);
+        index.addAll(List.of());
+        assertEquals(40, index.size());
+        assertEquals(expected.getRecipesWithin(0, Double.MAX_VALUE), index.getRecipesWithin(0, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        index.add(MASALA_DOSA);
+        index.setAll(List.of(CACIO_E_PEPE, GRILLED_CHEESE));
+        assertEquals(List.of(GRILLED_CHEESE, CACIO_E_PEPE), index.getRecipesWithin(0, Double.MAX_VALUE));
+    }
+}
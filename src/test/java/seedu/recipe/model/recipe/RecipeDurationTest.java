@@ -1,7 +1,9 @@
 package seedu.recipe.model.recipe;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Objects;
 
@@ -72,6 +74,23 @@ public class RecipeDurationTest {
         assertEquals(2.0, RecipeDuration.of("2 hours").getTime());
     }
 
+    @Test
+    public void getSeconds_recognisedUnits_normalized() {
+        assertEquals(90, RecipeDuration.of("1.5 min").getSeconds());
+        assertEquals(5400, RecipeDuration.of("1.5 hrs").getSeconds());
+        assertEquals(5400, RecipeDuration.of("3/2 Hours").getSeconds());
+        assertEquals(30, RecipeDuration.of("30 seconds").getSeconds());
+        assertEquals(172800, RecipeDuration.of("2 days").getSeconds());
+    }
+
+    @Test
+    public void getSeconds_unrecognisedUnit_unknown() {
+        RecipeDuration duration = RecipeDuration.of("3 fortnights");
+        assertFalse(duration.isNormalizable());
+        assertEquals(RecipeDuration.UNKNOWN_SECONDS, duration.getSeconds());
+        assertTrue(RecipeDuration.of("3 minutes").isNormalizable());
+    }
+
     @Test
     public void test_timeUnit() {
         TimeUnit t = new TimeUnit("hour");
@@ -0,0 +1,67 @@
+package seedu.recipe.model.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
+import static seedu.recipe.testutil.TypicalRecipes.MASALA_DOSA;
+
+import org.junit.jupiter.api.Test;
+
+public class RecipeDurationWithinRangePredicateTest {
+    @Test
+    public void of_validQueries_boundsNormalized() {
+        assertEquals(new RecipeDurationWithinRangePredicate(0, 1800), RecipeDurationWithinRangePredicate.of("<=30m"));
+        assertEquals(new RecipeDurationWithinRangePredicate(3600, Double.MAX_VALUE),
+            RecipeDurationWithinRangePredicate.of(">= 1 Hour"));
+        assertEquals(new RecipeDurationWithinRangePredicate(600, 3600),
+            RecipeDurationWithinRangePredicate.of("10m-1h"));
+        assertEquals(new RecipeDurationWithinRangePredicate(5400, 5400),
+            RecipeDurationWithinRangePredicate.of("1.5 hrs"));
+    }
+
+    @Test
+    public void of_invalidQueries_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> RecipeDurationWithinRangePredicate.of(""));
+        assertThrows(IllegalArgumentException.class, () -> RecipeDurationWithinRangePredicate.of("<30"));
+        assertThrows(IllegalArgumentException.class, () -> RecipeDurationWithinRangePredicate.of("<30 parsecs"));
+        assertThrows(IllegalArgumentException.class, () -> RecipeDurationWithinRangePredicate.of("=<30m"));
+        assertThrows(IllegalArgumentException.class, () -> RecipeDurationWithinRangePredicate.of("2h-1h"));
+    }
+
+    @Test
+    public void test_strictBounds_boundaryExcluded() {
+        // Cacio e pepe takes exactly 15 minutes
+        assertFalse(RecipeDurationWithinRangePredicate.of("<15m").test(CACIO_E_PEPE));
+        assertTrue(RecipeDurationWithinRangePredicate.of("<=15m").test(CACIO_E_PEPE));
+        assertFalse(RecipeDurationWithinRangePredicate.of(">15m").test(CACIO_E_PEPE));
+        assertTrue(RecipeDurationWithinRangePredicate.of(">=900s").test(CACIO_E_PEPE));
+    }
+
+    @Test
+    public void test_differentUnits_comparedNormalized() {
+        // Masala dosa takes 1 hour
+        assertTrue(RecipeDurationWithinRangePredicate.of("59 min-61 min").test(MASALA_DOSA));
+        assertFalse(RecipeDurationWithinRangePredicate.of("<3599 seconds").test(MASALA_DOSA));
+    }
+
+    @Test
+    public void test_recipeWithoutNormalizableDuration_returnsFalse() {
+        Recipe recipe = new Recipe(new Name("Toast"));
+        assertFalse(RecipeDurationWithinRangePredicate.of(">=0s").test(recipe));
+        recipe = recipe.withDuration(RecipeDuration.of("2 fortnights"));
+        assertFalse(RecipeDurationWithinRangePredicate.of(">=0s").test(recipe));
+    }
+
+    @Test
+    public void equals() {
+        RecipeDurationWithinRangePredicate predicate = new RecipeDurationWithinRangePredicate(0, 60);
+        assertEquals(predicate, predicate);
+        assertEquals(predicate, new RecipeDurationWithinRangePredicate(0, 60));
+        assertNotEquals(predicate, new RecipeDurationWithinRangePredicate(0, 61));
+        assertNotEquals(null, predicate);
+        assertNotEquals(1, predicate);
+    }
+}
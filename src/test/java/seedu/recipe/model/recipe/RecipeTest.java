@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -108,10 +109,10 @@ public class RecipeTest {
 
     //Tag logic
     @Test
-    public void setCacioPortion() {
+    public void withCacioPortion() {
         Recipe test = new RecipeBuilder(CACIO_E_PEPE).build();
         RecipePortion testPortion = RecipePortion.of("8 - 10 servings");
-        test.setPortion(testPortion);
+        test = test.withPortion(testPortion);
         assertEquals(testPortion, test.getPortion());
     }
 
@@ -128,10 +129,10 @@ public class RecipeTest {
     }
 
     @Test
-    public void setCacioDuration() {
+    public void withCacioDuration() {
         Recipe test = new RecipeBuilder(CACIO_E_PEPE).build();
         RecipeDuration testDuration = RecipeDuration.of("20 hours");
-        test.setDuration(testDuration);
+        test = test.withDuration(testDuration);
         assertEquals(testDuration, test.getDuration());
     }
 
@@ -142,15 +143,26 @@ public class RecipeTest {
     }
 
     @Test
-    public void setTags() {
+    public void withTags() {
         Set<Tag> newTagSet = new HashSet<>(CACIO_TAGS);
         Tag[] tagsToAdd = new Tag[]{new Tag("Tag one"), new Tag("Tag two")};
         Recipe test = new RecipeBuilder(CACIO_E_PEPE).build();
-        test.setTags(tagsToAdd);
+        test = test.withTags(tagsToAdd);
         newTagSet.addAll(Set.of(tagsToAdd));
         assertEquals(newTagSet, test.getTags());
     }
 
+    @Test
+    public void withTags_duplicateTags_keptOnceWithoutChangingOriginal() {
+        Recipe original = new Recipe(CACIO_NAME);
+        Tag tag = new Tag("Sharing");
+        Recipe tagged = original.withTags(tag, new Tag("Sharing"));
+
+        assertEquals(Set.of(tag), tagged.getTags());
+        assertEquals(Set.of(), original.getTags());
+        assertThrows(UnsupportedOperationException.class, () -> tagged.getTags().add(tag));
+    }
+
     //IngredientBuilder logic
     @Test
     public void getIngredients() {
@@ -163,21 +175,22 @@ public class RecipeTest {
     }
 
     @Test
-    public void setIngredients() {
+    public void withIngredients() {
         List<IngredientBuilder> newIngredientList = new ArrayList<>(CACIO_INGREDIENTS);
         IngredientBuilder[] ingredientsToAdd = new IngredientBuilder[]{
             new IngredientBuilder("-n IngredientBuilder one"),
             new IngredientBuilder("-n IngredientBuilder two")
         };
         Recipe test = new RecipeBuilder(CACIO_E_PEPE).build();
-        test.setIngredients(ingredientsToAdd);
+        test = test.withIngredients(ingredientsToAdd);
         newIngredientList.addAll(List.of(ingredientsToAdd));
 
         HashMap<Ingredient, IngredientInformation> newIngredientTable = new HashMap<>();
         newIngredientList.forEach(ingredientBuilder -> newIngredientTable.putAll(ingredientBuilder.build()));
-        HashMap<Ingredient, IngredientInformation> testTable = test.getIngredients();
+        Map<Ingredient, IngredientInformation> testTable = test.getIngredients();
 
         assertEquals(newIngredientTable, testTable);
+        assertThrows(UnsupportedOperationException.class, testTable::clear);
     }
 
     //IngredientBuilder logic
@@ -187,10 +200,10 @@ public class RecipeTest {
     }
 
     @Test
-    public void setSteps() {
+    public void withSteps() {
         Step[] newSteps = new Step[]{new Step("Step one"), new Step("Step two")};
         Recipe test = new RecipeBuilder(CACIO_E_PEPE).build();
-        test.setSteps(newSteps);
+        test = test.withSteps(newSteps);
 
         ArrayList<Step> stepList = new ArrayList<>();
         stepList.addAll(CACIO_STEPS);
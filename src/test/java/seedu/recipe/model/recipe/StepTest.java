@@ -99,4 +99,26 @@ public class StepTest {
     public void test_hashCode() {
         assertEquals(MULTI_TOKEN_PAREN.hashCode(), new Step(MULTI_TOKEN_PAREN).hashCode());
     }
+
+    @Test
+    public void constructor_withArena_descriptionStoredOffHeap() {
+        StepTextArena arena = new StepTextArena();
+        Step onHeap = new Step(MULTI_TOKEN);
+        Step offHeap = new Step(MULTI_TOKEN, arena);
+
+        assertTrue(offHeap.isStoredOffHeap());
+        assertFalse(onHeap.isStoredOffHeap());
+        assertEquals(MULTI_TOKEN, offHeap.toString());
+        assertEquals(onHeap, offHeap);
+        assertEquals(onHeap.hashCode(), offHeap.hashCode());
+        assertNotEquals(new Step(MULTI_TOKEN_PAREN), offHeap);
+        assertTrue(arena.getStoredBytes() > 0);
+    }
+
+    @Test
+    public void constructor_withArenaInvalidStep_nothingStored() {
+        StepTextArena arena = new StepTextArena();
+        assertThrows(IllegalArgumentException.class, () -> new Step(" ", arena));
+        assertEquals(0, arena.getStoredBytes());
+    }
 }
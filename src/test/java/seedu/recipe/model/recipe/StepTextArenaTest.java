@@ -0,0 +1,44 @@
+package seedu.recipe.model.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.recipe.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StepTextArenaTest {
+    @Test
+    public void store_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StepTextArena().store(null));
+    }
+
+    @Test
+    public void load_storedTexts_returnsEachText() {
+        StepTextArena arena = new StepTextArena();
+        List<String> texts = List.of("Heat the pan.", "", "Add crème fraîche, then 2½ cups of stock.");
+        List<Long> handles = new ArrayList<>();
+        texts.forEach(text -> handles.add(arena.store(text)));
+
+        for (int i = 0; i < texts.size(); i++) {
+            assertEquals(texts.get(i), arena.load(handles.get(i)));
+        }
+    }
+
+    @Test
+    public void store_textsExceedingChunk_allocatesNewChunks() {
+        StepTextArena arena = new StepTextArena(32);
+        long first = arena.store("Heat the pan.");
+        long second = arena.store("Crack an egg.");
+        String large = "Stir the sauce until it thickens.";
+        long third = arena.store(large);
+
+        assertEquals("Heat the pan.", arena.load(first));
+        assertEquals("Crack an egg.", arena.load(second));
+        assertEquals(large, arena.load(third));
+        assertEquals(3 * Integer.BYTES + 13 + 13 + large.length(), arena.getStoredBytes());
+        // the second text does not fit after the first, and the third is larger than a chunk
+        assertEquals(32 + 32 + Integer.BYTES + large.length(), arena.getAllocatedBytes());
+    }
+}
@@ -5,19 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.recipe.testutil.Assert.assertThrows;
 import static seedu.recipe.testutil.TypicalRecipes.CACIO_E_PEPE;
+import static seedu.recipe.testutil.TypicalRecipes.FISH_AND_CHIPS;
 import static seedu.recipe.testutil.TypicalRecipes.MASALA_DOSA;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.recipe.model.recipe.exceptions.DuplicateRecipeException;
 import seedu.recipe.model.recipe.exceptions.RecipeNotFoundException;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
 import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
 import seedu.recipe.model.tag.Tag;
+import seedu.recipe.testutil.EditRecipeDescriptorBuilder;
 import seedu.recipe.testutil.RecipeBuilder;
 
 public class UniqueRecipeListTest {
@@ -44,7 +49,7 @@ public class UniqueRecipeListTest {
     public void contains_recipeWithSameIdentityFieldsInList_returnsTrue() {
         uniqueRecipeList.add(CACIO_E_PEPE);
         Recipe editedCacioEPepe = CACIO_E_PEPE;
-        editedCacioEPepe.setTags(new Tag("Fusion"));
+        editedCacioEPepe = editedCacioEPepe.withTags(new Tag("Fusion"));
         assertTrue(uniqueRecipeList.contains(editedCacioEPepe));
     }
 
@@ -87,8 +92,8 @@ public class UniqueRecipeListTest {
     public void setRecipe_editedRecipeHasSameIdentity_success() {
         uniqueRecipeList.add(CACIO_E_PEPE);
         Recipe editedCacioEPepe = new RecipeBuilder(CACIO_E_PEPE).build();
-        editedCacioEPepe.setTags(new Tag("Pasta"));
-        editedCacioEPepe.setIngredients(new IngredientBuilder("-a 3 rashes -n bacon"));
+        editedCacioEPepe = editedCacioEPepe.withTags(new Tag("Pasta"));
+        editedCacioEPepe = editedCacioEPepe.withIngredients(new IngredientBuilder("-a 3 rashes -n bacon"));
 
         uniqueRecipeList.setRecipe(CACIO_E_PEPE, editedCacioEPepe);
         UniqueRecipeList expectedUniqueRecipeList = new UniqueRecipeList();
@@ -166,6 +171,120 @@ public class UniqueRecipeListTest {
         assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.setRecipes(listWithDuplicateRecipes));
     }
 
+    @Test
+    public void addAll_nullRecipe_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueRecipeList.addAll(Arrays.asList(CACIO_E_PEPE, null)));
+    }
+
+    @Test
+    public void addAll_newRecipes_addedInSingleChange() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        int[] changes = {0};
+        uniqueRecipeList.asUnmodifiableObservableList().addListener(
+            (ListChangeListener<Recipe>) change -> changes[0]++);
+
+        uniqueRecipeList.addAll(List.of(MASALA_DOSA, FISH_AND_CHIPS));
+        assertEquals(List.of(CACIO_E_PEPE, MASALA_DOSA, FISH_AND_CHIPS),
+            uniqueRecipeList.asUnmodifiableObservableList());
+        assertEquals(1, changes[0]);
+        assertEquals(3, uniqueRecipeList.getRecipesWithDurationWithin(0, Double.MAX_VALUE).size());
+    }
+
+    @Test
+    public void contains_afterRecipeRenamedOrRemoved_onlyCurrentNamesContained() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        uniqueRecipeList.add(MASALA_DOSA);
+        uniqueRecipeList.setRecipe(CACIO_E_PEPE, FISH_AND_CHIPS);
+        uniqueRecipeList.remove(MASALA_DOSA);
+        assertFalse(uniqueRecipeList.contains(CACIO_E_PEPE));
+        assertFalse(uniqueRecipeList.contains(MASALA_DOSA));
+        assertTrue(uniqueRecipeList.contains(new RecipeBuilder(FISH_AND_CHIPS).build()));
+
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        assertTrue(uniqueRecipeList.contains(CACIO_E_PEPE));
+    }
+
+    @Test
+    public void addAllAbsent_someDuplicates_onlyFirstOfEachNewRecipeAdded() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        List<Recipe> added = uniqueRecipeList.addAllAbsent(List.of(MASALA_DOSA, new RecipeBuilder(CACIO_E_PEPE).build(),
+            FISH_AND_CHIPS, new RecipeBuilder(MASALA_DOSA).build()));
+        assertEquals(List.of(MASALA_DOSA, FISH_AND_CHIPS), added);
+        assertEquals(List.of(CACIO_E_PEPE, MASALA_DOSA, FISH_AND_CHIPS),
+            uniqueRecipeList.asUnmodifiableObservableList());
+        assertEquals(3, uniqueRecipeList.getRecipesWithDurationWithin(0, Double.MAX_VALUE).size());
+    }
+
+    @Test
+    public void addAll_duplicateRecipes_throwsDuplicateRecipeException() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        // duplicate of a recipe in the list
+        assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.addAll(
+            List.of(MASALA_DOSA, new RecipeBuilder(CACIO_E_PEPE).build())));
+        // duplicates within the recipes added
+        assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.addAll(
+            List.of(MASALA_DOSA, MASALA_DOSA)));
+        // nothing is added if any recipe is a duplicate
+        assertEquals(List.of(CACIO_E_PEPE), uniqueRecipeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingRecipes_removedInSingleChange() {
+        uniqueRecipeList.setRecipes(List.of(CACIO_E_PEPE, MASALA_DOSA, FISH_AND_CHIPS));
+        int[] changes = {0};
+        uniqueRecipeList.asUnmodifiableObservableList().addListener(
+            (ListChangeListener<Recipe>) change -> changes[0]++);
+
+        uniqueRecipeList.removeAll(List.of(FISH_AND_CHIPS, CACIO_E_PEPE));
+        assertEquals(List.of(MASALA_DOSA), uniqueRecipeList.asUnmodifiableObservableList());
+        assertEquals(1, changes[0]);
+        assertEquals(List.of(MASALA_DOSA), uniqueRecipeList.getRecipesWithDurationWithin(0, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void removeAll_recipeDoesNotExist_throwsRecipeNotFoundException() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        assertThrows(RecipeNotFoundException.class, () -> uniqueRecipeList.removeAll(
+            List.of(CACIO_E_PEPE, MASALA_DOSA)));
+        // nothing is removed if any recipe is missing
+        assertEquals(List.of(CACIO_E_PEPE), uniqueRecipeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRecipes_map_replacesRecipesInPlace() {
+        uniqueRecipeList.setRecipes(List.of(CACIO_E_PEPE, MASALA_DOSA, FISH_AND_CHIPS));
+        Recipe editedCacio = new EditRecipeDescriptorBuilder().withTags("Quick").build().toRecipe(CACIO_E_PEPE);
+        Recipe renamedDosa = rename(MASALA_DOSA, "Plain Dosa");
+
+        uniqueRecipeList.setRecipes(Map.of(CACIO_E_PEPE, editedCacio, MASALA_DOSA, renamedDosa));
+        assertEquals(List.of(editedCacio, renamedDosa, FISH_AND_CHIPS),
+            uniqueRecipeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRecipes_mapWithDuplicateResult_throwsDuplicateRecipeException() {
+        uniqueRecipeList.setRecipes(List.of(CACIO_E_PEPE, MASALA_DOSA));
+        Recipe renamedCacio = rename(CACIO_E_PEPE, MASALA_DOSA.getName().recipeName);
+        assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.setRecipes(
+            Map.of(CACIO_E_PEPE, renamedCacio)));
+
+        // swapping the names of two recipes leaves them unique
+        Recipe renamedDosa = rename(MASALA_DOSA, CACIO_E_PEPE.getName().recipeName);
+        uniqueRecipeList.setRecipes(Map.of(CACIO_E_PEPE, renamedCacio, MASALA_DOSA, renamedDosa));
+        assertEquals(List.of(renamedCacio, renamedDosa), uniqueRecipeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRecipes_mapWithMissingRecipe_throwsRecipeNotFoundException() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        assertThrows(RecipeNotFoundException.class, () -> uniqueRecipeList.setRecipes(
+            Map.of(MASALA_DOSA, MASALA_DOSA)));
+    }
+
+    private static Recipe rename(Recipe recipe, String name) {
+        return new EditRecipeDescriptorBuilder().withName(name).build().toRecipe(recipe);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -180,4 +299,18 @@ public class UniqueRecipeListTest {
         assertEquals(CACIO_E_PEPE, iterator.next());
         assertEquals(MASALA_DOSA, iterator.next());
     }
+
+    @Test
+    public void getTopPartners_recipeReplaced_pairingsUpdated() {
+        uniqueRecipeList.add(CACIO_E_PEPE);
+        Ingredient pecorino = Ingredient.of("Pecorino");
+        assertFalse(uniqueRecipeList.getTopPartners(pecorino, 10).isEmpty());
+
+        Recipe editedRecipe = new Recipe(CACIO_E_PEPE.getName());
+        editedRecipe = editedRecipe.withIngredients(new IngredientBuilder("-n spaghetti"),
+            new IngredientBuilder("-n black pepper"));
+        uniqueRecipeList.setRecipe(CACIO_E_PEPE, editedRecipe);
+        assertTrue(uniqueRecipeList.getTopPartners(pecorino, 10).isEmpty());
+        assertEquals(1, uniqueRecipeList.getTopPartners(Ingredient.of("spaghetti"), 10).size());
+    }
 }
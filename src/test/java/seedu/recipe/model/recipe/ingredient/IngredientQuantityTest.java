@@ -1,17 +1,87 @@
 package seedu.recipe.model.recipe.ingredient;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.recipe.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.recipe.model.recipe.exceptions.RecipeQuantityInvalidArgumentException;
+import seedu.recipe.model.recipe.unit.QuantityUnit;
 
 public class IngredientQuantityTest {
 
     private static final String INVALID_RANGE = "2-1 portions";
+    private static final double DELTA = 1e-9;
 
     @Test
     public void isValidRecipeQuantity() {
         assertThrows(RecipeQuantityInvalidArgumentException.class, () -> IngredientQuantity.of(INVALID_RANGE));
+
+        // spaced range, lower bound exceeding upper bound
+        assertThrows(RecipeQuantityInvalidArgumentException.class, () -> IngredientQuantity.of("5 - 3 cups"));
+    }
+
+    @Test
+    public void of_singleAmounts_parsed() {
+        IngredientQuantity decimal = IngredientQuantity.of("1.5 L");
+        assertEquals(1.5, decimal.getLowerAmount(), DELTA);
+        assertFalse(decimal.isRange());
+        assertEquals(QuantityUnit.LITRE, decimal.getUnit());
+        assertEquals("L", decimal.getUnitName());
+
+        IngredientQuantity fraction = IngredientQuantity.of("1/3 cup");
+        assertEquals(1.0 / 3, fraction.getLowerAmount(), DELTA);
+        assertEquals(QuantityUnit.CUP, fraction.getUnit());
+
+        IngredientQuantity alphabetic = IngredientQuantity.of("One oz.");
+        assertEquals(1, alphabetic.getLowerAmount(), DELTA);
+        assertEquals(QuantityUnit.OUNCE, alphabetic.getUnit());
+
+        IngredientQuantity unitless = IngredientQuantity.of("2");
+        assertEquals(2, unitless.getLowerAmount(), DELTA);
+        assertEquals(QuantityUnit.PIECE, unitless.getUnit());
+    }
+
+    @Test
+    public void of_ranges_parsed() {
+        IngredientQuantity spacedRange = IngredientQuantity.of("3 - 5");
+        assertTrue(spacedRange.isRange());
+        assertEquals(3, spacedRange.getLowerAmount(), DELTA);
+        assertEquals(5, spacedRange.getUpperAmount(), DELTA);
+
+        IngredientQuantity wordedRange = IngredientQuantity.of("1 to 2 cups");
+        assertEquals(1, wordedRange.getLowerAmount(), DELTA);
+        assertEquals(2, wordedRange.getUpperAmount(), DELTA);
+        assertEquals(QuantityUnit.CUP, wordedRange.getUnit());
+    }
+
+    @Test
+    public void of_unrecognisedUnit_normalized() {
+        IngredientQuantity pinch = IngredientQuantity.of("A pinch of");
+        assertEquals(QuantityUnit.OTHER, pinch.getUnit());
+        assertEquals("pinch", pinch.getUnitName());
+    }
+
+    @Test
+    public void isCompatibleWith() {
+        // same dimension -> true
+        assertTrue(IngredientQuantity.of("200 Grams").isCompatibleWith(IngredientQuantity.of("1.5 pounds")));
+
+        // different dimension -> false
+        assertFalse(IngredientQuantity.of("200 g").isCompatibleWith(IngredientQuantity.of("1 cup")));
+
+        // same unrecognised unit -> true
+        assertTrue(IngredientQuantity.of("1 knob").isCompatibleWith(IngredientQuantity.of("3 Knob")));
+
+        // different unrecognised units -> false
+        assertFalse(IngredientQuantity.of("1 knob").isCompatibleWith(IngredientQuantity.of("2 slices")));
+    }
+
+    @Test
+    public void equals_usesAmountString() {
+        assertEquals(IngredientQuantity.of("1 cup"), IngredientQuantity.of("1 cup"));
+        assertFalse(IngredientQuantity.of("1 cup").equals(IngredientQuantity.of("1 cups")));
     }
 }
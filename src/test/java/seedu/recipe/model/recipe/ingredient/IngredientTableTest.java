@@ -11,6 +11,6 @@ public class IngredientTableTest {
     @Test
     public void testEq() {
         assertThrows(NullPointerException.class, (
-            ) -> CACIO_E_PEPE.setIngredients((HashMap<Ingredient, IngredientInformation>) null));
+            ) -> CACIO_E_PEPE.withIngredients((HashMap<Ingredient, IngredientInformation>) null));
     }
 }
@@ -0,0 +1,42 @@
+package seedu.recipe.model.recipe.ingredient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.recipe.unit.QuantityUnit;
+
+public class QuantityFormatterTest {
+
+    @Test
+    public void format_fractionalUnits_nearestCommonFraction() {
+        assertEquals("1 1/2 cups", QuantityFormatter.format(1.5, 1.5, QuantityUnit.CUP, ""));
+        assertEquals("1/3 cup", QuantityFormatter.format(1.0 / 3, 1.0 / 3, QuantityUnit.CUP, ""));
+        assertEquals("2", QuantityFormatter.format(1.97, 1.97, QuantityUnit.PIECE, ""));
+        assertEquals("3/4 oz", QuantityFormatter.format(0.76, 0.76, QuantityUnit.OUNCE, ""));
+    }
+
+    @Test
+    public void format_metricUnits_decimals() {
+        assertEquals("1.25 kg", QuantityFormatter.format(1250, 1250, QuantityUnit.GRAM, ""));
+        assertEquals("333.33 ml", QuantityFormatter.format(1000.0 / 3, 1000.0 / 3, QuantityUnit.MILLILITRE, ""));
+    }
+
+    @Test
+    public void format_siblingUnits_readableUnitSelected() {
+        // 6 tsp -> 2 tbsp
+        assertEquals("2 tbsp", QuantityFormatter.format(6, 6, QuantityUnit.TEASPOON, ""));
+
+        // 1/2 tbsp -> 1 1/2 tsp
+        assertEquals("1 1/2 tsp", QuantityFormatter.format(0.5, 0.5, QuantityUnit.TABLESPOON, ""));
+
+        // 0.5 kg -> 500 g
+        assertEquals("500 g", QuantityFormatter.format(0.5, 0.5, QuantityUnit.KILOGRAM, ""));
+    }
+
+    @Test
+    public void format_rangesAndUnrecognisedUnits() {
+        assertEquals("6 - 10", QuantityFormatter.format(6, 10, QuantityUnit.PIECE, ""));
+        assertEquals("2 knob", QuantityFormatter.format(2, 2, QuantityUnit.OTHER, "knob"));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.recipe.model.recipe.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class QuantityUnitTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void lookup() {
+        // recognised aliases, ignoring case and surrounding whitespace
+        assertEquals(QuantityUnit.GRAM, QuantityUnit.lookup("g"));
+        assertEquals(QuantityUnit.GRAM, QuantityUnit.lookup(" Grams "));
+        assertEquals(QuantityUnit.TABLESPOON, QuantityUnit.lookup("Tbsp"));
+        assertEquals(QuantityUnit.LITRE, QuantityUnit.lookup("L"));
+        assertEquals(QuantityUnit.FLUID_OUNCE, QuantityUnit.lookup("fl oz"));
+
+        // no unit -> piece
+        assertEquals(QuantityUnit.PIECE, QuantityUnit.lookup(""));
+
+        // unrecognised unit -> other
+        assertEquals(QuantityUnit.OTHER, QuantityUnit.lookup("knob"));
+    }
+
+    @Test
+    public void convert_sameDimension_success() {
+        assertEquals(1500, QuantityUnit.KILOGRAM.convert(1.5, QuantityUnit.GRAM), DELTA);
+        assertEquals(3, QuantityUnit.TABLESPOON.convert(1, QuantityUnit.TEASPOON), 1e-6);
+        assertEquals(250, QuantityUnit.LITRE.convert(0.25, QuantityUnit.MILLILITRE), DELTA);
+        assertEquals(2, QuantityUnit.PIECE.convert(24, QuantityUnit.DOZEN), DELTA);
+        assertEquals(16, QuantityUnit.POUND.convert(1, QuantityUnit.OUNCE), 1e-6);
+    }
+
+    @Test
+    public void convert_differentDimension_throwsIllegalArgumentException() {
+        assertFalse(QuantityUnit.GRAM.isConvertibleTo(QuantityUnit.CUP));
+        assertThrows(IllegalArgumentException.class, () -> QuantityUnit.GRAM.convert(1, QuantityUnit.CUP));
+    }
+
+    @Test
+    public void isConvertibleTo_otherUnits_returnsFalse() {
+        assertTrue(QuantityUnit.CUP.isConvertibleTo(QuantityUnit.MILLILITRE));
+        assertFalse(QuantityUnit.OTHER.isConvertibleTo(QuantityUnit.OTHER));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.recipe.model.shopping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+
+public class ShoppingListTest {
+    private static final Recipe FIRST_RECIPE = createRecipe("Crepes",
+        new IngredientBuilder("-a 200 g -n flour"),
+        new IngredientBuilder("-a 1 knob -n butter -s margarine"),
+        new IngredientBuilder("-a 1 cup -n milk"));
+    private static final Recipe SECOND_RECIPE = createRecipe("Scones",
+        new IngredientBuilder("-a 1 lb -n Flour"),
+        new IngredientBuilder("-a 2 tbsp -n butter -s ghee"),
+        new IngredientBuilder("-a 1/2 cup -n milk"),
+        new IngredientBuilder("-e a handful -n blueberries"));
+
+    private static Recipe createRecipe(String name, IngredientBuilder... ingredients) {
+        Recipe recipe = new Recipe(new Name(name));
+        recipe = recipe.withIngredients(ingredients);
+        return recipe;
+    }
+
+    @Test
+    public void of_noRecipes_emptyList() {
+        assertTrue(ShoppingList.of(List.of()).isEmpty());
+    }
+
+    @Test
+    public void of_compatibleQuantities_summed() {
+        ShoppingList shoppingList = ShoppingList.of(List.of(FIRST_RECIPE, SECOND_RECIPE));
+        assertEquals(4, shoppingList.size());
+
+        // ingredient names are matched case-insensitively, and mass units are converted
+        assertEquals(List.of("653.59 g"), shoppingList.getQuantities(Ingredient.of("flour")));
+        assertEquals(List.of("1 1/2 cups"), shoppingList.getQuantities(Ingredient.of("milk")));
+    }
+
+    @Test
+    public void of_incompatibleQuantities_keptSeparate() {
+        ShoppingList shoppingList = ShoppingList.of(List.of(FIRST_RECIPE, SECOND_RECIPE));
+        assertEquals(List.of("2 tbsp", "1 knob"), shoppingList.getQuantities(Ingredient.of("butter")));
+        assertEquals(List.of("a handful"), shoppingList.getQuantities(Ingredient.of("blueberries")));
+    }
+
+    @Test
+    public void toString_sortedWithSubstitutions() {
+        String shoppingList = ShoppingList.of(List.of(FIRST_RECIPE, SECOND_RECIPE)).toString();
+        assertTrue(shoppingList.startsWith("- blueberries: a handful\n"
+            + "- butter: 2 tbsp + 1 knob (substitutes: ghee, margarine)\n"));
+        assertTrue(shoppingList.endsWith("- milk: 1 1/2 cups"));
+    }
+
+    @Test
+    public void of_manyRecipes_sameAsSequentialTally() {
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            recipes.add(i % 2 == 0 ? FIRST_RECIPE : SECOND_RECIPE);
+        }
+        ShoppingList sequential = new ShoppingList();
+        recipes.forEach(recipe -> sequential.addAll(recipe.getIngredients()));
+
+        assertEquals(sequential.toString(), ShoppingList.of(recipes).toString());
+        assertEquals(List.of("375 cups"), ShoppingList.of(recipes).getQuantities(Ingredient.of("milk")));
+    }
+}
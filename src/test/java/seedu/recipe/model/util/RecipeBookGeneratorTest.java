@@ -0,0 +1,58 @@
+package seedu.recipe.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.ingredient.Ingredient;
+
+public class RecipeBookGeneratorTest {
+    private static final int RECIPE_COUNT = 500;
+
+    @Test
+    public void generate_sameSeed_sameRecipes() {
+        assertEquals(generate(7), generate(7));
+    }
+
+    @Test
+    public void generate_differentSeed_differentRecipes() {
+        assertNotEquals(generate(7), generate(8));
+    }
+
+    @Test
+    public void generateRecipeBook_uniqueRecipesWithEveryField() {
+        RecipeBook recipeBook = new RecipeBookGenerator().generateRecipeBook(RECIPE_COUNT);
+
+        assertEquals(RECIPE_COUNT, recipeBook.getRecipeList().size());
+        for (Recipe recipe : recipeBook.getRecipeList()) {
+            assertTrue(recipe.getPortionNullable() != null && recipe.getDurationNullable() != null);
+            assertTrue(!recipe.getTags().isEmpty() && !recipe.getIngredients().isEmpty()
+                && !recipe.getSteps().isEmpty());
+        }
+    }
+
+    @Test
+    public void generate_ingredientsSkewedTowardsCommonOnes() {
+        Map<Ingredient, Integer> uses = new HashMap<>();
+        generate(RecipeBookGenerator.DEFAULT_SEED).forEach(recipe ->
+            recipe.getIngredientList().forEach(ingredient -> uses.merge(ingredient, 1, Integer::sum)));
+        List<Integer> sortedUses = uses.values().stream().sorted().collect(Collectors.toList());
+
+        // the most common ingredient is used many times more than the median one
+        int median = sortedUses.get(sortedUses.size() / 2);
+        assertTrue(sortedUses.get(sortedUses.size() - 1) > 5 * median);
+    }
+
+    private static List<Recipe> generate(long seed) {
+        return new RecipeBookGenerator(seed).generate(RECIPE_COUNT).collect(Collectors.toList());
+    }
+}
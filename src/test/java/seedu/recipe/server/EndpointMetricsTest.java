@@ -0,0 +1,20 @@
+package seedu.recipe.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class EndpointMetricsTest {
+    @Test
+    public void record_updatesCountMeanAndMax() {
+        EndpointMetrics metrics = new EndpointMetrics();
+        assertEquals(0, metrics.getCount());
+        assertEquals(0, metrics.getMeanMillis());
+
+        metrics.record(1_000_000);
+        metrics.record(3_000_000);
+        assertEquals(2, metrics.getCount());
+        assertEquals(2, metrics.getMeanMillis(), 1e-9);
+        assertEquals(3, metrics.getMaxMillis(), 1e-9);
+    }
+}
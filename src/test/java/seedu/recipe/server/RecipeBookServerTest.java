@@ -0,0 +1,221 @@
+package seedu.recipe.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.recipe.commons.util.JsonUtil;
+import seedu.recipe.logic.LogicManager;
+import seedu.recipe.model.Model;
+import seedu.recipe.model.ModelManager;
+import seedu.recipe.model.UserPrefs;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.storage.JsonRecipeBookStorage;
+import seedu.recipe.storage.JsonUserPrefsStorage;
+import seedu.recipe.storage.StorageManager;
+
+public class RecipeBookServerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private final HttpClient client = HttpClient.newHttpClient();
+    private RecipeBookServer server;
+    private int recipeCount;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonRecipeBookStorage recipeBookStorage =
+                new JsonRecipeBookStorage(temporaryFolder.resolve("recipeBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(recipeBookStorage, userPrefsStorage);
+        server = new RecipeBookServer(new LogicManager(model, storage), 0, RecipeBookServer.DEFAULT_WORKER_THREADS);
+        server.start();
+        recipeCount = model.getRecipeBook().getRecipeList().size();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + pathAndQuery));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> getRecipes(HttpResponse<String> response) throws Exception {
+        return (List<Object>) JsonUtil.fromJsonString(response.body(), Map.class).get("recipes");
+    }
+
+    @Test
+    public void get_recipes_listsEveryRecipe() throws Exception {
+        HttpResponse<String> response = send(request("/recipes"));
+        assertEquals(200, response.statusCode());
+        assertEquals(recipeCount, getRecipes(response).size());
+        assertTrue(response.body().contains(model.getRecipeBook().getRecipeList().get(0).getName().toString()));
+    }
+
+    @Test
+    public void get_recipeByIndex_showsRecipe() throws Exception {
+        HttpResponse<String> response = send(request("/recipes/2"));
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(model.getRecipeBook().getRecipeList().get(1).getName().toString()));
+
+        assertEquals(404, send(request("/recipes/" + (recipeCount + 1))).statusCode());
+        assertEquals(404, send(request("/recipes/first")).statusCode());
+        assertEquals(404, send(request("/recipes/0")).statusCode());
+    }
+
+    @Test
+    public void post_recipes_addsAllAsBatch() throws Exception {
+        HttpResponse<String> response = send(request("/recipes")
+            .POST(HttpRequest.BodyPublishers.ofString("n/Toast t/Breakfast\n\n# snacks\nn/Popcorn\n")));
+        assertEquals(201, response.statusCode());
+        assertEquals(recipeCount + 2, model.getRecipeBook().getRecipeList().size());
+        // every line is parsed through Logic, like a command entered by the user
+        assertEquals(2, model.getCommandMetrics().getMetrics("AddCommand").orElseThrow().getParseNanos()
+            .getTotalCount());
+    }
+
+    @Test
+    public void post_invalidRecipe_addsNothing() throws Exception {
+        HttpResponse<String> response = send(request("/recipes")
+            .POST(HttpRequest.BodyPublishers.ofString("n/Toast\nd/5 minutes\n")));
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("Line 2"));
+        assertEquals(recipeCount, model.getRecipeBook().getRecipeList().size());
+    }
+
+    @Test
+    public void put_recipe_editsRecipe() throws Exception {
+        HttpResponse<String> response = send(request("/recipes/1")
+            .PUT(HttpRequest.BodyPublishers.ofString("n/Renamed Recipe")));
+        assertEquals(200, response.statusCode());
+        assertEquals("Renamed Recipe", model.getRecipeBook().getRecipeList().get(0).getName().toString());
+
+        // editing without an index is not allowed
+        assertEquals(405, send(request("/recipes").PUT(HttpRequest.BodyPublishers.ofString("n/Other"))).statusCode());
+    }
+
+    @Test
+    public void put_filteredRecipeList_editsListedRecipe() throws Exception {
+        Recipe lastRecipe = model.getRecipeBook().getRecipeList().get(recipeCount - 1);
+        model.updateFilteredRecipeList(lastRecipe::equals);
+
+        assertEquals(200, send(request("/recipes/1")
+            .PUT(HttpRequest.BodyPublishers.ofString("n/Renamed Recipe"))).statusCode());
+        assertEquals("Renamed Recipe", model.getRecipeBook().getRecipeList().get(0).getName().toString());
+        assertTrue(model.getRecipeBook().getRecipeList().contains(lastRecipe));
+    }
+
+    @Test
+    public void putAndDelete_recipeChangedSinceListed_rejected() throws Exception {
+        // changes which are not yet published are not listed to clients
+        Recipe listedRecipe = model.getRecipeBook().getRecipeList().get(0);
+        model.deleteRecipe(listedRecipe);
+
+        HttpResponse<String> response = send(request("/recipes/1")
+            .PUT(HttpRequest.BodyPublishers.ofString("n/Renamed Recipe")));
+        assertEquals(409, response.statusCode());
+        assertTrue(response.body().contains(RecipeBookServer.MESSAGE_RECIPE_CHANGED));
+        assertEquals(409, send(request("/recipes/1").DELETE()).statusCode());
+        assertEquals(recipeCount - 1, model.getRecipeBook().getRecipeList().size());
+    }
+
+    @Test
+    public void delete_recipe_deletesRecipe() throws Exception {
+        assertEquals(200, send(request("/recipes/1").DELETE()).statusCode());
+        assertEquals(recipeCount - 1, model.getRecipeBook().getRecipeList().size());
+
+        assertEquals(404, send(request("/recipes/" + recipeCount).DELETE()).statusCode());
+    }
+
+    @Test
+    public void get_find_listsMatchesWithoutFilteringBook() throws Exception {
+        HttpResponse<String> response = send(request("/find?q=Cacio%20e%20Pepe"));
+        assertEquals(200, response.statusCode());
+        assertTrue(getRecipes(response).size() >= 1);
+        assertTrue(getRecipes(response).size() < recipeCount);
+        assertEquals(recipeCount, model.getFilteredRecipeList().size());
+
+        assertEquals(400, send(request("/find")).statusCode());
+    }
+
+    @Test
+    public void get_sub_showsMessage() throws Exception {
+        HttpResponse<String> response = send(request("/sub?ingredient=egg"));
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("message"));
+
+        assertEquals(400, send(request("/sub?other=egg")).statusCode());
+    }
+
+    @Test
+    public void get_findAndSub_neitherSaveNorChangeFilteredList() throws Exception {
+        model.updateFilteredRecipeList(recipe -> false);
+        assertEquals(200, send(request("/find?q=Cacio")).statusCode());
+        assertEquals(200, send(request("/sub?ingredient=egg")).statusCode());
+        assertEquals(0, model.getFilteredRecipeList().size());
+        assertFalse(Files.exists(temporaryFolder.resolve("recipeBook.json")));
+    }
+
+    @Test
+    public void get_export_downloadsRecipeBook() throws Exception {
+        HttpResponse<String> response = send(request("/export"));
+        assertEquals(200, response.statusCode());
+        assertEquals(recipeCount, getRecipes(response).size());
+        assertTrue(response.headers().firstValue("Content-Disposition").isPresent());
+
+        assertEquals(405, send(request("/export").POST(HttpRequest.BodyPublishers.noBody())).statusCode());
+    }
+
+    @Test
+    public void get_metrics_countsRequestsPerEndpoint() throws Exception {
+        send(request("/recipes"));
+        send(request("/recipes/1"));
+        send(request("/find?q=Cacio"));
+
+        assertEquals(2, server.getMetrics("GET /recipes").orElseThrow().getCount());
+        assertEquals(1, server.getMetrics("GET /find").orElseThrow().getCount());
+        HttpResponse<String> response = send(request("/metrics"));
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("GET /recipes"));
+    }
+
+    @Test
+    public void concurrentRequests_allSucceed() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            HttpRequest request = i % 4 == 0
+                ? request("/recipes").POST(HttpRequest.BodyPublishers.ofString("n/Concurrent Recipe " + i)).build()
+                : request("/recipes").build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertTrue(response.get().statusCode() < 300);
+        }
+        assertEquals(recipeCount + 8, model.getRecipeBook().getRecipeList().size());
+    }
+}
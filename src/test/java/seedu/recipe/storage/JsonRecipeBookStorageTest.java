@@ -3,6 +3,7 @@ package seedu.recipe.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.recipe.testutil.Assert.assertThrows;
 import static seedu.recipe.testutil.TypicalRecipes.MASALA_DOSA;
 import static seedu.recipe.testutil.TypicalRecipes.getTypicalRecipeBook;
@@ -17,6 +18,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.recipe.commons.exceptions.DataConversionException;
 import seedu.recipe.model.ReadOnlyRecipeBook;
 import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.Step;
+import seedu.recipe.model.recipe.StepTextArena;
+import seedu.recipe.model.util.RecipeBookGenerator;
 
 public class JsonRecipeBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRecipeBookStorageTest");
@@ -84,6 +88,33 @@ public class JsonRecipeBookStorageTest {
 
     }
 
+    @Test
+    public void saveRecipes_generatedRecipes_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("GeneratedRecipeBook.json");
+        JsonRecipeBookStorage jsonRecipeBookStorage = new JsonRecipeBookStorage(filePath);
+
+        jsonRecipeBookStorage.saveRecipes(new RecipeBookGenerator(1).generate(50));
+        ReadOnlyRecipeBook readBack = jsonRecipeBookStorage.readRecipeBook().get();
+        assertEquals(new RecipeBookGenerator(1).generateRecipeBook(50), new RecipeBook(readBack));
+    }
+
+    @Test
+    public void readRecipeBook_withStepTextArena_onlyLoadedStepsStoredOffHeap() throws Exception {
+        Path filePath = testFolder.resolve("OffHeapRecipeBook.json");
+        StepTextArena arena = new StepTextArena();
+        JsonRecipeBookStorage jsonRecipeBookStorage = new JsonRecipeBookStorage(filePath, arena);
+        RecipeBook original = getTypicalRecipeBook();
+
+        jsonRecipeBookStorage.saveRecipeBook(original);
+        ReadOnlyRecipeBook readBack = jsonRecipeBookStorage.readRecipeBook().get();
+        assertEquals(original, new RecipeBook(readBack));
+        assertTrue(readBack.getRecipeList().stream().flatMap(recipe -> recipe.getSteps().stream())
+            .allMatch(Step::isStoredOffHeap));
+        assertTrue(arena.getStoredBytes() > 0);
+        assertFalse(original.getRecipeList().stream().flatMap(recipe -> recipe.getSteps().stream())
+            .anyMatch(Step::isStoredOffHeap));
+    }
+
     @Test
     public void saveRecipeBook_nullRecipeBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveRecipeBook(null, "SomeFile.json"));
@@ -2,12 +2,15 @@ package seedu.recipe.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.recipe.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -16,7 +19,11 @@ import seedu.recipe.commons.exceptions.IllegalValueException;
 import seedu.recipe.commons.util.JsonUtil;
 import seedu.recipe.model.ReadOnlyRecipeBook;
 import seedu.recipe.model.RecipeBook;
+import seedu.recipe.model.recipe.Name;
 import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.model.recipe.RecipeDuration;
+import seedu.recipe.model.recipe.ingredient.IngredientBuilder;
+import seedu.recipe.model.tag.Tag;
 import seedu.recipe.testutil.TypicalRecipes;
 
 public class JsonSerializableRecipeBookTest {
@@ -55,6 +62,53 @@ public class JsonSerializableRecipeBookTest {
                      dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelPages_everyRecipeHandedOverInOrder() throws Exception {
+        RecipeBook typicalRecipeBook = TypicalRecipes.getTypicalRecipeBook();
+        List<Recipe> pagedRecipes = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        int recipeCount = new JsonSerializableRecipeBook(typicalRecipeBook).toModelPages(2, (page, total) -> {
+            assertEquals(typicalRecipeBook.getRecipeList().size(), total);
+            pagedRecipes.addAll(page);
+            pageSizes.add(page.size());
+        });
+
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(typicalRecipeBook.getRecipeList().size(), recipeCount);
+        assertEquals(typicalRecipeBook.getRecipeList(), pagedRecipes);
+    }
+
+    @Test
+    public void toModelPages_duplicateRecipes_onlyUniquePagesHandedOver() throws Exception {
+        JsonSerializableRecipeBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_RECIPE_FILE,
+                                                                        JsonSerializableRecipeBook.class).get();
+        List<Recipe> pagedRecipes = new ArrayList<>();
+        assertThrows(IllegalValueException.class, JsonSerializableRecipeBook.MESSAGE_DUPLICATE_RECIPE, () ->
+            dataFromFile.toModelPages(1, (page, total) -> pagedRecipes.addAll(page)));
+        assertEquals(pagedRecipes.size(), new HashSet<>(pagedRecipes).size());
+    }
+
+    @Test
+    public void toModelType_equalValuesInDifferentRecipes_shared() throws Exception {
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.setRecipes(List.of(recipeWithSharedValues("First"), recipeWithSharedValues("Second")));
+        List<Recipe> recipes = new JsonSerializableRecipeBook(recipeBook).toModelType().getRecipeList();
+
+        Recipe first = recipes.get(0);
+        Recipe second = recipes.get(1);
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+        assertSame(first.getDuration(), second.getDuration());
+        assertSame(first.getIngredientList().iterator().next().getName(),
+            second.getIngredientList().iterator().next().getName());
+    }
+
+    private static Recipe recipeWithSharedValues(String name) {
+        return new Recipe(new Name(name))
+            .withDuration(RecipeDuration.of("15 min"))
+            .withTags(new Tag("Shared"))
+            .withIngredients(new IngredientBuilder("-a 2 cups -n rice"));
+    }
+
     @Test
     public void test_constructor() {
         ReadOnlyRecipeBook r = TypicalRecipes.getTypicalRecipeBook();
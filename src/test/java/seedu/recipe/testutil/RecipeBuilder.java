@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.recipe.model.recipe.Name;
@@ -44,12 +45,12 @@ public class RecipeBuilder {
      * Creates a {@code RecipeBuilder} with the default details.
      */
     public RecipeBuilder(Name name, RecipePortion portion, RecipeDuration duration,
-                         Set<Tag> tags, HashMap<Ingredient, IngredientInformation> ingredients, List<Step> steps) {
+                         Set<Tag> tags, Map<Ingredient, IngredientInformation> ingredients, List<Step> steps) {
         this.name = name;
         this.portion = portion;
         this.duration = duration;
         this.tags.addAll(tags);
-        this.ingredientTable = ingredients;
+        this.ingredientTable = new HashMap<>(ingredients);
         this.steps.addAll(steps);
     }
 
@@ -61,7 +62,7 @@ public class RecipeBuilder {
         duration = recipeToCopy.getDuration();
         portion = recipeToCopy.getPortion();
         tags = new HashSet<>(recipeToCopy.getTags());
-        ingredientTable = recipeToCopy.getIngredients();
+        ingredientTable = new HashMap<>(recipeToCopy.getIngredients());
         steps = recipeToCopy.getSteps();
     }
 
@@ -71,12 +72,6 @@ public class RecipeBuilder {
      * @return The Recipe instance generated.
      */
     public Recipe build() {
-        Recipe out = new Recipe(name);
-        out.setDuration(duration);
-        out.setPortion(portion);
-        out.setTags(tags.toArray(Tag[]::new));
-        out.setIngredients(ingredientTable);
-        out.setSteps(steps.toArray(Step[]::new));
-        return out;
+        return new Recipe(name, portion, duration, tags, ingredientTable, steps);
     }
 }
@@ -0,0 +1,176 @@
+package seedu.recipe.ui;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.recipe.model.recipe.Name;
+import seedu.recipe.model.recipe.Recipe;
+import seedu.recipe.testutil.RecipeBuilder;
+import seedu.recipe.testutil.TypicalRecipes;
+
+/**
+ * Measures how long the recipe list panel takes to lay out each frame while it is scrolled through a long list, with
+ * cells that reuse their {@code RecipeCard}, and with cells that load a new card on every update as they used to.
+ * <p>
+ * Each frame scrolls the list down by a few recipes, and then runs the CSS and layout pass that JavaFX would run on
+ * the next pulse, which is where cells are updated. Rendering itself is left out, as it is the same in both cases.
+ * Run headlessly through Monocle with {@code gradlew uiBenchmark}.
+ */
+@Tag("benchmark")
+public class RecipeListPanelScrollBenchmark {
+    private static final int RECIPE_COUNT = 2000;
+    private static final int RECIPES_PER_FRAME = 3;
+    private static final int WARMUP_PASSES = 2;
+    private static final int MEASURED_PASSES = 3;
+
+    private static Stage stage;
+
+    @BeforeAll
+    public static void setUpStage() throws Exception {
+        stage = FxToolkit.registerPrimaryStage();
+    }
+
+    @AfterAll
+    public static void tearDownStage() throws Exception {
+        FxToolkit.cleanupStages();
+    }
+
+    @Test
+    public void scroll_recycledCards_fasterFrames() throws Exception {
+        List<Recipe> recipes = createRecipes();
+
+        FrameTimes newCardPerUpdate = measure(recipes, NewCardPerUpdateCell::new);
+        FrameTimes recycledCards = measure(recipes, null);
+
+        System.out.println("New card per update: " + newCardPerUpdate);
+        System.out.println("Recycled cards:      " + recycledCards);
+        assertTrue(recycledCards.distinctCards < newCardPerUpdate.distinctCards,
+            "Recycled cells should display far fewer distinct cards than recipes scrolled past");
+    }
+
+    private static List<Recipe> createRecipes() {
+        List<Recipe> templates = TypicalRecipes.getTypicalRecipes();
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            Recipe template = templates.get(i % templates.size());
+            recipes.add(new RecipeBuilder(new Name(template.getName().recipeName + " " + i),
+                template.getPortionNullable(), template.getDurationNullable(), template.getTags(),
+                template.getIngredients(), template.getSteps()).build());
+        }
+        return recipes;
+    }
+
+    /**
+     * Scrolls a new panel over the given recipes from top to bottom several times, timing every frame.
+     *
+     * @param cellFactory Creates the cells of the list, or null to use the cells of {@code RecipeListPanel} itself.
+     */
+    @SuppressWarnings("unchecked")
+    private static FrameTimes measure(List<Recipe> recipes, Supplier<ListCell<Recipe>> cellFactory)
+            throws Exception {
+        return WaitForAsyncUtils.asyncFx(() -> {
+            RecipeListPanel panel = new RecipeListPanel(FXCollections.observableArrayList(recipes));
+            ListView<Recipe> listView = (ListView<Recipe>) panel.getRoot().lookup("#recipeListView");
+            if (cellFactory != null) {
+                listView.setCellFactory(unused -> cellFactory.get());
+            }
+            stage.setScene(new Scene(panel.getRoot(), 800, 600));
+            stage.show();
+
+            Set<Node> cards = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int pass = 0; pass < WARMUP_PASSES; pass++) {
+                scrollThrough(listView, recipes.size(), new long[0], cards);
+            }
+            cards.clear();
+            int framesPerPass = (recipes.size() + RECIPES_PER_FRAME - 1) / RECIPES_PER_FRAME;
+            long[] frameNanos = new long[framesPerPass * MEASURED_PASSES];
+            for (int pass = 0; pass < MEASURED_PASSES; pass++) {
+                long[] passNanos = new long[framesPerPass];
+                scrollThrough(listView, recipes.size(), passNanos, cards);
+                System.arraycopy(passNanos, 0, frameNanos, pass * framesPerPass, framesPerPass);
+            }
+            return new FrameTimes(frameNanos, cards.size());
+        }).get(10, TimeUnit.MINUTES);
+    }
+
+    private static void scrollThrough(ListView<Recipe> listView, int size, long[] frameNanos, Set<Node> cards) {
+        for (int frame = 0; frame * RECIPES_PER_FRAME < size; frame++) {
+            long start = System.nanoTime();
+            listView.scrollTo(frame * RECIPES_PER_FRAME);
+            listView.getScene().getRoot().applyCss();
+            listView.getScene().getRoot().layout();
+            if (frame < frameNanos.length) {
+                frameNanos[frame] = System.nanoTime() - start;
+            }
+            listView.lookupAll(".list-cell").stream()
+                .map(cell -> ((ListCell<?>) cell).getGraphic())
+                .filter(graphic -> graphic != null)
+                .forEach(cards::add);
+        }
+    }
+
+    /**
+     * Cell which loads a new {@code RecipeCard} on every update, as {@code RecipeListPanel} did before its cells
+     * reused their cards.
+     */
+    private static class NewCardPerUpdateCell extends ListCell<Recipe> {
+        @Override
+        protected void updateItem(Recipe recipe, boolean empty) {
+            super.updateItem(recipe, empty);
+            if (empty || recipe == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new RecipeCard(recipe, getIndex() + 1, isSelected()).getRoot());
+            }
+        }
+    }
+
+    /**
+     * Summarises the time taken by each frame of a benchmark.
+     */
+    private static class FrameTimes {
+        private final long[] sortedNanos;
+        private final int distinctCards;
+
+        FrameTimes(long[] frameNanos, int distinctCards) {
+            this.sortedNanos = frameNanos.clone();
+            Arrays.sort(sortedNanos);
+            this.distinctCards = distinctCards;
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            double meanMillis = Arrays.stream(sortedNanos).average().orElse(0) / 1e6;
+            return String.format("%d frames, mean %.3f ms, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms, "
+                    + "%d distinct cards", sortedNanos.length, meanMillis, percentileMillis(50),
+                percentileMillis(95), percentileMillis(99), percentileMillis(100), distinctCards);
+        }
+    }
+}
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.recipe.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -50,6 +52,19 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl).getRoot());
     }
 
+    @Test
+    public void constructor_sameFileUrlTwice_fileOnlyReadOnce() throws Exception {
+        Path copiedFile = testFolder.resolve("validFileCopy.fxml");
+        try (InputStream validFile = getTestFileUrl(VALID_FILE_PATH).openStream()) {
+            Files.copy(validFile, copiedFile);
+        }
+        URL copiedFileUrl = copiedFile.toUri().toURL();
+        assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(copiedFileUrl).getRoot());
+
+        Files.delete(copiedFile);
+        assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(copiedFileUrl).getRoot());
+    }
+
     @Test
     public void constructor_validFileWithFxRootUrl_loadsFile() {
         URL validFileUrl = getTestFileUrl(VALID_FILE_WITH_FX_ROOT_PATH);